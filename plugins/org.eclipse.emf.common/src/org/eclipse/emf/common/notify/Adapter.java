@@ -68,4 +68,31 @@ public interface Adapter
      */
     void unsetTarget(Notifier oldTarget);
   }
+
+  /**
+   * An interface implemented by adapters that can defer the bookkeeping implied by the notifications they receive during a bulk change.
+   * Between a call to {@link #beginBatch()} and the matching call to {@link #endBatch()},
+   * the adapter is still attached to each notifier as soon as it needs to be, so that it receives every notification,
+   * but it may record the bookkeeping that notifications imply, e.g., removing itself from a removed object, or updating an index,
+   * rather than doing it immediately;
+   * the recorded bookkeeping is compacted, so that changes that cancel each other out are never processed,
+   * and the remainder is done in a single pass when the outermost batch ends.
+   * Batches may be nested.
+   * @since 2.23
+   */
+  interface Batching extends Adapter
+  {
+    /**
+     * Begins deferring the handling of notifications.
+     * @see #endBatch()
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch begun by the matching call to {@link #beginBatch()},
+     * handling all the deferred notifications if this ends the outermost batch.
+     * @see #beginBatch()
+     */
+    void endBatch();
+  }
 }
@@ -23,6 +23,7 @@ import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.ENamedElement;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
@@ -52,6 +53,19 @@ public interface XMLResource extends Resource
    */
   String OPTION_USE_PARSER_POOL = "USE_PARSER_POOL";
 
+  /**
+   * A load option that, when set to Boolean.TRUE, directs the resource to read an input stream with a StAX {@link javax.xml.stream.XMLStreamReader stream reader}
+   * rather than with a SAX parser.
+   * The usual {@link XMLDefaultHandler handler} is driven by a pull loop over the stream reader,
+   * which presents the reader's attributes and text to the handler directly rather than copying them.
+   * The {@link #OPTION_PARSER_FEATURES parser features} and {@link #OPTION_PARSER_PROPERTIES parser properties} don't apply,
+   * and the document type declaration isn't recorded.
+   * The default is false.
+   * @see org.eclipse.emf.ecore.xmi.impl.XMLLoadImpl#load(XMLResource, javax.xml.stream.XMLStreamReader, Map)
+   * @since 2.16
+   */
+  String OPTION_USE_STAX = "USE_STAX";
+
   /**
    * <p>
    * Specify a map {@link Map} to be used during the subsequent loading of XML documents.
@@ -563,6 +577,62 @@ public interface XMLResource extends Resource
    */
   String OPTION_MISSING_PACKAGE_HANDLER = "MISSING_PACKAGE_HANDLER";
 
+  /**
+   * A load option that specifies a {@link StreamingHandler streaming handler} instance to which each object at the {@link #OPTION_STREAMING_DEPTH streaming depth}
+   * is {@link StreamingHandler#handleObject(XMLResource, EObject) handed} as soon as its element, and hence its whole containment tree, has been read.
+   * Once the handler returns, the object is removed from its container, or from the resource's contents for depth 0, and its IDs are forgotten,
+   * so the memory needed to load a document doesn't grow with the size of the document.
+   * In this mode, IDREF references are never resolved, not even at the end of the document;
+   * each is {@link StreamingHandler#handleUnresolvedReference(XMLResource, EObject, EReference, URI) reported} to the handler as a URI instead.
+   * References using an href produce proxies, as usual.
+   * @since 2.16
+   */
+  String OPTION_STREAMING_HANDLER = "STREAMING_HANDLER";
+
+  /**
+   * A load option that specifies an Integer containment depth at which objects are handed to the {@link #OPTION_STREAMING_HANDLER streaming handler}.
+   * Depth 0 denotes the root objects of the resource, depth 1 their direct children, and so on.
+   * The default is 0.
+   * @since 2.16
+   */
+  String OPTION_STREAMING_DEPTH = "STREAMING_DEPTH";
+
+  /**
+   * A save option that specifies a Boolean indicating whether a resource saved to a file
+   * copies the serialization of each unchanged subtree from the previous contents of the file rather than serializing it again.
+   * The changes are tracked from the first save with this option onward, so only subsequent saves benefit;
+   * saving without this option stops the tracking.
+   * The default is false.
+   * @see org.eclipse.emf.ecore.xmi.impl.IncrementalSaveAdapter
+   * @since 2.16
+   */
+  String OPTION_INCREMENTAL_SAVE = "INCREMENTAL_SAVE";
+
+  /**
+   * Handles the objects produced by a streaming load.
+   * @see #OPTION_STREAMING_HANDLER
+   * @since 2.16
+   */
+  interface StreamingHandler
+  {
+    /**
+     * Called when an object at the streaming depth has been completely loaded.
+     * The object is still in its container, or in the resource's contents, during this call but will be removed right after it.
+     * @param resource the resource being loaded.
+     * @param eObject the completely loaded object.
+     */
+    void handleObject(XMLResource resource, EObject eObject);
+
+    /**
+     * Called for each same document reference that, in a normal load, would be resolved by looking up the ID of the target object.
+     * @param resource the resource being loaded.
+     * @param eObject the object that holds the reference.
+     * @param eReference the reference.
+     * @param uri the URI of the target object, i.e., the URI of the resource with the ID as the fragment.
+     */
+    void handleUnresolvedReference(XMLResource resource, EObject eObject, EReference eReference, URI uri);
+  }
+
   String HREF = "href";
   String NIL = "nil";
   String TYPE = "type";
@@ -11,11 +11,17 @@
 package org.eclipse.emf.ecore.xmi.impl;
 
 
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.xmi.impl.XMLSaveImpl.Escape;
 
@@ -24,6 +30,16 @@ import org.eclipse.emf.ecore.xmi.impl.XMLSaveImpl.Escape;
  * This class represents a configuration that can be used to enable caching and therefore improves performance 
  * of EMF serialization. 
  * This class is considered an INTERNAL API and might change in the future.
+ * <p>
+ * The cache doesn't lock.
+ * Printers and escapes are held in lock-free stripes selected by the calling thread,
+ * each stripe holding at most {@link #SIZE} instances,
+ * so threads concurrently saving resources don't contend for the cache as a whole.
+ * Document roots are held weakly, keyed by their package,
+ * so the entries of packages that are no longer referenced are evicted,
+ * and there are at most {@link #SIZE} of them.
+ * The cache counts its hits and misses to help determine whether it's effective.
+ * </p>
  * @since 2.1.0
  */
 public class ConfigurationCache
@@ -31,94 +47,307 @@ public class ConfigurationCache
   public static final ConfigurationCache INSTANCE = new ConfigurationCache();
 
   protected static final int SIZE = 100;
-  
-  protected Map<EPackage, EObject> documentRoots = new HashMap<EPackage, EObject>();
 
-  protected XMLString printers[] = new XMLString [SIZE];
+  private final Stripes<XMLString> printers = new Stripes<XMLString>();
+
+  private final Stripes<Escape> escapes = new Stripes<Escape>();
+
+  private final ConcurrentMap<DocumentRootKey, DocumentRootKey> documentRoots = new ConcurrentHashMap<DocumentRootKey, DocumentRootKey>();
+
+  private final ReferenceQueue<EPackage> documentRootQueue = new ReferenceQueue<EPackage>();
+
+  private final AtomicLong printerHitCount = new AtomicLong();
+
+  private final AtomicLong printerMissCount = new AtomicLong();
 
-  protected Escape escapes[] = new Escape [SIZE];
+  private final AtomicLong escapeHitCount = new AtomicLong();
 
-  protected int freePrinterIndex = -1;
+  private final AtomicLong escapeMissCount = new AtomicLong();
 
-  protected int freeEscapeIndex = -1;
+  private final AtomicLong documentRootHitCount = new AtomicLong();
 
-  protected int currentSize = SIZE;
+  private final AtomicLong documentRootMissCount = new AtomicLong();
 
   protected ConfigurationCache()
   {
     super();
   }
 
-  protected synchronized XMLString getPrinter()
+  protected XMLString getPrinter()
   {
-    if (freePrinterIndex < 0)
+    XMLString printer = printers.poll();
+    if (printer == null)
     {
+      printerMissCount.incrementAndGet();
       return new XMLString();
     }
-    XMLString printer = printers[freePrinterIndex];
-    printers[freePrinterIndex--] = null;
+    printerHitCount.incrementAndGet();
     return printer;
   }
 
-  protected synchronized void releasePrinter(XMLString printer)
+  protected void releasePrinter(XMLString printer)
   {
-    ++freePrinterIndex;
-    if (printers.length == freePrinterIndex)
-    {
-      currentSize += SIZE;
-      XMLString newarray[] = new XMLString [currentSize];
-      System.arraycopy(printers, 0, newarray, 0, printers.length);
-      printers = newarray;
-    }
-    printers[freePrinterIndex] = printer;
+    printers.offer(printer);
   }
 
-  protected synchronized Escape getEscape()
+  protected Escape getEscape()
   {
-    if (freeEscapeIndex < 0)
+    Escape escape = escapes.poll();
+    if (escape == null)
     {
+      escapeMissCount.incrementAndGet();
       return new Escape();
     }
-    Escape escape = escapes[freeEscapeIndex];
-    escapes[freeEscapeIndex--] = null;
+    escapeHitCount.incrementAndGet();
     return escape;
   }
 
-  protected synchronized void releaseEscape(Escape escape)
+  protected void releaseEscape(Escape escape)
   {
-    ++freeEscapeIndex;
-    if (escapes.length == freeEscapeIndex)
-    {
-      currentSize += SIZE;
-      Escape newarray[] = new Escape [currentSize];
-      System.arraycopy(escapes, 0, newarray, 0, escapes.length);
-      escapes = newarray;
-    }
-    escapes[freeEscapeIndex] = escape;
+    escapes.offer(escape);
   }
 
-  public synchronized void release()
+  public void release()
   {
-    freeEscapeIndex = -1;
-    freePrinterIndex = -1;
-    for (int i = 0; i < printers.length; i++)
+    printers.clear();
+    escapes.clear();
+  }
+  
+  public EClass getDocumentRoot(EPackage ePackage)
+  {
+    DocumentRootKey entry = documentRoots.get(new DocumentRootKey(ePackage, null, null));
+    EClass documentRoot = entry == null ? null : entry.getDocumentRoot();
+    if (documentRoot == null)
     {
-      printers[i] = null;
+      documentRootMissCount.incrementAndGet();
     }
-    for (int i = 0; i < escapes.length; i++)
+    else
     {
-      escapes[i] = null;
+      documentRootHitCount.incrementAndGet();
     }
+    return documentRoot;
   }
   
-  public synchronized EClass getDocumentRoot(EPackage ePackage)
+  public void putDocumentRoot(EPackage ePackage, EClass documentRoot)
   {
-    return (EClass)documentRoots.get(ePackage);
+    purgeDocumentRoots();
+    if (documentRoot == null)
+    {
+      documentRoots.remove(new DocumentRootKey(ePackage, null, null));
+    }
+    else
+    {
+      if (documentRoots.size() >= SIZE)
+      {
+        documentRoots.clear();
+      }
+      DocumentRootKey entry = new DocumentRootKey(ePackage, documentRoot, documentRootQueue);
+      documentRoots.put(entry, entry);
+    }
   }
-  
-  public synchronized void putDocumentRoot(EPackage ePackage, EClass documentRoot)
+
+  private void purgeDocumentRoots()
+  {
+    for (Reference<? extends EPackage> reference = documentRootQueue.poll(); reference != null; reference = documentRootQueue.poll())
+    {
+      documentRoots.remove(reference);
+    }
+  }
+
+  /**
+   * Returns the number of times {@link #getPrinter()} has returned a cached printer.
+   * @since 2.16
+   */
+  public long getPrinterHitCount()
+  {
+    return printerHitCount.get();
+  }
+
+  /**
+   * Returns the number of times {@link #getPrinter()} has found no cached printer and has created a new one.
+   * @since 2.16
+   */
+  public long getPrinterMissCount()
   {
-    documentRoots.put(ePackage, documentRoot);
+    return printerMissCount.get();
   }
 
+  /**
+   * Returns the number of times {@link #getEscape()} has returned a cached escape.
+   * @since 2.16
+   */
+  public long getEscapeHitCount()
+  {
+    return escapeHitCount.get();
+  }
+
+  /**
+   * Returns the number of times {@link #getEscape()} has found no cached escape and has created a new one.
+   * @since 2.16
+   */
+  public long getEscapeMissCount()
+  {
+    return escapeMissCount.get();
+  }
+
+  /**
+   * Returns the number of times {@link #getDocumentRoot(EPackage)} has returned a cached document root.
+   * @since 2.16
+   */
+  public long getDocumentRootHitCount()
+  {
+    return documentRootHitCount.get();
+  }
+
+  /**
+   * Returns the number of times {@link #getDocumentRoot(EPackage)} has found no cached document root.
+   * @since 2.16
+   */
+  public long getDocumentRootMissCount()
+  {
+    return documentRootMissCount.get();
+  }
+
+  /**
+   * A set of lock-free queues of cached instances, each with a bounded size.
+   * A thread offers to and polls from the stripe selected by its ID,
+   * and polls the other stripes only when its own stripe is empty.
+   */
+  private static final class Stripes<T>
+  {
+    private final Stripe<T>[] stripes;
+
+    private final int mask;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Stripes()
+    {
+      // Use the smallest power of two at least as large as the number of processors.
+      //
+      int processors = Math.min(Runtime.getRuntime().availableProcessors(), 64);
+      int stripeCount = 1;
+      while (stripeCount < processors)
+      {
+        stripeCount <<= 1;
+      }
+      stripes = new Stripe [stripeCount];
+      for (int i = 0; i < stripeCount; ++i)
+      {
+        stripes[i] = new Stripe<T>();
+      }
+      mask = stripeCount - 1;
+    }
+
+    private int index()
+    {
+      return (int)Thread.currentThread().getId() & mask;
+    }
+
+    public T poll()
+    {
+      int index = index();
+      for (int i = 0; i < stripes.length; ++i)
+      {
+        T result = stripes[(index + i) & mask].poll();
+        if (result != null)
+        {
+          return result;
+        }
+      }
+      return null;
+    }
+
+    public void offer(T instance)
+    {
+      stripes[index()].offer(instance);
+    }
+
+    public void clear()
+    {
+      for (Stripe<T> stripe : stripes)
+      {
+        while (stripe.poll() != null)
+        {
+          // Discard the instance.
+        }
+      }
+    }
+  }
+
+  private static final class Stripe<T>
+  {
+    private final Queue<T> queue = new ConcurrentLinkedQueue<T>();
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    public T poll()
+    {
+      T result = queue.poll();
+      if (result != null)
+      {
+        count.decrementAndGet();
+      }
+      return result;
+    }
+
+    public void offer(T instance)
+    {
+      if (count.incrementAndGet() <= SIZE)
+      {
+        queue.offer(instance);
+      }
+      else
+      {
+        count.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * A weak reference to a package, comparing by identity, that also serves as the entry for the package's document root.
+   * The document root is held weakly as well, because it refers to its package;
+   * it remains reachable for as long as the package itself is reachable.
+   */
+  private static final class DocumentRootKey extends WeakReference<EPackage>
+  {
+    private final int hashCode;
+
+    private final WeakReference<EClass> documentRoot;
+
+    public DocumentRootKey(EPackage ePackage, EClass documentRoot, ReferenceQueue<EPackage> queue)
+    {
+      super(ePackage, queue);
+      hashCode = System.identityHashCode(ePackage);
+      this.documentRoot = documentRoot == null ? null : new WeakReference<EClass>(documentRoot);
+    }
+
+    public EClass getDocumentRoot()
+    {
+      return documentRoot == null ? null : documentRoot.get();
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+      if (object == this)
+      {
+        return true;
+      }
+      else if (object instanceof DocumentRootKey)
+      {
+        EPackage ePackage = get();
+        return ePackage != null && ePackage == ((DocumentRootKey)object).get();
+      }
+      else
+      {
+        return false;
+      }
+    }
+  }
 }
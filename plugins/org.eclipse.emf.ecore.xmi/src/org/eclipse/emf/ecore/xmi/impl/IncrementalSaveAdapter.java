@@ -0,0 +1,610 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.xmi.impl;
+
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.FeatureMapUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.emf.ecore.xmi.XMLHelper;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+
+
+/**
+ * A content adapter that supports the {@link XMLResource#OPTION_INCREMENTAL_SAVE incremental save} of an XML resource to a file.
+ * <p>
+ * It records the range of bytes written to the file for the subtree of each object directly contained by a top object of the resource,
+ * and tracks which of those subtrees have been changed since.
+ * The next save serializes the changed subtrees, and the top objects themselves,
+ * and copies the bytes of each unchanged subtree from the previous contents of the file.
+ * </p>
+ * <p>
+ * A subtree is copied only if it's self-contained,
+ * i.e., it has no cross-document references or cross-resource containment,
+ * and each object it references is in the same resource and is referenced by {@link XMLResource#getID(EObject) ID};
+ * other subtrees are always serialized again.
+ * The records are discarded, so that the next save serializes everything,
+ * when an object is removed from the resource, when an {@link EAttribute#isID() ID attribute} or a {@link XMLResource#setID(EObject, String) resource-assigned ID} changes,
+ * and when the file, the resource's URI, or the save options differ from those of the previous save.
+ * </p>
+ * @see XMLResourceImpl#saveIncrementally(IncrementalSaveAdapter, Map)
+ * @since 2.16
+ */
+public class IncrementalSaveAdapter extends EContentAdapter
+{
+  /**
+   * The recorded range of bytes of a subtree.
+   */
+  private static final class Range
+  {
+    final long start;
+
+    final long end;
+
+    Range(long start, long end)
+    {
+      this.start = start;
+      this.end = end;
+    }
+  }
+
+  /**
+   * The resource being tracked.
+   */
+  protected final XMLResource resource;
+
+  /**
+   * The ranges of the self-contained, unchanged subtrees of the last save.
+   */
+  private Map<EObject, Range> ranges = new HashMap<EObject, Range>();
+
+  private File file;
+
+  private long length;
+
+  private long lastModified;
+
+  private URI uri;
+
+  private Map<Object, Object> options;
+
+  private String encoding;
+
+  private String xmlVersion;
+
+  private boolean isSingleRoot;
+
+  private Map<String, EPackage> prefixes;
+
+  private long copiedSubtreeCount;
+
+  private long serializedSubtreeCount;
+
+  /**
+   * Creates an instance for the given resource, to which it must be added as an adapter.
+   */
+  public IncrementalSaveAdapter(XMLResource resource)
+  {
+    this.resource = resource;
+  }
+
+  @Override
+  public boolean isAdapterForType(Object type)
+  {
+    return type == IncrementalSaveAdapter.class;
+  }
+
+  @Override
+  protected boolean resolve()
+  {
+    return false;
+  }
+
+  @Override
+  public void notifyChanged(Notification notification)
+  {
+    super.notifyChanged(notification);
+
+    if (!notification.isTouch() && !ranges.isEmpty())
+    {
+      Object notifier = notification.getNotifier();
+      if (notifier instanceof Resource)
+      {
+        switch (notification.getFeatureID(Resource.class))
+        {
+          case Resource.RESOURCE__CONTENTS:
+          {
+            if (isRemoval(notification))
+            {
+              reset();
+            }
+            break;
+          }
+          case Resource.RESOURCE__IS_LOADED:
+          {
+            reset();
+            break;
+          }
+        }
+      }
+      else if (notifier instanceof EObject)
+      {
+        Object feature = notification.getFeature();
+        if (feature instanceof EAttribute ?
+              ((EAttribute)feature).isID() :
+              feature instanceof EReference && ((EReference)feature).isContainment() && isRemoval(notification))
+        {
+          reset();
+        }
+        else
+        {
+          discard((EObject)notifier);
+        }
+      }
+    }
+  }
+
+  /**
+   * Discards the range of the subtree containing the changed object.
+   */
+  private void discard(EObject eObject)
+  {
+    for (EObject container = eObject.eContainer(); container != null; container = container.eContainer())
+    {
+      if (container.eContainer() == null)
+      {
+        ranges.remove(eObject);
+        break;
+      }
+      eObject = container;
+    }
+  }
+
+  /**
+   * Records that the resource has changed the {@link XMLResource#getID(EObject) ID} of the object,
+   * which, unlike the value of an {@link EAttribute#isID() ID attribute}, isn't reported by a notification.
+   * The subtree containing an object that has been given its first ID must be serialized again;
+   * a changed or removed ID may also be referenced from other subtrees, so everything must be serialized again.
+   * @param eObject the object whose ID has changed.
+   * @param oldID the object's previous ID, or <code>null</code>.
+   * @see XMLResourceImpl#setID(EObject, String)
+   */
+  public void idChanged(EObject eObject, String oldID)
+  {
+    if (!ranges.isEmpty())
+    {
+      if (oldID == null)
+      {
+        discard(eObject);
+      }
+      else
+      {
+        reset();
+      }
+    }
+  }
+
+  private static boolean isRemoval(Notification notification)
+  {
+    switch (notification.getEventType())
+    {
+      case Notification.REMOVE:
+      case Notification.REMOVE_MANY:
+      {
+        return true;
+      }
+      case Notification.SET:
+      case Notification.UNSET:
+      {
+        return notification.getOldValue() != null;
+      }
+      default:
+      {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Discards the records of the last save, so that the next save serializes everything.
+   */
+  public void reset()
+  {
+    ranges.clear();
+    file = null;
+  }
+
+  /**
+   * Returns the number of subtrees that have been copied from the previous contents of the file.
+   */
+  public long getCopiedSubtreeCount()
+  {
+    return copiedSubtreeCount;
+  }
+
+  /**
+   * Returns the number of subtrees, eligible for copying, that have been serialized.
+   */
+  public long getSerializedSubtreeCount()
+  {
+    return serializedSubtreeCount;
+  }
+
+  /**
+   * Creates a session for saving the resource to the given file, with the given options.
+   * The session copies subtrees from the previous contents of the file only if the file, the resource, and the options match the last save.
+   */
+  public Session createSession(File file, Map<?, ?> options)
+  {
+    boolean isIncremental =
+      !ranges.isEmpty() &&
+        file.equals(this.file) &&
+        file.length() == length &&
+        file.lastModified() == lastModified &&
+        resource.getURI().equals(uri) &&
+        new HashMap<Object, Object>(options).equals(this.options) &&
+        (resource.getEncoding() == null ? encoding == null : resource.getEncoding().equals(encoding)) &&
+        (resource.getXMLVersion() == null ? xmlVersion == null : resource.getXMLVersion().equals(xmlVersion)) &&
+        (resource.getContents().size() == 1) == isSingleRoot;
+    return new Session(file, options, isIncremental);
+  }
+
+  /**
+   * Records the results of a session whose file has been completely written.
+   */
+  public void commit(Session session)
+  {
+    ranges = session.newRanges;
+    file = session.file;
+    length = file.length();
+    lastModified = file.lastModified();
+    uri = resource.getURI();
+    options = new HashMap<Object, Object>(session.options);
+    encoding = resource.getEncoding();
+    xmlVersion = resource.getXMLVersion();
+    isSingleRoot = resource.getContents().size() == 1;
+    prefixes = session.newPrefixes;
+  }
+
+  /**
+   * Returns whether the subtree of the given object can be copied from a file,
+   * i.e., whether its serialization depends only on the subtree itself.
+   */
+  protected boolean isSelfContained(InternalEObject eObject)
+  {
+    for (EStructuralFeature eStructuralFeature : eObject.eClass().getEAllStructuralFeatures())
+    {
+      if (FeatureMapUtil.isFeatureMap(eStructuralFeature))
+      {
+        return false;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    List<InternalEObject> crossReferences = ((InternalEList<InternalEObject>)(InternalEList<?>)eObject.eCrossReferences()).basicList();
+    for (InternalEObject target : crossReferences)
+    {
+      if (target.eIsProxy() || target.eResource() != resource)
+      {
+        return false;
+      }
+      String id = resource.getID(target);
+      if (id == null)
+      {
+        id = EcoreUtil.getID(target);
+        if (id == null)
+        {
+          return false;
+        }
+      }
+      if (!id.equals(resource.getURIFragment(target)))
+      {
+        return false;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    List<InternalEObject> contents = ((InternalEList<InternalEObject>)(InternalEList<?>)eObject.eContents()).basicList();
+    for (InternalEObject child : contents)
+    {
+      if (child.eDirectResource() != null || child.eIsProxy() || !isSelfContained(child))
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * A single incremental save of the resource to a file.
+   * @see XMLSaveImpl#save(XMLResource, Map, IncrementalSaveAdapter.Session)
+   */
+  public final class Session
+  {
+    /**
+     * The marker of a position in the document:
+     * either a subtree to be copied from a range of the previous contents,
+     * or the start or the end of a serialized subtree.
+     */
+    private final class Placeholder
+    {
+      final EObject eObject;
+
+      final Range range;
+
+      final Placeholder start;
+
+      long position;
+
+      Placeholder(EObject eObject, Range range, Placeholder start)
+      {
+        this.eObject = eObject;
+        this.range = range;
+        this.start = start;
+      }
+    }
+
+    private final File file;
+
+    private final Map<?, ?> options;
+
+    private boolean isIncremental;
+
+    private FileChannel previousChannel;
+
+    private FileOutputStream outputStream;
+
+    private final Map<String, Placeholder> placeholders = new IdentityHashMap<String, Placeholder>();
+
+    private final Map<EObject, Placeholder> startPlaceholders = new HashMap<EObject, Placeholder>();
+
+    private final Map<EObject, Range> newRanges = new HashMap<EObject, Range>();
+
+    private Map<String, EPackage> newPrefixes;
+
+    Session(File file, Map<?, ?> options, boolean isIncremental)
+    {
+      this.file = file;
+      this.options = options;
+      this.isIncremental = isIncremental;
+    }
+
+    /**
+     * Returns whether this session copies subtrees from the previous contents of the file,
+     * in which case the output stream must be for a different file that replaces it once written.
+     */
+    public boolean isIncremental()
+    {
+      return isIncremental;
+    }
+
+    /**
+     * Returns the file being saved.
+     */
+    public File getFile()
+    {
+      return file;
+    }
+
+    /**
+     * Opens the previous contents of the file, if needed, and an output stream for the given file.
+     */
+    public FileOutputStream open(File outputFile) throws IOException
+    {
+      if (isIncremental)
+      {
+        previousChannel = new FileInputStream(file).getChannel();
+      }
+      outputStream = new FileOutputStream(outputFile);
+      return outputStream;
+    }
+
+    /**
+     * Closes the previous contents of the file and the output stream.
+     */
+    public void close() throws IOException
+    {
+      try
+      {
+        if (previousChannel != null)
+        {
+          previousChannel.close();
+          previousChannel = null;
+        }
+      }
+      finally
+      {
+        if (outputStream != null)
+        {
+          outputStream.close();
+          outputStream = null;
+        }
+      }
+    }
+
+    /**
+     * Registers the prefixes of the last save with the helper, so that the copied subtrees use the same prefixes as the rest of the document.
+     * The previous contents aren't used if any of those prefixes can't be registered.
+     */
+    public void start(XMLHelper helper)
+    {
+      if (isIncremental)
+      {
+        for (Map.Entry<String, EPackage> entry : prefixes.entrySet())
+        {
+          if (!entry.getKey().equals(helper.getPrefix(entry.getValue())))
+          {
+            isIncremental = false;
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Records the prefixes used by the helper.
+     */
+    public void end(XMLHelper helper)
+    {
+      newPrefixes = new TreeMap<String, EPackage>();
+      for (EPackage ePackage : helper.packages())
+      {
+        String prefix = helper.getPrefix(ePackage);
+        newPrefixes.put(prefix == null ? "" : prefix, ePackage);
+      }
+    }
+
+    /**
+     * Returns a placeholder for the subtree of the given object, if it can be copied from the previous contents of the file, or <code>null</code>.
+     */
+    public String getPlaceholder(EObject eObject)
+    {
+      if (isIncremental)
+      {
+        Range range = ranges.get(eObject);
+        if (range != null)
+        {
+          String placeholder = new String();
+          placeholders.put(placeholder, new Placeholder(eObject, range, null));
+          return placeholder;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Returns a placeholder for the start of the serialization of the subtree of the given object.
+     */
+    public String startSubtree(EObject eObject)
+    {
+      String placeholder = new String();
+      Placeholder startPlaceholder = new Placeholder(eObject, null, null);
+      placeholders.put(placeholder, startPlaceholder);
+      startPlaceholders.put(eObject, startPlaceholder);
+      return placeholder;
+    }
+
+    /**
+     * Returns a placeholder for the end of the serialization of the subtree of the given object.
+     */
+    public String endSubtree(EObject eObject)
+    {
+      String placeholder = new String();
+      placeholders.put(placeholder, new Placeholder(eObject, null, startPlaceholders.remove(eObject)));
+      return placeholder;
+    }
+
+    /**
+     * Writes the document to the output stream, copying the bytes of each subtree represented by a placeholder from the previous contents,
+     * and records the range of bytes of each self-contained subtree.
+     */
+    public void write(XMLString doc, String javaEncoding, int flushThreshold) throws IOException
+    {
+      FileChannel channel = outputStream.getChannel();
+      Writer writer = new OutputStreamWriter(outputStream, javaEncoding);
+      char[] buffer = new char [8192];
+      int position = 0;
+      int count = 0;
+      for (Iterator<String> i = doc.stringIterator(); i.hasNext(); )
+      {
+        String string = i.next();
+        int length = string.length();
+        if (length == 0)
+        {
+          Placeholder placeholder = placeholders.get(string);
+          if (placeholder != null)
+          {
+            writer.write(buffer, 0, position);
+            writer.flush();
+            position = 0;
+            long start = channel.position();
+            if (placeholder.range != null)
+            {
+              // Copy the whole range, even if a single transfer doesn't.
+              //
+              long offset = placeholder.range.start;
+              long end = placeholder.range.end;
+              while (offset < end)
+              {
+                long transferred = previousChannel.transferTo(offset, end - offset, channel);
+                if (transferred <= 0)
+                {
+                  throw new IOException("The previous contents of '" + file + "' are truncated");
+                }
+                offset += transferred;
+              }
+              newRanges.put(placeholder.eObject, new Range(start, channel.position()));
+              ++copiedSubtreeCount;
+            }
+            else if (placeholder.start == null)
+            {
+              placeholder.position = start;
+            }
+            else
+            {
+              if (isSelfContained((InternalEObject)placeholder.eObject))
+              {
+                newRanges.put(placeholder.eObject, new Range(placeholder.start.position, start));
+              }
+              ++serializedSubtreeCount;
+            }
+          }
+          continue;
+        }
+
+        if (length + position > buffer.length)
+        {
+          writer.write(buffer, 0, position);
+          position = 0;
+          if (length > buffer.length)
+          {
+            writer.write(string);
+            continue;
+          }
+        }
+        string.getChars(0, length, buffer, position);
+        position += length;
+        count += length;
+        if (count > flushThreshold)
+        {
+          writer.write(buffer, 0, position);
+          position = 0;
+          writer.flush();
+          count = 0;
+        }
+      }
+      writer.write(buffer, 0, position);
+      writer.flush();
+    }
+  }
+}
@@ -20,6 +20,8 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Iterator;
 import java.util.ListIterator;
 
@@ -43,12 +45,20 @@ public class StringSegment extends BasicEList<StringSegment.Element>
 
   protected static final int BUFFER_SIZE = 8192;
 
+  private static final int UTF8_BUFFER_SIZE = 8 * BUFFER_SIZE;
+
   protected int segmentCapacity;
 
   protected byte[] outputbytes;
 
   protected char[] outputchars;
 
+  /**
+   * The buffer reused by {@link #writeUTF8(OutputStream, int)} for the encoded bytes.
+   * @since 2.16
+   */
+  protected ByteBuffer outputBuffer;
+
   protected char[] buffer;
 
   protected Element cursor;
@@ -391,6 +401,164 @@ public class StringSegment extends BasicEList<StringSegment.Element>
     }
   }
   
+  /**
+   * Writes the contents, encoded as UTF-8, to the output stream.
+   * The characters are encoded directly into a reusable buffer, with runs of ASCII characters copied by a simple scan,
+   * and the buffer is written in large blocks,
+   * via the stream's {@link FileChannel channel} if the stream is a {@link FileOutputStream}.
+   * As for an {@link OutputStreamWriter}, an unpaired surrogate is written as <code>?</code>.
+   * @since 2.16
+   */
+  public void writeUTF8(OutputStream os, int flushThreshold) throws IOException
+  {
+    if (outputBuffer == null)
+    {
+      outputBuffer = ByteBuffer.allocate(UTF8_BUFFER_SIZE);
+    }
+    byte[] bytes = outputBuffer.array();
+
+    // Leave room for the bytes of the longest step, i.e., a replaced surrogate followed by a three byte character.
+    //
+    int limit = bytes.length - 4;
+    FileChannel channel = os.getClass() == FileOutputStream.class ? ((FileOutputStream)os).getChannel() : null;
+
+    char[] chars = outputchars;
+    Element[] elements = (Element[])data;
+    int position = 0;
+    int count = 0;
+    char high = 0;
+
+    for (int i = 0; i < size; ++i)
+    {
+      Element element = elements[i];
+      int segmentSize = element.size;
+      for (int j = 0; j < segmentSize; ++j)
+      {
+        String string = element.data[j];
+        int length = string.length();
+        for (int offset = 0; offset < length; offset += chars.length)
+        {
+          // Encode the characters from an array, which is faster than accessing the string's characters one at a time.
+          //
+          int charsLength = Math.min(length - offset, chars.length);
+          string.getChars(offset, offset + charsLength, chars, 0);
+          for (int k = 0; k < charsLength; )
+          {
+            if (position >= limit)
+            {
+              writeOutputBuffer(os, channel, position);
+              count += position;
+              position = 0;
+              if (count > flushThreshold)
+              {
+                os.flush();
+                count = 0;
+              }
+            }
+
+            char character = chars[k++];
+            if (character < 0x80 && high == 0)
+            {
+              bytes[position++] = (byte)character;
+
+              // Copy as much of the rest of the run of ASCII characters as fits.
+              //
+              for (int end = Math.min(charsLength, k + limit - position); k < end && (character = chars[k]) < 0x80; ++k)
+              {
+                bytes[position++] = (byte)character;
+              }
+            }
+            else
+            {
+              if (high != 0)
+              {
+                if (Character.isLowSurrogate(character))
+                {
+                  int codePoint = Character.toCodePoint(high, character);
+                  bytes[position++] = (byte)(0xF0 | codePoint >> 18);
+                  bytes[position++] = (byte)(0x80 | codePoint >> 12 & 0x3F);
+                  bytes[position++] = (byte)(0x80 | codePoint >> 6 & 0x3F);
+                  bytes[position++] = (byte)(0x80 | codePoint & 0x3F);
+                  high = 0;
+                  continue;
+                }
+                bytes[position++] = '?';
+                high = 0;
+              }
+
+              if (character < 0x80)
+              {
+                bytes[position++] = (byte)character;
+              }
+              else if (character < 0x800)
+              {
+                bytes[position++] = (byte)(0xC0 | character >> 6);
+                bytes[position++] = (byte)(0x80 | character & 0x3F);
+              }
+              else if (Character.isHighSurrogate(character))
+              {
+                high = character;
+              }
+              else if (Character.isLowSurrogate(character))
+              {
+                bytes[position++] = '?';
+              }
+              else
+              {
+                bytes[position++] = (byte)(0xE0 | character >> 12);
+                bytes[position++] = (byte)(0x80 | character >> 6 & 0x3F);
+                bytes[position++] = (byte)(0x80 | character & 0x3F);
+              }
+            }
+          }
+        }
+      }
+    }
+    if (high != 0)
+    {
+      bytes[position++] = '?';
+    }
+    writeOutputBuffer(os, channel, position);
+    count += position;
+
+    // The temporary file is already encoded as UTF-8.
+    //
+    String temporaryFileName = this.temporaryFileName;
+    if (temporaryFileName != null)
+    {
+      InputStream inputStream = new FileInputStream(temporaryFileName);
+      for (int length = inputStream.read(bytes, 0, bytes.length); length > 0; length = inputStream.read(bytes, 0, bytes.length))
+      {
+        writeOutputBuffer(os, channel, length);
+        count += length;
+        if (count > flushThreshold)
+        {
+          os.flush();
+          count = 0;
+        }
+      }
+      inputStream.close();
+      new File(temporaryFileName).delete();
+    }
+  }
+
+  private void writeOutputBuffer(OutputStream os, FileChannel channel, int length) throws IOException
+  {
+    if (channel == null)
+    {
+      os.write(outputBuffer.array(), 0, length);
+    }
+    else
+    {
+      outputBuffer.clear();
+      outputBuffer.limit(length);
+      while (outputBuffer.hasRemaining())
+      {
+        channel.write(outputBuffer);
+      }
+    }
+  }
+
   /**
    * @deprecated since 2.2 - Instead use #write(Writer, int)
    * @param os
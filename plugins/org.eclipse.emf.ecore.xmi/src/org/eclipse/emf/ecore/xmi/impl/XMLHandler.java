@@ -20,6 +20,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -30,6 +31,7 @@ import java.util.StringTokenizer;
 
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EMap;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
@@ -345,6 +347,16 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
    */
   protected XMLResource.MissingPackageHandler missingPackageHandler;
 
+  /**
+   * @since 2.16
+   */
+  protected XMLResource.StreamingHandler streamingHandler;
+
+  /**
+   * @since 2.16
+   */
+  protected int streamingDepth;
+
   /**
    */
   public XMLHandler(XMLResource xmlResource, XMLHelper helper, Map<?, ?> options)
@@ -509,6 +521,18 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
 
     usePackageNsURIAsLocation = !Boolean.FALSE.equals(options.get(XMLResource.OPTION_USE_PACKAGE_NS_URI_AS_LOCATION));
     missingPackageHandler = (XMLResource.MissingPackageHandler)options.get(XMLResource.OPTION_MISSING_PACKAGE_HANDLER);
+
+    setStreamingOptions(options);
+  }
+
+  /**
+   * @since 2.16
+   */
+  protected void setStreamingOptions(Map<?, ?> options)
+  {
+    streamingHandler = (XMLResource.StreamingHandler)options.get(XMLResource.OPTION_STREAMING_HANDLER);
+    Integer streamingDepthOption = (Integer)options.get(XMLResource.OPTION_STREAMING_DEPTH);
+    streamingDepth = streamingDepthOption == null ? 0 : streamingDepthOption;
   }
 
   protected void setExtendedMetaDataOption(Object extendedMetaDataOption)
@@ -600,6 +624,8 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
         uriHandler.setBaseURI(resourceURI);
       }
     }
+
+    setStreamingOptions(options);
   }
 
   public void reset()
@@ -659,6 +685,7 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
     documentRoot = null;
     usedNullNamespacePackage = false;
     isNamespaceAware = false;
+    streamingHandler = null;
   }
 
   //
@@ -1574,14 +1601,13 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
     Object type = types.pop();
     if (type == OBJECT_TYPE)
     {
+      EObject object = objects.popEObject();
       if (text == null)
       {
-        objects.pop();
         mixedTargets.pop();
       }
       else
       {
-        EObject object = objects.popEObject();
         if (mixedTargets.peek() != null &&
               (object.eContainer() != null ||
                  suppressDocumentRoot ||
@@ -1601,6 +1627,11 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
           text = null;
         }
       }
+
+      if (streamingHandler != null && object != null)
+      {
+        handleStreamingObject(object);
+      }
     }
     else if (isIDREF)
     {
@@ -1635,6 +1666,59 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
     helper.popContext(prefixesToFactories);
   }
 
+  /**
+   * Hands the completely loaded object to the {@link #streamingHandler streaming handler} if it's at the {@link #streamingDepth streaming depth},
+   * and then removes it, along with any IDs or extensions recorded for its content tree.
+   * @since 2.16
+   */
+  protected void handleStreamingObject(EObject object)
+  {
+    InternalEObject internalEObject = (InternalEObject)object;
+    int depth = 0;
+    for (InternalEObject container = internalEObject.eInternalContainer(); container != null; container = container.eInternalContainer())
+    {
+      ++depth;
+    }
+
+    if (depth == streamingDepth)
+    {
+      if (depth == 0)
+      {
+        // Objects that aren't contained might be extensions or other objects not directly in the resource.
+        //
+        if (internalEObject.eDirectResource() == xmlResource)
+        {
+          streamingHandler.handleObject(xmlResource, object);
+          extent.remove(object);
+        }
+        else if (deferredExtent != null && deferredExtent.contains(object))
+        {
+          streamingHandler.handleObject(xmlResource, object);
+          deferredExtent.remove(object);
+        }
+        else
+        {
+          return;
+        }
+      }
+      else
+      {
+        streamingHandler.handleObject(xmlResource, object);
+        EcoreUtil.remove(object);
+      }
+
+      for (TreeIterator<EObject> i = EcoreUtil.<EObject>getAllContents(Collections.singleton(object), false); i.hasNext(); )
+      {
+        EObject eObject = i.next();
+        if (xmlResource.getID(eObject) != null)
+        {
+          xmlResource.setID(eObject, null);
+        }
+        eObjectToExtensionMap.remove(eObject);
+      }
+    }
+  }
+
   protected boolean isTextFeatureValue(Object type)
   {
     return type != ERROR_TYPE;
@@ -2588,8 +2672,10 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
           {
             InputStream inputStream = getURIConverter().createInputStream(trimmedURI, null);
             resource = resourceSet.createResource(trimmedURI, ContentHandler.UNSPECIFIED_CONTENT_TYPE);
-            if (resource == null)
+            if (resource == null || resource.isLoaded())
             {
+              // There is nothing to load, or the resource set has already loaded the resource.
+              //
               inputStream.close();
             }
             else
@@ -2830,6 +2916,16 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
         continue;
       }
 
+      // When streaming, there's no document in which to look up the ID, so report the reference instead.
+      //
+      if (streamingHandler != null)
+      {
+        streamingHandler.handleUnresolvedReference(xmlResource, object, eReference, (resourceURI == null ? URI.createURI("") : resourceURI).appendFragment(id));
+        qName = null;
+        ++position;
+        continue;
+      }
+
       // Ensure that references corresponding to repeating elements are always deferred and processed in order at the end.
       //
       if (isFirstID && extendedMetaData != null && eReference.isMany() && extendedMetaData.getFeatureKind(eReference) == ExtendedMetaData.ELEMENT_FEATURE)
@@ -2952,8 +3048,9 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
     }
 
     // Test for a same document reference that would usually be handled as an IDREF.
+    // When streaming, such a proxy is never resolved so it needn't be retained.
     //
-    if (proxyURI.trimFragment().equals(resourceURI))
+    if (streamingHandler == null && proxyURI.trimFragment().equals(resourceURI))
     {
       sameDocumentProxies.add(proxy);
     }
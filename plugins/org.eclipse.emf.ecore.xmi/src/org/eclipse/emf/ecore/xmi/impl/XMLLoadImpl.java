@@ -15,6 +15,7 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -22,6 +23,11 @@ import java.util.Set;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.w3c.dom.CDATASection;
 import org.w3c.dom.Comment;
@@ -34,7 +40,9 @@ import org.w3c.dom.ProcessingInstruction;
 import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
 import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.ext.Locator2;
 import org.xml.sax.helpers.AttributesImpl;
 import org.xml.sax.helpers.DefaultHandler;
 
@@ -62,6 +70,22 @@ public class XMLLoadImpl implements XMLLoad
   protected Map<?, ?> options;
   protected boolean namespaceAware;
 
+  /**
+   * The StAX input factory of each thread.
+   * Creating a factory involves a service lookup so each thread reuses its own rather than sharing a factory that's not guaranteed to be thread safe.
+   */
+  private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY =
+    new ThreadLocal<XMLInputFactory>()
+    {
+      @Override
+      protected XMLInputFactory initialValue()
+      {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+        return xmlInputFactory;
+      }
+    };
+
   public XMLLoadImpl(XMLHelper helper)
   {
     this.helper = helper;
@@ -89,6 +113,12 @@ public class XMLLoadImpl implements XMLLoad
    */
   public void load(XMLResource resource, InputStream inputStream, Map<?, ?> options) throws IOException
   {
+    if (Boolean.TRUE.equals(options.get(XMLResource.OPTION_USE_STAX)))
+    {
+      loadStAX(resource, inputStream, options);
+      return;
+    }
+
     if (inputStream instanceof URIConverter.Readable)
     {
       URIConverter.Readable readable = (URIConverter.Readable)inputStream;
@@ -284,6 +314,198 @@ public class XMLLoadImpl implements XMLLoad
     }
   }
 
+  /**
+   * Loads the input stream using a StAX stream reader.
+   * @see XMLResource#OPTION_USE_STAX
+   * @since 2.16
+   */
+  protected void loadStAX(XMLResource resource, InputStream inputStream, Map<?, ?> options) throws IOException
+  {
+    String systemId = resource.getURI() == null ? null : resource.getURI().toString();
+    XMLStreamReader xmlStreamReader;
+    try
+    {
+      XMLInputFactory xmlInputFactory = getXMLInputFactory();
+      if (inputStream instanceof URIConverter.Readable)
+      {
+        URIConverter.Readable readable = (URIConverter.Readable)inputStream;
+        resource.setEncoding(readable.getEncoding());
+        xmlStreamReader = xmlInputFactory.createXMLStreamReader(systemId, readable.asReader());
+      }
+      else
+      {
+        xmlStreamReader = xmlInputFactory.createXMLStreamReader(systemId, inputStream);
+      }
+    }
+    catch (XMLStreamException exception)
+    {
+      throw new Resource.IOWrappedException(exception);
+    }
+
+    try
+    {
+      load(resource, xmlStreamReader, options);
+    }
+    finally
+    {
+      try
+      {
+        xmlStreamReader.close();
+      }
+      catch (XMLStreamException exception)
+      {
+        // Ignore.
+      }
+    }
+  }
+
+  /**
+   * Returns the StAX input factory used to create a stream reader for {@link #loadStAX(XMLResource, InputStream, Map)}.
+   * By default, each thread reuses its own factory.
+   * @since 2.16
+   */
+  protected XMLInputFactory getXMLInputFactory()
+  {
+    return XML_INPUT_FACTORY.get();
+  }
+
+  /**
+   * Loads from the current position of the StAX stream reader, which typically is at the start of the document,
+   * by driving the usual handler with the events of the reader.
+   * The events are presented to the handler as a non-namespace-aware SAX parser would present them.
+   * @see XMLResource#OPTION_USE_STAX
+   * @since 2.16
+   */
+  public void load(XMLResource resource, XMLStreamReader xmlStreamReader, Map<?, ?> options) throws IOException
+  {
+    this.resource = resource;
+    this.options = options;
+    DefaultHandler handler;
+    XMLParserPool pool = (XMLParserPool)options.get(XMLResource.OPTION_USE_PARSER_POOL);
+    if (pool != null)
+    {
+      handler = (DefaultHandler)pool.getDefaultHandler(resource, this, helper, options);
+    }
+    else
+    {
+      handler = makeDefaultHandler();
+    }
+    LexicalHandler lexicalHandler = null;
+    if (Boolean.TRUE.equals(options.get(XMLResource.OPTION_USE_LEXICAL_HANDLER)))
+    {
+      lexicalHandler = (LexicalHandler)handler;
+    }
+
+    XMLStreamReaderProxy xmlStreamReaderProxy = new XMLStreamReaderProxy(xmlStreamReader);
+    try
+    {
+      handler.setDocumentLocator(xmlStreamReaderProxy);
+      traverse(xmlStreamReader, xmlStreamReaderProxy, handler, lexicalHandler);
+    }
+    catch (XMLStreamException exception)
+    {
+      // Report the problem to the handler just as a SAX parser would report it.
+      //
+      Location location = exception.getLocation();
+      SAXParseException saxParseException =
+        location == null ?
+          new SAXParseException(exception.getMessage(), xmlStreamReaderProxy, exception) :
+          new SAXParseException
+            (exception.getMessage(), location.getPublicId(), location.getSystemId(), location.getLineNumber(), location.getColumnNumber(), exception);
+      try
+      {
+        handler.fatalError(saxParseException);
+      }
+      catch (SAXException fatalException)
+      {
+        // Ignore.
+      }
+      throw new Resource.IOWrappedException(exception);
+    }
+    catch (SAXException exception)
+    {
+      if (exception.getException() != null)
+      {
+        throw new Resource.IOWrappedException(exception.getException());
+      }
+      else
+      {
+        throw new Resource.IOWrappedException(exception);
+      }
+    }
+
+    if (pool != null)
+    {
+      pool.releaseDefaultHandler((XMLDefaultHandler)handler, options);
+    }
+
+    helper = null;
+    handleErrors();
+  }
+
+  /**
+   * Drives the handler with the events of the stream reader, starting at its current position.
+   * @since 2.16
+   */
+  protected void traverse(XMLStreamReader xmlStreamReader, XMLStreamReaderProxy xmlStreamReaderProxy, DefaultHandler handler, LexicalHandler lexicalHandler) throws XMLStreamException, SAXException
+  {
+    handler.startDocument();
+    for (int event = xmlStreamReader.getEventType(); ; event = xmlStreamReader.next())
+    {
+      switch (event)
+      {
+        case XMLStreamConstants.START_ELEMENT:
+        {
+          xmlStreamReaderProxy.startElement();
+          handler.startElement("", "", xmlStreamReaderProxy.getElementQName(), xmlStreamReaderProxy);
+          break;
+        }
+        case XMLStreamConstants.END_ELEMENT:
+        {
+          handler.endElement("", "", xmlStreamReaderProxy.getElementQName());
+          break;
+        }
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.SPACE:
+        {
+          handler.characters(xmlStreamReader.getTextCharacters(), xmlStreamReader.getTextStart(), xmlStreamReader.getTextLength());
+          break;
+        }
+        case XMLStreamConstants.CDATA:
+        {
+          if (lexicalHandler != null)
+          {
+            lexicalHandler.startCDATA();
+          }
+          handler.characters(xmlStreamReader.getTextCharacters(), xmlStreamReader.getTextStart(), xmlStreamReader.getTextLength());
+          if (lexicalHandler != null)
+          {
+            lexicalHandler.endCDATA();
+          }
+          break;
+        }
+        case XMLStreamConstants.COMMENT:
+        {
+          if (lexicalHandler != null)
+          {
+            lexicalHandler.comment(xmlStreamReader.getTextCharacters(), xmlStreamReader.getTextStart(), xmlStreamReader.getTextLength());
+          }
+          break;
+        }
+        case XMLStreamConstants.PROCESSING_INSTRUCTION:
+        {
+          handler.processingInstruction(xmlStreamReader.getPITarget(), xmlStreamReader.getPIData());
+          break;
+        }
+        case XMLStreamConstants.END_DOCUMENT:
+        {
+          handler.endDocument();
+          return;
+        }
+      }
+    }
+  }
+
   /**
    * Make either a validating or non-validating parser;
    * throw an if one could not be made.
@@ -770,4 +992,195 @@ public class XMLLoadImpl implements XMLLoad
     }
   } // class AttributesProxy
 
+  /**
+   * Presents the current element of a StAX stream reader as SAX attributes and the reader's location as a SAX locator.
+   * Like a non-namespace-aware SAX parser, namespace declarations are presented as <code>xmlns</code> attributes and names are qualified names.
+   * The qualified names are cached so that they're not recomputed for each element.
+   * @since 2.16
+   */
+  protected static final class XMLStreamReaderProxy implements Attributes, Locator2
+  {
+    /** The stream reader. */
+    protected final XMLStreamReader xmlStreamReader;
+
+    /** The encoding declared by the document. */
+    protected final String encoding;
+
+    /** The XML version declared by the document. */
+    protected final String xmlVersion;
+
+    /** The number of namespace declarations of the current element. */
+    protected int namespaceCount;
+
+    /** The number of namespace declarations and attributes of the current element. */
+    protected int length;
+
+    /** The cached qualified names, by prefix and then by local name. */
+    protected final Map<String, Map<String, String>> qNames = new HashMap<String, Map<String, String>>();
+
+    public XMLStreamReaderProxy(XMLStreamReader xmlStreamReader)
+    {
+      this.xmlStreamReader = xmlStreamReader;
+      String encoding = xmlStreamReader.getCharacterEncodingScheme();
+      this.encoding = encoding == null ? xmlStreamReader.getEncoding() : encoding;
+      this.xmlVersion = xmlStreamReader.getVersion();
+    }
+
+    /** Updates the attribute counts for the current element. */
+    public void startElement()
+    {
+      namespaceCount = xmlStreamReader.getNamespaceCount();
+      length = namespaceCount + xmlStreamReader.getAttributeCount();
+    }
+
+    /** Returns the qualified name of the current element. */
+    public String getElementQName()
+    {
+      return getQName(xmlStreamReader.getPrefix(), xmlStreamReader.getLocalName());
+    }
+
+    protected String getQName(String prefix, String localName)
+    {
+      if (prefix == null || prefix.length() == 0)
+      {
+        return localName;
+      }
+      Map<String, String> localNameToQNameMap = qNames.get(prefix);
+      if (localNameToQNameMap == null)
+      {
+        localNameToQNameMap = new HashMap<String, String>();
+        qNames.put(prefix, localNameToQNameMap);
+      }
+      String qName = localNameToQNameMap.get(localName);
+      if (qName == null)
+      {
+        qName = prefix + ":" + localName;
+        localNameToQNameMap.put(localName, qName);
+      }
+      return qName;
+    }
+
+    public int getLength()
+    {
+      return length;
+    }
+
+    public String getQName(int index)
+    {
+      if (index < 0 || index >= length)
+      {
+        return null;
+      }
+      else if (index < namespaceCount)
+      {
+        String prefix = xmlStreamReader.getNamespacePrefix(index);
+        return prefix == null || prefix.length() == 0 ? ExtendedMetaData.XMLNS_PREFIX : getQName(ExtendedMetaData.XMLNS_PREFIX, prefix);
+      }
+      else
+      {
+        index -= namespaceCount;
+        return getQName(xmlStreamReader.getAttributePrefix(index), xmlStreamReader.getAttributeLocalName(index));
+      }
+    }
+
+    public String getURI(int index)
+    {
+      return index < 0 || index >= length ? null : "";
+    }
+
+    public String getLocalName(int index)
+    {
+      return index < 0 || index >= length ? null : "";
+    }
+
+    public String getType(int i)
+    {
+      return "CDATA";
+    }
+
+    public String getType(String name)
+    {
+      return "CDATA";
+    }
+
+    public String getType(String uri, String localName)
+    {
+      return "CDATA";
+    }
+
+    public String getValue(int index)
+    {
+      if (index < 0 || index >= length)
+      {
+        return null;
+      }
+      else if (index < namespaceCount)
+      {
+        String namespaceURI = xmlStreamReader.getNamespaceURI(index);
+        return namespaceURI == null ? "" : namespaceURI;
+      }
+      else
+      {
+        return xmlStreamReader.getAttributeValue(index - namespaceCount);
+      }
+    }
+
+    public String getValue(String qName)
+    {
+      return getValue(getIndex(qName));
+    }
+
+    public String getValue(String uri, String localName)
+    {
+      return null;
+    }
+
+    public int getIndex(String qName)
+    {
+      for (int i = 0; i < length; ++i)
+      {
+        if (qName.equals(getQName(i)))
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    public int getIndex(String uri, String localPart)
+    {
+      return -1;
+    }
+
+    public String getPublicId()
+    {
+      return xmlStreamReader.getLocation().getPublicId();
+    }
+
+    public String getSystemId()
+    {
+      return xmlStreamReader.getLocation().getSystemId();
+    }
+
+    public int getLineNumber()
+    {
+      return xmlStreamReader.getLocation().getLineNumber();
+    }
+
+    public int getColumnNumber()
+    {
+      return xmlStreamReader.getLocation().getColumnNumber();
+    }
+
+    public String getEncoding()
+    {
+      return encoding;
+    }
+
+    public String getXMLVersion()
+    {
+      return xmlVersion;
+    }
+  } // class XMLStreamReaderProxy
+
 } // XMLLoad
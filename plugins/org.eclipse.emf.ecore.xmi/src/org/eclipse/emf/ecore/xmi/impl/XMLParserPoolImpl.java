@@ -11,10 +11,14 @@
 package org.eclipse.emf.ecore.xmi.impl;
 
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
@@ -34,14 +38,33 @@ import org.xml.sax.SAXException;
  * To avoid possible memory leak (in case user is trying to parse documents using different options for every parse), 
  * there is a restriction on the size of the pool. 
  * The key used for handler caching is based on the option map passed to load.
+ * <p>
+ * The pool doesn't lock:
+ * the instances for each key are held in a lock-free queue,
+ * so threads concurrently loading resources with the same options don't contend for the pool as a whole.
+ * The pool counts its {@link #getParserHitCount() hits}, {@link #getParserMissCount() misses}, and {@link #getParserCreationCount() creations},
+ * and the corresponding counts for handlers, to help determine an appropriate size.
+ * </p>
  */
 public class XMLParserPoolImpl implements XMLParserPool
 {
-  private final Map<Map<?, ?>, List<SAXParser>> parserCache = new HashMap<Map<?, ?>, List<SAXParser>>();
+  private final ConcurrentMap<Map<?, ?>, Pool<SAXParser>> parserCache = new ConcurrentHashMap<Map<?, ?>, Pool<SAXParser>>();
 
-  private final Map<Map<?, ?>, List<XMLDefaultHandler>> handlersCache;
+  private final ConcurrentMap<Map<?, ?>, Pool<XMLDefaultHandler>> handlersCache;
   
   private final int size;
+
+  private final AtomicLong parserHitCount = new AtomicLong();
+
+  private final AtomicLong parserMissCount = new AtomicLong();
+
+  private final AtomicLong parserCreationCount = new AtomicLong();
+
+  private final AtomicLong handlerHitCount = new AtomicLong();
+
+  private final AtomicLong handlerMissCount = new AtomicLong();
+
+  private final AtomicLong handlerCreationCount = new AtomicLong();
   
   /**
    * Creates an instance that caches only parsers but not handlers.
@@ -71,38 +94,29 @@ public class XMLParserPoolImpl implements XMLParserPool
   public XMLParserPoolImpl(int size, boolean useHandlerCache)
   {
     this.size = size;
-    handlersCache = useHandlerCache ? new HashMap<Map<?, ?>, List<XMLDefaultHandler>>() : null;
+    handlersCache = useHandlerCache ? new ConcurrentHashMap<Map<?, ?>, Pool<XMLDefaultHandler>>() : null;
   }
   
   /**
    * @see XMLParserPool#get(Map, Map, boolean)
    */
-  public synchronized SAXParser get(Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler) throws ParserConfigurationException, SAXException
+  public SAXParser get(Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler) throws ParserConfigurationException, SAXException
   {
-    Map<Object, Object> map = new HashMap<Object, Object>();
-    map.putAll(features);
-    map.putAll(properties);
-    map.put(XMLResource.OPTION_USE_LEXICAL_HANDLER, useLexicalHandler ? Boolean.TRUE : Boolean.FALSE);
     if (parserCache.size() > size)
     {
       parserCache.clear();
     }
-    List<SAXParser> list = parserCache.get(map);
-    if (list != null)
+    Pool<SAXParser> pool = getPool(parserCache, getKey(features, properties, useLexicalHandler));
+    SAXParser parser = pool.poll();
+    if (parser != null)
     {
-      int size = list.size();
-      if (size > 0)
-      {
-        return list.remove(size - 1);
-      }
-      else
-      {
-        return makeParser(features, properties);
-      }
+      parserHitCount.incrementAndGet();
+      return parser;
     }
     else
     {
-      parserCache.put(map, new ArrayList<SAXParser>());
+      parserMissCount.incrementAndGet();
+      parserCreationCount.incrementAndGet();
       return makeParser(features, properties);
     }
   }
@@ -110,17 +124,33 @@ public class XMLParserPoolImpl implements XMLParserPool
   /**
    * @see XMLParserPool#release(SAXParser, Map, Map, boolean)
    */
-  public synchronized void release(SAXParser parser, Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler)
+  public void release(SAXParser parser, Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler)
+  {
+    getPool(parserCache, getKey(features, properties, useLexicalHandler)).offer(parser, size);
+  }
+
+  private static Map<Object, Object> getKey(Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler)
   {
     Map<Object, Object> map = new HashMap<Object, Object>();
     map.putAll(features);
     map.putAll(properties);
     map.put(XMLResource.OPTION_USE_LEXICAL_HANDLER, useLexicalHandler ? Boolean.TRUE : Boolean.FALSE);
-    List<SAXParser> list = parserCache.get(map);
-    if (list.size() < size)
+    return map;
+  }
+
+  private static <T> Pool<T> getPool(ConcurrentMap<Map<?, ?>, Pool<T>> cache, Map<?, ?> key)
+  {
+    Pool<T> pool = cache.get(key);
+    if (pool == null)
     {
-      list.add(parser);
+      Pool<T> newPool = new Pool<T>();
+      pool = cache.putIfAbsent(key, newPool);
+      if (pool == null)
+      {
+        pool = newPool;
+      }
     }
+    return pool;
   }
 
   protected SAXParser makeParser(Map<String, Boolean> features, Map<String, ?> properties) throws ParserConfigurationException, SAXException
@@ -148,7 +178,7 @@ public class XMLParserPoolImpl implements XMLParserPool
     return parser;
   }
 
-  public synchronized XMLDefaultHandler getDefaultHandler(XMLResource resource, XMLLoad xmlLoad, XMLHelper helper, Map<?, ?> options)
+  public XMLDefaultHandler getDefaultHandler(XMLResource resource, XMLLoad xmlLoad, XMLHelper helper, Map<?, ?> options)
   {
     if (handlersCache != null)
     {
@@ -156,39 +186,112 @@ public class XMLParserPoolImpl implements XMLParserPool
       {
         handlersCache.clear();
       }
-      List<XMLDefaultHandler> list = handlersCache.get(options);
-      if (list != null)
+      XMLDefaultHandler handler = getPool(handlersCache, options).poll();
+      if (handler != null)
       {
-        int size = list.size();
-        if (size > 0)
-        {
-          XMLDefaultHandler handler = list.remove(size - 1);
-          handler.prepare(resource, helper, options);
-          return handler;
-        }
-      }
-      else
-      {
-        handlersCache.put(options, new ArrayList<XMLDefaultHandler>());
+        handlerHitCount.incrementAndGet();
+        handler.prepare(resource, helper, options);
+        return handler;
       }
+      handlerMissCount.incrementAndGet();
     }
+    handlerCreationCount.incrementAndGet();
     return xmlLoad.createDefaultHandler();
   }
 
-  public synchronized void releaseDefaultHandler(XMLDefaultHandler handler, Map<?, ?> options)
+  public void releaseDefaultHandler(XMLDefaultHandler handler, Map<?, ?> options)
   {
     if (handlersCache != null)
     {
       handler.reset();
-      List<XMLDefaultHandler> list = handlersCache.get(options);
-      if (list == null)
+      getPool(handlersCache, options).offer(handler, size);
+    }
+  }
+
+  /**
+   * Returns the number of times {@link #get(Map, Map, boolean)} has returned a cached parser.
+   * @since 2.16
+   */
+  public long getParserHitCount()
+  {
+    return parserHitCount.get();
+  }
+
+  /**
+   * Returns the number of times {@link #get(Map, Map, boolean)} has found no cached parser.
+   * @since 2.16
+   */
+  public long getParserMissCount()
+  {
+    return parserMissCount.get();
+  }
+
+  /**
+   * Returns the number of parsers that have been {@link #makeParser(Map, Map) created}.
+   * @since 2.16
+   */
+  public long getParserCreationCount()
+  {
+    return parserCreationCount.get();
+  }
+
+  /**
+   * Returns the number of times {@link #getDefaultHandler(XMLResource, XMLLoad, XMLHelper, Map)} has returned a cached handler.
+   * @since 2.16
+   */
+  public long getHandlerHitCount()
+  {
+    return handlerHitCount.get();
+  }
+
+  /**
+   * Returns the number of times {@link #getDefaultHandler(XMLResource, XMLLoad, XMLHelper, Map)} has found no cached handler.
+   * This is always zero if handlers aren't cached.
+   * @since 2.16
+   */
+  public long getHandlerMissCount()
+  {
+    return handlerMissCount.get();
+  }
+
+  /**
+   * Returns the number of handlers that have been created,
+   * which includes those created when handlers aren't cached.
+   * @since 2.16
+   */
+  public long getHandlerCreationCount()
+  {
+    return handlerCreationCount.get();
+  }
+
+  /**
+   * A lock-free queue of cached instances with a bounded size.
+   */
+  private static final class Pool<T>
+  {
+    private final Queue<T> queue = new ConcurrentLinkedQueue<T>();
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    public T poll()
+    {
+      T result = queue.poll();
+      if (result != null)
+      {
+        count.decrementAndGet();
+      }
+      return result;
+    }
+
+    public void offer(T instance, int limit)
+    {
+      if (count.incrementAndGet() <= limit)
       {
-        list = new ArrayList<XMLDefaultHandler>();
-        handlersCache.put(options, list);
+        queue.offer(instance);
       }
-      else if (list.size() < size)
+      else
       {
-        list.add(handler);
+        count.decrementAndGet();
       }
     }
   }
@@ -13,6 +13,7 @@ package org.eclipse.emf.ecore.xmi.impl;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -292,9 +293,142 @@ public class XMLResourceImpl extends ResourceImpl implements XMLResource
       };
   }
 
+  /**
+   * Saves the resource {@link #saveIncrementally(IncrementalSaveAdapter, Map) incrementally}, if {@link XMLResource#OPTION_INCREMENTAL_SAVE requested} and possible,
+   * and as usual otherwise.
+   */
+  @Override
+  public void save(Map<?, ?> options) throws IOException
+  {
+    Map<?, ?> effectiveOptions = mergeMaps(options, defaultSaveOptions);
+    IncrementalSaveAdapter incrementalSaveAdapter = (IncrementalSaveAdapter)EcoreUtil.getExistingAdapter(this, IncrementalSaveAdapter.class);
+    if (effectiveOptions != null && Boolean.TRUE.equals(effectiveOptions.get(OPTION_INCREMENTAL_SAVE)))
+    {
+      if (incrementalSaveAdapter == null)
+      {
+        incrementalSaveAdapter = new IncrementalSaveAdapter(this);
+        eAdapters().add(incrementalSaveAdapter);
+      }
+      if (saveIncrementally(incrementalSaveAdapter, effectiveOptions))
+      {
+        return;
+      }
+
+      // The usual save replaces the file, so the recorded subtrees are no longer valid.
+      //
+      incrementalSaveAdapter.reset();
+    }
+    else if (incrementalSaveAdapter != null)
+    {
+      eAdapters().remove(incrementalSaveAdapter);
+    }
+    super.save(options);
+  }
+
+  /**
+   * Saves the resource to its file, copying the unchanged subtrees recorded by the adapter from the previous contents of the file,
+   * and returns whether it was saved;
+   * it isn't saved if the resource's URI doesn't {@link URIConverter#normalize(URI) normalize} to a {@link URI#isFile() file URI},
+   * or if the options call for anything other than a plain XML document,
+   * e.g., {@link #OPTION_ZIP zipped}, {@link #OPTION_CIPHER encrypted}, or {@link XMLResource#OPTION_ROOT_OBJECTS partial} contents,
+   * or for the handling of the usual save, i.e., {@link #OPTION_SAVE_ONLY_IF_CHANGED saving only if changed} or a {@link URIConverter#OPTION_RESPONSE response}.
+   * The new contents are written to a temporary file that replaces the previous file,
+   * or, if there is nothing to copy, directly to the file.
+   * @param incrementalSaveAdapter the adapter tracking this resource.
+   * @param options the save options, including the default save options.
+   * @return whether the resource was saved.
+   * @see XMLResource#OPTION_INCREMENTAL_SAVE
+   * @since 2.16
+   */
+  protected boolean saveIncrementally(IncrementalSaveAdapter incrementalSaveAdapter, Map<?, ?> options) throws IOException
+  {
+    URI fileURI = getURIConverter().normalize(getURI());
+    if (!fileURI.isFile() ||
+          useZip() ||
+          Boolean.TRUE.equals(options.get(OPTION_ZIP)) ||
+          options.get(OPTION_CIPHER) != null ||
+          options.get(OPTION_CODEC) != null ||
+          Boolean.TRUE.equals(options.get(OPTION_BINARY)) ||
+          options.get(OPTION_ROOT_OBJECTS) != null ||
+          options.get(OPTION_SAVE_ONLY_IF_CHANGED) != null ||
+          options.get(URIConverter.OPTION_RESPONSE) != null ||
+          Boolean.TRUE.equals(options.get(OPTION_USE_FILE_BUFFER)) ||
+          OPTION_LINE_DELIMITER_UNSPECIFIED.equals(options.get(OPTION_LINE_DELIMITER)))
+    {
+      return false;
+    }
+    XMLSave xmlSave = createXMLSave(options);
+    if (!(xmlSave instanceof XMLSaveImpl))
+    {
+      return false;
+    }
+
+    File file = new File(fileURI.toFileString()).getAbsoluteFile();
+    IncrementalSaveAdapter.Session session = incrementalSaveAdapter.createSession(file, options);
+    File outputFile = session.isIncremental() ? File.createTempFile(file.getName(), null, file.getParentFile()) : file;
+
+    URIHandler uriHandler = (URIHandler)options.get(OPTION_URI_HANDLER);
+    URI handlerURI = null;
+    if (uriHandler instanceof URIHandlerImpl)
+    {
+      handlerURI = ((URIHandlerImpl)uriHandler).getBaseURI();
+    }
+    boolean isSaved = false;
+    try
+    {
+      OutputStream outputStream = session.open(outputFile);
+      ResourceHandler handler = (ResourceHandler)options.get(OPTION_RESOURCE_HANDLER);
+      if (handler != null)
+      {
+        handler.preSave(this, outputStream, options);
+      }
+      ((XMLSaveImpl)xmlSave).save(this, options, session);
+      if (handler != null)
+      {
+        handler.postSave(this, outputStream, options);
+      }
+      session.close();
+
+      // Replace the previous file with the new one.
+      //
+      if (outputFile != file && !outputFile.renameTo(file) && (!file.delete() || !outputFile.renameTo(file)))
+      {
+        throw new IOException("Cannot replace '" + file + "' with '" + outputFile + "'");
+      }
+      isSaved = true;
+    }
+    finally
+    {
+      session.close();
+      if (!isSaved)
+      {
+        incrementalSaveAdapter.reset();
+        if (outputFile != file)
+        {
+          outputFile.delete();
+        }
+      }
+      if (uriHandler != null)
+      {
+        uriHandler.setBaseURI(handlerURI);
+      }
+    }
+
+    incrementalSaveAdapter.commit(session);
+    setModified(false);
+    setTimeStamp(file.lastModified());
+    return true;
+  }
+
   @Override
   public void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException
   {
+    IncrementalSaveAdapter incrementalSaveAdapter = (IncrementalSaveAdapter)EcoreUtil.getExistingAdapter(this, IncrementalSaveAdapter.class);
+    if (incrementalSaveAdapter != null)
+    {
+      incrementalSaveAdapter.reset();
+    }
+
     URIHandler uriHandler = options != null ? (URIHandler)options.get(OPTION_URI_HANDLER) : null;
     URI handlerURI = null;
     if (uriHandler instanceof URIHandlerImpl)
@@ -618,6 +752,17 @@ public class XMLResourceImpl extends ResourceImpl implements XMLResource
     {
       getIDToEObjectMap().put(id, eObject);
     }
+
+    // The incremental save adapter isn't notified of this change, so tell it explicitly.
+    //
+    if (oldID == null ? id != null : !oldID.equals(id))
+    {
+      IncrementalSaveAdapter incrementalSaveAdapter = (IncrementalSaveAdapter)EcoreUtil.getExistingAdapter(this, IncrementalSaveAdapter.class);
+      if (incrementalSaveAdapter != null)
+      {
+        incrementalSaveAdapter.idChanged(eObject, (String)oldID);
+      }
+    }
   }
 
   /*
@@ -115,6 +115,12 @@ public class XMLSaveImpl implements XMLSave
   protected List<? extends EObject> roots;
   protected XMLResource.ElementHandler elementHandler;
   protected boolean proxyAttributes;
+
+  /**
+   * The session of the {@link XMLResource#OPTION_INCREMENTAL_SAVE incremental save} in progress, if any.
+   * @since 2.16
+   */
+  protected IncrementalSaveAdapter.Session incrementalSaveSession;
   
   protected static final int SKIP = 0;
   protected static final int SAME_DOC = 1;
@@ -250,14 +256,20 @@ public class XMLSaveImpl implements XMLSave
     }
     traverse(contents);
 
+    String javaEncoding = helper.getJavaEncoding(encoding);
     if ("US-ASCII".equals(encoding) || "ASCII".equals(encoding))
     {
       writeAscii(outputStream);
       outputStream.flush();
     }
+    else if ("UTF-8".equalsIgnoreCase(javaEncoding) || "UTF8".equalsIgnoreCase(javaEncoding))
+    {
+      writeUTF8(outputStream);
+      outputStream.flush();
+    }
     else
     {
-      OutputStreamWriter outputStreamWriter = new OutputStreamWriter(outputStream, helper.getJavaEncoding(encoding));
+      OutputStreamWriter outputStreamWriter = new OutputStreamWriter(outputStream, javaEncoding);
       write((Writer)outputStreamWriter);
       outputStreamWriter.flush();
     }
@@ -266,6 +278,35 @@ public class XMLSaveImpl implements XMLSave
     this.xmlResource = null;
   }
 
+  /**
+   * Saves the resource, as directed by the given {@link XMLResource#OPTION_INCREMENTAL_SAVE incremental save} session,
+   * to the session's file output stream.
+   * Each subtree of an object directly contained by a top object is delimited in the document by placeholders;
+   * the session writes those it can copy from the previous contents of the file in place of serializing them again.
+   * @see IncrementalSaveAdapter
+   * @since 2.16
+   */
+  public void save(XMLResource resource, Map<?, ?> options, IncrementalSaveAdapter.Session session) throws IOException
+  {
+    this.xmlResource = resource;
+    init(resource, options);
+    incrementalSaveSession = session;
+    try
+    {
+      List<? extends EObject> contents = resource.getContents();
+      session.start(helper);
+      traverse(contents);
+      session.end(helper);
+      session.write(doc, helper.getJavaEncoding(encoding), flushThreshold);
+      endSave(contents);
+    }
+    finally
+    {
+      incrementalSaveSession = null;
+    }
+    this.xmlResource = null;
+  }
+
   protected void endSave(List<? extends EObject> contents) throws IOException
   {
     if (extendedMetaData != null && contents.size() >= 1)
@@ -1023,6 +1064,17 @@ public class XMLSaveImpl implements XMLSave
     os.flush();
   }
 
+  /**
+   * Writes the document to the output stream, encoded as UTF-8, without the intermediate character encoding of a {@link Writer}.
+   * @see StringSegment#writeUTF8(OutputStream, int)
+   * @since 2.16
+   */
+  public void writeUTF8(OutputStream os) throws IOException
+  {
+    doc.writeUTF8(os, flushThreshold);
+    os.flush();
+  }
+
   public char[] toChar()
   {
     int size = doc.getLength();
@@ -1037,12 +1089,34 @@ public class XMLSaveImpl implements XMLSave
     {
       saveHref(o, f);
     }
+    else if (incrementalSaveSession != null && o.eInternalContainer() == root && !doc.isMixed && !isDocumentRoot(root))
+    {
+      // Copy the subtree from the previous contents, if possible, or delimit its serialization.
+      //
+      String placeholder = incrementalSaveSession.getPlaceholder(o);
+      if (placeholder != null)
+      {
+        doc.addPlaceholder(placeholder);
+      }
+      else
+      {
+        doc.addPlaceholder(incrementalSaveSession.startSubtree(o));
+        saveElement((EObject)o, f);
+        doc.addPlaceholder(incrementalSaveSession.endSubtree(o));
+      }
+    }
     else
     {
       saveElement((EObject)o, f);
     }
   }
 
+  private boolean isDocumentRoot(EObject eObject)
+  {
+    EClass eClass = eObject.eClass();
+    return extendedMetaData != null && featureTable.getDocumentRoot(eClass.getEPackage()) == eClass;
+  }
+
   protected void saveElement(EObject o, EStructuralFeature f)
   {
     EClass eClass = o.eClass();
@@ -3294,9 +3368,15 @@ public class XMLSaveImpl implements XMLSave
     {
       boolean changed = false;
       int inputLength = input.length();
+      int inputPos = scan(input, inputLength, '"');
+      if (inputPos == inputLength)
+      {
+        return input;
+      }
       grow(inputLength);
-      int outputPos = 0;
-      int inputPos = 0;
+      input.getChars(0, inputPos, value, 0);
+      int outputPos = inputPos;
+      inputLength -= inputPos;
       char ch = 0;
       while (inputLength-- > 0)
       {
@@ -3451,9 +3531,15 @@ public class XMLSaveImpl implements XMLSave
       boolean changed = false;
       boolean cdataCloseBracket = false;
       int inputLength = input.length();
+      int inputPos = scan(input, inputLength, '>');
+      if (inputPos == inputLength)
+      {
+        return input;
+      }
       grow(inputLength);
-      int outputPos = 0;
-      int inputPos = 0;
+      input.getChars(0, inputPos, value, 0);
+      int outputPos = inputPos;
+      inputLength -= inputPos;
       char ch;
       while (inputLength-- > 0)
       {
@@ -3609,9 +3695,15 @@ public class XMLSaveImpl implements XMLSave
     {
       boolean changed = false;
       int inputLength = input.length();
+      int inputPos = input.indexOf('\n');
+      if (inputPos == -1)
+      {
+        return input;
+      }
       grow(inputLength);
-      int outputPos = 0;
-      int inputPos = 0;
+      input.getChars(0, inputPos, value, 0);
+      int outputPos = inputPos;
+      inputLength -= inputPos;
       char ch;
       while (inputLength-- > 0)
       {
@@ -3634,6 +3726,25 @@ public class XMLSaveImpl implements XMLSave
       return changed ? new String(value, 0, outputPos) : input;
     }
 
+    /**
+     * Returns the index of the first character that the conversion might change,
+     * or the length of the input if the conversion certainly leaves the input unchanged.
+     * Only valid mappable characters, from the space up to the surrogates, other than the markup characters are skipped.
+     */
+    private int scan(String input, int inputLength, char markup)
+    {
+      int limit = Math.min(mappableLimit + 1, 0xD800);
+      for (int i = 0; i < inputLength; ++i)
+      {
+        char ch = input.charAt(i);
+        if (ch < 0x20 || ch >= limit || ch == '&' || ch == '<' || ch == '"' || ch == markup)
+        {
+          return i;
+        }
+      }
+      return inputLength;
+    }
+
     protected int replaceChars(int pos, char[] replacement, int inputLength)
     {
       int rlen = replacement.length;
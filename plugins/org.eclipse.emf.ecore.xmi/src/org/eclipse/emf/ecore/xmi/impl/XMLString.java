@@ -524,6 +524,23 @@ public class XMLString extends StringSegment
     super.add(newString);
   }
 
+  /**
+   * Adds a placeholder, i.e., an empty string whose identity marks a position in the document,
+   * first closing the start tag of the current element, if necessary.
+   * The position must be at the start of a line, and any content that replaces the placeholder must end with a line separator.
+   * @see XMLSaveImpl#save(org.eclipse.emf.ecore.xmi.XMLResource, java.util.Map, IncrementalSaveAdapter.Session)
+   * @since 2.16
+   */
+  public void addPlaceholder(String placeholder)
+  {
+    if (lastElementIsStart)
+    {
+      closeStartElement();
+    }
+    super.add(placeholder);
+    currentLineWidth = 0;
+  }
+
   public void addCDATA(String newString)
   {
     if (lastElementIsStart)
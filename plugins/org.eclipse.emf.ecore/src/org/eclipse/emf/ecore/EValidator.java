@@ -79,6 +79,18 @@ public interface EValidator
     Registry INSTANCE = new org.eclipse.emf.ecore.impl.EValidatorRegistryImpl();
   }
 
+  /**
+   * A marker interface implemented by validators that may be called concurrently by several threads,
+   * each validating different objects with its own context map.
+   * Such a validator must not modify any state other than the context map
+   * and must not modify the objects it validates, including by resolving proxies.
+   * @see org.eclipse.emf.ecore.util.Diagnostician#validate(EObject, DiagnosticChain, Map, java.util.concurrent.Executor)
+   * @since 2.25
+   */
+  interface ThreadSafe extends EValidator
+  {
+  }
+
   /**
    * An interface for providing labels used within message substitutions.
    */
@@ -207,6 +207,7 @@ public class EAttributeImpl extends EStructuralFeatureImpl implements EAttribute
   protected void freeze()
   {
     getEAttributeType();
+    isMany();
     super.freeze();
   }
 
@@ -133,6 +133,18 @@ public class EClassImpl extends EClassifierImpl implements EClass, ESuperAdapter
     getEAllSuperTypes();
     getEAllGenericSuperTypes();
 
+    // Compute the remaining caches so that reading a frozen class never modifies it.
+    //
+    getEStructuralFeature("");
+    FeatureSubsetSupplier featureSubsetSupplier = (FeatureSubsetSupplier)getEAllStructuralFeatures();
+    featureSubsetSupplier.containments();
+    featureSubsetSupplier.crossReferences();
+    for (EStructuralFeature eStructuralFeature : getEAllStructuralFeaturesData())
+    {
+      getFeatureType(eStructuralFeature);
+    }
+    getOverride(null);
+
     getESuperAdapter().getSubclasses().clear();
     
     if (eStructuralFeatures != null)
@@ -1464,6 +1476,27 @@ public class EClassImpl extends EClassifierImpl implements EClass, ESuperAdapter
     }
     return eAllStructuralFeaturesData;
   }
+
+  /**
+   * The cached layout of the settings of {@link PrimitiveDynamicEObjectImpl primitive-specialized dynamic instances}.
+   */
+  private PrimitiveDynamicEObjectImpl.Layout primitiveDynamicLayout;
+
+  /**
+   * Returns the layout of the settings of {@link PrimitiveDynamicEObjectImpl primitive-specialized dynamic instances} of this class.
+   * It's computed when first needed and again whenever the structural features of the class change.
+   * @since 2.25
+   */
+  public PrimitiveDynamicEObjectImpl.Layout getPrimitiveDynamicLayout()
+  {
+    EStructuralFeature[] eAllStructuralFeaturesData = getEAllStructuralFeaturesData();
+    PrimitiveDynamicEObjectImpl.Layout result = primitiveDynamicLayout;
+    if (result == null || !result.isLayoutFor(eAllStructuralFeaturesData))
+    {
+      primitiveDynamicLayout = result = new PrimitiveDynamicEObjectImpl.Layout(eAllStructuralFeaturesData);
+    }
+    return result;
+  }
   
   /**
    * <!-- begin-user-doc -->
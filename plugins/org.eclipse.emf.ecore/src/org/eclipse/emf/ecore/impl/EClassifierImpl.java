@@ -63,6 +63,14 @@ public abstract class EClassifierImpl extends ENamedElementImpl implements EClas
     super();
   }
 
+  @Override
+  protected void freeze()
+  {
+    getClassifierID();
+    getInstanceClass();
+    super.freeze();
+  }
+
   /**
    * <!-- begin-user-doc -->
    * <!-- end-user-doc -->
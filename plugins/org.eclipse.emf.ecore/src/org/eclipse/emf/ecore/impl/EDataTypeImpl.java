@@ -78,6 +78,7 @@ public class EDataTypeImpl extends EClassifierImpl implements EDataType, EDataTy
     // Bug 433108: Lock in the shared extended metadata for this data type
     ExtendedMetaData.INSTANCE.getName(this);
 
+    getDefaultValue();
     super.freeze();
   }
 
@@ -15,6 +15,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.Iterator;
 
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
@@ -78,10 +79,16 @@ public abstract class EModelElementImpl extends MinimalEObjectImpl.Container imp
    */
   protected static final int EFROZEN = 1;
 
+  /**
+   * The bit of {@link #eFlags} that is used to represent that a {@link #isFrozen() frozen} element {@link #eNotify(Notification) rejects} any change.
+   * @since 2.25
+   */
+  protected static final int EREJECT_CHANGES = EFROZEN << 1;
+
   /**
    * The last bit used by this class; derived classes may use bit values higher than this.
    */
-  protected static final int ELAST_EMODEL_ELEMENT_FLAG = EFROZEN;
+  protected static final int ELAST_EMODEL_ELEMENT_FLAG = EREJECT_CHANGES;
 
   protected void freeze()
   {
@@ -106,6 +113,51 @@ public abstract class EModelElementImpl extends MinimalEObjectImpl.Container imp
     return (eFlags & EFROZEN) != 0;
   }
 
+  /**
+   * Marks the element so that, once it's {@link #isFrozen() frozen}, any change is {@link #eNotify(Notification) rejected}.
+   * @since 2.25
+   */
+  protected void setRejectChanges()
+  {
+    eFlags |= EREJECT_CHANGES;
+  }
+
+  /**
+   * Returns whether the element is {@link #isFrozen() frozen} and {@link #setRejectChanges() rejects} any change.
+   * @since 2.25
+   */
+  protected boolean isRejectingChanges()
+  {
+    return (eFlags & EREJECT_CHANGES) != 0 && isFrozen();
+  }
+
+  /**
+   * Returns <code>true</code> if the element {@link #isRejectingChanges() rejects changes} so that any change can be {@link #eNotify(Notification) rejected}.
+   */
+  @Override
+  public boolean eNotificationRequired()
+  {
+    return isRejectingChanges() || super.eNotificationRequired();
+  }
+
+  /**
+   * Throws an {@link IllegalStateException} if the element {@link #isRejectingChanges() rejects changes} and the notification is for a change,
+   * i.e., other than the {@link Notification#RESOLVE resolution} of a proxy, the {@link Notification#REMOVING_ADAPTER removal} of an adapter, or a {@link Notification#isTouch() touch}.
+   */
+  @Override
+  public void eNotify(Notification notification)
+  {
+    if (isRejectingChanges())
+    {
+      int eventType = notification.getEventType();
+      if (eventType != Notification.RESOLVE && eventType != Notification.REMOVING_ADAPTER && !notification.isTouch())
+      {
+        throw new IllegalStateException("The frozen element '" + this + "' can't be modified");
+      }
+    }
+    super.eNotify(notification);
+  }
+
   @Override
   protected void eSetDirectResource(Internal resource)
   {
@@ -27,6 +27,7 @@ import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.EMap;
 import org.eclipse.emf.common.util.Enumerator;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EAnnotation;
 import org.eclipse.emf.ecore.EAttribute;
@@ -192,6 +193,7 @@ public class EPackageImpl extends ENamedElementImpl implements EPackage, BasicEx
   @Override
   public void freeze()
   {
+    getEClassifier("");
     if (eClassifiers != null)
     {
       for (int i = 0, size = eClassifiers.size(); i < size; ++i)
@@ -212,6 +214,29 @@ public class EPackageImpl extends ENamedElementImpl implements EPackage, BasicEx
 
     super.freeze();
   }
+
+  /**
+   * Marks this package and everything it contains, other than annotations,
+   * so that once {@link #freeze() frozen} any change is rejected with an {@link IllegalStateException}.
+   * @see org.eclipse.emf.ecore.util.EcoreUtil#freeze(EPackage, boolean)
+   * @since 2.25
+   */
+  public void rejectChanges()
+  {
+    setRejectChanges();
+    for (TreeIterator<EObject> i = eAllContents(); i.hasNext(); )
+    {
+      EObject eObject = i.next();
+      if (eObject instanceof EAnnotation)
+      {
+        i.prune();
+      }
+      else if (eObject instanceof EModelElementImpl)
+      {
+        ((EModelElementImpl)eObject).setRejectChanges();
+      }
+    }
+  }
   
   @Override
   public void eSetProxyURI(URI uri)
@@ -307,6 +307,14 @@ public class EReferenceImpl extends EStructuralFeatureImpl implements EReference
   protected void freeze()
   {
     getEReferenceType();
+    getEOpposite();
+    if (eKeys != null)
+    {
+      for (int i = 0, size = eKeys.size(); i < size; ++i)
+      {
+        eKeys.get(i);
+      }
+    }
     super.freeze();
   }
 
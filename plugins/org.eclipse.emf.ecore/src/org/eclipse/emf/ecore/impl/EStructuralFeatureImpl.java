@@ -108,6 +108,7 @@ public abstract class EStructuralFeatureImpl extends ETypedElementImpl implement
     // Bug 433108: Lock in the shared extended metadata for this feature
     ExtendedMetaData.INSTANCE.getName(this);
 
+    isFeatureMap();
     super.freeze();
   }
 
@@ -0,0 +1,1423 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.impl;
+
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.FeatureMapUtil;
+
+
+/**
+ * A {@link org.eclipse.emf.ecore.InternalEObject.EStore store} that keeps the state of its objects in direct byte buffers outside of the Java heap.
+ * <p>
+ * Each object {@link #create(EClass) created} by the store is a lightweight {@link OffHeapEObjectImpl facade}
+ * identified by a <code>long</code> {@link OffHeapEObjectImpl#getHandle() handle},
+ * i.e., the address of a fixed size record holding the object's class, its container, and a slot for each feature.
+ * Primitive values are stored directly in their slot,
+ * references to other objects of the store are stored as handles,
+ * strings are interned in an off-heap dictionary,
+ * the values of many-valued features are stored in separately allocated blocks that grow as needed,
+ * and any other value is kept in a table on the heap.
+ * </p>
+ * <p>
+ * The store only weakly references the facades, so they can be garbage collected and are recreated on demand.
+ * A facade that carries state that can't be recorded by the store,
+ * i.e., adapters, a proxy URI, a direct resource, or the value of a transient feature,
+ * is retained by the store.
+ * The features of a class should not be changed once the store has instances of it.
+ * </p>
+ * <p>
+ * The memory of an object that is no longer used is not reclaimed;
+ * all memory is released when the store itself is garbage collected.
+ * The store is not thread-safe.
+ * </p>
+ * @since 2.25
+ */
+public class OffHeapEStoreImpl implements InternalEObject.EStore
+{
+  /**
+   * A facade for an object whose state is held by an {@link OffHeapEStoreImpl off-heap store}.
+   */
+  public static class OffHeapEObjectImpl extends MinimalEStoreEObjectImpl
+  {
+    protected final OffHeapEStoreImpl eStore;
+
+    protected final long eHandle;
+
+    /**
+     * Creates a facade for the object with the given handle.
+     */
+    protected OffHeapEObjectImpl(OffHeapEStoreImpl eStore, EClass eClass, long eHandle)
+    {
+      super(eClass);
+      this.eStore = eStore;
+      this.eHandle = eHandle;
+    }
+
+    /**
+     * Returns the handle of this object in its store.
+     */
+    public long getHandle()
+    {
+      return eHandle;
+    }
+
+    @Override
+    public InternalEObject.EStore eStore()
+    {
+      return eStore;
+    }
+
+    @Override
+    protected boolean eIsCaching()
+    {
+      return false;
+    }
+
+    @Override
+    protected void eBasicSetContainer(InternalEObject newContainer, int newContainerFeatureID)
+    {
+      eStore.setContainer(this, newContainer, newContainerFeatureID);
+    }
+
+    @Override
+    public void dynamicSet(int dynamicFeatureID, Object value)
+    {
+      if (eDynamicFeature(dynamicFeatureID).isTransient())
+      {
+        eStore.retain(this);
+      }
+      super.dynamicSet(dynamicFeatureID, value);
+    }
+
+    @Override
+    protected void eBasicSetAdapterArray(Adapter[] eAdapters)
+    {
+      if (eAdapters != null)
+      {
+        eStore.retain(this);
+      }
+      super.eBasicSetAdapterArray(eAdapters);
+    }
+
+    @Override
+    public void eSetProxyURI(URI uri)
+    {
+      if (uri != null)
+      {
+        eStore.retain(this);
+      }
+      super.eSetProxyURI(uri);
+    }
+
+    @Override
+    protected void eSetDirectResource(Resource.Internal resource)
+    {
+      if (resource != null)
+      {
+        eStore.retain(this);
+      }
+      super.eSetDirectResource(resource);
+    }
+  }
+
+  /**
+   * A factory for creating objects in an {@link OffHeapEStoreImpl off-heap store}.
+   * It can be used as the {@link org.eclipse.emf.ecore.EPackage#setEFactoryInstance(org.eclipse.emf.ecore.EFactory) factory instance} of a dynamic package.
+   */
+  public static class FactoryImpl extends EFactoryImpl
+  {
+    protected OffHeapEStoreImpl eStore;
+
+    public FactoryImpl(OffHeapEStoreImpl eStore)
+    {
+      super();
+      this.eStore = eStore;
+    }
+
+    @Override
+    protected EObject basicCreate(EClass eClass)
+    {
+      return
+        eClass.getInstanceClassName() == "java.util.Map$Entry" ?
+          super.basicCreate(eClass) :
+          eStore.create(eClass);
+    }
+  }
+
+  /**
+   * The layout of the records of the instances of a class.
+   */
+  private static final class ClassInfo
+  {
+    final int id;
+
+    final EClass eClass;
+
+    final EStructuralFeature[] features;
+
+    final byte[] kinds;
+
+    final int slotOffset;
+
+    final int size;
+
+    ClassInfo(int id, EClass eClass)
+    {
+      this.id = id;
+      this.eClass = eClass;
+      features = eClass.getEAllStructuralFeatures().toArray(new EStructuralFeature [eClass.getFeatureCount()]);
+      kinds = new byte [features.length];
+      for (int i = 0; i < features.length; ++i)
+      {
+        kinds[i] = (byte)getKind(features[i]);
+      }
+      slotOffset = SET_BITS_OFFSET + 8 * ((features.length + 63) >>> 6);
+      size = slotOffset + 8 * features.length;
+    }
+  }
+
+  /**
+   * A weak reference to a facade that remembers the facade's handle.
+   */
+  private static final class FacadeReference extends WeakReference<OffHeapEObjectImpl>
+  {
+    final long handle;
+
+    FacadeReference(OffHeapEObjectImpl eObject, ReferenceQueue<OffHeapEObjectImpl> queue)
+    {
+      super(eObject, queue);
+      handle = eObject.eHandle;
+    }
+  }
+
+  private static final int OBJECT = 0;
+  private static final int INT = 1;
+  private static final int BOOLEAN = 2;
+  private static final int BYTE = 3;
+  private static final int SHORT = 4;
+  private static final int CHAR = 5;
+  private static final int FLOAT = 6;
+  private static final int LONG = 7;
+  private static final int DOUBLE = 8;
+
+  private static final Class<?>[] WRAPPER_CLASSES =
+    {
+      null, Integer.class, Boolean.class, Byte.class, Short.class, Character.class, Float.class, Long.class, Double.class
+    };
+
+  private static final int CLASS_OFFSET = 0;
+  private static final int CONTAINER_FEATURE_OFFSET = 4;
+  private static final int CONTAINER_OFFSET = 8;
+  private static final int SET_BITS_OFFSET = 16;
+
+  private static final int LIST_HEADER_SIZE = 8;
+  private static final int INITIAL_LIST_BLOCK_SIZE = 32;
+
+  private static final int TAG_OBJECT = 1;
+  private static final int TAG_STRING = 2;
+  private static final int TAG_VALUE = 3;
+
+  private static final long NOT_FOUND = -1L;
+
+  /**
+   * The default size of the pages of memory allocated by the store.
+   */
+  public static final int DEFAULT_PAGE_SIZE = 1 << 20;
+
+  private final int pageSize;
+
+  private ByteBuffer[] pages = new ByteBuffer [16];
+
+  private int pageCount;
+
+  private int currentPage;
+
+  private int currentOffset;
+
+  private final long[] freeBlocks = new long [32];
+
+  private final List<ClassInfo> classInfos = new ArrayList<ClassInfo>();
+
+  private final Map<EClass, ClassInfo> classInfoMap = new HashMap<EClass, ClassInfo>();
+
+  private ByteBuffer stringTable;
+
+  private int stringCount;
+
+  private final List<Object> values = new ArrayList<Object>();
+
+  private final List<EDataType> valueTypes = new ArrayList<EDataType>();
+
+  private final Map<Object, Integer> valueIndices = new HashMap<Object, Integer>();
+
+  private final Map<Object, Integer> eObjectIndices = new IdentityHashMap<Object, Integer>();
+
+  private final Map<Long, FacadeReference> facades = new HashMap<Long, FacadeReference>();
+
+  private final ReferenceQueue<OffHeapEObjectImpl> facadeQueue = new ReferenceQueue<OffHeapEObjectImpl>();
+
+  private final Set<OffHeapEObjectImpl> retainedFacades = new HashSet<OffHeapEObjectImpl>();
+
+  /**
+   * Creates an instance that allocates pages of the {@link #DEFAULT_PAGE_SIZE default size}.
+   */
+  public OffHeapEStoreImpl()
+  {
+    this(DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Creates an instance that allocates pages of the given size.
+   */
+  public OffHeapEStoreImpl(int pageSize)
+  {
+    if (pageSize < 1024)
+    {
+      throw new IllegalArgumentException("The page size must be at least 1024");
+    }
+    this.pageSize = pageSize;
+    currentPage = -1;
+    stringTable = allocateDirect(8 * 64);
+  }
+
+  /**
+   * Returns the size of the pages of memory allocated by the store.
+   */
+  public int getPageSize()
+  {
+    return pageSize;
+  }
+
+  /**
+   * Returns the number of bytes of memory currently held by the store's pages and its string dictionary.
+   */
+  public long getAllocatedMemory()
+  {
+    long result = stringTable.capacity();
+    for (int i = 0; i < pageCount; ++i)
+    {
+      ByteBuffer page = pages[i];
+      if (page != null)
+      {
+        result += page.capacity();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Writes the state of the store other than the content of its pages,
+   * i.e., the state of the allocator, the classes of the objects, the string dictionary, and the values kept on the heap.
+   * Classes and data types are recorded by the namespace URI of their package and their name,
+   * objects kept on the heap by their {@link EcoreUtil#getURI(EObject) URI},
+   * and data values by their {@link EcoreUtil#convertToString(EDataType, Object) literal}.
+   * @see #readState(DataInput, EPackage.Registry)
+   */
+  protected void writeState(DataOutput dataOutput) throws IOException
+  {
+    dataOutput.writeInt(pageSize);
+    dataOutput.writeInt(currentPage);
+    dataOutput.writeInt(currentOffset);
+    for (long freeBlock : freeBlocks)
+    {
+      dataOutput.writeLong(freeBlock);
+    }
+
+    dataOutput.writeInt(classInfos.size());
+    for (ClassInfo classInfo : classInfos)
+    {
+      writeClassifier(dataOutput, classInfo.eClass);
+      dataOutput.writeInt(classInfo.features.length);
+    }
+
+    int stringTableCapacity = stringTable.capacity() / 8;
+    dataOutput.writeInt(stringCount);
+    dataOutput.writeInt(stringTableCapacity);
+    for (int i = 0; i < stringTableCapacity; ++i)
+    {
+      dataOutput.writeLong(stringTable.getLong(8 * i));
+    }
+
+    dataOutput.writeInt(values.size());
+    for (int i = 0, size = values.size(); i < size; ++i)
+    {
+      Object value = values.get(i);
+      EDataType eDataType = valueTypes.get(i);
+      if (value == EStructuralFeature.Internal.DynamicValueHolder.NIL)
+      {
+        dataOutput.writeByte(0);
+      }
+      else if (eDataType != null)
+      {
+        // Data values, e.g., enumerators, may also be objects.
+        //
+        dataOutput.writeByte(2);
+        writeClassifier(dataOutput, eDataType);
+        writeString(dataOutput, EcoreUtil.convertToString(eDataType, value));
+      }
+      else if (value instanceof EObject)
+      {
+        EObject eObject = (EObject)value;
+        dataOutput.writeByte(1);
+        writeClassifier(dataOutput, eObject.eClass());
+        writeString(dataOutput, EcoreUtil.getURI(eObject).toString());
+      }
+      else
+      {
+        throw new IOException("The value '" + value + "' can't be written");
+      }
+    }
+  }
+
+  /**
+   * Reads the state {@link #writeState(DataOutput) written} by a store with the same page size,
+   * resolving the classes and data types in the given registry.
+   * Objects that were kept on the heap are read as proxies.
+   */
+  protected void readState(DataInput dataInput, EPackage.Registry packageRegistry) throws IOException
+  {
+    int statePageSize = dataInput.readInt();
+    if (statePageSize != pageSize)
+    {
+      throw new IOException("The page size " + statePageSize + " of the state doesn't match the page size " + pageSize + " of the store");
+    }
+    currentPage = dataInput.readInt();
+    currentOffset = dataInput.readInt();
+    for (int i = 0; i < freeBlocks.length; ++i)
+    {
+      freeBlocks[i] = dataInput.readLong();
+    }
+
+    for (int i = 0, count = dataInput.readInt(); i < count; ++i)
+    {
+      EClass eClass = (EClass)readClassifier(dataInput, packageRegistry);
+      if (getClassInfo(eClass).features.length != dataInput.readInt())
+      {
+        throw new IOException("The features of '" + eClass.getName() + "' have changed");
+      }
+    }
+
+    stringCount = dataInput.readInt();
+    int stringTableCapacity = dataInput.readInt();
+    stringTable = allocateDirect(8 * stringTableCapacity);
+    for (int i = 0; i < stringTableCapacity; ++i)
+    {
+      stringTable.putLong(8 * i, dataInput.readLong());
+    }
+
+    for (int i = 0, count = dataInput.readInt(); i < count; ++i)
+    {
+      Object value;
+      EDataType eDataType = null;
+      switch (dataInput.readByte())
+      {
+        case 0:
+        {
+          value = EStructuralFeature.Internal.DynamicValueHolder.NIL;
+          break;
+        }
+        case 1:
+        {
+          EClass eClass = (EClass)readClassifier(dataInput, packageRegistry);
+          InternalEObject proxy = (InternalEObject)(eClass.getInstanceClass() == null ? new DynamicEObjectImpl(eClass) : EcoreUtil.create(eClass));
+          proxy.eSetProxyURI(URI.createURI(readString(dataInput)));
+          value = proxy;
+          break;
+        }
+        default:
+        {
+          eDataType = (EDataType)readClassifier(dataInput, packageRegistry);
+          value = EcoreUtil.createFromString(eDataType, readString(dataInput));
+          break;
+        }
+      }
+      values.add(value);
+      valueTypes.add(eDataType);
+      (value instanceof EObject ? eObjectIndices : valueIndices).put(value, i);
+    }
+  }
+
+  private static void writeClassifier(DataOutput dataOutput, EClassifier eClassifier) throws IOException
+  {
+    writeString(dataOutput, eClassifier.getEPackage().getNsURI());
+    writeString(dataOutput, eClassifier.getName());
+  }
+
+  private static EClassifier readClassifier(DataInput dataInput, EPackage.Registry packageRegistry) throws IOException
+  {
+    String nsURI = readString(dataInput);
+    String name = readString(dataInput);
+    EPackage ePackage = packageRegistry.getEPackage(nsURI);
+    EClassifier eClassifier = ePackage == null ? null : ePackage.getEClassifier(name);
+    if (eClassifier == null)
+    {
+      throw new IOException("The classifier '" + name + "' of package '" + nsURI + "' can't be found");
+    }
+    return eClassifier;
+  }
+
+  private static void writeString(DataOutput dataOutput, String value) throws IOException
+  {
+    dataOutput.writeInt(value.length());
+    dataOutput.writeChars(value);
+  }
+
+  private static String readString(DataInput dataInput) throws IOException
+  {
+    char[] characters = new char [dataInput.readInt()];
+    for (int i = 0; i < characters.length; ++i)
+    {
+      characters[i] = dataInput.readChar();
+    }
+    return new String(characters);
+  }
+
+  public EObject create(EClass eClass)
+  {
+    ClassInfo classInfo = getClassInfo(eClass);
+    long handle = allocate(classInfo.size);
+    putInt(handle + CLASS_OFFSET, classInfo.id);
+    return getEObject(handle);
+  }
+
+  /**
+   * Returns the object with the given {@link OffHeapEObjectImpl#getHandle() handle},
+   * creating a new facade if the previous one has been garbage collected.
+   */
+  public InternalEObject getEObject(long handle)
+  {
+    for (Object reference = facadeQueue.poll(); reference != null; reference = facadeQueue.poll())
+    {
+      FacadeReference facadeReference = (FacadeReference)reference;
+      Long key = facadeReference.handle;
+      if (facades.get(key) == facadeReference)
+      {
+        facades.remove(key);
+      }
+    }
+
+    Long key = handle;
+    FacadeReference facadeReference = facades.get(key);
+    OffHeapEObjectImpl result = facadeReference == null ? null : facadeReference.get();
+    if (result == null)
+    {
+      ClassInfo classInfo = classInfos.get(getInt(handle + CLASS_OFFSET));
+      result = createEObject(classInfo.eClass, handle);
+      facades.put(key, new FacadeReference(result, facadeQueue));
+    }
+    return result;
+  }
+
+  /**
+   * Creates a facade for the object with the given handle.
+   */
+  protected OffHeapEObjectImpl createEObject(EClass eClass, long handle)
+  {
+    return new OffHeapEObjectImpl(this, eClass, handle);
+  }
+
+  /**
+   * Ensures that the facade is not garbage collected.
+   */
+  protected void retain(OffHeapEObjectImpl eObject)
+  {
+    retainedFacades.add(eObject);
+  }
+
+  public Object get(InternalEObject object, EStructuralFeature feature, int index)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    long slot = handle + classInfo.slotOffset + 8 * featureID;
+    int kind = classInfo.kinds[featureID];
+    if (index == NO_INDEX)
+    {
+      return isSetBit(handle, featureID) ? decode(kind, getLong(slot)) : null;
+    }
+    else
+    {
+      long block = getLong(slot);
+      checkIndex(block, index);
+      return decode(kind, getLong(block + LIST_HEADER_SIZE + 8 * index));
+    }
+  }
+
+  public Object set(InternalEObject object, EStructuralFeature feature, int index, Object value)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    long slot = handle + classInfo.slotOffset + 8 * featureID;
+    int kind = classInfo.kinds[featureID];
+    Object oldValue;
+    if (index == NO_INDEX)
+    {
+      oldValue = isSetBit(handle, featureID) ? decode(kind, getLong(slot)) : null;
+      if (value == null && kind != OBJECT)
+      {
+        setBit(handle, featureID, false);
+      }
+      else
+      {
+        putLong(slot, encode(feature, kind, value, true));
+        setBit(handle, featureID, true);
+      }
+    }
+    else
+    {
+      long block = getLong(slot);
+      checkIndex(block, index);
+      long element = block + LIST_HEADER_SIZE + 8 * index;
+      oldValue = decode(kind, getLong(element));
+      putLong(element, encode(feature, kind, value, true));
+    }
+
+    return oldValue;
+  }
+
+  public boolean isSet(InternalEObject object, EStructuralFeature feature)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    if (feature.isMany())
+    {
+      return feature.isUnsettable() ? isSetBit(handle, featureID) : getListSize(getLong(handle + classInfo.slotOffset + 8 * featureID)) != 0;
+    }
+    else if (feature instanceof EReference && ((EReference)feature).isContainer())
+    {
+      // The container is recorded by the facade rather than by setting the feature.
+      //
+      return getLong(handle + CONTAINER_OFFSET) != 0 && getInt(handle + CONTAINER_FEATURE_OFFSET) == featureID;
+    }
+    else if (!isSetBit(handle, featureID))
+    {
+      return false;
+    }
+    else if (feature.isUnsettable())
+    {
+      return true;
+    }
+    else
+    {
+      long encodedValue = getLong(handle + classInfo.slotOffset + 8 * featureID);
+      int kind = classInfo.kinds[featureID];
+      if (feature instanceof EReference)
+      {
+        return encodedValue != 0;
+      }
+      else if (kind == OBJECT)
+      {
+        Object defaultValue = feature.getDefaultValue();
+        return defaultValue == null ? encodedValue != 0 : !defaultValue.equals(decode(kind, encodedValue));
+      }
+      else
+      {
+        return encodedValue != encodePrimitive(kind, feature.getDefaultValue());
+      }
+    }
+  }
+
+  public void unset(InternalEObject object, EStructuralFeature feature)
+  {
+    if (feature.isMany())
+    {
+      clear(object, feature);
+    }
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    if (!feature.isMany())
+    {
+      putLong(handle + classInfo.slotOffset + 8 * featureID, 0L);
+    }
+    setBit(handle, featureID, false);
+  }
+
+  public boolean isEmpty(InternalEObject object, EStructuralFeature feature)
+  {
+    return size(object, feature) == 0;
+  }
+
+  public int size(InternalEObject object, EStructuralFeature feature)
+  {
+    return getListSize(getListBlock(object, feature));
+  }
+
+  public boolean contains(InternalEObject object, EStructuralFeature feature, Object value)
+  {
+    return indexOf(object, feature, value) != -1;
+  }
+
+  public int indexOf(InternalEObject object, EStructuralFeature feature, Object value)
+  {
+    return indexOf(object, feature, value, false);
+  }
+
+  public int lastIndexOf(InternalEObject object, EStructuralFeature feature, Object value)
+  {
+    return indexOf(object, feature, value, true);
+  }
+
+  private int indexOf(InternalEObject object, EStructuralFeature feature, Object value, boolean last)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    long block = getLong(handle + classInfo.slotOffset + 8 * featureID);
+    int size = getListSize(block);
+    if (size != 0)
+    {
+      int kind = classInfo.kinds[featureID];
+      long encodedValue;
+      if (kind == OBJECT)
+      {
+        encodedValue = encode(feature, kind, value, false);
+        if (encodedValue == NOT_FOUND)
+        {
+          return -1;
+        }
+      }
+      else if (value == null || value.getClass() != WRAPPER_CLASSES[kind])
+      {
+        return -1;
+      }
+      else
+      {
+        encodedValue = encodePrimitive(kind, value);
+      }
+
+      long elements = block + LIST_HEADER_SIZE;
+      if (last)
+      {
+        for (int i = size - 1; i >= 0; --i)
+        {
+          if (getLong(elements + 8 * i) == encodedValue)
+          {
+            return i;
+          }
+        }
+      }
+      else
+      {
+        for (int i = 0; i < size; ++i)
+        {
+          if (getLong(elements + 8 * i) == encodedValue)
+          {
+            return i;
+          }
+        }
+      }
+    }
+    return -1;
+  }
+
+  public void add(InternalEObject object, EStructuralFeature feature, int index, Object value)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    long slot = handle + classInfo.slotOffset + 8 * featureID;
+    long block = getLong(slot);
+    int size = getListSize(block);
+    if (index < 0 || index > size)
+    {
+      throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+    }
+
+    if (block == 0 || size == getInt(block + 4))
+    {
+      block = growListBlock(block, size);
+      putLong(slot, block);
+    }
+
+    long elements = block + LIST_HEADER_SIZE;
+    for (int i = size; i > index; --i)
+    {
+      putLong(elements + 8 * i, getLong(elements + 8 * (i - 1)));
+    }
+    putLong(elements + 8 * index, encode(feature, classInfo.kinds[featureID], value, true));
+    putInt(block, size + 1);
+    setBit(handle, featureID, true);
+  }
+
+  public Object remove(InternalEObject object, EStructuralFeature feature, int index)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    long block = getLong(handle + classInfo.slotOffset + 8 * featureID);
+    checkIndex(block, index);
+    int size = getInt(block);
+    long elements = block + LIST_HEADER_SIZE;
+    Object oldValue = decode(classInfo.kinds[featureID], getLong(elements + 8 * index));
+    for (int i = index + 1; i < size; ++i)
+    {
+      putLong(elements + 8 * (i - 1), getLong(elements + 8 * i));
+    }
+    putInt(block, size - 1);
+    return oldValue;
+  }
+
+  public Object move(InternalEObject object, EStructuralFeature feature, int targetIndex, int sourceIndex)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    long block = getLong(handle + classInfo.slotOffset + 8 * featureID);
+    checkIndex(block, targetIndex);
+    checkIndex(block, sourceIndex);
+    long elements = block + LIST_HEADER_SIZE;
+    long encodedValue = getLong(elements + 8 * sourceIndex);
+    if (targetIndex > sourceIndex)
+    {
+      for (int i = sourceIndex; i < targetIndex; ++i)
+      {
+        putLong(elements + 8 * i, getLong(elements + 8 * (i + 1)));
+      }
+    }
+    else
+    {
+      for (int i = sourceIndex; i > targetIndex; --i)
+      {
+        putLong(elements + 8 * i, getLong(elements + 8 * (i - 1)));
+      }
+    }
+    putLong(elements + 8 * targetIndex, encodedValue);
+    return decode(classInfo.kinds[featureID], encodedValue);
+  }
+
+  public void clear(InternalEObject object, EStructuralFeature feature)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    long slot = handle + classInfo.slotOffset + 8 * featureID;
+    long block = getLong(slot);
+    if (block != 0)
+    {
+      putLong(slot, 0L);
+      freeBlock(block, LIST_HEADER_SIZE + 8 * getInt(block + 4));
+    }
+  }
+
+  public Object[] toArray(InternalEObject object, EStructuralFeature feature)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    int featureID = classInfo.eClass.getFeatureID(feature);
+    long block = getLong(handle + classInfo.slotOffset + 8 * featureID);
+    int kind = classInfo.kinds[featureID];
+    Object[] result = new Object [getListSize(block)];
+    for (int i = 0; i < result.length; ++i)
+    {
+      result[i] = decode(kind, getLong(block + LIST_HEADER_SIZE + 8 * i));
+    }
+    return result;
+  }
+
+  public <T> T[] toArray(InternalEObject object, EStructuralFeature feature, T[] array)
+  {
+    Object[] values = toArray(object, feature);
+    if (array.length < values.length)
+    {
+      @SuppressWarnings("unchecked")
+      T[] newArray = (T[])java.lang.reflect.Array.newInstance(array.getClass().getComponentType(), values.length);
+      array = newArray;
+    }
+    System.arraycopy(values, 0, array, 0, values.length);
+    if (array.length > values.length)
+    {
+      array[values.length] = null;
+    }
+    return array;
+  }
+
+  public int hashCode(InternalEObject object, EStructuralFeature feature)
+  {
+    int hashCode = 1;
+    for (Object value : toArray(object, feature))
+    {
+      hashCode = 31 * hashCode + (value == null ? 0 : value.hashCode());
+    }
+    return hashCode;
+  }
+
+  public InternalEObject getContainer(InternalEObject object)
+  {
+    return (InternalEObject)decode(OBJECT, getLong(getHandle(object) + CONTAINER_OFFSET));
+  }
+
+  public EStructuralFeature getContainingFeature(InternalEObject object)
+  {
+    long handle = getHandle(object);
+    long container = getLong(handle + CONTAINER_OFFSET);
+    if (container == 0)
+    {
+      return null;
+    }
+    else
+    {
+      int containerFeatureID = getInt(handle + CONTAINER_FEATURE_OFFSET);
+      return
+        containerFeatureID <= InternalEObject.EOPPOSITE_FEATURE_BASE ?
+          ((InternalEObject)decode(OBJECT, container)).eClass().getEStructuralFeature(InternalEObject.EOPPOSITE_FEATURE_BASE - containerFeatureID) :
+          ((EReference)getClassInfo(handle).features[containerFeatureID]).getEOpposite();
+    }
+  }
+
+  /**
+   * Records the container of the object.
+   */
+  private void setContainer(OffHeapEObjectImpl eObject, InternalEObject container, int containerFeatureID)
+  {
+    long handle = getHandle(eObject);
+    putLong(handle + CONTAINER_OFFSET, encode(null, OBJECT, container, true));
+    putInt(handle + CONTAINER_FEATURE_OFFSET, containerFeatureID);
+  }
+
+  private long getHandle(InternalEObject object)
+  {
+    if (object instanceof OffHeapEObjectImpl)
+    {
+      OffHeapEObjectImpl offHeapEObject = (OffHeapEObjectImpl)object;
+      if (offHeapEObject.eStore == this)
+      {
+        return offHeapEObject.eHandle;
+      }
+    }
+    throw new IllegalArgumentException("The object " + object + " was not created by this store");
+  }
+
+  private ClassInfo getClassInfo(long handle)
+  {
+    return classInfos.get(getInt(handle + CLASS_OFFSET));
+  }
+
+  private ClassInfo getClassInfo(EClass eClass)
+  {
+    ClassInfo classInfo = classInfoMap.get(eClass);
+    if (classInfo == null)
+    {
+      classInfo = new ClassInfo(classInfos.size(), eClass);
+      classInfos.add(classInfo);
+      classInfoMap.put(eClass, classInfo);
+    }
+    return classInfo;
+  }
+
+  private static int getKind(EStructuralFeature feature)
+  {
+    if (feature instanceof EAttribute && !FeatureMapUtil.isFeatureMap(feature))
+    {
+      Class<?> instanceClass = ((EAttribute)feature).getEAttributeType().getInstanceClass();
+      if (instanceClass == Integer.TYPE)
+      {
+        return INT;
+      }
+      else if (instanceClass == Boolean.TYPE)
+      {
+        return BOOLEAN;
+      }
+      else if (instanceClass == Byte.TYPE)
+      {
+        return BYTE;
+      }
+      else if (instanceClass == Short.TYPE)
+      {
+        return SHORT;
+      }
+      else if (instanceClass == Character.TYPE)
+      {
+        return CHAR;
+      }
+      else if (instanceClass == Float.TYPE)
+      {
+        return FLOAT;
+      }
+      else if (instanceClass == Long.TYPE)
+      {
+        return LONG;
+      }
+      else if (instanceClass == Double.TYPE)
+      {
+        return DOUBLE;
+      }
+    }
+    return OBJECT;
+  }
+
+  private boolean isSetBit(long handle, int featureID)
+  {
+    return (getLong(handle + SET_BITS_OFFSET + 8 * (featureID >>> 6)) & 1L << featureID) != 0;
+  }
+
+  private void setBit(long handle, int featureID, boolean isSet)
+  {
+    long address = handle + SET_BITS_OFFSET + 8 * (featureID >>> 6);
+    long bits = getLong(address);
+    putLong(address, isSet ? bits | 1L << featureID : bits & ~(1L << featureID));
+  }
+
+  private long getListBlock(InternalEObject object, EStructuralFeature feature)
+  {
+    long handle = getHandle(object);
+    ClassInfo classInfo = getClassInfo(handle);
+    return getLong(handle + classInfo.slotOffset + 8 * classInfo.eClass.getFeatureID(feature));
+  }
+
+  private int getListSize(long block)
+  {
+    return block == 0 ? 0 : getInt(block);
+  }
+
+  private void checkIndex(long block, int index)
+  {
+    int size = getListSize(block);
+    if (index < 0 || index >= size)
+    {
+      throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+    }
+  }
+
+  /**
+   * Returns a block with room for at least one more than the given number of elements,
+   * copying the elements of the given block and freeing it.
+   */
+  private long growListBlock(long block, int size)
+  {
+    int blockSize = block == 0 ? INITIAL_LIST_BLOCK_SIZE : 2 * (LIST_HEADER_SIZE + 8 * getInt(block + 4));
+    if (blockSize < 0)
+    {
+      throw new OutOfMemoryError("The list is too large");
+    }
+    long result = allocateBlock(blockSize);
+    putInt(result, size);
+    putInt(result + 4, (blockSize - LIST_HEADER_SIZE) / 8);
+    if (block != 0)
+    {
+      ByteBuffer source = page(block).duplicate();
+      int sourceOffset = offset(block) + LIST_HEADER_SIZE;
+      source.limit(sourceOffset + 8 * size);
+      source.position(sourceOffset);
+      ByteBuffer target = writablePage(result).duplicate();
+      target.position(offset(result) + LIST_HEADER_SIZE);
+      target.put(source);
+      freeBlock(block, LIST_HEADER_SIZE + 8 * getInt(block + 4));
+    }
+    return result;
+  }
+
+  private long encode(EStructuralFeature feature, int kind, Object value, boolean intern)
+  {
+    if (kind != OBJECT)
+    {
+      return encodePrimitive(kind, value);
+    }
+    else if (value == null)
+    {
+      return 0L;
+    }
+    else if (value instanceof OffHeapEObjectImpl && ((OffHeapEObjectImpl)value).eStore == this)
+    {
+      return ((OffHeapEObjectImpl)value).eHandle << 2 | TAG_OBJECT;
+    }
+    else if (value instanceof String)
+    {
+      long string = intern ? internString((String)value) : findString((String)value);
+      return string == 0 ? NOT_FOUND : string << 2 | TAG_STRING;
+    }
+    else
+    {
+      Map<Object, Integer> indices = value instanceof EObject ? eObjectIndices : valueIndices;
+      Integer index = indices.get(value);
+      if (index == null)
+      {
+        if (!intern)
+        {
+          return NOT_FOUND;
+        }
+        index = values.size();
+        values.add(value);
+        valueTypes.add(feature != null && feature.getEType() instanceof EDataType ? (EDataType)feature.getEType() : null);
+        indices.put(value, index);
+      }
+      return (long)index << 2 | TAG_VALUE;
+    }
+  }
+
+  private static long encodePrimitive(int kind, Object value)
+  {
+    switch (kind)
+    {
+      case INT:
+      {
+        return (Integer)value;
+      }
+      case BOOLEAN:
+      {
+        return (Boolean)value ? 1L : 0L;
+      }
+      case BYTE:
+      {
+        return (Byte)value;
+      }
+      case SHORT:
+      {
+        return (Short)value;
+      }
+      case CHAR:
+      {
+        return (Character)value;
+      }
+      case FLOAT:
+      {
+        return Float.floatToIntBits((Float)value);
+      }
+      case LONG:
+      {
+        return (Long)value;
+      }
+      default:
+      {
+        return Double.doubleToLongBits((Double)value);
+      }
+    }
+  }
+
+  private Object decode(int kind, long encodedValue)
+  {
+    switch (kind)
+    {
+      case OBJECT:
+      {
+        long payload = encodedValue >>> 2;
+        switch ((int)encodedValue & 3)
+        {
+          case TAG_OBJECT:
+          {
+            return getEObject(payload);
+          }
+          case TAG_STRING:
+          {
+            return decodeString(payload);
+          }
+          case TAG_VALUE:
+          {
+            return values.get((int)payload);
+          }
+          default:
+          {
+            return null;
+          }
+        }
+      }
+      case INT:
+      {
+        return (int)encodedValue;
+      }
+      case BOOLEAN:
+      {
+        return encodedValue != 0;
+      }
+      case BYTE:
+      {
+        return (byte)encodedValue;
+      }
+      case SHORT:
+      {
+        return (short)encodedValue;
+      }
+      case CHAR:
+      {
+        return (char)encodedValue;
+      }
+      case FLOAT:
+      {
+        return Float.intBitsToFloat((int)encodedValue);
+      }
+      case LONG:
+      {
+        return encodedValue;
+      }
+      default:
+      {
+        return Double.longBitsToDouble(encodedValue);
+      }
+    }
+  }
+
+  /**
+   * Returns the address of the interned copy of the string, adding it to the dictionary if necessary.
+   * Each entry holds the string's hash code, its length, and its characters.
+   */
+  private long internString(String value)
+  {
+    long result = findString(value);
+    if (result == 0)
+    {
+      if (2 * (stringCount + 1) > stringTable.capacity() / 8)
+      {
+        rehashStrings();
+      }
+
+      int length = value.length();
+      result = allocate((8 + 2 * length + 7) & ~7);
+      putInt(result, value.hashCode());
+      putInt(result + 4, length);
+      ByteBuffer page = writablePage(result);
+      int offset = offset(result) + 8;
+      for (int i = 0; i < length; ++i)
+      {
+        page.putChar(offset + 2 * i, value.charAt(i));
+      }
+
+      stringTable.putLong(8 * findStringIndex(stringTable, value.hashCode(), null), result);
+      ++stringCount;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the address of the interned copy of the string, or <code>0</code> if it's not in the dictionary.
+   */
+  private long findString(String value)
+  {
+    return stringTable.getLong(8 * findStringIndex(stringTable, value.hashCode(), value));
+  }
+
+  /**
+   * Returns the index in the table either of the entry for the given string, or of the empty entry where it should be added.
+   */
+  private int findStringIndex(ByteBuffer table, int hashCode, String value)
+  {
+    int mask = table.capacity() / 8 - 1;
+    for (int index = (hashCode ^ hashCode >>> 16) & mask; ; index = (index + 1) & mask)
+    {
+      long string = table.getLong(8 * index);
+      if (string == 0 || value != null && getInt(string) == hashCode && equalsString(string, value))
+      {
+        return index;
+      }
+    }
+  }
+
+  private void rehashStrings()
+  {
+    ByteBuffer oldStringTable = stringTable;
+    ByteBuffer newStringTable = allocateDirect(2 * oldStringTable.capacity());
+    for (int i = 0, capacity = oldStringTable.capacity() / 8; i < capacity; ++i)
+    {
+      long string = oldStringTable.getLong(8 * i);
+      if (string != 0)
+      {
+        newStringTable.putLong(8 * findStringIndex(newStringTable, getInt(string), null), string);
+      }
+    }
+    stringTable = newStringTable;
+  }
+
+  private boolean equalsString(long string, String value)
+  {
+    int length = value.length();
+    if (getInt(string + 4) != length)
+    {
+      return false;
+    }
+    ByteBuffer page = page(string);
+    int offset = offset(string) + 8;
+    for (int i = 0; i < length; ++i)
+    {
+      if (page.getChar(offset + 2 * i) != value.charAt(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String decodeString(long string)
+  {
+    char[] characters = new char [getInt(string + 4)];
+    ByteBuffer page = page(string);
+    int offset = offset(string) + 8;
+    for (int i = 0; i < characters.length; ++i)
+    {
+      characters[i] = page.getChar(offset + 2 * i);
+    }
+    return new String(characters);
+  }
+
+  /**
+   * Allocates zeroed memory of the given size, rounded up to a multiple of 8.
+   * An address is the index of a page in the upper 32 bits and the offset within that page in the lower 32 bits.
+   * Allocations larger than a quarter of a page get a page of their own.
+   */
+  private long allocate(int size)
+  {
+    size = (size + 7) & ~7;
+    if (currentPage == -1)
+    {
+      // Reserve the first word of the first page so that no address is zero.
+      //
+      currentPage = createPage(pageSize);
+      currentOffset = 8;
+    }
+    if (size > pageSize >>> 2)
+    {
+      return (long)createPage(size) << 32;
+    }
+    if (currentOffset + size > pageSize)
+    {
+      currentPage = createPage(pageSize);
+      currentOffset = 0;
+    }
+    long result = (long)currentPage << 32 | currentOffset;
+    currentOffset += size;
+    return result;
+  }
+
+  /**
+   * Allocates a block whose size is a power of two, reusing a freed block if possible.
+   */
+  private long allocateBlock(int size)
+  {
+    int sizeClass = Integer.numberOfTrailingZeros(size);
+    long result = freeBlocks[sizeClass];
+    if (result != 0)
+    {
+      freeBlocks[sizeClass] = getLong(result);
+      return result;
+    }
+    return allocate(size);
+  }
+
+  private void freeBlock(long block, int size)
+  {
+    if (size > pageSize >>> 2)
+    {
+      releasePage((int)(block >>> 32));
+    }
+    else
+    {
+      int sizeClass = Integer.numberOfTrailingZeros(size);
+      putLong(block, freeBlocks[sizeClass]);
+      freeBlocks[sizeClass] = block;
+    }
+  }
+
+  /**
+   * Allocates a new zeroed page of the given size and returns its index.
+   */
+  protected int createPage(int size)
+  {
+    if (pageCount == pages.length)
+    {
+      ByteBuffer[] newPages = new ByteBuffer [2 * pageCount];
+      System.arraycopy(pages, 0, newPages, 0, pageCount);
+      pages = newPages;
+    }
+    pages[pageCount] = allocateDirect(size);
+    return pageCount++;
+  }
+
+  /**
+   * Returns the page with the given index for reading.
+   * The result must not be used once another page has been accessed.
+   */
+  protected ByteBuffer getPage(int pageIndex)
+  {
+    return pages[pageIndex];
+  }
+
+  /**
+   * Returns the page with the given index for writing.
+   * The result must not be used once another page has been accessed.
+   */
+  protected ByteBuffer getWritablePage(int pageIndex)
+  {
+    return pages[pageIndex];
+  }
+
+  /**
+   * Releases the page with the given index, which held a single large block that has been freed.
+   */
+  protected void releasePage(int pageIndex)
+  {
+    pages[pageIndex] = null;
+  }
+
+  private static ByteBuffer allocateDirect(int size)
+  {
+    return ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+  }
+
+  private ByteBuffer page(long address)
+  {
+    return getPage((int)(address >>> 32));
+  }
+
+  private ByteBuffer writablePage(long address)
+  {
+    return getWritablePage((int)(address >>> 32));
+  }
+
+  private static int offset(long address)
+  {
+    return (int)address;
+  }
+
+  private long getLong(long address)
+  {
+    return page(address).getLong(offset(address));
+  }
+
+  private void putLong(long address, long value)
+  {
+    writablePage(address).putLong(offset(address), value);
+  }
+
+  private int getInt(long address)
+  {
+    return page(address).getInt(offset(address));
+  }
+
+  private void putInt(long address, int value)
+  {
+    writablePage(address).putInt(offset(address), value);
+  }
+}
@@ -0,0 +1,395 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.impl;
+
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EPackage;
+
+
+/**
+ * An {@link OffHeapEStoreImpl off-heap store} whose pages are kept in a file and cached in a bounded amount of memory.
+ * <p>
+ * The pages are read on demand into a cache that holds at most the given number of pages,
+ * evicting the least recently used page when it's full.
+ * A page that has been modified is appended to the file when it's evicted or when the store is {@link #save(OutputStream) saved},
+ * so the file only ever grows and the content recorded by a previously saved index remains intact.
+ * The index, i.e., the location of each page in the file, the {@link #getRootHandles() root handles}, and the {@link #writeState(java.io.DataOutput) state} of the store,
+ * is written to a separate stream when the store is saved and is read back when the store is {@link #open(File, InputStream, EPackage.Registry, int) opened}.
+ * </p>
+ * <p>
+ * Together with the weakly referenced {@link OffHeapEStoreImpl.OffHeapEObjectImpl facades},
+ * this allows navigating a model that doesn't fit in memory with a fixed memory budget.
+ * </p>
+ * @see org.eclipse.emf.ecore.resource.impl.PagedEStoreResourceImpl
+ * @since 2.25
+ */
+public class PagedFileEStoreImpl extends OffHeapEStoreImpl
+{
+  /**
+   * The default number of pages cached in memory.
+   */
+  public static final int DEFAULT_CACHED_PAGE_COUNT = 64;
+
+  private static final int INDEX_SIGNATURE = 0x454d4650;
+
+  private static final long[] NO_ROOT_HANDLES = new long [0];
+
+  protected final File file;
+
+  private final RandomAccessFile randomAccessFile;
+
+  private final FileChannel channel;
+
+  private long fileSize;
+
+  private long[] pageOffsets = new long [16];
+
+  private int[] pageSizes = new int [16];
+
+  private int pageCount;
+
+  private final long cacheCapacity;
+
+  private long cachedMemory;
+
+  private final LinkedHashMap<Integer, ByteBuffer> cachedPages = new LinkedHashMap<Integer, ByteBuffer>(16, 0.75f, true);
+
+  private final Set<Integer> dirtyPages = new HashSet<Integer>();
+
+  private int lastPageIndex = -1;
+
+  private ByteBuffer lastPage;
+
+  private boolean lastPageIsDirty;
+
+  private long[] rootHandles = NO_ROOT_HANDLES;
+
+  /**
+   * Creates an empty store whose pages are kept in the given file, replacing any existing content of that file.
+   * @param file the file in which to keep the pages.
+   * @param pageSize the size of each page.
+   * @param cachedPageCount the maximum number of pages to hold in memory.
+   */
+  public PagedFileEStoreImpl(File file, int pageSize, int cachedPageCount) throws IOException
+  {
+    this(file, pageSize, cachedPageCount, true);
+  }
+
+  private PagedFileEStoreImpl(File file, int pageSize, int cachedPageCount, boolean truncate) throws IOException
+  {
+    super(pageSize);
+    if (cachedPageCount < 4)
+    {
+      throw new IllegalArgumentException("At least 4 pages must be cached");
+    }
+    this.file = file;
+    cacheCapacity = (long)cachedPageCount * pageSize;
+    randomAccessFile = new RandomAccessFile(file, "rw");
+    channel = randomAccessFile.getChannel();
+    if (truncate)
+    {
+      channel.truncate(0);
+    }
+    fileSize = channel.size();
+  }
+
+  /**
+   * Opens a store whose pages are kept in the given file, as recorded by the index in the given stream.
+   * @param file the file in which the pages are kept.
+   * @param indexInputStream the stream from which to read the index {@link #save(OutputStream) saved} for the file.
+   * @param packageRegistry the registry in which to resolve the packages of the objects in the store.
+   * @param cachedPageCount the maximum number of pages to hold in memory.
+   */
+  public static PagedFileEStoreImpl open(File file, InputStream indexInputStream, EPackage.Registry packageRegistry, int cachedPageCount) throws IOException
+  {
+    DataInputStream dataInputStream = new DataInputStream(indexInputStream);
+    if (dataInputStream.readInt() != INDEX_SIGNATURE)
+    {
+      throw new IOException("The stream doesn't contain a store index");
+    }
+    PagedFileEStoreImpl result = new PagedFileEStoreImpl(file, dataInputStream.readInt(), cachedPageCount, false);
+    try
+    {
+      result.readIndex(dataInputStream, packageRegistry);
+    }
+    catch (IOException exception)
+    {
+      result.close();
+      throw exception;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the file in which the pages are kept.
+   */
+  public File getFile()
+  {
+    return file;
+  }
+
+  /**
+   * Returns the handles of the objects recorded as the roots of the store.
+   */
+  public long[] getRootHandles()
+  {
+    return rootHandles.clone();
+  }
+
+  /**
+   * Records the handles of the objects that are the roots of the store.
+   */
+  public void setRootHandles(long[] rootHandles)
+  {
+    this.rootHandles = rootHandles.clone();
+  }
+
+  /**
+   * Appends all modified pages to the file, forces them to the storage device, and writes the index to the given stream.
+   * The stream is flushed but not closed.
+   */
+  public void save(OutputStream indexOutputStream) throws IOException
+  {
+    for (Map.Entry<Integer, ByteBuffer> entry : cachedPages.entrySet())
+    {
+      Integer pageIndex = entry.getKey();
+      if (dirtyPages.contains(pageIndex))
+      {
+        writePage(pageIndex, entry.getValue());
+      }
+    }
+    dirtyPages.clear();
+    lastPageIsDirty = false;
+    channel.force(false);
+
+    DataOutputStream dataOutputStream = new DataOutputStream(indexOutputStream);
+    dataOutputStream.writeInt(INDEX_SIGNATURE);
+    dataOutputStream.writeInt(getPageSize());
+    dataOutputStream.writeInt(pageCount);
+    for (int i = 0; i < pageCount; ++i)
+    {
+      dataOutputStream.writeLong(pageOffsets[i]);
+      dataOutputStream.writeInt(pageSizes[i]);
+    }
+    dataOutputStream.writeInt(rootHandles.length);
+    for (long rootHandle : rootHandles)
+    {
+      dataOutputStream.writeLong(rootHandle);
+    }
+    writeState(dataOutputStream);
+    dataOutputStream.flush();
+  }
+
+  private void readIndex(DataInputStream dataInputStream, EPackage.Registry packageRegistry) throws IOException
+  {
+    int count = dataInputStream.readInt();
+    ensurePageCapacity(count);
+    for (int i = 0; i < count; ++i)
+    {
+      pageOffsets[i] = dataInputStream.readLong();
+      pageSizes[i] = dataInputStream.readInt();
+    }
+    pageCount = count;
+    rootHandles = new long [dataInputStream.readInt()];
+    for (int i = 0; i < rootHandles.length; ++i)
+    {
+      rootHandles[i] = dataInputStream.readLong();
+    }
+    readState(dataInputStream, packageRegistry);
+  }
+
+  /**
+   * Closes the file, discarding all modifications since the last {@link #save(OutputStream) save}.
+   * The store can't be used once it's closed.
+   */
+  public void close() throws IOException
+  {
+    cachedPages.clear();
+    dirtyPages.clear();
+    lastPageIndex = -1;
+    lastPage = null;
+    cachedMemory = 0;
+    randomAccessFile.close();
+  }
+
+  @Override
+  public long getAllocatedMemory()
+  {
+    return super.getAllocatedMemory() + cachedMemory;
+  }
+
+  @Override
+  protected int createPage(int size)
+  {
+    ensurePageCapacity(pageCount + 1);
+    int pageIndex = pageCount++;
+    pageOffsets[pageIndex] = -1;
+    pageSizes[pageIndex] = size;
+    ByteBuffer page = ByteBuffer.allocate(size);
+    cachePage(pageIndex, page);
+    dirtyPages.add(pageIndex);
+    return pageIndex;
+  }
+
+  @Override
+  protected ByteBuffer getPage(int pageIndex)
+  {
+    if (pageIndex == lastPageIndex)
+    {
+      return lastPage;
+    }
+
+    Integer key = pageIndex;
+    ByteBuffer page = cachedPages.get(key);
+    if (page == null)
+    {
+      page = readPage(pageIndex);
+      cachePage(pageIndex, page);
+    }
+    lastPageIndex = pageIndex;
+    lastPage = page;
+    lastPageIsDirty = dirtyPages.contains(key);
+    return page;
+  }
+
+  @Override
+  protected ByteBuffer getWritablePage(int pageIndex)
+  {
+    ByteBuffer page = getPage(pageIndex);
+    if (!lastPageIsDirty)
+    {
+      dirtyPages.add(pageIndex);
+      lastPageIsDirty = true;
+    }
+    return page;
+  }
+
+  @Override
+  protected void releasePage(int pageIndex)
+  {
+    Integer key = pageIndex;
+    ByteBuffer page = cachedPages.remove(key);
+    if (page != null)
+    {
+      cachedMemory -= page.capacity();
+    }
+    dirtyPages.remove(key);
+    if (pageIndex == lastPageIndex)
+    {
+      lastPageIndex = -1;
+      lastPage = null;
+    }
+    pageOffsets[pageIndex] = -1;
+    pageSizes[pageIndex] = 0;
+  }
+
+  private void ensurePageCapacity(int capacity)
+  {
+    if (capacity > pageOffsets.length)
+    {
+      int newCapacity = Math.max(capacity, 2 * pageOffsets.length);
+      long[] newPageOffsets = new long [newCapacity];
+      System.arraycopy(pageOffsets, 0, newPageOffsets, 0, pageCount);
+      pageOffsets = newPageOffsets;
+      int[] newPageSizes = new int [newCapacity];
+      System.arraycopy(pageSizes, 0, newPageSizes, 0, pageCount);
+      pageSizes = newPageSizes;
+    }
+  }
+
+  /**
+   * Adds the page to the cache, evicting the least recently used pages, other than this one, while the cache is over capacity.
+   */
+  private void cachePage(int pageIndex, ByteBuffer page)
+  {
+    cachedPages.put(pageIndex, page);
+    cachedMemory += page.capacity();
+    for (Iterator<Map.Entry<Integer, ByteBuffer>> i = cachedPages.entrySet().iterator(); cachedMemory > cacheCapacity && i.hasNext(); )
+    {
+      Map.Entry<Integer, ByteBuffer> entry = i.next();
+      Integer evictedPageIndex = entry.getKey();
+      if (evictedPageIndex != pageIndex)
+      {
+        ByteBuffer evictedPage = entry.getValue();
+        if (dirtyPages.remove(evictedPageIndex))
+        {
+          try
+          {
+            writePage(evictedPageIndex, evictedPage);
+          }
+          catch (IOException exception)
+          {
+            throw new WrappedException(exception);
+          }
+        }
+        i.remove();
+        cachedMemory -= evictedPage.capacity();
+        if (evictedPageIndex == lastPageIndex)
+        {
+          lastPageIndex = -1;
+          lastPage = null;
+        }
+      }
+    }
+  }
+
+  private ByteBuffer readPage(int pageIndex)
+  {
+    long offset = pageOffsets[pageIndex];
+    if (offset == -1)
+    {
+      throw new IllegalStateException("The page " + pageIndex + " is not available");
+    }
+    ByteBuffer page = ByteBuffer.allocate(pageSizes[pageIndex]);
+    try
+    {
+      while (page.hasRemaining())
+      {
+        if (channel.read(page, offset + page.position()) < 0)
+        {
+          throw new IOException("Unexpected end of file '" + file + "'");
+        }
+      }
+    }
+    catch (IOException exception)
+    {
+      throw new WrappedException(exception);
+    }
+    page.clear();
+    return page;
+  }
+
+  private void writePage(int pageIndex, ByteBuffer page) throws IOException
+  {
+    ByteBuffer buffer = page.duplicate();
+    buffer.clear();
+    long offset = fileSize;
+    while (buffer.hasRemaining())
+    {
+      channel.write(buffer, offset + buffer.position());
+    }
+    fileSize += buffer.capacity();
+    pageOffsets[pageIndex] = offset;
+  }
+}
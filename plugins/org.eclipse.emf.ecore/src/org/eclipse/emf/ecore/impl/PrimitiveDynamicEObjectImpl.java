@@ -0,0 +1,366 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.impl;
+
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.FeatureMapUtil;
+
+
+/**
+ * A dynamic EObject that stores the value of each single-valued attribute of a primitive type in a primitive slot rather than as a boxed object.
+ * <p>
+ * The {@link Layout layout} of the slots is computed by the {@link EClassImpl#getPrimitiveDynamicLayout() class}:
+ * values of type <code>int</code>, <code>boolean</code>, <code>byte</code>, <code>short</code>, <code>char</code>, and <code>float</code>
+ * are stored in an <code>int[]</code>,
+ * values of type <code>long</code> and <code>double</code> in a <code>long[]</code>,
+ * and all other values in an <code>Object[]</code>.
+ * The values are still boxed and unboxed by the reflective API, but no boxed object is retained,
+ * which substantially reduces the memory used by large numbers of objects with many numeric attributes.
+ * </p>
+ * <p>
+ * Instances are created by a {@link FactoryImpl factory} that can be used as the {@link org.eclipse.emf.ecore.EPackage#setEFactoryInstance(org.eclipse.emf.ecore.EFactory) factory instance} of a dynamic package.
+ * The features of the class should not be changed once instances exist.
+ * </p>
+ * @since 2.25
+ */
+public class PrimitiveDynamicEObjectImpl extends DynamicEObjectImpl
+{
+  /**
+   * A factory for creating {@link PrimitiveDynamicEObjectImpl primitive-specialized dynamic objects}.
+   */
+  public static class FactoryImpl extends EFactoryImpl
+  {
+    public FactoryImpl()
+    {
+      super();
+    }
+
+    @Override
+    protected EObject basicCreate(EClass eClass)
+    {
+      return
+        eClass.getInstanceClassName() == "java.util.Map$Entry" ?
+          super.basicCreate(eClass) :
+          new PrimitiveDynamicEObjectImpl(eClass);
+    }
+  }
+
+  /**
+   * The layout of the slots of the dynamic features of a class.
+   * For each dynamic feature, it records the kind of the slot and its index in the array for that kind.
+   * The <code>int[]</code> is followed by a bit for each primitive slot, indicating whether a value is present.
+   */
+  public static final class Layout
+  {
+    static final int OBJECT = 0;
+    static final int INT = 1;
+    static final int BOOLEAN = 2;
+    static final int BYTE = 3;
+    static final int SHORT = 4;
+    static final int CHAR = 5;
+    static final int FLOAT = 6;
+    static final int LONG = 7;
+    static final int DOUBLE = 8;
+
+    final EStructuralFeature[] features;
+
+    final byte[] kinds;
+
+    final int[] indices;
+
+    final int objectCount;
+
+    final int intCount;
+
+    final int longCount;
+
+    /**
+     * Computes the layout for the given features.
+     */
+    public Layout(EStructuralFeature[] features)
+    {
+      this.features = features;
+      int size = features.length;
+      kinds = new byte [size];
+      indices = new int [size];
+      int objectCount = 0;
+      int intCount = 0;
+      int longCount = 0;
+      for (int i = 0; i < size; ++i)
+      {
+        int kind = getKind(features[i]);
+        kinds[i] = (byte)kind;
+        indices[i] = kind == OBJECT ? objectCount++ : kind >= LONG ? longCount++ : intCount++;
+      }
+      this.objectCount = objectCount;
+      this.intCount = intCount;
+      this.longCount = longCount;
+    }
+
+    private static int getKind(EStructuralFeature eStructuralFeature)
+    {
+      if (eStructuralFeature instanceof EAttribute &&
+            !eStructuralFeature.isMany() &&
+            !FeatureMapUtil.isFeatureMap(eStructuralFeature) &&
+            EcoreUtil.getSettingDelegateFactory(eStructuralFeature) == null)
+      {
+        Class<?> instanceClass = ((EAttribute)eStructuralFeature).getEAttributeType().getInstanceClass();
+        if (instanceClass == Integer.TYPE)
+        {
+          return INT;
+        }
+        else if (instanceClass == Boolean.TYPE)
+        {
+          return BOOLEAN;
+        }
+        else if (instanceClass == Byte.TYPE)
+        {
+          return BYTE;
+        }
+        else if (instanceClass == Short.TYPE)
+        {
+          return SHORT;
+        }
+        else if (instanceClass == Character.TYPE)
+        {
+          return CHAR;
+        }
+        else if (instanceClass == Float.TYPE)
+        {
+          return FLOAT;
+        }
+        else if (instanceClass == Long.TYPE)
+        {
+          return LONG;
+        }
+        else if (instanceClass == Double.TYPE)
+        {
+          return DOUBLE;
+        }
+      }
+      return OBJECT;
+    }
+
+    /**
+     * Returns whether this layout was computed for the given features.
+     */
+    public boolean isLayoutFor(EStructuralFeature[] features)
+    {
+      return this.features == features;
+    }
+
+    /**
+     * Returns the number of features whose values are stored in primitive slots.
+     */
+    public int getPrimitiveSlotCount()
+    {
+      return intCount + longCount;
+    }
+  }
+
+  private static final int[] NO_INT_SETTINGS = new int [0];
+
+  private static final long[] NO_LONG_SETTINGS = new long [0];
+
+  /**
+   * The layout of the settings.
+   */
+  protected Layout eLayout;
+
+  /**
+   * The values of the int-sized primitive slots, followed by the bits indicating which primitive slots have a value.
+   */
+  protected int[] eIntSettings;
+
+  /**
+   * The values of the long-sized primitive slots.
+   */
+  protected long[] eLongSettings;
+
+  /**
+   * Creates a dynamic EObject.
+   */
+  public PrimitiveDynamicEObjectImpl()
+  {
+    super();
+  }
+
+  /**
+   * Creates a dynamic EObject.
+   */
+  public PrimitiveDynamicEObjectImpl(EClass eClass)
+  {
+    super(eClass);
+  }
+
+  @Override
+  protected EStructuralFeature.Internal.DynamicValueHolder eSettings()
+  {
+    if (eSettings == null)
+    {
+      EClass eClass = eClass();
+      Layout layout =
+        eClass instanceof EClassImpl ?
+          ((EClassImpl)eClass).getPrimitiveDynamicLayout() :
+          new Layout(eClass.getEAllStructuralFeatures().toArray(new EStructuralFeature [eClass.getFeatureCount()]));
+      eLayout = layout;
+      int primitiveCount = layout.intCount + layout.longCount;
+      eIntSettings = primitiveCount == 0 ? NO_INT_SETTINGS : new int [layout.intCount + (primitiveCount + 31) / 32];
+      eLongSettings = layout.longCount == 0 ? NO_LONG_SETTINGS : new long [layout.longCount];
+      eSettings = layout.objectCount == 0 ? ENO_SETTINGS : new Object [layout.objectCount];
+    }
+
+    return this;
+  }
+
+  @Override
+  public Object dynamicGet(int dynamicFeatureID)
+  {
+    Layout layout = eLayout;
+    int index = layout.indices[dynamicFeatureID];
+    int kind = layout.kinds[dynamicFeatureID];
+    if (kind == Layout.OBJECT)
+    {
+      return eSettings[index];
+    }
+    else if (!isPresent(kind >= Layout.LONG ? layout.intCount + index : index))
+    {
+      return null;
+    }
+    else
+    {
+      switch (kind)
+      {
+        case Layout.INT:
+        {
+          return eIntSettings[index];
+        }
+        case Layout.BOOLEAN:
+        {
+          return eIntSettings[index] != 0;
+        }
+        case Layout.BYTE:
+        {
+          return (byte)eIntSettings[index];
+        }
+        case Layout.SHORT:
+        {
+          return (short)eIntSettings[index];
+        }
+        case Layout.CHAR:
+        {
+          return (char)eIntSettings[index];
+        }
+        case Layout.FLOAT:
+        {
+          return Float.intBitsToFloat(eIntSettings[index]);
+        }
+        case Layout.LONG:
+        {
+          return eLongSettings[index];
+        }
+        default:
+        {
+          return Double.longBitsToDouble(eLongSettings[index]);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void dynamicSet(int dynamicFeatureID, Object value)
+  {
+    Layout layout = eLayout;
+    int index = layout.indices[dynamicFeatureID];
+    int kind = layout.kinds[dynamicFeatureID];
+    if (kind == Layout.OBJECT)
+    {
+      eSettings[index] = value;
+    }
+    else if (value == null)
+    {
+      setPresent(kind >= Layout.LONG ? layout.intCount + index : index, false);
+    }
+    else
+    {
+      switch (kind)
+      {
+        case Layout.INT:
+        {
+          eIntSettings[index] = (Integer)value;
+          break;
+        }
+        case Layout.BOOLEAN:
+        {
+          eIntSettings[index] = (Boolean)value ? 1 : 0;
+          break;
+        }
+        case Layout.BYTE:
+        {
+          eIntSettings[index] = (Byte)value;
+          break;
+        }
+        case Layout.SHORT:
+        {
+          eIntSettings[index] = (Short)value;
+          break;
+        }
+        case Layout.CHAR:
+        {
+          eIntSettings[index] = (Character)value;
+          break;
+        }
+        case Layout.FLOAT:
+        {
+          eIntSettings[index] = Float.floatToRawIntBits((Float)value);
+          break;
+        }
+        case Layout.LONG:
+        {
+          eLongSettings[index] = (Long)value;
+          break;
+        }
+        default:
+        {
+          eLongSettings[index] = Double.doubleToRawLongBits((Double)value);
+          break;
+        }
+      }
+      setPresent(kind >= Layout.LONG ? layout.intCount + index : index, true);
+    }
+  }
+
+  @Override
+  public void dynamicUnset(int dynamicFeatureID)
+  {
+    dynamicSet(dynamicFeatureID, null);
+  }
+
+  private boolean isPresent(int primitiveIndex)
+  {
+    return (eIntSettings[eLayout.intCount + (primitiveIndex >>> 5)] & 1 << primitiveIndex) != 0;
+  }
+
+  private void setPresent(int primitiveIndex, boolean isPresent)
+  {
+    int wordIndex = eLayout.intCount + (primitiveIndex >>> 5);
+    if (isPresent)
+    {
+      eIntSettings[wordIndex] |= 1 << primitiveIndex;
+    }
+    else
+    {
+      eIntSettings[wordIndex] &= ~(1 << primitiveIndex);
+    }
+  }
+}
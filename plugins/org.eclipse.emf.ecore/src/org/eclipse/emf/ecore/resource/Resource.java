@@ -128,6 +128,25 @@ public interface Resource extends Notifier
    */  
   String OPTION_ZIP = "ZIP"; 
 
+  /**
+   * A save option that specifies a {@link URIConverter.Codec codec} for compressing the contents of the resource.
+   * The codec is applied inside any {@link #OPTION_CIPHER cipher} and {@link #OPTION_ZIP zip} entry.
+   * While loading, contents encoded by any {@link org.eclipse.emf.ecore.resource.impl.ResourceImpl#getCodecs(Map) known codec}
+   * are detected via the codec's {@link URIConverter.Codec#getSignature() signature} and decoded,
+   * so this is also a load option for specifying a codec in addition to the built-in ones.
+   * @since 2.25
+   */
+  String OPTION_CODEC = "CODEC";
+
+  /**
+   * A save option that can be used only with {@link #save(Map)}
+   * to specify that the {@link org.eclipse.emf.ecore.util.ECrossReferenceIndex cross reference index} of the resource
+   * is also to be saved at its {@link org.eclipse.emf.ecore.util.ECrossReferenceIndex#getIndexURI(URI) index URI}.
+   * The default value is <tt>Boolean.FALSE</tt>.
+   * @since 2.25
+   */
+  String OPTION_CROSS_REFERENCE_INDEX = "CROSS_REFERENCE_INDEX";
+
   /**
    * A save option that can be used only with {@link #save(Map)}
    * to specify that the resource is to be saved only if the new contents
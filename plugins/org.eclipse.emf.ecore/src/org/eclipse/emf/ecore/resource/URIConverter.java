@@ -614,6 +614,46 @@ public interface URIConverter
     void finish(InputStream inputStream) throws Exception;
   }
 
+  /**
+   * A codec for compressing the contents of a resource.
+   * The encoded contents are preceded by the codec's {@link #getSignature() signature},
+   * which is used to detect the codec needed to decode the contents.
+   * @see Resource#OPTION_CODEC
+   * @see org.eclipse.emf.ecore.resource.impl.DeflateCodecImpl
+   * @see org.eclipse.emf.ecore.resource.impl.LZBlockCodecImpl
+   * @since 2.25
+   */
+  interface Codec
+  {
+    /**
+     * Returns the signature that precedes the encoded contents.
+     * It must not be a valid start of an unencoded serialization,
+     * so it should start with a byte that isn't ASCII, and it must differ from the signature of every other codec.
+     * @return the signature that precedes the encoded contents.
+     */
+    byte[] getSignature();
+
+    /**
+     * Returns an output stream that encodes the bytes written to it and writes the result to the specified output stream.
+     * @param outputStream the output stream that receives the encoded bytes.
+     * @return an encoding output stream.
+     */
+    OutputStream encode(OutputStream outputStream) throws IOException;
+
+    /**
+     * Writes the remaining encoded bytes to the underlying output stream, without closing it.
+     * @param outputStream the output stream returned by {@link #encode(OutputStream)}.
+     */
+    void finish(OutputStream outputStream) throws IOException;
+
+    /**
+     * Returns an input stream that decodes the bytes read from the specified input stream.
+     * @param inputStream the input stream positioned after the signature.
+     * @return a decoding input stream.
+     */
+    InputStream decode(InputStream inputStream) throws IOException;
+  }
+
   /**
    * Deletes the contents of the given URI. 
    * @param uri the URI to consider.
@@ -12,19 +12,34 @@ package org.eclipse.emf.ecore.resource.impl;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.CommonUtil;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.Enumerator;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EDataType;
@@ -39,6 +54,7 @@ import org.eclipse.emf.ecore.impl.EFactoryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.util.BasicInternalEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.FeatureMap;
 import org.eclipse.emf.ecore.util.FeatureMapUtil;
@@ -104,7 +120,7 @@ public class BinaryResourceImpl extends ResourceImpl
    * every {@link Object#equals(Object) unique} value will be serialized in full at most once.
    * Note that String values have specialized built-in data converter support and will hence also be tabulated if this option is specified.
    * This style option is only supported for serializations with {@link BinaryIO.Version#VERSION_1_1 version 1.1} or higher.
-   * The default value is false.
+   * The default value is false, except for serializations with {@link BinaryIO.Version#VERSION_1_2 version 1.2} or higher, where it's true.
    * @since 2.9
    */
   public static final String OPTION_STYLE_DATA_CONVERTER = "DATA_CONVERTER";
@@ -185,6 +201,36 @@ public class BinaryResourceImpl extends ResourceImpl
     return 0;
   }
 
+  /**
+   * A Boolean save option to specify whether to use an indexed layout that supports lazy loading.
+   * The root objects are partitioned into groups such that no group's serialization refers to an object in another group's serialization,
+   * and each group is serialized as an independent segment whose offset is recorded in an index at the end of the layout.
+   * A resource loaded from such a layout initially contains empty root objects;
+   * the segment of a root object is only decoded when that root object is first {@link List#get(int) accessed} via the {@link #getContents() contents}.
+   * When the layout is loaded from a {@link FileInputStream file}, the segments are mapped into memory rather than read.
+   * The layout is detected automatically during load, so this option need not be specified for load.
+   * The default value is false.
+   * @since 2.25
+   */
+  public static final String OPTION_INDEXED = "INDEXED";
+
+  /**
+   * The signature of the {@link #OPTION_INDEXED indexed} layout.
+   * It differs from the signature of a stream only in its fifth byte.
+   */
+  private static final byte[] INDEXED_SIGNATURE = { (byte)'\211', 'e', 'm', 'f', 'x', '\r', '\032', '\n' };
+
+  /**
+   * The version of the {@link #OPTION_INDEXED indexed} layout, written after its signature.
+   */
+  private static final int INDEXED_VERSION = 1;
+
+  /**
+   * The segments of an {@link #OPTION_INDEXED indexed} layout that are not yet decoded,
+   * or <code>null</code> if there are none.
+   */
+  private SegmentTable segmentTable;
+
   public BinaryResourceImpl()
   {
     super();
@@ -220,9 +266,17 @@ public class BinaryResourceImpl extends ResourceImpl
 
       try
       {
-        EObjectOutputStream eObjectOutputStream = createEObjectOutputStream(outputStream, options);
-        eObjectOutputStream.saveResource(this);
-        eObjectOutputStream.flush();
+        if (options != null && Boolean.TRUE.equals(options.get(OPTION_INDEXED)))
+        {
+          saveIndexed(outputStream, options);
+        }
+        else
+        {
+          materialize();
+          EObjectOutputStream eObjectOutputStream = createEObjectOutputStream(outputStream, options);
+          eObjectOutputStream.saveResource(this);
+          eObjectOutputStream.flush();
+        }
       }
       finally
       {
@@ -251,18 +305,33 @@ public class BinaryResourceImpl extends ResourceImpl
     }
     else
     {
-      if (!(inputStream instanceof BufferedInputStream))
+      if (inputStream instanceof FileInputStream)
       {
-        int bufferCapacity = getBufferCapacity(options);
-        if (bufferCapacity > 0)
+        FileChannel fileChannel = ((FileInputStream)inputStream).getChannel();
+        long start = fileChannel.position();
+        if (isIndexed(fileChannel, start))
         {
-          inputStream = new BufferedInputStream(inputStream, bufferCapacity);
+          loadIndexed(fileChannel, start, options);
+          return;
         }
       }
 
-      EObjectInputStream eObjectInputStream = createEObjectInputStream(inputStream, options);
-      eObjectInputStream.loadResource(this);
-      eObjectInputStream.flush();
+      if (!(inputStream instanceof BufferedInputStream))
+      {
+        int bufferCapacity = getBufferCapacity(options);
+        inputStream = new BufferedInputStream(inputStream, bufferCapacity > INDEXED_SIGNATURE.length ? bufferCapacity : DEFAULT_BUFFER_CAPACITY);
+      }
+
+      if (isIndexed(inputStream))
+      {
+        loadIndexed(inputStream, options);
+      }
+      else
+      {
+        EObjectInputStream eObjectInputStream = createEObjectInputStream(inputStream, options);
+        eObjectInputStream.loadResource(this);
+        eObjectInputStream.flush();
+      }
     }
   }
 
@@ -274,6 +343,625 @@ public class BinaryResourceImpl extends ResourceImpl
     return new EObjectInputStream(inputStream, options);
   }
 
+  @Override
+  public EList<EObject> getContents()
+  {
+    if (contents == null)
+    {
+      contents = new IndexedContentsEList<EObject>();
+    }
+    return contents;
+  }
+
+  @Override
+  protected void doUnload()
+  {
+    segmentTable = null;
+    super.doUnload();
+  }
+
+  /**
+   * Decodes all the segments of an {@link #OPTION_INDEXED indexed} layout that have not yet been decoded.
+   * @since 2.25
+   */
+  public void materialize()
+  {
+    while (segmentTable != null)
+    {
+      materialize(segmentTable.rootToSegmentMap.keySet().iterator().next());
+    }
+  }
+
+  /**
+   * Decodes the segment of an {@link #OPTION_INDEXED indexed} layout that contains the given root object, if it's not yet decoded.
+   */
+  private void materialize(EObject eObject)
+  {
+    SegmentTable segmentTable = this.segmentTable;
+    Integer segment = segmentTable.rootToSegmentMap.get(eObject);
+    if (segment != null)
+    {
+      int index = segment;
+      InternalEObject[] roots = segmentTable.segmentRoots[index];
+      int[] rootIDs = segmentTable.segmentRootIDs[index];
+      ByteBuffer byteBuffer = segmentTable.segments[index];
+      for (InternalEObject root : roots)
+      {
+        segmentTable.rootToSegmentMap.remove(root);
+      }
+      segmentTable.segments[index] = null;
+      if (segmentTable.rootToSegmentMap.isEmpty())
+      {
+        this.segmentTable = null;
+      }
+
+      // Decoding populates root objects that are already attached, so ensure that it's not considered a modification.
+      //
+      boolean wasLoading = isLoading;
+      boolean wasModified = isModified();
+      isLoading = true;
+      try
+      {
+        SegmentInputStream segmentInputStream = new SegmentInputStream(new ByteBufferInputStream(byteBuffer), segmentTable.options, rootIDs, roots);
+        segmentInputStream.loadSegment(this);
+      }
+      catch (IOException exception)
+      {
+        throw new WrappedException(exception);
+      }
+      finally
+      {
+        isLoading = wasLoading;
+        if (!wasModified)
+        {
+          setModified(false);
+        }
+      }
+    }
+  }
+
+  /**
+   * Saves the contents using the {@link #OPTION_INDEXED indexed} layout.
+   * @since 2.25
+   */
+  protected void saveIndexed(OutputStream outputStream, Map<?, ?> options) throws IOException
+  {
+    materialize();
+
+    CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+    countingOutputStream.write(INDEXED_SIGNATURE);
+    countingOutputStream.write(INDEXED_VERSION);
+
+    EList<EObject> contents = getContents();
+    List<List<InternalEObject>> segments = partitionContents();
+    int segmentCount = segments.size();
+    long[] offsets = new long [segmentCount + 1];
+    Map<EObject, Integer> rootToSegmentMap = new IdentityHashMap<EObject, Integer>();
+    Map<EObject, Integer> rootToIDMap = new IdentityHashMap<EObject, Integer>();
+    for (int i = 0; i < segmentCount; ++i)
+    {
+      offsets[i] = countingOutputStream.count;
+      List<InternalEObject> roots = segments.get(i);
+      BasicInternalEList<InternalEObject> segmentContents = new BasicInternalEList<InternalEObject>(InternalEObject.class, roots);
+      EObjectOutputStream eObjectOutputStream = createEObjectOutputStream(countingOutputStream, options);
+      eObjectOutputStream.saveResource(this, segmentContents);
+      eObjectOutputStream.flush();
+      for (InternalEObject root : roots)
+      {
+        rootToSegmentMap.put(root, i);
+        rootToIDMap.put(root, eObjectOutputStream.eObjectIDMap.get(root));
+      }
+    }
+    long indexOffset = offsets[segmentCount] = countingOutputStream.count;
+
+    BinaryIO binaryIO = new BinaryIO();
+    binaryIO.baseURI = getBaseURI();
+    DataOutputStream dataOutputStream = new DataOutputStream(countingOutputStream);
+    dataOutputStream.writeInt(segmentCount);
+    for (long offset : offsets)
+    {
+      dataOutputStream.writeLong(offset);
+    }
+    dataOutputStream.writeInt(contents.size());
+    for (EObject root : contents)
+    {
+      EClass eClass = root.eClass();
+      EPackage ePackage = eClass.getEPackage();
+      dataOutputStream.writeInt(rootToSegmentMap.get(root));
+      dataOutputStream.writeInt(rootToIDMap.get(root));
+      dataOutputStream.writeUTF(ePackage.getNsURI());
+      dataOutputStream.writeUTF(binaryIO.deresolve(EcoreUtil.getURI(ePackage)).toString());
+      dataOutputStream.writeUTF(eClass.getName());
+    }
+    dataOutputStream.writeLong(indexOffset);
+    dataOutputStream.flush();
+  }
+
+  /**
+   * Returns the URI against which the URIs in a serialization are {@link BinaryIO#resolve(URI) resolved}.
+   */
+  private URI getBaseURI()
+  {
+    URI uri = getURI();
+    return uri != null && uri.isHierarchical() && !uri.isRelative() ? uri : null;
+  }
+
+  /**
+   * Partitions the root objects into groups such that the serialization of one group
+   * never refers to an object serialized by another group.
+   * Two root objects are in the same group if an object in the content tree of one refers to an object in the content tree of the other,
+   * or if both refer to the same object that isn't contained by any resource.
+   */
+  private List<List<InternalEObject>> partitionContents()
+  {
+    EList<EObject> contents = getContents();
+    int size = contents.size();
+    Map<EObject, Integer> nodes = new IdentityHashMap<EObject, Integer>();
+    int[] parents = new int [Math.max(size, 10)];
+    int nodeCount = 0;
+    LinkedList<EObject> tops = new LinkedList<EObject>();
+    for (EObject root : contents)
+    {
+      parents[nodeCount] = nodeCount;
+      nodes.put(root, nodeCount++);
+      tops.add(root);
+    }
+
+    while (!tops.isEmpty())
+    {
+      EObject top = tops.removeFirst();
+      int node = nodes.get(top);
+      for (TreeIterator<EObject> i = EcoreUtil.getAllContents(top, false); ; )
+      {
+        InternalEObject eObject = (InternalEObject)top;
+        if (top == null)
+        {
+          if (!i.hasNext())
+          {
+            break;
+          }
+          eObject = (InternalEObject)i.next();
+          Resource.Internal directResource = eObject.eDirectResource();
+          if (directResource != null && directResource != this || eObject.eIsProxy())
+          {
+            i.prune();
+            continue;
+          }
+        }
+        top = null;
+
+        @SuppressWarnings("unchecked")
+        InternalEList<EObject> eCrossReferences = (InternalEList<EObject>)eObject.eCrossReferences();
+        for (EObject target : eCrossReferences.basicList())
+        {
+          if (!target.eIsProxy())
+          {
+            InternalEObject targetTop = (InternalEObject)target;
+            for (InternalEObject container; targetTop.eDirectResource() == null && (container = targetTop.eInternalContainer()) != null; )
+            {
+              targetTop = container;
+            }
+            Resource.Internal targetResource = targetTop.eDirectResource();
+            if (targetResource == this || targetResource == null)
+            {
+              Integer targetNode = nodes.get(targetTop);
+              if (targetNode == null)
+              {
+                if (nodeCount == parents.length)
+                {
+                  int[] newParents = new int [2 * nodeCount];
+                  System.arraycopy(parents, 0, newParents, 0, nodeCount);
+                  parents = newParents;
+                }
+                parents[nodeCount] = nodeCount;
+                targetNode = nodeCount++;
+                nodes.put(targetTop, targetNode);
+                tops.add(targetTop);
+              }
+
+              // Union the two sets, always choosing the lower node as the representative.
+              //
+              int root1 = find(parents, node);
+              int root2 = find(parents, targetNode);
+              if (root1 < root2)
+              {
+                parents[root2] = root1;
+              }
+              else
+              {
+                parents[root1] = root2;
+              }
+            }
+          }
+        }
+      }
+    }
+
+    Map<Integer, List<InternalEObject>> segments = new LinkedHashMap<Integer, List<InternalEObject>>();
+    for (int i = 0; i < size; ++i)
+    {
+      Integer representative = find(parents, i);
+      List<InternalEObject> segment = segments.get(representative);
+      if (segment == null)
+      {
+        segment = new ArrayList<InternalEObject>();
+        segments.put(representative, segment);
+      }
+      segment.add((InternalEObject)contents.get(i));
+    }
+    return new ArrayList<List<InternalEObject>>(segments.values());
+  }
+
+  private static int find(int[] parents, int node)
+  {
+    int root = node;
+    while (parents[root] != root)
+    {
+      root = parents[root];
+    }
+    while (parents[node] != root)
+    {
+      int parent = parents[node];
+      parents[node] = root;
+      node = parent;
+    }
+    return root;
+  }
+
+  private static boolean isIndexed(FileChannel fileChannel, long start) throws IOException
+  {
+    ByteBuffer signature = ByteBuffer.allocate(INDEXED_SIGNATURE.length);
+    while (signature.hasRemaining())
+    {
+      if (fileChannel.read(signature, start + signature.position()) == -1)
+      {
+        return false;
+      }
+    }
+    return isIndexed(signature.array());
+  }
+
+  private static boolean isIndexed(InputStream inputStream) throws IOException
+  {
+    byte[] signature = new byte [INDEXED_SIGNATURE.length];
+    inputStream.mark(signature.length);
+    try
+    {
+      for (int i = 0; i < signature.length; ++i)
+      {
+        int value = inputStream.read();
+        if (value == -1)
+        {
+          return false;
+        }
+        signature[i] = (byte)value;
+      }
+      return isIndexed(signature);
+    }
+    finally
+    {
+      inputStream.reset();
+    }
+  }
+
+  private static boolean isIndexed(byte[] signature)
+  {
+    for (int i = 0; i < signature.length; ++i)
+    {
+      if (signature[i] != INDEXED_SIGNATURE[i])
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Loads the {@link #OPTION_INDEXED indexed} layout from the file channel by mapping each segment into memory.
+   */
+  private void loadIndexed(final FileChannel fileChannel, final long start, Map<?, ?> options) throws IOException
+  {
+    final long length = fileChannel.size() - start;
+    loadIndexed
+      (new Regions()
+       {
+         @Override
+         public long length()
+         {
+           return length;
+         }
+
+         @Override
+         public ByteBuffer get(long offset, long length) throws IOException
+         {
+           return fileChannel.map(FileChannel.MapMode.READ_ONLY, start + offset, length);
+         }
+       },
+       options);
+  }
+
+  /**
+   * Loads the {@link #OPTION_INDEXED indexed} layout from the input stream by reading it fully into memory.
+   */
+  private void loadIndexed(InputStream inputStream, Map<?, ?> options) throws IOException
+  {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte [8192];
+    for (int count; (count = inputStream.read(buffer)) != -1; )
+    {
+      byteArrayOutputStream.write(buffer, 0, count);
+    }
+    final ByteBuffer byteBuffer = ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
+    loadIndexed
+      (new Regions()
+       {
+         @Override
+         public long length()
+         {
+           return byteBuffer.capacity();
+         }
+
+         @Override
+         public ByteBuffer get(long offset, long length)
+         {
+           ByteBuffer result = byteBuffer.duplicate();
+           result.position((int)offset);
+           result.limit((int)(offset + length));
+           return result.slice();
+         }
+       },
+       options);
+  }
+
+  /**
+   * Reads the index of the {@link #OPTION_INDEXED indexed} layout and populates the contents with empty root objects.
+   */
+  private void loadIndexed(Regions regions, Map<?, ?> options) throws IOException
+  {
+    long length = regions.length();
+    ByteBuffer trailer = regions.get(length - 8, 8);
+    long indexOffset = trailer.getLong();
+    DataInputStream dataInputStream = new DataInputStream(new ByteBufferInputStream(regions.get(indexOffset, length - 8 - indexOffset)));
+    if (regions.get(INDEXED_SIGNATURE.length, 1).get() != INDEXED_VERSION)
+    {
+      throw new IOException("Unsupported version of an indexed binary EMF serialization");
+    }
+
+    int segmentCount = dataInputStream.readInt();
+    long[] offsets = new long [segmentCount + 1];
+    for (int i = 0; i <= segmentCount; ++i)
+    {
+      offsets[i] = dataInputStream.readLong();
+    }
+    SegmentTable segmentTable = new SegmentTable(segmentCount, options);
+    for (int i = 0; i < segmentCount; ++i)
+    {
+      segmentTable.segments[i] = regions.get(offsets[i], offsets[i + 1] - offsets[i]);
+    }
+
+    BinaryIO binaryIO = new BinaryIO();
+    binaryIO.baseURI = getBaseURI();
+    ResourceSet resourceSet = getResourceSet();
+    Map<String, EPackage> ePackages = new HashMap<String, EPackage>();
+    int rootCount = dataInputStream.readInt();
+    int[] rootSegments = new int [rootCount];
+    int[] rootIDs = new int [rootCount];
+    BasicEList<InternalEObject> roots = new BasicEList<InternalEObject>(rootCount);
+    int[] segmentSizes = new int [segmentCount];
+    for (int i = 0; i < rootCount; ++i)
+    {
+      rootSegments[i] = dataInputStream.readInt();
+      rootIDs[i] = dataInputStream.readInt();
+      String nsURI = dataInputStream.readUTF();
+      String uri = dataInputStream.readUTF();
+      String name = dataInputStream.readUTF();
+      EPackage ePackage = ePackages.get(nsURI);
+      if (ePackage == null)
+      {
+        if (resourceSet != null)
+        {
+          ePackage = resourceSet.getPackageRegistry().getEPackage(nsURI);
+          if (ePackage == null)
+          {
+            ePackage = (EPackage)resourceSet.getEObject(binaryIO.resolve(URI.createURI(uri)), true);
+          }
+        }
+        else
+        {
+          ePackage = EPackage.Registry.INSTANCE.getEPackage(nsURI);
+        }
+        if (ePackage == null)
+        {
+          throw new IOException("Unable to find the package for '" + nsURI + "'");
+        }
+        ePackages.put(nsURI, ePackage);
+      }
+      EClass eClass = (EClass)ePackage.getEClassifier(name);
+      if (eClass == null)
+      {
+        throw new IOException("Unable to find the class '" + name + "' in the package for '" + nsURI + "'");
+      }
+      roots.add((InternalEObject)ePackage.getEFactoryInstance().create(eClass));
+      ++segmentSizes[rootSegments[i]];
+    }
+
+    for (int i = 0; i < segmentCount; ++i)
+    {
+      segmentTable.segmentRoots[i] = new InternalEObject [segmentSizes[i]];
+      segmentTable.segmentRootIDs[i] = new int [segmentSizes[i]];
+      segmentSizes[i] = 0;
+    }
+    for (int i = 0; i < rootCount; ++i)
+    {
+      int segment = rootSegments[i];
+      InternalEObject root = roots.get(i);
+      int index = segmentSizes[segment]++;
+      segmentTable.segmentRoots[segment][index] = root;
+      segmentTable.segmentRootIDs[segment][index] = rootIDs[i];
+      segmentTable.rootToSegmentMap.put(root, segment);
+    }
+
+    if (rootCount > 0)
+    {
+      this.segmentTable = segmentTable;
+    }
+
+    @SuppressWarnings("unchecked")
+    InternalEList<InternalEObject> internalEObjects = (InternalEList<InternalEObject>)(InternalEList<?>)getContents();
+    internalEObjects.addAllUnique(roots);
+  }
+
+  /**
+   * A contents list that decodes the segment of a root object of an {@link #OPTION_INDEXED indexed} layout when that object is accessed.
+   */
+  protected class IndexedContentsEList<E extends Object & EObject> extends ContentsEList<E>
+  {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected E resolve(int index, E object)
+    {
+      if (segmentTable != null)
+      {
+        materialize(object);
+      }
+      return object;
+    }
+  }
+
+  /**
+   * The segments of an {@link #OPTION_INDEXED indexed} layout that have not yet been decoded.
+   */
+  private static final class SegmentTable
+  {
+    final ByteBuffer[] segments;
+
+    final InternalEObject[][] segmentRoots;
+
+    final int[][] segmentRootIDs;
+
+    final Map<EObject, Integer> rootToSegmentMap = new IdentityHashMap<EObject, Integer>();
+
+    final Map<?, ?> options;
+
+    SegmentTable(int segmentCount, Map<?, ?> options)
+    {
+      segments = new ByteBuffer [segmentCount];
+      segmentRoots = new InternalEObject [segmentCount][];
+      segmentRootIDs = new int [segmentCount][];
+      this.options = options;
+    }
+  }
+
+  /**
+   * Provides access to regions of an {@link #OPTION_INDEXED indexed} layout.
+   */
+  private static abstract class Regions
+  {
+    public abstract long length() throws IOException;
+
+    public abstract ByteBuffer get(long offset, long length) throws IOException;
+  }
+
+  /**
+   * An input stream for decoding one segment of an {@link #OPTION_INDEXED indexed} layout
+   * that populates the existing empty root objects rather than creating new ones.
+   */
+  private static final class SegmentInputStream extends EObjectInputStream
+  {
+    private final Map<Integer, InternalEObject> roots = new HashMap<Integer, InternalEObject>();
+
+    public SegmentInputStream(InputStream inputStream, Map<?, ?> options, int[] rootIDs, InternalEObject[] roots) throws IOException
+    {
+      super(inputStream, options);
+      for (int i = 0; i < rootIDs.length; ++i)
+      {
+        this.roots.put(rootIDs[i], roots[i]);
+      }
+    }
+
+    @Override
+    protected InternalEObject createEObject(EClassData eClassData, int id)
+    {
+      InternalEObject root = roots.remove(id);
+      return root == null ? super.createEObject(eClassData, id) : root;
+    }
+
+    public void loadSegment(Resource resource) throws IOException
+    {
+      this.resource = resource;
+      this.resourceSet = resource.getResourceSet();
+      URI uri = resource.getURI();
+      if (uri != null && uri.isHierarchical() && !uri.isRelative())
+      {
+        baseURI = uri;
+      }
+      for (int i = 0, size = readCompressedInt(); i < size; ++i)
+      {
+        loadEObject();
+      }
+    }
+  }
+
+  private static final class ByteBufferInputStream extends InputStream
+  {
+    private final ByteBuffer byteBuffer;
+
+    public ByteBufferInputStream(ByteBuffer byteBuffer)
+    {
+      this.byteBuffer = byteBuffer;
+    }
+
+    @Override
+    public int read()
+    {
+      return byteBuffer.hasRemaining() ? byteBuffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length)
+    {
+      int remaining = byteBuffer.remaining();
+      if (remaining == 0)
+      {
+        return length == 0 ? 0 : -1;
+      }
+      int count = Math.min(remaining, length);
+      byteBuffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available()
+    {
+      return byteBuffer.remaining();
+    }
+  }
+
+  private static final class CountingOutputStream extends FilterOutputStream
+  {
+    long count;
+
+    public CountingOutputStream(OutputStream outputStream)
+    {
+      super(outputStream);
+    }
+
+    @Override
+    public void write(int value) throws IOException
+    {
+      out.write(value);
+      ++count;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException
+    {
+      out.write(bytes, offset, length);
+      count += length;
+    }
+  }
+
   /**
    * Generally this abstract class is extended as a stateless singleton returned by a generated factory that implements the {@link DataConverter.Factory factory} interface.
    * The default implementation of {@link EFactoryImpl#create(EDataType)} returns <code>null</code>.
@@ -332,7 +1020,17 @@ public class BinaryResourceImpl extends ResourceImpl
        * An extra integer value encoding the style is written after the version number so that deserialization will respect the styles used during serialization.
        * @since 2.7
        */
-      VERSION_1_1
+      VERSION_1_1,
+
+      /**
+       * This version implies the {@link BinaryResourceImpl#OPTION_STYLE_DATA_CONVERTER data converter style}, unless that option is explicitly false,
+       * so that each distinct string is serialized in full at most once and is subsequently referenced by its compressed integer ID.
+       * In addition, the values of each {@link BinaryIO#createLiteralDataConverter(EDataType, EFactory) immutable data type} without a data converter of its own
+       * are tabulated via their literals,
+       * so each distinct value is converted from its literal at most once while loading.
+       * @since 2.25
+       */
+      VERSION_1_2
     }
 
     /**
@@ -380,6 +1078,21 @@ public class BinaryResourceImpl extends ResourceImpl
 
     Map<EDataType, DataConverter<?>> dataConverterMap = new HashMap<EDataType, DataConverter<?>>();
 
+    /**
+     * Returns the style for the given options and version.
+     * @see Version#VERSION_1_2
+     * @since 2.25
+     */
+    protected static int getStyle(Map<?, ?> options, Version version)
+    {
+      int result = getStyle(options);
+      if (version.ordinal() >= Version.VERSION_1_2.ordinal() && (options == null || !Boolean.FALSE.equals(options.get(OPTION_STYLE_DATA_CONVERTER))))
+      {
+        result |= STYLE_DATA_CONVERTER;
+      }
+      return result;
+    }
+
     protected static int getStyle(Map<?, ?> options)
     {
       int result = STYLE_BINARY_FLOATING_POINT;
@@ -427,6 +1140,62 @@ public class BinaryResourceImpl extends ResourceImpl
       return uri;
     }
 
+    /**
+     * Returns a data converter that serializes the values of the data type via their literals,
+     * for serializations with {@link Version#VERSION_1_2 version 1.2} or higher,
+     * if the values are immutable, i.e., if they are enumerators, boxed primitives, strings, big numbers, or URIs,
+     * or <code>null</code> otherwise.
+     * The returned data converter is {@link DataConverter#isTabulated() tabulated},
+     * so each distinct value is shared by all the objects that use it after loading.
+     * It is used only for a data type whose factory doesn't provide a data converter,
+     * and it must be the same while saving and while loading.
+     * @since 2.25
+     */
+    protected DataConverter<?> createLiteralDataConverter(final EDataType eDataType, final EFactory eFactory)
+    {
+      if (version.ordinal() < Version.VERSION_1_2.ordinal())
+      {
+        return null;
+      }
+
+      Class<?> instanceClass = eDataType.getInstanceClass();
+      if (instanceClass == null ?
+            !(eDataType instanceof EEnum) :
+            !instanceClass.isPrimitive() &&
+              !Enumerator.class.isAssignableFrom(instanceClass) &&
+              instanceClass != String.class &&
+              instanceClass != Boolean.class &&
+              instanceClass != Character.class &&
+              instanceClass != Byte.class &&
+              instanceClass != Short.class &&
+              instanceClass != Integer.class &&
+              instanceClass != Long.class &&
+              instanceClass != Float.class &&
+              instanceClass != Double.class &&
+              instanceClass != BigInteger.class &&
+              instanceClass != BigDecimal.class &&
+              instanceClass != URI.class)
+      {
+        return null;
+      }
+
+      return
+        new DataConverter<Object>()
+        {
+          @Override
+          public Object read(EObjectInputStream eObjectInputStream) throws IOException
+          {
+            return eFactory.createFromString(eDataType, eObjectInputStream.readSegmentedString());
+          }
+
+          @Override
+          protected void doWrite(EObjectOutputStream eObjectOutputStream, Object value) throws IOException
+          {
+            eObjectOutputStream.writeSegmentedString(eFactory.convertToString(eDataType, value));
+          }
+        };
+    }
+
     protected InternalEObject [] allocateInternalEObjectArray(int length)
     {
       if (internalEObjectDataArrayBufferCount == -1)
@@ -753,7 +1522,7 @@ public class BinaryResourceImpl extends ResourceImpl
 
     public EObjectOutputStream(OutputStream outputStream, Map<?, ?> options, Version version) throws IOException
     {
-      this(outputStream, options, version, version.ordinal() > 0 ? getStyle(options) : STYLE_BINARY_FLOATING_POINT);
+      this(outputStream, options, version, version.ordinal() > 0 ? getStyle(options, version) : STYLE_BINARY_FLOATING_POINT);
     }
 
     /**
@@ -887,7 +1656,9 @@ public class BinaryResourceImpl extends ResourceImpl
           {
             if (dataConverter == null)
             {
-              final DataConverter<?> rawDataConverter = ((DataConverter.Factory)eStructuralFeatureData.eFactory).create(eDataType);
+              DataConverter<?> factoryDataConverter = ((DataConverter.Factory)eStructuralFeatureData.eFactory).create(eDataType);
+              final DataConverter<?> rawDataConverter =
+                factoryDataConverter == null ? createLiteralDataConverter(eDataType, eStructuralFeatureData.eFactory) : factoryDataConverter;
               if (rawDataConverter == null)
               {
                 dataConverterMap.put(eDataType,  DataConverter.NULL);
@@ -979,6 +1750,17 @@ public class BinaryResourceImpl extends ResourceImpl
     }
 
     public void saveResource(Resource resource) throws IOException
+    {
+      @SuppressWarnings("unchecked")
+      InternalEList<? extends InternalEObject> internalEList = (InternalEList<? extends InternalEObject>)(InternalEList<?>)resource.getContents();
+      saveResource(resource, internalEList);
+    }
+
+    /**
+     * Saves the given root objects of the resource, which are typically all of its {@link Resource#getContents() contents}.
+     * @since 2.25
+     */
+    public void saveResource(Resource resource, InternalEList<? extends InternalEObject> internalEObjects) throws IOException
     {
       this.resource = resource;
       URI uri = resource.getURI();
@@ -986,9 +1768,7 @@ public class BinaryResourceImpl extends ResourceImpl
       {
         baseURI = uri;
       }
-      @SuppressWarnings("unchecked")
-      InternalEList<? extends InternalEObject> internalEList = (InternalEList<? extends InternalEObject>)(InternalEList<?>)resource.getContents();
-      saveEObjects(internalEList, Check.CONTAINER);
+      saveEObjects(internalEObjects, Check.CONTAINER);
     }
 
     public void saveEObjects(InternalEList<? extends InternalEObject> internalEObjects, Check check) throws IOException
@@ -2154,7 +2934,13 @@ public class BinaryResourceImpl extends ResourceImpl
             DataConverter<?> dataConverter = dataConverterMap.get(eStructuralFeatureData.eDataType);
             if (dataConverter == null)
             {
-              final DataConverter<?> rawDataConverter = ((DataConverter.Factory)eStructuralFeatureData.eFactory).create(eStructuralFeatureData.eDataType);
+              DataConverter<?> factoryDataConverter = ((DataConverter.Factory)eStructuralFeatureData.eFactory).create(eStructuralFeatureData.eDataType);
+              final DataConverter<?> rawDataConverter =
+                factoryDataConverter == null ? createLiteralDataConverter(eStructuralFeatureData.eDataType, eStructuralFeatureData.eFactory) : factoryDataConverter;
+              if (rawDataConverter == null)
+              {
+                throw new IOException("No data converter for " + eStructuralFeatureData.eDataType.getName());
+              }
               if (rawDataConverter.isTabulated())
               {
                 DataConverter<?> tabulatedDataConverter =
@@ -2493,7 +3279,7 @@ public class BinaryResourceImpl extends ResourceImpl
         if (internalInternalEObjectList.size() <= id)
         {
           EClassData eClassData = readEClass();
-          InternalEObject internalEObject =  (InternalEObject)eClassData.eFactory.create(eClassData.eClass);
+          InternalEObject internalEObject = createEObject(eClassData, id);
           InternalEObject result = internalEObject;
 
           // Check if we have a "feature" representing the proxy URI...
@@ -2544,6 +3330,15 @@ public class BinaryResourceImpl extends ResourceImpl
       }
     }
 
+    /**
+     * Creates the object with the given ID.
+     * @since 2.25
+     */
+    protected InternalEObject createEObject(EClassData eClassData, int id)
+    {
+      return (InternalEObject)eClassData.eFactory.create(eClassData.eClass);
+    }
+
     protected void loadFeatureValue(InternalEObject internalEObject, EStructuralFeatureData eStructuralFeatureData) throws IOException
     {
       switch (eStructuralFeatureData.kind)
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.resource.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.emf.ecore.resource.URIConverter;
+
+
+/**
+ * An implementation of {@link URIConverter.Codec} that uses raw deflate, i.e., without any zip or gzip framing,
+ * at a configurable compression level.
+ * <p>This shows how this class can be used:</p>
+ * <pre>
+ * Map options = new HashMap();
+ * options.put(Resource.OPTION_CODEC, new DeflateCodecImpl(Deflater.BEST_SPEED));
+ * resource.save(options);
+ * resource.load(null);
+ * </pre>
+ * @since 2.25
+ */
+public class DeflateCodecImpl implements URIConverter.Codec
+{
+  private static final byte[] SIGNATURE = { (byte)'\211', 'e', 'm', 'c', 'D', '\r', '\n', '\032' };
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final int level;
+
+  private static final class EncodingOutputStream extends DeflaterOutputStream
+  {
+    EncodingOutputStream(OutputStream outputStream, int level)
+    {
+      super(outputStream, new Deflater(level, true), BUFFER_SIZE);
+    }
+
+    void end() throws IOException
+    {
+      // The deflater isn't the stream's default deflater, so it isn't ended by closing the stream,
+      // which mustn't close the underlying stream in any case.
+      //
+      try
+      {
+        finish();
+        out.flush();
+      }
+      finally
+      {
+        def.end();
+      }
+    }
+  }
+
+  /**
+   * Creates an instance that uses the {@link Deflater#BEST_SPEED fastest} compression level.
+   */
+  public DeflateCodecImpl()
+  {
+    this(Deflater.BEST_SPEED);
+  }
+
+  /**
+   * Creates an instance that uses the given {@link Deflater#setLevel(int) compression level}.
+   */
+  public DeflateCodecImpl(int level)
+  {
+    if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+    {
+      throw new IllegalArgumentException("Invalid compression level " + level);
+    }
+    this.level = level;
+  }
+
+  /**
+   * Returns the compression level.
+   */
+  public int getLevel()
+  {
+    return level;
+  }
+
+  public byte[] getSignature()
+  {
+    return SIGNATURE.clone();
+  }
+
+  public OutputStream encode(OutputStream outputStream) throws IOException
+  {
+    return new EncodingOutputStream(outputStream, level);
+  }
+
+  public void finish(OutputStream outputStream) throws IOException
+  {
+    ((EncodingOutputStream)outputStream).end();
+  }
+
+  public InputStream decode(InputStream inputStream) throws IOException
+  {
+    return
+      new InflaterInputStream(inputStream, new Inflater(true), BUFFER_SIZE)
+      {
+        private boolean isEnded;
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException
+        {
+          if (isEnded)
+          {
+            return -1;
+          }
+          int result = super.read(bytes, offset, length);
+          if (result == -1)
+          {
+            isEnded = true;
+            inf.end();
+          }
+          return result;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+          if (!isEnded)
+          {
+            isEnded = true;
+            inf.end();
+          }
+          super.close();
+        }
+      };
+  }
+}
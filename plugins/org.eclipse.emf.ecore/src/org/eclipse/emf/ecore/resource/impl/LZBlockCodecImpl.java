@@ -0,0 +1,491 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.resource.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.eclipse.emf.ecore.resource.URIConverter;
+
+
+/**
+ * An implementation of {@link URIConverter.Codec} that uses a fast LZ77 block compression in the style of LZ4,
+ * implemented in pure Java.
+ * It trades compression ratio for speed, compressing considerably faster than deflate.
+ * <p>
+ * The contents are split into blocks, each of which is preceded by its uncompressed and its compressed length,
+ * as 4-byte big-endian integers, and the last of which is followed by a zero length.
+ * A block whose compressed length is equal to its uncompressed length is stored without compression.
+ * A compressed block is a sequence of a token byte, whose high and low nibbles are the literal length and the match length minus four,
+ * any bytes extending those lengths, as in LZ4, the literals, and a 2-byte little-endian offset of the match;
+ * the last sequence has only literals.
+ * </p>
+ * <p>This shows how this class can be used:</p>
+ * <pre>
+ * Map options = new HashMap();
+ * options.put(Resource.OPTION_CODEC, new LZBlockCodecImpl());
+ * resource.save(options);
+ * resource.load(null);
+ * </pre>
+ * @since 2.25
+ */
+public class LZBlockCodecImpl implements URIConverter.Codec
+{
+  private static final byte[] SIGNATURE = { (byte)'\211', 'e', 'm', 'c', 'L', '\r', '\n', '\032' };
+
+  private static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+  private static final int MIN_MATCH = 4;
+
+  private static final int LAST_LITERALS = 5;
+
+  private static final int MATCH_SEARCH_LIMIT = 12;
+
+  private static final int MAX_OFFSET = 0xFFFF;
+
+  private static final int HASH_BITS = 12;
+
+  private final int blockSize;
+
+  /**
+   * Creates an instance with blocks of 64K.
+   */
+  public LZBlockCodecImpl()
+  {
+    this(DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates an instance with blocks of the given size.
+   */
+  public LZBlockCodecImpl(int blockSize)
+  {
+    if (blockSize < 16)
+    {
+      throw new IllegalArgumentException("Invalid block size " + blockSize);
+    }
+    this.blockSize = blockSize;
+  }
+
+  public byte[] getSignature()
+  {
+    return SIGNATURE.clone();
+  }
+
+  public OutputStream encode(OutputStream outputStream) throws IOException
+  {
+    return new EncodingOutputStream(outputStream, blockSize);
+  }
+
+  public void finish(OutputStream outputStream) throws IOException
+  {
+    ((EncodingOutputStream)outputStream).finish();
+  }
+
+  public InputStream decode(InputStream inputStream) throws IOException
+  {
+    return new DecodingInputStream(inputStream);
+  }
+
+  /**
+   * Compresses the bytes of the source into the target, which must have room for {@link #maxCompressedLength(int)} bytes,
+   * and returns the compressed length.
+   */
+  static int compress(byte[] source, int length, byte[] target, int[] table)
+  {
+    Arrays.fill(table, -1);
+    int matchLimit = length - MATCH_SEARCH_LIMIT;
+    int extendLimit = length - LAST_LITERALS;
+    int anchor = 0;
+    int targetIndex = 0;
+    for (int i = 0; i < matchLimit; )
+    {
+      int sequence = readInt(source, i);
+      int hash = (sequence * -1640531535) >>> (32 - HASH_BITS);
+      int reference = table[hash];
+      table[hash] = i;
+      if (reference >= 0 && i - reference <= MAX_OFFSET && readInt(source, reference) == sequence)
+      {
+        int matchLength = MIN_MATCH;
+        while (i + matchLength < extendLimit && source[reference + matchLength] == source[i + matchLength])
+        {
+          ++matchLength;
+        }
+
+        targetIndex = writeLiterals(source, anchor, i - anchor, matchLength - MIN_MATCH, target, targetIndex);
+        int offset = i - reference;
+        target[targetIndex++] = (byte)offset;
+        target[targetIndex++] = (byte)(offset >>> 8);
+        targetIndex = writeLength(matchLength - MIN_MATCH, target, targetIndex);
+
+        i += matchLength;
+        anchor = i;
+      }
+      else
+      {
+        ++i;
+      }
+    }
+    return writeLiterals(source, anchor, length - anchor, 0, target, targetIndex);
+  }
+
+  private static int readInt(byte[] bytes, int index)
+  {
+    return (bytes[index] & 0xFF) | (bytes[index + 1] & 0xFF) << 8 | (bytes[index + 2] & 0xFF) << 16 | bytes[index + 3] << 24;
+  }
+
+  private static int writeLiterals(byte[] source, int start, int literalLength, int matchLength, byte[] target, int targetIndex)
+  {
+    target[targetIndex++] = (byte)((Math.min(literalLength, 15) << 4) | Math.min(matchLength, 15));
+    if (literalLength >= 15)
+    {
+      for (int remainder = literalLength - 15; ; remainder -= 255)
+      {
+        if (remainder < 255)
+        {
+          target[targetIndex++] = (byte)remainder;
+          break;
+        }
+        target[targetIndex++] = (byte)255;
+      }
+    }
+    System.arraycopy(source, start, target, targetIndex, literalLength);
+    return targetIndex + literalLength;
+  }
+
+  private static int writeLength(int length, byte[] target, int targetIndex)
+  {
+    if (length >= 15)
+    {
+      for (int remainder = length - 15; ; remainder -= 255)
+      {
+        if (remainder < 255)
+        {
+          target[targetIndex++] = (byte)remainder;
+          break;
+        }
+        target[targetIndex++] = (byte)255;
+      }
+    }
+    return targetIndex;
+  }
+
+  static int maxCompressedLength(int length)
+  {
+    return length + length / 255 + 16;
+  }
+
+  /**
+   * Decompresses the compressed bytes of the source into the target, which must have exactly the given length.
+   */
+  static void decompress(byte[] source, int compressedLength, byte[] target, int length) throws IOException
+  {
+    try
+    {
+      int sourceIndex = 0;
+      int targetIndex = 0;
+      for (;;)
+      {
+        int token = source[sourceIndex++] & 0xFF;
+        int literalLength = token >>> 4;
+        if (literalLength == 15)
+        {
+          int extension;
+          do
+          {
+            extension = source[sourceIndex++] & 0xFF;
+            literalLength += extension;
+          }
+          while (extension == 255);
+        }
+        System.arraycopy(source, sourceIndex, target, targetIndex, literalLength);
+        sourceIndex += literalLength;
+        targetIndex += literalLength;
+        if (sourceIndex >= compressedLength)
+        {
+          break;
+        }
+
+        int offset = (source[sourceIndex++] & 0xFF) | (source[sourceIndex++] & 0xFF) << 8;
+        int matchLength = token & 0xF;
+        if (matchLength == 15)
+        {
+          int extension;
+          do
+          {
+            extension = source[sourceIndex++] & 0xFF;
+            matchLength += extension;
+          }
+          while (extension == 255);
+        }
+        matchLength += MIN_MATCH;
+
+        int reference = targetIndex - offset;
+        if (offset == 0 || reference < 0)
+        {
+          throw new IOException("Invalid match offset " + offset);
+        }
+        if (offset >= matchLength)
+        {
+          System.arraycopy(target, reference, target, targetIndex, matchLength);
+          targetIndex += matchLength;
+        }
+        else
+        {
+          // The match overlaps the bytes it produces, so copy them one at a time.
+          //
+          for (int end = targetIndex + matchLength; targetIndex < end; )
+          {
+            target[targetIndex++] = target[reference++];
+          }
+        }
+      }
+      if (sourceIndex != compressedLength || targetIndex != length)
+      {
+        throw new IOException("Corrupt block");
+      }
+    }
+    catch (IndexOutOfBoundsException exception)
+    {
+      throw new IOException("Corrupt block");
+    }
+  }
+
+  private static final class EncodingOutputStream extends OutputStream
+  {
+    private final OutputStream outputStream;
+
+    private final byte[] buffer;
+
+    private final byte[] compressedBuffer;
+
+    private final int[] table = new int [1 << HASH_BITS];
+
+    private final byte[] header = new byte [8];
+
+    private int count;
+
+    EncodingOutputStream(OutputStream outputStream, int blockSize)
+    {
+      this.outputStream = outputStream;
+      buffer = new byte [blockSize];
+      compressedBuffer = new byte [maxCompressedLength(blockSize)];
+    }
+
+    @Override
+    public void write(int value) throws IOException
+    {
+      if (count == buffer.length)
+      {
+        writeBlock();
+      }
+      buffer[count++] = (byte)value;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException
+    {
+      while (length > 0)
+      {
+        if (count == buffer.length)
+        {
+          writeBlock();
+        }
+        int size = Math.min(length, buffer.length - count);
+        System.arraycopy(bytes, offset, buffer, count, size);
+        count += size;
+        offset += size;
+        length -= size;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+      writeBlock();
+      outputStream.flush();
+    }
+
+    void finish() throws IOException
+    {
+      writeBlock();
+      writeHeader(0, 0);
+      outputStream.write(header, 0, 4);
+      outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+      finish();
+      outputStream.close();
+    }
+
+    private void writeBlock() throws IOException
+    {
+      if (count > 0)
+      {
+        int compressedLength = compress(buffer, count, compressedBuffer, table);
+        if (compressedLength < count)
+        {
+          writeHeader(count, compressedLength);
+          outputStream.write(header);
+          outputStream.write(compressedBuffer, 0, compressedLength);
+        }
+        else
+        {
+          writeHeader(count, count);
+          outputStream.write(header);
+          outputStream.write(buffer, 0, count);
+        }
+        count = 0;
+      }
+    }
+
+    private void writeHeader(int length, int compressedLength)
+    {
+      header[0] = (byte)(length >>> 24);
+      header[1] = (byte)(length >>> 16);
+      header[2] = (byte)(length >>> 8);
+      header[3] = (byte)length;
+      header[4] = (byte)(compressedLength >>> 24);
+      header[5] = (byte)(compressedLength >>> 16);
+      header[6] = (byte)(compressedLength >>> 8);
+      header[7] = (byte)compressedLength;
+    }
+  }
+
+  private static final class DecodingInputStream extends InputStream
+  {
+    private final InputStream inputStream;
+
+    private byte[] buffer = new byte [0];
+
+    private byte[] compressedBuffer = new byte [0];
+
+    private int index;
+
+    private int count;
+
+    private boolean isEnded;
+
+    DecodingInputStream(InputStream inputStream)
+    {
+      this.inputStream = inputStream;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+      if (index == count && !readBlock())
+      {
+        return -1;
+      }
+      return buffer[index++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException
+    {
+      if (length == 0)
+      {
+        return 0;
+      }
+      if (index == count && !readBlock())
+      {
+        return -1;
+      }
+      int size = Math.min(length, count - index);
+      System.arraycopy(buffer, index, bytes, offset, size);
+      index += size;
+      return size;
+    }
+
+    @Override
+    public int available()
+    {
+      return count - index;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+      inputStream.close();
+    }
+
+    private boolean readBlock() throws IOException
+    {
+      if (isEnded)
+      {
+        return false;
+      }
+      int length = readInt();
+      if (length == 0)
+      {
+        isEnded = true;
+        return false;
+      }
+      int compressedLength = readInt();
+      if (length < 0 || compressedLength <= 0 || compressedLength > length)
+      {
+        throw new IOException("Corrupt block header");
+      }
+      if (buffer.length < length)
+      {
+        buffer = new byte [length];
+      }
+      if (compressedLength == length)
+      {
+        readFully(buffer, length);
+      }
+      else
+      {
+        if (compressedBuffer.length < compressedLength)
+        {
+          compressedBuffer = new byte [maxCompressedLength(length)];
+        }
+        readFully(compressedBuffer, compressedLength);
+        decompress(compressedBuffer, compressedLength, buffer, length);
+      }
+      index = 0;
+      count = length;
+      return true;
+    }
+
+    private int readInt() throws IOException
+    {
+      int result = 0;
+      for (int i = 0; i < 4; ++i)
+      {
+        int value = inputStream.read();
+        if (value == -1)
+        {
+          throw new EOFException();
+        }
+        result = result << 8 | value;
+      }
+      return result;
+    }
+
+    private void readFully(byte[] bytes, int length) throws IOException
+    {
+      for (int offset = 0; offset < length; )
+      {
+        int size = inputStream.read(bytes, offset, length - offset);
+        if (size == -1)
+        {
+          throw new EOFException();
+        }
+        offset += size;
+      }
+    }
+  }
+}
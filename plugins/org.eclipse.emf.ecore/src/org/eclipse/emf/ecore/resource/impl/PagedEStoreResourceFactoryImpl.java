@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.resource.impl;
+
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+
+
+/**
+ * A resource factory for creating {@link PagedEStoreResourceImpl paged store resources}.
+ * @since 2.25
+ */
+public class PagedEStoreResourceFactoryImpl extends ResourceFactoryImpl
+{
+  /**
+   * Creates an instance.
+   */
+  public PagedEStoreResourceFactoryImpl()
+  {
+    super();
+  }
+
+  /**
+   * Creates a {@link PagedEStoreResourceImpl}.
+   */
+  @Override
+  public Resource createResource(URI uri)
+  {
+    return new PagedEStoreResourceImpl(uri);
+  }
+}
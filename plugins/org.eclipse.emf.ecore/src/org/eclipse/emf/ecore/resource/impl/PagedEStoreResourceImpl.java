@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.resource.impl;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.OffHeapEStoreImpl;
+import org.eclipse.emf.ecore.impl.PagedFileEStoreImpl;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+
+/**
+ * A resource whose objects are held by a {@link PagedFileEStoreImpl paged file store}.
+ * <p>
+ * The resource's file holds the store's index
+ * while the pages are kept in a file with the same name and the extension <code>.pages</code> appended,
+ * so the resource's URI must be a {@link URI#isFile() file URI}.
+ * Loading the resource only reads the index, so the objects are read on demand as they're navigated,
+ * and saving the resource only writes the pages that have been modified.
+ * The contents of the resource must be objects created by its {@link #getEStore() store}.
+ * </p>
+ * @see PagedEStoreResourceFactoryImpl
+ * @since 2.25
+ */
+public class PagedEStoreResourceImpl extends ResourceImpl
+{
+  /**
+   * An Integer option, specified in the resource set's {@link ResourceSet#getLoadOptions() load options},
+   * for the page size of a newly created store.
+   * The default is {@link OffHeapEStoreImpl#DEFAULT_PAGE_SIZE}.
+   */
+  public static final String OPTION_PAGE_SIZE = "PAGE_SIZE";
+
+  /**
+   * An Integer load option, also respected in the resource set's {@link ResourceSet#getLoadOptions() load options} for a newly created store,
+   * for the maximum number of pages the store holds in memory.
+   * The default is {@link PagedFileEStoreImpl#DEFAULT_CACHED_PAGE_COUNT}.
+   */
+  public static final String OPTION_CACHED_PAGE_COUNT = "CACHED_PAGE_COUNT";
+
+  /**
+   * A Boolean option, specified in the resource set's {@link ResourceSet#getLoadOptions() load options},
+   * to allow a newly created store to replace the content of an existing {@link #getPageFile() page file}.
+   * The default is <code>false</code>, in which case {@link #getEStore()} fails rather than discard the pages of a resource that hasn't been loaded.
+   */
+  public static final String OPTION_REPLACE_PAGE_FILE = "REPLACE_PAGE_FILE";
+
+  /**
+   * The store holding the objects of this resource.
+   */
+  protected PagedFileEStoreImpl eStore;
+
+  /**
+   * Creates an empty instance.
+   */
+  public PagedEStoreResourceImpl()
+  {
+    super();
+  }
+
+  /**
+   * Creates an empty instance with the given URI.
+   */
+  public PagedEStoreResourceImpl(URI uri)
+  {
+    super(uri);
+  }
+
+  /**
+   * Returns the store that holds the objects of this resource,
+   * creating an empty one if the resource hasn't been loaded.
+   * An existing {@link #getPageFile() page file} is replaced only if {@link #OPTION_REPLACE_PAGE_FILE} is specified;
+   * otherwise a {@link WrappedException wrapped} {@link IOException} is thrown.
+   * Objects to be added to the resource must be {@link OffHeapEStoreImpl#create(org.eclipse.emf.ecore.EClass) created} by this store,
+   * e.g., by using an {@link OffHeapEStoreImpl.FactoryImpl} for the store.
+   */
+  public PagedFileEStoreImpl getEStore()
+  {
+    if (eStore == null)
+    {
+      ResourceSet resourceSet = getResourceSet();
+      Map<?, ?> options = resourceSet == null ? null : resourceSet.getLoadOptions();
+      try
+      {
+        File pageFile = getPageFile();
+        if (pageFile.exists() && !Boolean.TRUE.equals(options == null ? null : options.get(OPTION_REPLACE_PAGE_FILE)))
+        {
+          throw new IOException("The page file '" + pageFile + "' exists, so the resource must be loaded, or the file replaced by specifying OPTION_REPLACE_PAGE_FILE");
+        }
+        eStore = new PagedFileEStoreImpl(pageFile, getIntegerOption(options, OPTION_PAGE_SIZE, OffHeapEStoreImpl.DEFAULT_PAGE_SIZE), getCachedPageCount(options));
+      }
+      catch (IOException exception)
+      {
+        throw new WrappedException(exception);
+      }
+    }
+    return eStore;
+  }
+
+  /**
+   * Returns the file in which the store keeps its pages.
+   */
+  protected File getPageFile() throws IOException
+  {
+    if (uri == null || !uri.isFile())
+    {
+      throw new IOException("The URI '" + uri + "' must be a file URI");
+    }
+    return new File(uri.toFileString() + ".pages");
+  }
+
+  @Override
+  protected void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException
+  {
+    closeEStore();
+    ResourceSet resourceSet = getResourceSet();
+    EPackage.Registry packageRegistry = resourceSet == null ? EPackage.Registry.INSTANCE : resourceSet.getPackageRegistry();
+    eStore = PagedFileEStoreImpl.open(getPageFile(), inputStream, packageRegistry, getCachedPageCount(options));
+    EList<EObject> contents = getContents();
+    for (long rootHandle : eStore.getRootHandles())
+    {
+      contents.add(eStore.getEObject(rootHandle));
+    }
+  }
+
+  @Override
+  protected void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException
+  {
+    PagedFileEStoreImpl eStore = getEStore();
+    EList<EObject> contents = getContents();
+    long[] rootHandles = new long [contents.size()];
+    for (int i = 0; i < rootHandles.length; ++i)
+    {
+      EObject root = contents.get(i);
+      if (!(root instanceof OffHeapEStoreImpl.OffHeapEObjectImpl) || ((InternalEObject)root).eStore() != eStore)
+      {
+        throw new IOException("The object '" + root + "' isn't held by the resource's store");
+      }
+      rootHandles[i] = ((OffHeapEStoreImpl.OffHeapEObjectImpl)root).getHandle();
+    }
+    eStore.setRootHandles(rootHandles);
+    eStore.save(outputStream);
+  }
+
+  @Override
+  protected void doUnload()
+  {
+    // Only the roots are turned into proxies so that unloading doesn't visit every object of the store.
+    //
+    List<EObject> roots = new ArrayList<EObject>(getContents());
+    if (!roots.isEmpty())
+    {
+      getContents().clear();
+    }
+    getErrors().clear();
+    getWarnings().clear();
+    for (EObject root : roots)
+    {
+      unloaded((InternalEObject)root);
+    }
+
+    try
+    {
+      closeEStore();
+    }
+    catch (IOException exception)
+    {
+      throw new WrappedException(exception);
+    }
+  }
+
+  @Override
+  public void delete(Map<?, ?> options) throws IOException
+  {
+    super.delete(options);
+    closeEStore();
+    getPageFile().delete();
+  }
+
+  private void closeEStore() throws IOException
+  {
+    if (eStore != null)
+    {
+      PagedFileEStoreImpl eStore = this.eStore;
+      this.eStore = null;
+      eStore.close();
+    }
+  }
+
+  private static int getCachedPageCount(Map<?, ?> options)
+  {
+    return getIntegerOption(options, OPTION_CACHED_PAGE_COUNT, PagedFileEStoreImpl.DEFAULT_CACHED_PAGE_COUNT);
+  }
+
+  private static int getIntegerOption(Map<?, ?> options, String option, int defaultValue)
+  {
+    Object value = options == null ? null : options.get(option);
+    return value instanceof Integer ? (Integer)value : defaultValue;
+  }
+}
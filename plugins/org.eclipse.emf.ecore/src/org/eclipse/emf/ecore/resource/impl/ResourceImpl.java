@@ -14,9 +14,13 @@ package org.eclipse.emf.ecore.resource.impl;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -48,6 +52,7 @@ import org.eclipse.emf.ecore.resource.ContentHandler;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.util.ECrossReferenceIndex;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.emf.ecore.util.NotifyingInternalEListImpl;
@@ -631,6 +636,202 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
     return false;
   }
 
+  /**
+   * The codecs that are always {@link #getCodecs(Map) detected} while loading.
+   */
+  private static final URIConverter.Codec[] BUILT_IN_CODECS = { new DeflateCodecImpl(), new LZBlockCodecImpl() };
+
+  /**
+   * Returns the codecs whose encoded contents are detected and decoded by {@link #load(InputStream, Map)}.
+   * This implementation returns the {@link Resource#OPTION_CODEC codec} specified in the options, if any,
+   * followed by the built-in {@link DeflateCodecImpl deflate} and {@link LZBlockCodecImpl LZ block} codecs.
+   * @param options the load options.
+   * @return the codecs to detect.
+   * @since 2.25
+   */
+  protected List<URIConverter.Codec> getCodecs(Map<?, ?> options)
+  {
+    List<URIConverter.Codec> result = new ArrayList<URIConverter.Codec>(BUILT_IN_CODECS.length + 1);
+    URIConverter.Codec codec = options == null ? null : (URIConverter.Codec)options.get(Resource.OPTION_CODEC);
+    if (codec != null)
+    {
+      result.add(codec);
+    }
+    Collections.addAll(result, BUILT_IN_CODECS);
+    return result;
+  }
+
+  /**
+   * Returns the input stream decoded by the codec whose signature it starts with,
+   * or an input stream with the original contents if it doesn't start with any codec's signature.
+   */
+  private InputStream getDecodedInputStream(InputStream inputStream, Map<?, ?> options) throws IOException
+  {
+    // Streams that are consumed as characters or as resources don't have encoded contents.
+    //
+    if (inputStream instanceof URIConverter.Loadable || inputStream instanceof URIConverter.Readable)
+    {
+      return inputStream;
+    }
+
+    List<URIConverter.Codec> codecs = getCodecs(options);
+    if (codecs.isEmpty())
+    {
+      return inputStream;
+    }
+    byte[][] signatures = new byte [codecs.size()][];
+    int signatureLength = 0;
+    for (int i = 0; i < signatures.length; ++i)
+    {
+      signatures[i] = codecs.get(i).getSignature();
+      signatureLength = Math.max(signatureLength, signatures[i].length);
+    }
+
+    // Peek at the start of the stream, without disturbing a file input stream, which might be used via its channel.
+    //
+    byte[] header = new byte [signatureLength];
+    int headerLength;
+    FileChannel fileChannel = null;
+    long position = 0;
+    if (inputStream instanceof FileInputStream)
+    {
+      fileChannel = ((FileInputStream)inputStream).getChannel();
+      position = fileChannel.position();
+      headerLength = read(inputStream, header);
+      fileChannel.position(position);
+    }
+    else if (inputStream.markSupported())
+    {
+      inputStream.mark(signatureLength);
+      headerLength = read(inputStream, header);
+      inputStream.reset();
+    }
+    else
+    {
+      headerLength = read(inputStream, header);
+      inputStream = new HeaderInputStream(header, headerLength, inputStream);
+    }
+
+    for (int i = 0; i < signatures.length; ++i)
+    {
+      byte[] signature = signatures[i];
+      if (startsWith(header, headerLength, signature))
+      {
+        if (fileChannel != null)
+        {
+          fileChannel.position(position + signature.length);
+        }
+        else
+        {
+          for (long remaining = signature.length; remaining > 0; )
+          {
+            long skipped = inputStream.skip(remaining);
+            if (skipped <= 0)
+            {
+              throw new IOException("Cannot skip the codec signature");
+            }
+            remaining -= skipped;
+          }
+        }
+        return codecs.get(i).decode(inputStream);
+      }
+    }
+    return inputStream;
+  }
+
+  private static int read(InputStream inputStream, byte[] bytes) throws IOException
+  {
+    int length = 0;
+    while (length < bytes.length)
+    {
+      int count = inputStream.read(bytes, length, bytes.length - length);
+      if (count == -1)
+      {
+        break;
+      }
+      length += count;
+    }
+    return length;
+  }
+
+  private static boolean startsWith(byte[] bytes, int length, byte[] prefix)
+  {
+    if (prefix.length == 0 || prefix.length > length)
+    {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; ++i)
+    {
+      if (bytes[i] != prefix[i])
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * An input stream that yields the header bytes already read from the underlying stream before yielding the rest of that stream.
+   */
+  private static final class HeaderInputStream extends FilterInputStream
+  {
+    private final byte[] header;
+
+    private final int length;
+
+    private int index;
+
+    HeaderInputStream(byte[] header, int length, InputStream inputStream)
+    {
+      super(inputStream);
+      this.header = header;
+      this.length = length;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+      return index < length ? header[index++] & 0xFF : in.read();
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int count) throws IOException
+    {
+      if (index < length)
+      {
+        int size = Math.min(count, length - index);
+        System.arraycopy(header, index, bytes, offset, size);
+        index += size;
+        return size;
+      }
+      return in.read(bytes, offset, count);
+    }
+
+    @Override
+    public long skip(long count) throws IOException
+    {
+      if (index < length)
+      {
+        int size = (int)Math.min(count, length - index);
+        index += size;
+        return size;
+      }
+      return in.skip(count);
+    }
+
+    @Override
+    public int available() throws IOException
+    {
+      return length - index + in.available();
+    }
+
+    @Override
+    public boolean markSupported()
+    {
+      return false;
+    }
+  }
+
 
   /**
    * Returns the URI fragment root segment for reaching the given direct content object.
@@ -1049,6 +1250,16 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
         handleSaveResponse(response, effectiveOptions);
       }
     }
+
+    if (Boolean.TRUE.equals
+          (options != null && options.containsKey(OPTION_CROSS_REFERENCE_INDEX) ?
+             options.get(OPTION_CROSS_REFERENCE_INDEX) :
+             defaultSaveOptions != null ?
+               defaultSaveOptions.get(OPTION_CROSS_REFERENCE_INDEX) :
+               null))
+    {
+      ECrossReferenceIndex.save(this);
+    }
   }
 
   /**
@@ -1472,13 +1683,29 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
       }
     }
 
+    OutputStream encryptedOutputStream = outputStream;
+    URIConverter.Codec codec = options != null && !(outputStream instanceof URIConverter.Saveable) && !(outputStream instanceof URIConverter.Writeable) ?
+      (URIConverter.Codec)options.get(Resource.OPTION_CODEC) :
+      null;
+
+    if (codec != null)
+    {
+      outputStream.write(codec.getSignature());
+      outputStream = codec.encode(outputStream);
+    }
+
     doSave(outputStream, options);
 
+    if (codec != null)
+    {
+      codec.finish(outputStream);
+    }
+
     if (cipher != null)
     {
       try
       {
-        cipher.finish(outputStream);
+        cipher.finish(encryptedOutputStream);
       }
       catch (Exception e)
       {
@@ -1560,13 +1787,16 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
           }
         }
 
+        InputStream decryptedInputStream = inputStream;
+        inputStream = getDecodedInputStream(inputStream, options);
+
         doLoad(inputStream, options);
 
         if (cipher != null)
         {
           try
           {
-            cipher.finish(inputStream);
+            cipher.finish(decryptedInputStream);
           }
           catch (Exception e)
           {
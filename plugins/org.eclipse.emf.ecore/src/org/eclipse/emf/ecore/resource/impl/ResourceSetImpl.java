@@ -12,17 +12,29 @@ package org.eclipse.emf.ecore.resource.impl;
 
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.emf.common.notify.AdapterFactory;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.NotificationImpl;
 import org.eclipse.emf.common.notify.impl.NotifierImpl;
+import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.ECollections;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.TreeIterator;
@@ -58,6 +70,11 @@ import org.eclipse.emf.ecore.util.NotifyingInternalEListImpl;
  *     <li>{@link #demandLoad(Resource)}</li>
  *     <li>{@link #demandLoadHelper(Resource)}</li>
  *   </ul>
+ *   <li><b>Bulk</b></li>
+ *   <ul>
+ *     <li>{@link #loadAll(Collection, Map, Executor)}</li>
+ *     <li>{@link #saveAll(Map, Executor)}</li>
+ *   </ul>
  * </ul>
  * </p>
  */
@@ -415,6 +432,637 @@ public class ResourceSetImpl extends NotifierImpl implements ResourceSet
     return null;
   }
 
+  /**
+   * Loads the resources for the given URIs, parsing them concurrently using the given executor,
+   * and returns them in the order of the URIs.
+   * <p>
+   * A URI that already {@link #getResource(URI, boolean) resolves} to a resource isn't loaded again,
+   * except that a resource of this resource set that isn't yet loaded is {@link #demandLoadHelper(Resource) demand loaded} on the calling thread.
+   * Each other URI is created and loaded by a task passed to the executor.
+   * Each task uses its own private resource set that shares this resource set's {@link #getURIConverter() URI converter}
+   * and {@link #getResourceFactoryRegistry() resource factory registry},
+   * that delegates to this resource set's {@link #getPackageRegistry() package registry},
+   * and whose load options are the given options;
+   * so the resources are parsed detached from this resource set and from each other.
+   * Any other resource that a task demand loads, e.g., the resource of a package located by a schema location,
+   * is instead obtained, one task at a time, from a single resource set shared by all the tasks,
+   * which first considers this resource set's resources, demand loading one that isn't yet loaded;
+   * so each such resource is loaded only once and all the tasks refer to the same instance.
+   * If a resource loaded by a task is also demand loaded in the shared resource set,
+   * the demand loaded one, to which the other resources may refer, is used instead.
+   * Once all tasks have completed,
+   * the loaded resources, along with the resources demand loaded and any additional resources created by the tasks while loading them,
+   * are added to the {@link #getResources() resources} in a single step, i.e., with a single notification,
+   * and are recorded in the {@link #getURIResourceMap() URI resource map}, if there is one.
+   * </p>
+   * <p>
+   * A resource that fails to load is still added to this resource set.
+   * Once all the resources have been added,
+   * the first failure is {@link #handleDemandLoadException(Resource, IOException) handled} exactly as for a demand load.
+   * </p>
+   * <p>
+   * This resource set must not be accessed by other threads while this method runs;
+   * the tasks read its configuration
+   * and, one at a time, look up and demand load its resources.
+   * </p>
+   * @param uris the URIs of the resources to load.
+   * @param options the load options, or <code>null</code> to use the {@link #getLoadOptions() default load options}.
+   * @param executor the executor used to run the load tasks, or <code>null</code> to run them on the calling thread.
+   * @return the resources resolved by the URIs.
+   * @throws RuntimeException if a resource can't be created.
+   * @throws WrappedException if a problem occurs during load.
+   * @see #getResource(URI, boolean)
+   * @since 2.25
+   */
+  public EList<Resource> loadAll(Collection<URI> uris, Map<?, ?> options, Executor executor)
+  {
+    Map<?, ?> loadOptions = options == null ? getLoadOptions() : options;
+
+    // Ensure that the shared configuration is created before any task reads it.
+    //
+    URIConverter theURIConverter = getURIConverter();
+    getResourceFactoryRegistry();
+    getPackageRegistry();
+
+    Map<URI, Resource> uriToResourceMap = new LinkedHashMap<URI, Resource>();
+    List<Resource> unloadedResources = new ArrayList<Resource>();
+    List<LoadTask> loadTasks = new ArrayList<LoadTask>();
+    SharedResourceSet sharedResourceSet = null;
+    for (URI uri : uris)
+    {
+      if (!uriToResourceMap.containsKey(uri))
+      {
+        Resource resource = getResource(uri, false);
+        if (resource == null)
+        {
+          if (sharedResourceSet == null)
+          {
+            sharedResourceSet = new SharedResourceSet(this, loadOptions);
+          }
+          loadTasks.add(new LoadTask(uri, loadOptions, sharedResourceSet));
+        }
+        else if (!resource.isLoaded() && resource.getResourceSet() == this)
+        {
+          unloadedResources.add(resource);
+        }
+        uriToResourceMap.put(uri, resource);
+      }
+    }
+
+    if (!loadTasks.isEmpty())
+    {
+      CountDownLatch countDownLatch = new CountDownLatch(loadTasks.size());
+      for (LoadTask loadTask : loadTasks)
+      {
+        loadTask.countDownLatch = countDownLatch;
+        if (executor == null)
+        {
+          loadTask.run();
+        }
+        else
+        {
+          try
+          {
+            executor.execute(loadTask);
+          }
+          catch (RejectedExecutionException exception)
+          {
+            loadTask.run();
+          }
+        }
+      }
+
+      // The tasks must not be abandoned while they are still using the shared configuration.
+      //
+      boolean interrupted = false;
+      for (;;)
+      {
+        try
+        {
+          countDownLatch.await();
+          break;
+        }
+        catch (InterruptedException exception)
+        {
+          interrupted = true;
+        }
+      }
+      if (interrupted)
+      {
+        Thread.currentThread().interrupt();
+      }
+
+      // Prefer a resource demand loaded in the shared resource set, to which the other resources may refer, 
+      // over the same resource loaded by a task.
+      //
+      Map<URI, Resource> sharedResources = new LinkedHashMap<URI, Resource>();
+      for (Resource resource : sharedResourceSet.getResources())
+      {
+        sharedResources.put(theURIConverter.normalize(resource.getURI()), resource);
+      }
+      for (LoadTask loadTask : loadTasks)
+      {
+        if (loadTask.resource != null)
+        {
+          Resource sharedResource = sharedResources.remove(theURIConverter.normalize(loadTask.resource.getURI()));
+          if (sharedResource != null)
+          {
+            loadTask.resource = sharedResource;
+            loadTask.throwable = null;
+          }
+        }
+      }
+
+      // Gather the loaded resources, followed by the resources demand loaded in the shared resource set 
+      // and then those of each task's resource set, ignoring any that duplicate a resource already being added or already present.
+      //
+      List<Resource> loadedResources = new ArrayList<Resource>();
+      Set<URI> loadedURIs = new HashSet<URI>();
+      for (LoadTask loadTask : loadTasks)
+      {
+        if (loadTask.resource != null)
+        {
+          uriToResourceMap.put(loadTask.uri, loadTask.resource);
+          loadedResources.add(loadTask.resource);
+          loadedURIs.add(theURIConverter.normalize(loadTask.resource.getURI()));
+        }
+      }
+      for (Map.Entry<URI, Resource> entry : sharedResources.entrySet())
+      {
+        if (loadedURIs.add(entry.getKey()))
+        {
+          loadedResources.add(entry.getValue());
+        }
+      }
+      for (LoadTask loadTask : loadTasks)
+      {
+        if (loadTask.resourceSet != null)
+        {
+          for (Resource resource : loadTask.resourceSet.getResources())
+          {
+            if (resource != loadTask.resource)
+            {
+              URI uri = resource.getURI();
+              if (loadedURIs.add(theURIConverter.normalize(uri)) && getResource(uri, false) == null)
+              {
+                loadedResources.add(resource);
+              }
+            }
+          }
+        }
+      }
+
+      getResources().addAll(loadedResources);
+
+      Map<URI, Resource> map = getURIResourceMap();
+      if (map != null)
+      {
+        for (LoadTask loadTask : loadTasks)
+        {
+          if (loadTask.resource != null)
+          {
+            map.put(loadTask.uri, loadTask.resource);
+          }
+        }
+      }
+    }
+
+    for (Resource resource : unloadedResources)
+    {
+      if (!resource.isLoaded())
+      {
+        demandLoadHelper(resource);
+      }
+    }
+
+    for (LoadTask loadTask : loadTasks)
+    {
+      Throwable throwable = loadTask.throwable;
+      if (throwable instanceof IOException)
+      {
+        handleDemandLoadException(loadTask.resource, (IOException)throwable);
+      }
+      else if (throwable instanceof RuntimeException)
+      {
+        throw (RuntimeException)throwable;
+      }
+      else if (throwable instanceof Error)
+      {
+        throw (Error)throwable;
+      }
+      else if (loadTask.resource == null)
+      {
+        throw new RuntimeException("Cannot create a resource for '" + loadTask.uri + "'; a registered resource factory is needed");
+      }
+    }
+
+    return ECollections.unmodifiableEList(new BasicEList<Resource>(uriToResourceMap.values()));
+  }
+
+  /**
+   * The resource set shared by the tasks of {@link ResourceSetImpl#loadAll(Collection, Map, Executor)}
+   * in which the resources they demand load are created and loaded,
+   * unless the resource set for which they load already has the resource.
+   * It must only be accessed while holding its lock.
+   */
+  private static class SharedResourceSet extends ResourceSetImpl
+  {
+    protected final ResourceSetImpl resourceSet;
+
+    public SharedResourceSet(ResourceSetImpl resourceSet, Map<?, ?> options)
+    {
+      this.resourceSet = resourceSet;
+      setURIConverter(resourceSet.getURIConverter());
+      setResourceFactoryRegistry(resourceSet.getResourceFactoryRegistry());
+      setPackageRegistry(new EPackageRegistryImpl(resourceSet.getPackageRegistry()));
+      getLoadOptions().putAll(options);
+    }
+
+    @Override
+    public Resource getResource(URI uri, boolean loadOnDemand)
+    {
+      Resource resource = resourceSet.getResource(uri, false);
+      if (resource != null)
+      {
+        return loadOnDemand && !resource.isLoaded() ? resourceSet.getResource(uri, true) : resource;
+      }
+      return super.getResource(uri, loadOnDemand);
+    }
+  }
+
+  /**
+   * The private resource set of a task of {@link ResourceSetImpl#loadAll(Collection, Map, Executor)}.
+   * It contains only the resource loaded by the task, which is the first resource created;
+   * any other resource is obtained from, or created and loaded in, the shared resource set, while holding its lock,
+   * so that it's loaded only once, and completely, before any task uses it.
+   */
+  private static class PrivateResourceSet extends ResourceSetImpl
+  {
+    protected final SharedResourceSet sharedResourceSet;
+
+    public PrivateResourceSet(SharedResourceSet sharedResourceSet)
+    {
+      this.sharedResourceSet = sharedResourceSet;
+    }
+
+    @Override
+    public Resource getResource(URI uri, boolean loadOnDemand)
+    {
+      Resource resource = super.getResource(uri, false);
+      if (resource == null)
+      {
+        synchronized (sharedResourceSet)
+        {
+          resource = sharedResourceSet.getResource(uri, loadOnDemand);
+        }
+      }
+      return resource;
+    }
+
+    @Override
+    public Resource createResource(URI uri, String contentType)
+    {
+      if (getResources().isEmpty())
+      {
+        return super.createResource(uri, contentType);
+      }
+
+      synchronized (sharedResourceSet)
+      {
+        try
+        {
+          return sharedResourceSet.getResource(uri, true);
+        }
+        catch (RuntimeException exception)
+        {
+          // A failure to load is recorded in the resource's errors.
+          //
+          return sharedResourceSet.getResource(uri, false);
+        }
+      }
+    }
+  }
+
+  /**
+   * A task used by {@link ResourceSetImpl#loadAll(Collection, Map, Executor)} to create and load one resource in a private resource set.
+   */
+  private class LoadTask implements Runnable
+  {
+    protected final URI uri;
+
+    protected final Map<?, ?> options;
+
+    protected final SharedResourceSet sharedResourceSet;
+
+    protected CountDownLatch countDownLatch;
+
+    protected ResourceSetImpl resourceSet;
+
+    protected Resource resource;
+
+    protected Throwable throwable;
+
+    public LoadTask(URI uri, Map<?, ?> options, SharedResourceSet sharedResourceSet)
+    {
+      this.uri = uri;
+      this.options = options;
+      this.sharedResourceSet = sharedResourceSet;
+    }
+
+    public void run()
+    {
+      try
+      {
+        resourceSet = new PrivateResourceSet(sharedResourceSet);
+        resourceSet.setURIConverter(getURIConverter());
+        resourceSet.setResourceFactoryRegistry(getResourceFactoryRegistry());
+        resourceSet.setPackageRegistry(new EPackageRegistryImpl(getPackageRegistry()));
+        resourceSet.getLoadOptions().putAll(options);
+
+        resource = resourceSet.createResource(uri, ContentHandler.UNSPECIFIED_CONTENT_TYPE);
+        if (resource != null)
+        {
+          resource.load(options);
+        }
+      }
+      catch (Throwable throwable)
+      {
+        this.throwable = throwable;
+      }
+      finally
+      {
+        countDownLatch.countDown();
+      }
+    }
+  }
+
+  /**
+   * Saves each loaded resource of this resource set that is {@link Resource#isModified() modified},
+   * or each loaded resource, if it isn't {@link Resource#isTrackingModification() tracking modification},
+   * serializing them concurrently using the given executor.
+   * @param options the save options, or <code>null</code>.
+   * @param executor the executor used to run the save tasks, or <code>null</code> to run them on the calling thread.
+   * @return a diagnostic for the problems that occurred, or {@link Diagnostic#OK_INSTANCE} if there were none.
+   * @see #saveAll(Collection, Map, Executor)
+   * @since 2.25
+   */
+  public Diagnostic saveAll(Map<?, ?> options, Executor executor)
+  {
+    List<Resource> resources = new ArrayList<Resource>();
+    for (Resource resource : getResources())
+    {
+      if (resource.isLoaded() && (resource.isModified() || !resource.isTrackingModification()))
+      {
+        resources.add(resource);
+      }
+    }
+    return saveAll(resources, options, executor);
+  }
+
+  /**
+   * Saves the given resources, serializing them concurrently using the given executor.
+   * <p>
+   * Each resource is {@link Resource#save(Map) saved} by a task passed to the executor,
+   * so the serialization, including the comparison with the existing contents
+   * requested by {@link Resource#OPTION_SAVE_ONLY_IF_CHANGED}, is done concurrently.
+   * While the tasks run, each resource's {@link Resource#eDeliver() notification delivery} is disabled,
+   * so that saving, which only reads the model, doesn't notify adapters on the executor's threads.
+   * Once all tasks have completed, delivery is restored,
+   * and a notification is sent on the calling thread for each resource whose
+   * {@link Resource#isModified() modified} state, {@link Resource#getTimeStamp() time stamp}, or {@link Resource#getURI() URI}
+   * was changed by the save.
+   * </p>
+   * <p>
+   * The resources must not be modified, and must not be loaded or unloaded, by other threads while this method runs,
+   * and saving one resource must not demand load another; proxies aren't resolved during save.
+   * The options are shared by all the tasks, so they must not contain mutable state that isn't thread safe,
+   * e.g., a list for <code>XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE</code>.
+   * </p>
+   * <p>
+   * A failure to save one resource doesn't prevent saving the others.
+   * Each failure is reported as an {@link Diagnostic#ERROR error} child of the returned diagnostic,
+   * whose {@link Diagnostic#getData() data} are the resource and the exception;
+   * an {@link Error} is rethrown once all tasks have completed.
+   * </p>
+   * @param resources the resources to save.
+   * @param options the save options, or <code>null</code>.
+   * @param executor the executor used to run the save tasks, or <code>null</code> to run them on the calling thread.
+   * @return a diagnostic for the problems that occurred, or {@link Diagnostic#OK_INSTANCE} if there were none.
+   * @since 2.25
+   */
+  public Diagnostic saveAll(Collection<? extends Resource> resources, Map<?, ?> options, Executor executor)
+  {
+    List<SaveTask> saveTasks = new ArrayList<SaveTask>();
+    for (Resource resource : new UniqueEList.FastCompare<Resource>(resources))
+    {
+      saveTasks.add(new SaveTask(resource, options));
+    }
+
+    if (!saveTasks.isEmpty())
+    {
+      CountDownLatch countDownLatch = new CountDownLatch(saveTasks.size());
+      for (SaveTask saveTask : saveTasks)
+      {
+        saveTask.countDownLatch = countDownLatch;
+        saveTask.resource.eSetDeliver(false);
+      }
+      try
+      {
+        for (SaveTask saveTask : saveTasks)
+        {
+          if (executor == null)
+          {
+            saveTask.run();
+          }
+          else
+          {
+            try
+            {
+              executor.execute(saveTask);
+            }
+            catch (RejectedExecutionException exception)
+            {
+              saveTask.run();
+            }
+          }
+        }
+
+        // The tasks must not be abandoned while they are still reading the resources.
+        //
+        boolean interrupted = false;
+        for (;;)
+        {
+          try
+          {
+            countDownLatch.await();
+            break;
+          }
+          catch (InterruptedException exception)
+          {
+            interrupted = true;
+          }
+        }
+        if (interrupted)
+        {
+          Thread.currentThread().interrupt();
+        }
+      }
+      finally
+      {
+        for (SaveTask saveTask : saveTasks)
+        {
+          saveTask.resource.eSetDeliver(saveTask.deliver);
+        }
+      }
+
+      for (SaveTask saveTask : saveTasks)
+      {
+        saveTask.notifyChanges();
+      }
+    }
+
+    BasicDiagnostic diagnostic = null;
+    for (SaveTask saveTask : saveTasks)
+    {
+      Throwable throwable = saveTask.throwable;
+      if (throwable instanceof Error)
+      {
+        throw (Error)throwable;
+      }
+      else if (throwable != null)
+      {
+        if (diagnostic == null)
+        {
+          diagnostic = new BasicDiagnostic("org.eclipse.emf.ecore.resource", 0, "Problems encountered saving the resources", new Object [] { this });
+        }
+        diagnostic.add
+          (new BasicDiagnostic
+            (Diagnostic.ERROR,
+             "org.eclipse.emf.ecore.resource",
+             0,
+             "Cannot save '" + saveTask.resource.getURI() + "': " + throwable.getLocalizedMessage(),
+             new Object [] { saveTask.resource, throwable }));
+      }
+    }
+    return diagnostic == null ? Diagnostic.OK_INSTANCE : diagnostic;
+  }
+
+  /**
+   * A task used by {@link ResourceSetImpl#saveAll(Collection, Map, Executor)} to save one resource.
+   */
+  private static class SaveTask implements Runnable
+  {
+    protected final Resource resource;
+
+    protected final Map<?, ?> options;
+
+    protected final boolean deliver;
+
+    protected final boolean isModified;
+
+    protected final long timeStamp;
+
+    protected final URI uri;
+
+    protected CountDownLatch countDownLatch;
+
+    protected Throwable throwable;
+
+    public SaveTask(Resource resource, Map<?, ?> options)
+    {
+      this.resource = resource;
+      this.options = options;
+      deliver = resource.eDeliver();
+      isModified = resource.isModified();
+      timeStamp = resource.getTimeStamp();
+      uri = resource.getURI();
+    }
+
+    public void run()
+    {
+      try
+      {
+        resource.save(options);
+      }
+      catch (Throwable throwable)
+      {
+        this.throwable = throwable;
+      }
+      finally
+      {
+        countDownLatch.countDown();
+      }
+    }
+
+    /**
+     * Sends the notifications suppressed while the resource was saved.
+     */
+    public void notifyChanges()
+    {
+      if (resource.eDeliver() && !resource.eAdapters().isEmpty())
+      {
+        URI newURI = resource.getURI();
+        if (uri != newURI)
+        {
+          resource.eNotify(new ResourceNotification(resource, Resource.RESOURCE__URI, uri, newURI));
+        }
+        long newTimeStamp = resource.getTimeStamp();
+        if (timeStamp != newTimeStamp)
+        {
+          resource.eNotify(new ResourceNotification(resource, Resource.RESOURCE__TIME_STAMP, timeStamp, newTimeStamp));
+        }
+        boolean newIsModified = resource.isModified();
+        if (isModified != newIsModified)
+        {
+          resource.eNotify(new ResourceNotification(resource, Resource.RESOURCE__IS_MODIFIED, isModified, newIsModified));
+        }
+      }
+    }
+  }
+
+  /**
+   * A notification of a change to a feature of a resource.
+   */
+  private static class ResourceNotification extends NotificationImpl
+  {
+    protected final Resource resource;
+
+    protected final int featureID;
+
+    public ResourceNotification(Resource resource, int featureID, Object oldValue, Object newValue)
+    {
+      super(Notification.SET, oldValue, newValue);
+      this.resource = resource;
+      this.featureID = featureID;
+    }
+
+    public ResourceNotification(Resource resource, int featureID, long oldValue, long newValue)
+    {
+      super(Notification.SET, oldValue, newValue);
+      this.resource = resource;
+      this.featureID = featureID;
+    }
+
+    public ResourceNotification(Resource resource, int featureID, boolean oldValue, boolean newValue)
+    {
+      super(Notification.SET, oldValue, newValue);
+      this.resource = resource;
+      this.featureID = featureID;
+    }
+
+    @Override
+    public Object getNotifier()
+    {
+      return resource;
+    }
+
+    @Override
+    public int getFeatureID(Class<?> expectedClass)
+    {
+      return featureID;
+    }
+  }
+
   /*
    * Javadoc copied from interface.
    */
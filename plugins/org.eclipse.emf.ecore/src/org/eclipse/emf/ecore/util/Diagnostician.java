@@ -11,12 +11,17 @@
 package org.eclipse.emf.ecore.util;
 
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
@@ -25,10 +30,14 @@ import org.eclipse.emf.common.util.TreeIterator;
 
 import org.eclipse.emf.ecore.EValidator;
 
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EDataType;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcorePackage;
 
 import org.eclipse.emf.ecore.plugin.EcorePlugin;
 
@@ -143,6 +152,24 @@ public class Diagnostician implements EValidator.SubstitutionLabelProvider, EVal
     return diagnostics;    
   }
 
+  /**
+   * Validates the object and its content tree,
+   * using the given executor to validate the content tree {@link #validate(EObject, DiagnosticChain, Map, Executor) concurrently}.
+   * @param eObject the object to validate.
+   * @param contextEntries the entries to add to the {@link #createDefaultContext() default context}.
+   * @param executor the executor used to run the tasks, or <code>null</code> to validate on the calling thread.
+   * @return the diagnostics.
+   * @since 2.25
+   */
+  public Diagnostic validate(EObject eObject, Map<?, ?> contextEntries, Executor executor)
+  {
+    BasicDiagnostic diagnostics = createDefaultDiagnostic(eObject);
+    Map<Object, Object> context = createDefaultContext();
+    context.putAll(contextEntries);
+    validate(eObject, diagnostics, context, executor);
+    return diagnostics;
+  }
+
   /**
    * Validates the object in the given context, optionally producing diagnostics.
    * @param eObject the object to validate.
@@ -217,17 +244,163 @@ public class Diagnostician implements EValidator.SubstitutionLabelProvider, EVal
   }
 
   /**
-   * Validates the object.
-   * If the {@code context} does not contain {@link #VALIDATE_RECURSIVELY} mapped to {@code Boolean.FALSE},
-   * this method will call {@link #doValidateContents(EObject, DiagnosticChain, Map)},
-   * i.e., it will recursively validate all contents of the tree unless the context explicitly indicates not to do that.
+   * Validates the object and its content tree in the given context, optionally producing diagnostics,
+   * using the given executor to validate the content tree concurrently.
+   * <p>
+   * The object itself is validated on the calling thread, 
+   * and then the content tree is split into tasks, one for each subtree, with large subtrees split further.
+   * Each task validates its objects using its own copy of the context and accumulates its own diagnostics;
+   * the results are merged on the calling thread, in the same order in which {@link #validate(EObject, DiagnosticChain, Map)} produces them.
+   * An object is validated on the calling thread,
+   * if the validator for its class, or for the type of one of its attributes, isn't {@link #isThreadSafe(EValidator) thread safe},
+   * if its package uses {@link EValidator.ValidationDelegate validation delegates},
+   * if its class has derived features or an {@link EClass#getEIDAttribute() ID attribute},
+   * or if it references an unresolved proxy.
+   * The objects being validated must not be modified while the tasks run
+   * and the context entries must be safe to use concurrently.
+   * Models whose packages are {@link org.eclipse.emf.ecore.impl.EPackageImpl#freeze() frozen} are best suited.
+   * If the content tree must be {@link #isValidateContentsRecursively() validated recursively},
+   * or the context maps {@link #VALIDATE_RECURSIVELY} to {@code Boolean.TRUE},
+   * the object is {@link #validate(EObject, DiagnosticChain, Map) validated} on the calling thread.
+   * </p>
+   * @param eObject the object to validate.
+   * @param diagnostics a place to accumulate diagnostics; if it's <code>null</code>, no diagnostics should be produced.
+   * @param context a place to cache information.
+   * @param executor the executor used to run the tasks, or <code>null</code> to validate on the calling thread.
+   * @return whether the object is valid.
+   * @since 2.25
    */
-  public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context)
+  public boolean validate(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context, Executor executor)
   {
+    if (executor == null || isValidateContentsRecursively() || Boolean.TRUE.equals(context.get(VALIDATE_RECURSIVELY)))
+    {
+      return validate(eObject, diagnostics, context);
+    }
+
+    Object validateRecursively = context.put(VALIDATE_RECURSIVELY, Boolean.FALSE);
     try
     {
-      Object eValidator;
-      EClass eType = eClass;
+      // Validate the object itself on the calling thread, so that it's recorded as the root object in the context.
+      //
+      boolean circular = context.get(EObjectValidator.ROOT_OBJECT) == eObject;
+      boolean result = validate(eObject.eClass(), eObject, diagnostics, context);
+      if (circular || !result && diagnostics == null)
+      {
+        return result;
+      }
+
+      List<ValidationTask> tasks = new ArrayList<ValidationTask>();
+      for (Iterator<EObject> children = ((InternalEList<EObject>)eObject.eContents()).basicIterator(); children.hasNext(); )
+      {
+        tasks.add(new ValidationTask(children.next(), true));
+      }
+
+      // Split the tasks until there are enough of them to keep the processors busy.
+      //
+      int parallelism = 4 * Runtime.getRuntime().availableProcessors();
+      for (int depth = 0; depth < 8 && !tasks.isEmpty() && tasks.size() < parallelism; ++depth)
+      {
+        List<ValidationTask> splitTasks = new ArrayList<ValidationTask>();
+        for (ValidationTask task : tasks)
+        {
+          task.split(splitTasks);
+        }
+        if (splitTasks.size() == tasks.size())
+        {
+          break;
+        }
+        tasks = splitTasks;
+      }
+
+      CountDownLatch countDownLatch = new CountDownLatch(tasks.size());
+      Map<EClass, Boolean> eClasses = new HashMap<EClass, Boolean>();
+      AtomicBoolean failed = new AtomicBoolean();
+      for (ValidationTask task : tasks)
+      {
+        task.countDownLatch = countDownLatch;
+        task.eClasses = eClasses;
+        task.failed = failed;
+        task.context = new HashMap<Object, Object>(context);
+        task.isDiagnosing = diagnostics != null;
+        try
+        {
+          executor.execute(task);
+        }
+        catch (RejectedExecutionException exception)
+        {
+          task.run();
+        }
+      }
+
+      boolean interrupted = false;
+      for (;;)
+      {
+        try
+        {
+          countDownLatch.await();
+          break;
+        }
+        catch (InterruptedException exception)
+        {
+          interrupted = true;
+        }
+      }
+      if (interrupted)
+      {
+        Thread.currentThread().interrupt();
+      }
+
+      for (ValidationTask task : tasks)
+      {
+        Throwable throwable = task.throwable;
+        if (throwable instanceof RuntimeException)
+        {
+          throw (RuntimeException)throwable;
+        }
+        else if (throwable instanceof Error)
+        {
+          throw (Error)throwable;
+        }
+      }
+
+      for (ValidationTask task : tasks)
+      {
+        result &= task.merge(diagnostics, context);
+        if (!result && diagnostics == null)
+        {
+          break;
+        }
+      }
+      return result;
+    }
+    finally
+    {
+      context.put(VALIDATE_RECURSIVELY, validateRecursively);
+    }
+  }
+
+  /**
+   * Returns whether the validator may be used {@link #validate(EObject, DiagnosticChain, Map, Executor) concurrently} by several threads.
+   * This implementation returns <code>true</code> for a validator that's an instance of {@link EValidator.ThreadSafe}
+   * and for an instance of the basic {@link EObjectValidator} itself.
+   * @param eValidator the validator in question.
+   * @return whether the validator may be used concurrently.
+   * @since 2.25
+   */
+  protected boolean isThreadSafe(EValidator eValidator)
+  {
+    return eValidator instanceof EValidator.ThreadSafe || eValidator != null && eValidator.getClass() == EObjectValidator.class;
+  }
+
+  /**
+   * Returns the validator used to validate instances of the classifier.
+   */
+  private EValidator getEValidator(EClassifier eClassifier)
+  {
+    Object eValidator;
+    if (eClassifier instanceof EClass)
+    {
+      EClass eType = (EClass)eClassifier;
       while ((eValidator = eValidatorRegistry.get(eType.eContainer())) == null)
       {
         List<EClass> eSuperTypes = eType.getESuperTypes();
@@ -241,8 +414,275 @@ public class Diagnostician implements EValidator.SubstitutionLabelProvider, EVal
           eType = eSuperTypes.get(0);
         }
       }
+    }
+    else
+    {
+      eValidator = eValidatorRegistry.get(eClassifier.eContainer());
+      if (eValidator == null)
+      {
+        eValidator = eValidatorRegistry.get(null);
+      }
+    }
+    return (EValidator)eValidator;
+  }
+
+  /**
+   * Returns whether instances of the class may be validated concurrently,
+   * ensuring that the class's lazily computed metadata, and that of its features, is computed.
+   * This must be called while holding the lock of the map used to cache the result.
+   */
+  private boolean isConcurrent(EClass eClass)
+  {
+    boolean result = isThreadSafe(getEValidator(eClass)) && eClass.getEIDAttribute() == null;
+    List<EClass> eAllSuperTypes = new ArrayList<EClass>(eClass.getEAllSuperTypes());
+    eAllSuperTypes.add(eClass);
+    for (EClass eType : eAllSuperTypes)
+    {
+      if (!EcoreUtil.getValidationDelegates(eType.getEPackage()).isEmpty())
+      {
+        result = false;
+      }
+    }
+
+    eClass.getEAllAttributes();
+    eClass.getEAllContainments();
+    for (EReference eReference : eClass.getEAllReferences())
+    {
+      eReference.getEOpposite();
+      eReference.getEKeys();
+    }
+    for (EStructuralFeature eStructuralFeature : eClass.getEAllStructuralFeatures())
+    {
+      eClass.getFeatureID(eStructuralFeature);
+      eStructuralFeature.isMany();
+      EClassifier eType = eStructuralFeature.getEType();
+      if (eStructuralFeature.isDerived())
+      {
+        result = false;
+      }
+      else if (eStructuralFeature instanceof EAttribute)
+      {
+        // The data types of Ecore itself have no constraints.
+        // The basic validator of other data types computes their extended metadata each time, so compute it once now.
+        //
+        EValidator eValidator = getEValidator(eType);
+        if (eType.getEPackage() != EcorePackage.eINSTANCE)
+        {
+          if (!isThreadSafe(eValidator) || !EcoreUtil.getValidationDelegates(eType.getEPackage()).isEmpty())
+          {
+            result = false;
+          }
+          else if (eValidator instanceof EObjectValidator)
+          {
+            ((EObjectValidator)eValidator).new DynamicEDataTypeValidator((EDataType)eType);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * A task used by {@link Diagnostician#validate(EObject, DiagnosticChain, Map, Executor)} to validate an object,
+   * and optionally the objects in its content tree.
+   */
+  private class ValidationTask implements Runnable
+  {
+    protected final EObject eObject;
+
+    protected final boolean isTree;
+
+    protected CountDownLatch countDownLatch;
+
+    protected Map<EClass, Boolean> eClasses;
+
+    protected AtomicBoolean failed;
+
+    protected Map<Object, Object> context;
+
+    protected boolean isDiagnosing;
+
+    protected boolean result = true;
+
+    /**
+     * The diagnostics produced by this task and the objects to be validated on the calling thread, in the order in which they're to be merged.
+     */
+    protected List<Object> results;
+
+    protected Throwable throwable;
+
+    public ValidationTask(EObject eObject, boolean isTree)
+    {
+      this.eObject = eObject;
+      this.isTree = isTree;
+    }
+
+    /**
+     * Adds to the list either this task or a task for this task's object alone followed by tasks for its children's content trees.
+     */
+    public void split(List<ValidationTask> tasks)
+    {
+      if (isTree && !eObject.eContents().isEmpty())
+      {
+        tasks.add(new ValidationTask(eObject, false));
+        for (Iterator<EObject> children = ((InternalEList<EObject>)eObject.eContents()).basicIterator(); children.hasNext(); )
+        {
+          tasks.add(new ValidationTask(children.next(), true));
+        }
+      }
+      else
+      {
+        tasks.add(this);
+      }
+    }
+
+    public void run()
+    {
+      try
+      {
+        results = new ArrayList<Object>();
+        if (validate(eObject) && isTree)
+        {
+          List<Iterator<EObject>> stack = new ArrayList<Iterator<EObject>>();
+          stack.add(((InternalEList<EObject>)eObject.eContents()).basicIterator());
+          while (!stack.isEmpty())
+          {
+            Iterator<EObject> children = stack.get(stack.size() - 1);
+            if (children.hasNext())
+            {
+              EObject child = children.next();
+              if (validate(child))
+              {
+                stack.add(((InternalEList<EObject>)child.eContents()).basicIterator());
+              }
+            }
+            else
+            {
+              stack.remove(stack.size() - 1);
+            }
+          }
+        }
+      }
+      catch (Throwable throwable)
+      {
+        this.throwable = throwable;
+      }
+      finally
+      {
+        countDownLatch.countDown();
+      }
+    }
+
+    /**
+     * Validates the object, or records it to be validated on the calling thread, returning whether the task should visit its children.
+     */
+    protected boolean validate(EObject eObject)
+    {
+      if (!isDiagnosing && failed.get())
+      {
+        return false;
+      }
+
+      EClass eClass = eObject.eClass();
+      Boolean isConcurrent;
+      synchronized (eClasses)
+      {
+        isConcurrent = eClasses.get(eClass);
+        if (isConcurrent == null)
+        {
+          isConcurrent = isConcurrent(eClass);
+          eClasses.put(eClass, isConcurrent);
+        }
+      }
+
+      if (isConcurrent)
+      {
+        // Validating an object resolves its cross references, so an object referencing a proxy must be validated on the calling thread.
+        //
+        for (Iterator<EObject> i = ((InternalEList<EObject>)eObject.eCrossReferences()).basicIterator(); i.hasNext(); )
+        {
+          EObject crossReferencedEObject = i.next();
+          if (crossReferencedEObject != null && crossReferencedEObject.eIsProxy())
+          {
+            isConcurrent = Boolean.FALSE;
+            break;
+          }
+        }
+      }
+
+      boolean circular = context.get(EObjectValidator.ROOT_OBJECT) == eObject;
+      if (isConcurrent)
+      {
+        BasicDiagnostic diagnostics = null;
+        if (isDiagnosing)
+        {
+          Object last = results.isEmpty() ? null : results.get(results.size() - 1);
+          if (last instanceof BasicDiagnostic)
+          {
+            diagnostics = (BasicDiagnostic)last;
+          }
+          else
+          {
+            diagnostics = new BasicDiagnostic();
+            results.add(diagnostics);
+          }
+        }
+        if (!Diagnostician.this.validate(eClass, eObject, diagnostics, context))
+        {
+          result = false;
+          if (!isDiagnosing)
+          {
+            failed.set(true);
+            return false;
+          }
+        }
+      }
+      else
+      {
+        results.add(eObject);
+      }
+      return !circular;
+    }
+
+    /**
+     * Adds the diagnostics produced by this task to the given diagnostics and validates the recorded objects on the calling thread,
+     * returning whether all the objects are valid.
+     */
+    public boolean merge(DiagnosticChain diagnostics, Map<Object, Object> context)
+    {
+      boolean result = this.result;
+      for (Object object : results)
+      {
+        if (object instanceof EObject)
+        {
+          if (result || diagnostics != null)
+          {
+            EObject eObject = (EObject)object;
+            result &= Diagnostician.this.validate(eObject.eClass(), eObject, diagnostics, context);
+          }
+        }
+        else
+        {
+          diagnostics.addAll((Diagnostic)object);
+        }
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Validates the object.
+   * If the {@code context} does not contain {@link #VALIDATE_RECURSIVELY} mapped to {@code Boolean.FALSE},
+   * this method will call {@link #doValidateContents(EObject, DiagnosticChain, Map)},
+   * i.e., it will recursively validate all contents of the tree unless the context explicitly indicates not to do that.
+   */
+  public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context)
+  {
+    try
+    {
+      EValidator eValidator = getEValidator(eClass);
       boolean circular = context.get(EObjectValidator.ROOT_OBJECT) == eObject;
-      boolean result = doValidate((EValidator)eValidator, eClass, eObject, diagnostics, context);
+      boolean result = doValidate(eValidator, eClass, eObject, diagnostics, context);
       if (!Boolean.FALSE.equals(context.get(VALIDATE_RECURSIVELY)) && (result || diagnostics != null) && !circular)
       {
         result &= doValidateContents(eObject, diagnostics, context);
@@ -329,13 +769,7 @@ public class Diagnostician implements EValidator.SubstitutionLabelProvider, EVal
 
   public boolean validate(EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context)
   {
-    Object eValidator = eValidatorRegistry.get(eDataType.eContainer());
-    if (eValidator == null)
-    {
-      eValidator = eValidatorRegistry.get(null);
-    }
-
-    return doValidate((EValidator)eValidator, eDataType, value, diagnostics, context);
+    return doValidate(getEValidator(eDataType), eDataType, value, diagnostics, context);
   }
 
   /**
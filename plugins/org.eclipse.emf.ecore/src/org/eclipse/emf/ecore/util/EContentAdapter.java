@@ -13,7 +13,9 @@ package org.eclipse.emf.ecore.util;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
@@ -33,8 +35,25 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
  * as they come and go.
  * It can be installed for an {@link EObject}, a {@link Resource}, or a {@link ResourceSet}.
  */
-public class EContentAdapter extends AdapterImpl
+public class EContentAdapter extends AdapterImpl implements Adapter.Batching
 {
+  private static final int DEFERRED_REMOVE = 1;
+
+  private static final int DEFERRED_REMOVE_CHECK_CONTAINER = 2;
+
+  private static final int DEFERRED_REMOVE_CHECK_RESOURCE = 4;
+
+  /**
+   * The depth of the nested {@link #beginBatch() batches}.
+   */
+  private int batchDepth;
+
+  /**
+   * The adapter removals deferred during a batch, in the order in which the notifiers were removed,
+   * less those undone by adding the notifier back.
+   */
+  private Map<Notifier, Integer> deferredChanges;
+
   /**
    * Indicates whether the adapter is currently being attached {@link #useRecursion() iteratively}.
    *
@@ -57,6 +76,69 @@ public class EContentAdapter extends AdapterImpl
     return true;
   }
 
+  /**
+   * Begins deferring the removal of this adapter in response to containment changes.
+   * Until the outermost batch {@link #endBatch() ends},
+   * an object that is removed keeps this adapter, and the removal is undone if the object is added back,
+   * so that an object that is moved, or removed and then added back, during the batch is never visited.
+   * The adapter is still added as soon as an object is added,
+   * so that the notifications of the objects added during the batch are handled like those of any other object.
+   * Until the batch ends, this adapter may therefore also receive notifications from the objects removed during the batch.
+   * @since 2.25
+   */
+  public void beginBatch()
+  {
+    ++batchDepth;
+  }
+
+  /**
+   * Ends a batch, removing this adapter as appropriate for the recorded removals if this ends the outermost batch.
+   * @since 2.25
+   */
+  public void endBatch()
+  {
+    if (batchDepth == 0)
+    {
+      throw new IllegalStateException("There is no batch to end");
+    }
+    if (--batchDepth == 0 && deferredChanges != null)
+    {
+      Map<Notifier, Integer> changes = deferredChanges;
+      deferredChanges = null;
+      for (Map.Entry<Notifier, Integer> entry : changes.entrySet())
+      {
+        int change = entry.getValue();
+        removeAdapter(entry.getKey(), (change & DEFERRED_REMOVE_CHECK_CONTAINER) != 0, (change & DEFERRED_REMOVE_CHECK_RESOURCE) != 0);
+      }
+    }
+  }
+
+  /**
+   * Returns whether a {@link #beginBatch() batch} is in progress.
+   * @since 2.25
+   */
+  public boolean isBatching()
+  {
+    return batchDepth > 0;
+  }
+
+  private void deferChange(Notifier notifier, int change)
+  {
+    if (deferredChanges == null)
+    {
+      deferredChanges = new LinkedHashMap<Notifier, Integer>();
+    }
+    deferredChanges.put(notifier, change);
+  }
+
+  private void undoDeferredRemoval(Notifier notifier)
+  {
+    if (deferredChanges != null)
+    {
+      deferredChanges.remove(notifier);
+    }
+  }
+
   /**
    * Handles a notification by calling {@link #selfAdapt selfAdapter}.
    */
@@ -259,6 +341,7 @@ public class EContentAdapter extends AdapterImpl
         EObject eObject = i.next();
         if (eObject.eAdapters().contains(this))
         {
+          undoDeferredRemoval(eObject);
           i.prune();
         }
         else
@@ -406,6 +489,10 @@ public class EContentAdapter extends AdapterImpl
 
   protected void addAdapter(Notifier notifier)
   {
+    // An object removed earlier in the batch still has this adapter, so only its removal needs to be undone.
+    //
+    undoDeferredRemoval(notifier);
+
     EList<Adapter> eAdapters = notifier.eAdapters();
     if (!eAdapters.contains(this))
     {
@@ -415,6 +502,14 @@ public class EContentAdapter extends AdapterImpl
 
   protected void removeAdapter(Notifier notifier, boolean checkContainer, boolean checkResource)
   {
+    if (batchDepth > 0)
+    {
+      deferChange
+        (notifier,
+         DEFERRED_REMOVE | (checkContainer ? DEFERRED_REMOVE_CHECK_CONTAINER : 0) | (checkResource ? DEFERRED_REMOVE_CHECK_RESOURCE : 0));
+      return;
+    }
+
     if (checkContainer || checkResource)
     {
       InternalEObject internalEObject = (InternalEObject) notifier;
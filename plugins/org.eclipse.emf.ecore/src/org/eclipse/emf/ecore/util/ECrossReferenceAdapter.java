@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -44,7 +45,7 @@ import org.eclipse.emf.ecore.util.EContentsEList.FeatureIterator;
  * It can be installed for an {@link EObject}, a {@link Resource}, or a {@link ResourceSet}.
  * @since 2.2
  */
-public class ECrossReferenceAdapter implements Adapter.Internal
+public class ECrossReferenceAdapter implements Adapter.Internal, Adapter.Batching
 {
   /**
    * Returns the first {@link ECrossReferenceAdapter} in the notifier's {@link Notifier#eAdapters() adapter list}, 
@@ -488,6 +489,163 @@ public class ECrossReferenceAdapter implements Adapter.Internal
     inverseCrossReferencer = createInverseCrossReferencer();
   }
 
+  /**
+   * A cross reference recorded during a batch, compared by the identity of its objects.
+   */
+  private static final class CrossReference
+  {
+    final EObject eObject;
+
+    final EReference eReference;
+
+    final EObject crossReferencedEObject;
+
+    CrossReference(EObject eObject, EReference eReference, EObject crossReferencedEObject)
+    {
+      this.eObject = eObject;
+      this.eReference = eReference;
+      this.crossReferencedEObject = crossReferencedEObject;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return (31 * System.identityHashCode(eObject) + System.identityHashCode(eReference)) * 31 + System.identityHashCode(crossReferencedEObject);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+      if (object instanceof CrossReference)
+      {
+        CrossReference crossReference = (CrossReference)object;
+        return
+          crossReference.eObject == eObject &&
+            crossReference.eReference == eReference &&
+            crossReference.crossReferencedEObject == crossReferencedEObject;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * The depth of the nested {@link #beginBatch() batches}.
+   */
+  private int batchDepth;
+
+  /**
+   * The net number of times each cross reference was added, less the number of times it was removed, during the batch.
+   */
+  private Map<CrossReference, int[]> deferredCrossReferenceChanges;
+
+  /**
+   * Begins deferring the updates of the index in response to cross reference changes.
+   * Until the outermost batch {@link #endBatch() ends},
+   * the additions and removals of each cross reference, including those of the objects added during the batch, are only counted,
+   * so that a cross reference that is added and then removed during the batch leaves no trace.
+   * The adapter is still added as soon as an object is added,
+   * so that the notifications of the objects added during the batch are handled like those of any other object.
+   * The index isn't kept up to date during the batch,
+   * so the {@link #getInverseReferences(EObject) inverse references} of an object affected by the batch should not be requested until it ends.
+   * @since 2.25
+   */
+  public void beginBatch()
+  {
+    ++batchDepth;
+  }
+
+  /**
+   * Ends a batch, updating the index for the net cross reference changes if this ends the outermost batch.
+   * @since 2.25
+   */
+  public void endBatch()
+  {
+    if (batchDepth == 0)
+    {
+      throw new IllegalStateException("There is no batch to end");
+    }
+    if (--batchDepth == 0)
+    {
+      applyDeferredCrossReferenceChanges();
+    }
+  }
+
+  /**
+   * Returns whether a {@link #beginBatch() batch} is in progress.
+   * @since 2.25
+   */
+  public boolean isBatching()
+  {
+    return batchDepth > 0;
+  }
+
+  private void applyDeferredCrossReferenceChanges()
+  {
+    if (deferredCrossReferenceChanges != null)
+    {
+      Map<CrossReference, int[]> changes = deferredCrossReferenceChanges;
+      deferredCrossReferenceChanges = null;
+      for (Map.Entry<CrossReference, int[]> entry : changes.entrySet())
+      {
+        int count = entry.getValue()[0];
+        if (count != 0)
+        {
+          CrossReference crossReference = entry.getKey();
+          if (count > 0)
+          {
+            inverseCrossReferencer.add(crossReference.eObject, crossReference.eReference, crossReference.crossReferencedEObject);
+          }
+          else
+          {
+            inverseCrossReferencer.remove(crossReference.eObject, crossReference.eReference, crossReference.crossReferencedEObject);
+          }
+        }
+      }
+    }
+  }
+
+  private void addCrossReference(EObject eObject, EReference eReference, EObject crossReferencedEObject)
+  {
+    if (batchDepth > 0)
+    {
+      deferCrossReferenceChange(eObject, eReference, crossReferencedEObject, 1);
+    }
+    else
+    {
+      inverseCrossReferencer.add(eObject, eReference, crossReferencedEObject);
+    }
+  }
+
+  private void removeCrossReference(EObject eObject, EReference eReference, EObject crossReferencedEObject)
+  {
+    if (batchDepth > 0)
+    {
+      deferCrossReferenceChange(eObject, eReference, crossReferencedEObject, -1);
+    }
+    else
+    {
+      inverseCrossReferencer.remove(eObject, eReference, crossReferencedEObject);
+    }
+  }
+
+  private void deferCrossReferenceChange(EObject eObject, EReference eReference, EObject crossReferencedEObject, int delta)
+  {
+    if (deferredCrossReferenceChanges == null)
+    {
+      deferredCrossReferenceChanges = new LinkedHashMap<CrossReference, int[]>();
+    }
+    CrossReference crossReference = new CrossReference(eObject, eReference, crossReferencedEObject);
+    int[] count = deferredCrossReferenceChanges.get(crossReference);
+    if (count == null)
+    {
+      deferredCrossReferenceChanges.put(crossReference, new int [] { delta });
+    }
+    else
+    {
+      count[0] += delta;
+    }
+  }
+
   /**
    * Returns whether the process of attaching this adapter should be done recursively or iteratively;
    * the default is to return {@code true} for recursion.
@@ -797,6 +955,7 @@ public class ECrossReferenceAdapter implements Adapter.Internal
           }
           else
           {
+            applyDeferredCrossReferenceChanges();
             unloadedResources.add((Resource)notifier);
             for (Iterator<Map.Entry<EObject, Resource>> i = unloadedEObjects.entrySet().iterator(); i.hasNext(); )
             {
@@ -903,12 +1062,12 @@ public class ECrossReferenceAdapter implements Adapter.Internal
           EObject oldValue = (EObject)notification.getOldValue();
           if (oldValue != null)
           {
-            inverseCrossReferencer.remove(notifier, feature, oldValue);
+            removeCrossReference(notifier, feature, oldValue);
           }
           EObject newValue = (EObject)notification.getNewValue();
           if (newValue != null)
           {
-            inverseCrossReferencer.add(notifier, feature, newValue);
+            addCrossReference(notifier, feature, newValue);
           }
         }
         break;
@@ -918,7 +1077,7 @@ public class ECrossReferenceAdapter implements Adapter.Internal
         EObject newValue = (EObject)notification.getNewValue();
         if (newValue != null)
         {
-          inverseCrossReferencer.add((EObject)notification.getNotifier(), (EReference)notification.getFeature(), newValue);
+          addCrossReference((EObject)notification.getNotifier(), (EReference)notification.getFeature(), newValue);
         }
         break;
       }
@@ -928,7 +1087,7 @@ public class ECrossReferenceAdapter implements Adapter.Internal
         EReference feature = (EReference)notification.getFeature();
         for (Object newValue : (Collection<?>)notification.getNewValue())
         {
-          inverseCrossReferencer.add(notifier, feature, (EObject)newValue);
+          addCrossReference(notifier, feature, (EObject)newValue);
         }
         break;
       }
@@ -937,7 +1096,7 @@ public class ECrossReferenceAdapter implements Adapter.Internal
         EObject oldValue = (EObject)notification.getOldValue();
         if (oldValue != null)
         {
-          inverseCrossReferencer.remove((EObject)notification.getNotifier(), (EReference)notification.getFeature(), oldValue);
+          removeCrossReference((EObject)notification.getNotifier(), (EReference)notification.getFeature(), oldValue);
         }
         break;
       }
@@ -947,7 +1106,7 @@ public class ECrossReferenceAdapter implements Adapter.Internal
         EReference feature = (EReference)notification.getFeature();
         for (Object oldValue : (Collection<?>)notification.getOldValue())
         {
-          inverseCrossReferencer.remove(notifier, feature, (EObject)oldValue);
+          removeCrossReference(notifier, feature, (EObject)oldValue);
         }
         break;
       }
@@ -980,7 +1139,31 @@ public class ECrossReferenceAdapter implements Adapter.Internal
    */
   protected void setTarget(EObject target)
   {
-    inverseCrossReferencer.add(target);
+    if (batchDepth > 0)
+    {
+      // The cross references of an object added during the batch are counted like any other cross reference added during the batch.
+      //
+      for (EContentsEList.FeatureIterator<EObject> i = inverseCrossReferencer.getCrossReferences(target); i.hasNext(); )
+      {
+        EObject crossReferencedEObject = i.next();
+        if (crossReferencedEObject != null)
+        {
+          EReference eReference = (EReference)i.feature();
+          if (inverseCrossReferencer.crossReference(target, eReference, crossReferencedEObject))
+          {
+            deferCrossReferenceChange(target, eReference, crossReferencedEObject, 1);
+          }
+        }
+      }
+      if (!resolve())
+      {
+        inverseCrossReferencer.addProxy(target, target);
+      }
+    }
+    else
+    {
+      inverseCrossReferencer.add(target);
+    }
 
     if (useRecursion())
     {
@@ -1051,6 +1234,7 @@ public class ECrossReferenceAdapter implements Adapter.Internal
    */
   public void unsetTarget(Notifier target)
   {
+    applyDeferredCrossReferenceChanges();
     if (target instanceof EObject)
     {
       unsetTarget((EObject)target);
@@ -0,0 +1,530 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
+
+
+/**
+ * An index of the cross references of the resources of a resource set that doesn't require the resources to be loaded.
+ * <p>
+ * The cross references of a resource are {@link #save(Resource) saved} in a compact side file,
+ * at the {@link #getIndexURI(URI) index URI} of the resource,
+ * typically when the resource itself is saved with the {@link Resource#OPTION_CROSS_REFERENCE_INDEX} option.
+ * The index {@link #load(URI) loads} the side files of the resources of interest
+ * so that the {@link #getInverseReferences(EObject) inverse references} of an object can be determined across all those resources
+ * without loading or walking them.
+ * Each inverse reference is an {@link IndexedSetting indexed setting} that loads the referencing resource only when its {@link IndexedSetting#getEObject() object} is requested.
+ * </p>
+ * <p>
+ * Only the cross references of the resources that aren't loaded are answered from the index;
+ * the inverse references from the loaded resources are answered by the {@link ECrossReferenceAdapter cross reference adapter} of the resource set, if there is one,
+ * so that modifications of the loaded resources are taken into account.
+ * Transient and derived references are not indexed.
+ * </p>
+ * @since 2.25
+ */
+public class ECrossReferenceIndex
+{
+  /**
+   * The file extension appended to the URI of a resource to form the URI of its index.
+   */
+  public static final String INDEX_FILE_EXTENSION = "xrefs";
+
+  private static final int SIGNATURE = 0x45585246;
+
+  /**
+   * Returns the URI of the index of the resource with the given URI.
+   */
+  public static URI getIndexURI(URI resourceURI)
+  {
+    return resourceURI.appendFileExtension(INDEX_FILE_EXTENSION);
+  }
+
+  /**
+   * Saves the index of the cross references of the given resource at its {@link #getIndexURI(URI) index URI}.
+   */
+  public static void save(Resource resource) throws IOException
+  {
+    ResourceSet resourceSet = resource.getResourceSet();
+    URIConverter uriConverter = resourceSet == null ? URIConverter.INSTANCE : resourceSet.getURIConverter();
+    OutputStream outputStream = uriConverter.createOutputStream(getIndexURI(resource.getURI()), null);
+    try
+    {
+      save(resource, outputStream);
+    }
+    finally
+    {
+      outputStream.close();
+    }
+  }
+
+  /**
+   * Saves the index of the cross references of the given resource to the given stream.
+   * The stream is flushed but not closed.
+   * The URIs of the referenced resources are recorded relative to the URI of the resource.
+   */
+  public static void save(Resource resource, OutputStream outputStream) throws IOException
+  {
+    URI resourceURI = resource.getURI();
+    Map<String, Integer> strings = new LinkedHashMap<String, Integer>();
+    List<URI[]> crossReferences = getCrossReferences(resource);
+    int[] entries = new int [4 * crossReferences.size()];
+    int index = 0;
+    for (URI[] crossReference : crossReferences)
+    {
+      URI targetURI = crossReference[2];
+      URI targetResourceURI = targetURI.trimFragment();
+      entries[index++] = getStringIndex(strings, crossReference[0].fragment());
+      entries[index++] = getStringIndex(strings, crossReference[1].toString());
+      entries[index++] = getStringIndex(strings, targetResourceURI.equals(resourceURI) ? "" : targetResourceURI.deresolve(resourceURI).toString());
+      entries[index++] = getStringIndex(strings, targetURI.fragment());
+    }
+
+    DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+    dataOutputStream.writeInt(SIGNATURE);
+    dataOutputStream.writeInt(strings.size());
+    for (String string : strings.keySet())
+    {
+      dataOutputStream.writeUTF(string);
+    }
+    dataOutputStream.writeInt(crossReferences.size());
+    for (int entry : entries)
+    {
+      dataOutputStream.writeInt(entry);
+    }
+    dataOutputStream.flush();
+  }
+
+  private static int getStringIndex(Map<String, Integer> strings, String string)
+  {
+    Integer index = strings.get(string);
+    if (index == null)
+    {
+      index = strings.size();
+      strings.put(string, index);
+    }
+    return index;
+  }
+
+  /**
+   * Returns the indexed cross references of the given resource,
+   * each as the URIs of the referencing object, of the reference, and of the referenced object.
+   */
+  private static List<URI[]> getCrossReferences(Resource resource)
+  {
+    List<URI[]> result = new ArrayList<URI[]>();
+    URI resourceURI = resource.getURI();
+    Map<EReference, URI> referenceURIs = new HashMap<EReference, URI>();
+    for (TreeIterator<EObject> i = EcoreUtil.getAllProperContents(resource, false); i.hasNext(); )
+    {
+      EObject eObject = i.next();
+      URI sourceURI = null;
+      for (EContentsEList.FeatureIterator<EObject> j = (EContentsEList.FeatureIterator<EObject>)((InternalEList<EObject>)eObject.eCrossReferences()).basicIterator(); j.hasNext(); )
+      {
+        InternalEObject crossReferencedEObject = (InternalEObject)j.next();
+        EReference eReference = (EReference)j.feature();
+        if (!eReference.isTransient())
+        {
+          URI targetURI;
+          if (crossReferencedEObject.eIsProxy())
+          {
+            targetURI = crossReferencedEObject.eProxyURI();
+          }
+          else if (crossReferencedEObject.eResource() != null)
+          {
+            targetURI = EcoreUtil.getURI(crossReferencedEObject);
+          }
+          else
+          {
+            continue;
+          }
+          if (!targetURI.hasFragment())
+          {
+            continue;
+          }
+
+          if (sourceURI == null)
+          {
+            sourceURI = resourceURI.appendFragment(resource.getURIFragment(eObject));
+          }
+          URI referenceURI = referenceURIs.get(eReference);
+          if (referenceURI == null)
+          {
+            referenceURI = EcoreUtil.getURI(eReference);
+            referenceURIs.put(eReference, referenceURI);
+          }
+          result.add(new URI [] { sourceURI, referenceURI, targetURI });
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * An inverse reference recorded by the index.
+   * The referencing object and the reference are resolved only when requested.
+   */
+  public static class IndexedSetting implements EStructuralFeature.Setting
+  {
+    protected final ResourceSet resourceSet;
+
+    protected final URI sourceURI;
+
+    protected final URI referenceURI;
+
+    protected final URI targetURI;
+
+    public IndexedSetting(ResourceSet resourceSet, URI sourceURI, URI referenceURI, URI targetURI)
+    {
+      this.resourceSet = resourceSet;
+      this.sourceURI = sourceURI;
+      this.referenceURI = referenceURI;
+      this.targetURI = targetURI;
+    }
+
+    /**
+     * Returns the URI of the referencing object.
+     */
+    public URI getSourceURI()
+    {
+      return sourceURI;
+    }
+
+    /**
+     * Returns the URI of the reference.
+     */
+    public URI getReferenceURI()
+    {
+      return referenceURI;
+    }
+
+    /**
+     * Returns the normalized URI of the referenced object.
+     */
+    public URI getTargetURI()
+    {
+      return targetURI;
+    }
+
+    /**
+     * Returns the referencing object, loading its resource if necessary.
+     */
+    public EObject getEObject()
+    {
+      return resourceSet.getEObject(sourceURI, true);
+    }
+
+    /**
+     * Returns the reference, loading its package if necessary.
+     */
+    public EStructuralFeature getEStructuralFeature()
+    {
+      return (EStructuralFeature)resourceSet.getEObject(referenceURI, true);
+    }
+
+    public Object get(boolean resolve)
+    {
+      return getEObject().eGet(getEStructuralFeature(), resolve);
+    }
+
+    public void set(Object newValue)
+    {
+      getEObject().eSet(getEStructuralFeature(), newValue);
+    }
+
+    public boolean isSet()
+    {
+      return getEObject().eIsSet(getEStructuralFeature());
+    }
+
+    public void unset()
+    {
+      getEObject().eUnset(getEStructuralFeature());
+    }
+
+    @Override
+    public String toString()
+    {
+      return sourceURI + " " + referenceURI + " " + targetURI;
+    }
+  }
+
+  protected final ResourceSet resourceSet;
+
+  /**
+   * The indexed settings of each indexed resource, by normalized resource URI.
+   */
+  protected final Map<URI, List<IndexedSetting>> resourceSettings = new HashMap<URI, List<IndexedSetting>>();
+
+  /**
+   * The indexed settings of each referenced object, by normalized object URI,
+   * held in insertion order by a set so that removing the settings of a resource is proportional to their number.
+   */
+  protected final Map<URI, Set<IndexedSetting>> inverseSettings = new HashMap<URI, Set<IndexedSetting>>();
+
+  /**
+   * Creates an empty index for the given resource set.
+   */
+  public ECrossReferenceIndex(ResourceSet resourceSet)
+  {
+    this.resourceSet = resourceSet;
+  }
+
+  /**
+   * Returns the resource set of the index.
+   */
+  public ResourceSet getResourceSet()
+  {
+    return resourceSet;
+  }
+
+  /**
+   * Returns the normalized URIs of the indexed resources.
+   */
+  public Collection<URI> getResourceURIs()
+  {
+    return Collections.unmodifiableSet(resourceSettings.keySet());
+  }
+
+  /**
+   * Loads the {@link #save(Resource) saved} index of the resource with the given URI, replacing anything previously indexed for that resource.
+   * The resource itself is not loaded.
+   * @return whether there is a saved index for the resource.
+   */
+  public boolean load(URI resourceURI) throws IOException
+  {
+    URIConverter uriConverter = resourceSet.getURIConverter();
+    URI indexURI = getIndexURI(resourceURI);
+    if (!uriConverter.exists(indexURI, null))
+    {
+      return false;
+    }
+
+    InputStream inputStream = uriConverter.createInputStream(indexURI, null);
+    try
+    {
+      DataInputStream dataInputStream = new DataInputStream(inputStream);
+      if (dataInputStream.readInt() != SIGNATURE)
+      {
+        throw new IOException("The stream doesn't contain a cross reference index");
+      }
+      String[] strings = new String [dataInputStream.readInt()];
+      for (int i = 0; i < strings.length; ++i)
+      {
+        strings[i] = dataInputStream.readUTF();
+      }
+
+      URI normalizedResourceURI = uriConverter.normalize(resourceURI);
+      Map<String, URI> targetResourceURIs = new HashMap<String, URI>();
+      Map<String, URI> referenceURIs = new HashMap<String, URI>();
+      Map<String, URI> sourceURIs = new HashMap<String, URI>();
+      List<URI[]> crossReferences = new ArrayList<URI[]>();
+      for (int i = 0, count = dataInputStream.readInt(); i < count; ++i)
+      {
+        String sourceFragment = strings[dataInputStream.readInt()];
+        URI sourceURI = sourceURIs.get(sourceFragment);
+        if (sourceURI == null)
+        {
+          sourceURI = normalizedResourceURI.appendFragment(sourceFragment);
+          sourceURIs.put(sourceFragment, sourceURI);
+        }
+
+        String reference = strings[dataInputStream.readInt()];
+        URI referenceURI = referenceURIs.get(reference);
+        if (referenceURI == null)
+        {
+          referenceURI = URI.createURI(reference);
+          referenceURIs.put(reference, referenceURI);
+        }
+
+        String targetResource = strings[dataInputStream.readInt()];
+        URI targetResourceURI = targetResourceURIs.get(targetResource);
+        if (targetResourceURI == null)
+        {
+          if (targetResource.length() == 0)
+          {
+            targetResourceURI = normalizedResourceURI;
+          }
+          else
+          {
+            targetResourceURI = URI.createURI(targetResource);
+            if (targetResourceURI.isRelative())
+            {
+              targetResourceURI = targetResourceURI.resolve(resourceURI);
+            }
+            targetResourceURI = uriConverter.normalize(targetResourceURI);
+          }
+          targetResourceURIs.put(targetResource, targetResourceURI);
+        }
+
+        crossReferences.add(new URI [] { sourceURI, referenceURI, targetResourceURI.appendFragment(strings[dataInputStream.readInt()]) });
+      }
+
+      put(normalizedResourceURI, crossReferences);
+    }
+    finally
+    {
+      inputStream.close();
+    }
+    return true;
+  }
+
+  /**
+   * Indexes the cross references of the given loaded resource, replacing anything previously indexed for that resource.
+   */
+  public void index(Resource resource)
+  {
+    URIConverter uriConverter = resourceSet.getURIConverter();
+    List<URI[]> crossReferences = getCrossReferences(resource);
+    Map<URI, URI> normalizedURIs = new HashMap<URI, URI>();
+    for (URI[] crossReference : crossReferences)
+    {
+      for (int i = 0; i < 3; i += 2)
+      {
+        URI uri = crossReference[i];
+        URI resourceURI = uri.trimFragment();
+        URI normalizedResourceURI = normalizedURIs.get(resourceURI);
+        if (normalizedResourceURI == null)
+        {
+          normalizedResourceURI = uriConverter.normalize(resourceURI);
+          normalizedURIs.put(resourceURI, normalizedResourceURI);
+        }
+        if (normalizedResourceURI != resourceURI)
+        {
+          crossReference[i] = normalizedResourceURI.appendFragment(uri.fragment());
+        }
+      }
+    }
+    put(uriConverter.normalize(resource.getURI()), crossReferences);
+  }
+
+  /**
+   * Removes everything indexed for the resource with the given URI.
+   */
+  public void remove(URI resourceURI)
+  {
+    List<IndexedSetting> settings = resourceSettings.remove(resourceSet.getURIConverter().normalize(resourceURI));
+    if (settings != null)
+    {
+      for (IndexedSetting setting : settings)
+      {
+        Set<IndexedSetting> targetSettings = inverseSettings.get(setting.targetURI);
+        targetSettings.remove(setting);
+        if (targetSettings.isEmpty())
+        {
+          inverseSettings.remove(setting.targetURI);
+        }
+      }
+    }
+  }
+
+  private void put(URI normalizedResourceURI, List<URI[]> crossReferences)
+  {
+    remove(normalizedResourceURI);
+    List<IndexedSetting> settings = new ArrayList<IndexedSetting>(crossReferences.size());
+    for (URI[] crossReference : crossReferences)
+    {
+      IndexedSetting setting = createIndexedSetting(crossReference[0], crossReference[1], crossReference[2]);
+      settings.add(setting);
+      Set<IndexedSetting> targetSettings = inverseSettings.get(setting.targetURI);
+      if (targetSettings == null)
+      {
+        targetSettings = new LinkedHashSet<IndexedSetting>();
+        inverseSettings.put(setting.targetURI, targetSettings);
+      }
+      targetSettings.add(setting);
+    }
+    resourceSettings.put(normalizedResourceURI, settings);
+  }
+
+  /**
+   * Creates an indexed setting for the given URIs.
+   */
+  protected IndexedSetting createIndexedSetting(URI sourceURI, URI referenceURI, URI targetURI)
+  {
+    return new IndexedSetting(resourceSet, sourceURI, referenceURI, targetURI);
+  }
+
+  /**
+   * Returns the indexed inverse references of the object with the given URI
+   * from the indexed resources that aren't currently loaded in the resource set.
+   * No resource is loaded.
+   */
+  public Collection<IndexedSetting> getIndexedInverseReferences(URI eObjectURI)
+  {
+    URIConverter uriConverter = resourceSet.getURIConverter();
+    Set<IndexedSetting> settings = inverseSettings.get(uriConverter.normalize(eObjectURI.trimFragment()).appendFragment(eObjectURI.fragment()));
+    if (settings == null)
+    {
+      return Collections.emptyList();
+    }
+
+    List<IndexedSetting> result = new ArrayList<IndexedSetting>(settings);
+    Map<URI, Boolean> loadedResourceURIs = new HashMap<URI, Boolean>();
+    for (Iterator<IndexedSetting> i = result.iterator(); i.hasNext(); )
+    {
+      URI sourceResourceURI = i.next().sourceURI.trimFragment();
+      Boolean isLoaded = loadedResourceURIs.get(sourceResourceURI);
+      if (isLoaded == null)
+      {
+        Resource resource = resourceSet.getResource(sourceResourceURI, false);
+        isLoaded = resource != null && resource.isLoaded();
+        loadedResourceURIs.put(sourceResourceURI, isLoaded);
+      }
+      if (isLoaded)
+      {
+        i.remove();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the inverse references of the given object across all the resources of the resource set.
+   * The inverse references from the resources that aren't loaded are {@link #getIndexedInverseReferences(URI) determined from the index};
+   * those from the loaded resources are determined by the {@link ECrossReferenceAdapter#getCrossReferenceAdapter(org.eclipse.emf.common.notify.Notifier) cross reference adapter} of the resource set, if there is one.
+   * No resource is loaded.
+   */
+  public Collection<EStructuralFeature.Setting> getInverseReferences(EObject eObject)
+  {
+    List<EStructuralFeature.Setting> result = new ArrayList<EStructuralFeature.Setting>();
+    ECrossReferenceAdapter crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(resourceSet);
+    if (crossReferenceAdapter != null)
+    {
+      result.addAll(crossReferenceAdapter.getInverseReferences(eObject, false));
+    }
+    result.addAll(getIndexedInverseReferences(EcoreUtil.getURI(eObject)));
+    return result;
+  }
+}
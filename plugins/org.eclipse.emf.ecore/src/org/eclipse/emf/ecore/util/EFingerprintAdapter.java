@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
+
+
+/**
+ * An adapter that caches the structural {@link EcoreUtil.EqualityHelper#fingerprint(EObject) fingerprint} of each object in the content trees it's installed on.
+ * It can be installed for an {@link EObject}, a {@link org.eclipse.emf.ecore.resource.Resource Resource},
+ * or a {@link org.eclipse.emf.ecore.resource.ResourceSet ResourceSet}.
+ * <p>
+ * Because an object's fingerprint depends on the fingerprints of the objects it contains,
+ * a change to an object invalidates the cached fingerprint of that object and of each of its containers,
+ * while the fingerprints of the other objects remain cached.
+ * The fingerprint of an object to which the adapter isn't attached is computed each time it's requested.
+ * </p>
+ * @see EcoreUtil.EqualityHelper#fingerprint(EObject)
+ * @since 2.25
+ */
+public class EFingerprintAdapter extends EContentAdapter
+{
+  /**
+   * Returns the first {@link EFingerprintAdapter} in the notifier's {@link Notifier#eAdapters() adapter list},
+   * or <code>null</code>, if there isn't one.
+   * @param notifier the object to search.
+   * @return the first EFingerprintAdapter in the notifier's adapter list.
+   */
+  public static EFingerprintAdapter getFingerprintAdapter(Notifier notifier)
+  {
+    List<Adapter> adapters = notifier.eAdapters();
+    for (int i = 0, size = adapters.size(); i < size; ++i)
+    {
+      Object adapter = adapters.get(i);
+      if (adapter instanceof EFingerprintAdapter)
+      {
+        return (EFingerprintAdapter)adapter;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The cached fingerprint of each object.
+   */
+  protected Map<EObject, Long> fingerprints = new HashMap<EObject, Long>();
+
+  /**
+   * The helper used to compute the fingerprints.
+   */
+  protected EcoreUtil.EqualityHelper equalityHelper;
+
+  /**
+   * Creates an instance.
+   */
+  public EFingerprintAdapter()
+  {
+    super();
+  }
+
+  /**
+   * Returns the structural fingerprint of the object,
+   * computing and caching it, and those of the objects it contains, if they're not already cached.
+   * @param eObject the object, or <code>null</code>.
+   * @return the structural fingerprint of the object.
+   */
+  public long getFingerprint(EObject eObject)
+  {
+    if (equalityHelper == null)
+    {
+      equalityHelper = createEqualityHelper();
+    }
+    return equalityHelper.fingerprint(eObject);
+  }
+
+  /**
+   * Creates the helper used to compute the fingerprints;
+   * the helper must consult {@link #getCachedFingerprint(EObject)} and {@link #cacheFingerprint(EObject, long)}.
+   * @return a new helper.
+   */
+  protected EcoreUtil.EqualityHelper createEqualityHelper()
+  {
+    return
+      new EcoreUtil.EqualityHelper()
+      {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public long fingerprint(EObject eObject)
+        {
+          Long result = getCachedFingerprint(eObject);
+          if (result != null)
+          {
+            return result;
+          }
+          long fingerprint = super.fingerprint(eObject);
+          cacheFingerprint(eObject, fingerprint);
+          return fingerprint;
+        }
+      };
+  }
+
+  /**
+   * Returns the cached fingerprint of the object, or <code>null</code> if it's not cached.
+   * @param eObject the object, or <code>null</code>.
+   * @return the cached fingerprint of the object, or <code>null</code>.
+   */
+  protected Long getCachedFingerprint(EObject eObject)
+  {
+    return eObject == null ? null : fingerprints.get(eObject);
+  }
+
+  /**
+   * Caches the fingerprint of the object if this adapter is attached to it,
+   * i.e., if it will be informed of the changes that invalidate the fingerprint.
+   * @param eObject the object, or <code>null</code>.
+   * @param fingerprint the object's fingerprint.
+   */
+  protected void cacheFingerprint(EObject eObject, long fingerprint)
+  {
+    if (eObject != null && eObject.eAdapters().contains(this))
+    {
+      fingerprints.put(eObject, fingerprint);
+    }
+  }
+
+  /**
+   * Invalidates the cached fingerprint of the object and of each of its containers.
+   * @param eObject the object whose fingerprint is no longer valid.
+   */
+  protected void invalidate(EObject eObject)
+  {
+    for (InternalEObject container = (InternalEObject)eObject; container != null; container = container.eInternalContainer())
+    {
+      fingerprints.remove(container);
+    }
+  }
+
+  /**
+   * Invalidates the fingerprints affected by the change and then handles the change as usual.
+   */
+  @Override
+  public void notifyChanged(Notification notification)
+  {
+    if (!notification.isTouch())
+    {
+      Object notifier = notification.getNotifier();
+      if (notifier instanceof EObject)
+      {
+        invalidate((EObject)notifier);
+      }
+    }
+
+    super.notifyChanged(notification);
+  }
+
+  /**
+   * Discards the cached fingerprint of each object from which this adapter is removed.
+   */
+  @Override
+  protected void basicUnsetTarget(Notifier target)
+  {
+    super.basicUnsetTarget(target);
+    if (target instanceof EObject)
+    {
+      fingerprints.remove(target);
+    }
+  }
+}
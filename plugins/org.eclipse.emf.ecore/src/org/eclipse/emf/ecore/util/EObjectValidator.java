@@ -16,18 +16,21 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.DiagnosticChain;
 import org.eclipse.emf.common.util.EMap;
+import org.eclipse.emf.common.util.Enumerator;
 import org.eclipse.emf.common.util.ResourceLocator;
 
 import org.eclipse.emf.ecore.EAttribute;
@@ -950,6 +953,164 @@ public class EObjectValidator implements EValidator
     return true;
   }
 
+  /**
+   * A bounded cache of the results of validating data values,
+   * used by {@link EObjectValidator#validate(EDataType, Object, DiagnosticChain, Map)}
+   * when it's in the <code>context</code> map, keyed by <code>DataValueCache.class</code>.
+   * This is useful for models in which the same values occur many times.
+   * Only values of immutable types are cached,
+   * so the data types' constraints must depend only on the value.
+   * An instance may be shared by threads that validate concurrently.
+   * <pre>
+   *  Map&lt;Object, Object&gt; context = diagnostician.createDefaultContext();
+   *  context.put(EObjectValidator.DataValueCache.class, new EObjectValidator.DataValueCache());
+   * </pre>
+   * @since 2.25
+   */
+  public static class DataValueCache
+  {
+    /**
+     * The maximum number of values cached for each data type.
+     */
+    protected final int capacity;
+
+    /**
+     * The cached results for each data type, with the least recently used value first.
+     */
+    protected final Map<EDataType, Map<Object, Boolean>> results = new HashMap<EDataType, Map<Object, Boolean>>();
+
+    /**
+     * The number of times a cached result was used.
+     */
+    protected long hitCount;
+
+    /**
+     * The number of times a value had to be validated.
+     */
+    protected long missCount;
+
+    /**
+     * Creates an instance that caches at most 1000 values for each data type.
+     */
+    public DataValueCache()
+    {
+      this(1000);
+    }
+
+    /**
+     * Creates an instance that caches at most the given number of values for each data type.
+     * @param capacity the maximum number of values cached for each data type.
+     */
+    public DataValueCache(int capacity)
+    {
+      this.capacity = capacity;
+    }
+
+    /**
+     * Returns whether the result of validating the value may be cached,
+     * i.e., whether the value is a non-<code>null</code> instance of an immutable type.
+     * @param eDataType the data type of the value.
+     * @param value the value.
+     * @return whether the result of validating the value may be cached.
+     */
+    public boolean isCacheable(EDataType eDataType, Object value)
+    {
+      return
+        value instanceof String ||
+          value instanceof Integer ||
+          value instanceof Long ||
+          value instanceof Boolean ||
+          value instanceof Double ||
+          value instanceof Float ||
+          value instanceof Short ||
+          value instanceof Byte ||
+          value instanceof Character ||
+          value instanceof BigDecimal ||
+          value instanceof BigInteger ||
+          value instanceof Enumerator;
+    }
+
+    /**
+     * Returns the cached result of validating the value,
+     * or <code>null</code> if there isn't one or if the value is invalid and diagnostics are to be produced,
+     * in which case the value must be validated again to produce them.
+     * @param eDataType the data type of the value.
+     * @param value the value.
+     * @param isDiagnosing whether diagnostics are to be produced.
+     * @return the cached result of validating the value, or <code>null</code>.
+     */
+    public synchronized Boolean get(EDataType eDataType, Object value, boolean isDiagnosing)
+    {
+      Map<Object, Boolean> dataTypeResults = results.get(eDataType);
+      Boolean result = dataTypeResults == null ? null : dataTypeResults.get(value);
+      if (result == null || isDiagnosing && !result)
+      {
+        ++missCount;
+        return null;
+      }
+      else
+      {
+        ++hitCount;
+        return result;
+      }
+    }
+
+    /**
+     * Caches the result of validating the value, discarding the least recently used value of the data type if the cache is full.
+     * @param eDataType the data type of the value.
+     * @param value the value.
+     * @param result the result of validating the value.
+     */
+    public synchronized void put(EDataType eDataType, Object value, boolean result)
+    {
+      Map<Object, Boolean> dataTypeResults = results.get(eDataType);
+      if (dataTypeResults == null)
+      {
+        dataTypeResults =
+          new LinkedHashMap<Object, Boolean>(16, 0.75f, true)
+          {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest)
+            {
+              return size() > capacity;
+            }
+          };
+        results.put(eDataType, dataTypeResults);
+      }
+      dataTypeResults.put(value, result);
+    }
+
+    /**
+     * Returns the number of times a cached result was used.
+     * @return the number of times a cached result was used.
+     */
+    public synchronized long getHitCount()
+    {
+      return hitCount;
+    }
+
+    /**
+     * Returns the number of times a value had to be validated.
+     * @return the number of times a value had to be validated.
+     */
+    public synchronized long getMissCount()
+    {
+      return missCount;
+    }
+
+    /**
+     * Discards the cached results and resets the counts.
+     */
+    public synchronized void clear()
+    {
+      results.clear();
+      hitCount = 0;
+      missCount = 0;
+    }
+  }
+
   public class DynamicEDataTypeValidator
   {
     protected List<Object> effectiveEnumeration;
@@ -1434,7 +1595,32 @@ public class EObjectValidator implements EValidator
     }
   }
 
+  /**
+   * Validates the value, reusing the result of validating an equal value of the same data type
+   * if the context has a {@link DataValueCache}.
+   * Because a cached result doesn't include diagnostics,
+   * an invalid value is validated again if diagnostics are to be produced.
+   */
   public boolean validate(EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context)
+  {
+    DataValueCache dataValueCache = context == null ? null : (DataValueCache)context.get(DataValueCache.class);
+    if (dataValueCache != null && dataValueCache.isCacheable(eDataType, value))
+    {
+      Boolean result = dataValueCache.get(eDataType, value, diagnostics != null);
+      if (result == null)
+      {
+        result = validateDataValue(eDataType, value, diagnostics, context);
+        dataValueCache.put(eDataType, value, result);
+      }
+      return result;
+    }
+    else
+    {
+      return validateDataValue(eDataType, value, diagnostics, context);
+    }
+  }
+
+  private boolean validateDataValue(EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context)
   {
     if (!eDataType.isInstance(value))
     {
@@ -0,0 +1,444 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.plugin.EcorePlugin;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+
+/**
+ * An adapter that maintains the diagnostics of each object in the content trees it's installed on,
+ * revalidating only the objects affected by each change.
+ * It can be installed for an {@link EObject}, a {@link Resource}, or a {@link ResourceSet}.
+ * <p>
+ * Each object is validated individually, i.e., without its content tree, by the adapter's {@link Diagnostician}.
+ * While validating an object, the adapter records the objects on which the validation {@link #collectDependencies(EObject, Collection) depends},
+ * which by default are the objects it contains and the objects it references.
+ * A change to an object marks that object, and each object whose validation depends on it, as needing revalidation,
+ * as does the addition or removal of an object to or from the content trees.
+ * The objects are revalidated lazily, when the {@link #getDiagnostic() diagnostics} are next requested,
+ * so a series of changes costs only one revalidation of each affected object.
+ * </p>
+ * <p>
+ * A validator whose constraints depend on other objects, e.g., on an object's container or on the objects in its resource,
+ * should be paired with an override of {@link #collectDependencies(EObject, Collection)} that reports those objects.
+ * </p>
+ * @since 2.25
+ */
+public class EValidationAdapter extends EContentAdapter
+{
+  /**
+   * Returns the first {@link EValidationAdapter} in the notifier's {@link Notifier#eAdapters() adapter list},
+   * or <code>null</code>, if there isn't one.
+   * @param notifier the object to search.
+   * @return the first EValidationAdapter in the notifier's adapter list.
+   */
+  public static EValidationAdapter getValidationAdapter(Notifier notifier)
+  {
+    List<Adapter> adapters = notifier.eAdapters();
+    for (int i = 0, size = adapters.size(); i < size; ++i)
+    {
+      Object adapter = adapters.get(i);
+      if (adapter instanceof EValidationAdapter)
+      {
+        return (EValidationAdapter)adapter;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The diagnostician used to validate each object.
+   */
+  protected Diagnostician diagnostician;
+
+  /**
+   * The diagnostics of each object whose most recent validation produced diagnostics.
+   */
+  protected Map<EObject, Diagnostic> diagnostics = new HashMap<EObject, Diagnostic>();
+
+  /**
+   * The objects on which the most recent validation of each object depends.
+   */
+  protected Map<EObject, Collection<EObject>> dependencies = new HashMap<EObject, Collection<EObject>>();
+
+  /**
+   * The objects whose most recent validation depends on each object.
+   */
+  protected Map<EObject, Collection<EObject>> dependents = new HashMap<EObject, Collection<EObject>>();
+
+  /**
+   * The objects that need to be revalidated.
+   */
+  protected Set<EObject> staleObjects = new LinkedHashSet<EObject>();
+
+  /**
+   * The indices that locate each object with diagnostics in its content tree, starting from the outermost,
+   * discarded when any containment changes.
+   */
+  private Map<EObject, List<Integer>> positions = new HashMap<EObject, List<Integer>>();
+
+  /**
+   * The merged diagnostics of all the objects, or <code>null</code> if they need to be merged again.
+   */
+  private Diagnostic diagnostic;
+
+  /**
+   * Creates an instance that uses the {@link Diagnostician#INSTANCE default diagnostician}.
+   */
+  public EValidationAdapter()
+  {
+    this(Diagnostician.INSTANCE);
+  }
+
+  /**
+   * Creates an instance that uses the given diagnostician.
+   * @param diagnostician the diagnostician used to validate each object.
+   */
+  public EValidationAdapter(Diagnostician diagnostician)
+  {
+    super();
+    this.diagnostician = diagnostician;
+  }
+
+  /**
+   * Returns the diagnostics of all the objects in the content trees,
+   * revalidating the objects affected by the changes since the previous call.
+   * The diagnostics are in the order of the objects in the content trees, 
+   * i.e., in the order in which the {@link Diagnostician} produces them.
+   * The same result is returned until the diagnostics of an object or the containment of the objects change.
+   * @return the diagnostics of all the objects.
+   */
+  public Diagnostic getDiagnostic()
+  {
+    validate();
+
+    if (diagnostic == null)
+    {
+      Map<Object, Map<Object, Integer>> indices = new HashMap<Object, Map<Object, Integer>>();
+      for (EObject eObject : diagnostics.keySet())
+      {
+        if (!positions.containsKey(eObject))
+        {
+          positions.put(eObject, getPosition(eObject, indices));
+        }
+      }
+      List<EObject> eObjects = new ArrayList<EObject>(diagnostics.keySet());
+      Collections.sort
+        (eObjects,
+         new Comparator<EObject>()
+         {
+           public int compare(EObject eObject1, EObject eObject2)
+           {
+             List<Integer> position1 = positions.get(eObject1);
+             List<Integer> position2 = positions.get(eObject2);
+             for (int i = 0, size = Math.min(position1.size(), position2.size()); i < size; ++i)
+             {
+               int result = position1.get(i).compareTo(position2.get(i));
+               if (result != 0)
+               {
+                 return result;
+               }
+             }
+             return position1.size() - position2.size();
+           }
+         });
+
+      BasicDiagnostic result =
+        new BasicDiagnostic
+          (EObjectValidator.DIAGNOSTIC_SOURCE,
+           0,
+           EcorePlugin.INSTANCE.getString("_UI_DiagnosticRoot_diagnostic", new Object [] { EcorePlugin.INSTANCE.getString("_UI_ValidatedObjects_label") }),
+           eObjects.toArray());
+      for (EObject eObject : eObjects)
+      {
+        result.addAll(diagnostics.get(eObject));
+      }
+      diagnostic = result;
+    }
+    return diagnostic;
+  }
+
+  /**
+   * Returns the indices that locate the object in its content tree, starting from the outermost,
+   * using and populating the given map of the index of each child of each container.
+   */
+  private List<Integer> getPosition(EObject eObject, Map<Object, Map<Object, Integer>> indices)
+  {
+    List<Integer> result = new ArrayList<Integer>();
+    InternalEObject internalEObject = (InternalEObject)eObject;
+    for (InternalEObject container = internalEObject.eInternalContainer(); container != null; container = internalEObject.eInternalContainer())
+    {
+      result.add(getIndex(container, internalEObject, indices));
+      internalEObject = container;
+    }
+    Resource resource = internalEObject.eDirectResource();
+    if (resource != null)
+    {
+      result.add(getIndex(resource, internalEObject, indices));
+      ResourceSet resourceSet = resource.getResourceSet();
+      if (resourceSet != null)
+      {
+        result.add(getIndex(resourceSet, resource, indices));
+      }
+    }
+    Collections.reverse(result);
+    return result;
+  }
+
+  /**
+   * Returns the index of the child in the contents of the container,
+   * indexing all the container's children in a single pass the first time the container is encountered.
+   */
+  private static int getIndex(Notifier container, Object child, Map<Object, Map<Object, Integer>> indices)
+  {
+    Map<Object, Integer> childIndices = indices.get(container);
+    if (childIndices == null)
+    {
+      List<?> children =
+        container instanceof EObject ?
+          ((EObject)container).eContents() :
+          container instanceof Resource ? ((Resource)container).getContents() : ((ResourceSet)container).getResources();
+      childIndices = new HashMap<Object, Integer>();
+      int index = 0;
+      for (Iterator<?> i = children instanceof InternalEList<?> ? ((InternalEList<?>)children).basicIterator() : children.iterator(); i.hasNext(); ++index)
+      {
+        childIndices.put(i.next(), index);
+      }
+      indices.put(container, childIndices);
+    }
+    Integer index = childIndices.get(child);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the diagnostics of the object alone,
+   * revalidating the objects affected by the changes since the previous call.
+   * @param eObject an object in the content trees.
+   * @return the diagnostics of the object.
+   */
+  public Diagnostic getDiagnostic(EObject eObject)
+  {
+    validate();
+    Diagnostic diagnostic = diagnostics.get(eObject);
+    return diagnostic == null ? Diagnostic.OK_INSTANCE : diagnostic;
+  }
+
+  /**
+   * Revalidates each object affected by the changes since the previous validation.
+   */
+  public void validate()
+  {
+    // Validating an object may resolve proxies, which makes more objects stale, so take the objects one at a time.
+    //
+    while (!staleObjects.isEmpty())
+    {
+      Iterator<EObject> i = staleObjects.iterator();
+      EObject eObject = i.next();
+      i.remove();
+      if (eObject.eAdapters().contains(this))
+      {
+        validate(eObject);
+      }
+    }
+  }
+
+  /**
+   * Validates the object alone, records its diagnostics, and records the objects on which its validation depends.
+   * @param eObject the object to validate.
+   */
+  protected void validate(EObject eObject)
+  {
+    BasicDiagnostic diagnostic = new BasicDiagnostic();
+    Map<Object, Object> context = diagnostician.createDefaultContext();
+    context.put(Diagnostician.VALIDATE_RECURSIVELY, Boolean.FALSE);
+    diagnostician.validate(eObject.eClass(), eObject, diagnostic, context);
+    if (diagnostic.getChildren().isEmpty())
+    {
+      discardDiagnostic(eObject);
+    }
+    else
+    {
+      diagnostics.put(eObject, diagnostic);
+      this.diagnostic = null;
+    }
+
+    removeDependencies(eObject);
+    Collection<EObject> eObjectDependencies = new LinkedHashSet<EObject>();
+    collectDependencies(eObject, eObjectDependencies);
+    eObjectDependencies.remove(eObject);
+    if (!eObjectDependencies.isEmpty())
+    {
+      dependencies.put(eObject, eObjectDependencies);
+      for (EObject dependency : eObjectDependencies)
+      {
+        Collection<EObject> dependencyDependents = dependents.get(dependency);
+        if (dependencyDependents == null)
+        {
+          dependencyDependents = new LinkedHashSet<EObject>();
+          dependents.put(dependency, dependencyDependents);
+        }
+        dependencyDependents.add(eObject);
+      }
+    }
+  }
+
+  /**
+   * Adds to the collection the objects on which the validation of the given object depends,
+   * i.e., the objects whose changes require the given object to be revalidated.
+   * This implementation adds the objects it contains and the objects it references.
+   * @param eObject the validated object.
+   * @param dependencies the collection to which to add the objects.
+   */
+  protected void collectDependencies(EObject eObject, Collection<EObject> dependencies)
+  {
+    for (Iterator<EObject> i = ((InternalEList<EObject>)eObject.eContents()).basicIterator(); i.hasNext(); )
+    {
+      dependencies.add(i.next());
+    }
+    for (Iterator<EObject> i = ((InternalEList<EObject>)eObject.eCrossReferences()).basicIterator(); i.hasNext(); )
+    {
+      EObject crossReferencedEObject = i.next();
+      if (crossReferencedEObject != null)
+      {
+        dependencies.add(crossReferencedEObject);
+      }
+    }
+  }
+
+  /**
+   * Discards the recorded diagnostics of the object, if there are any.
+   */
+  private void discardDiagnostic(EObject eObject)
+  {
+    if (diagnostics.remove(eObject) != null)
+    {
+      positions.remove(eObject);
+      diagnostic = null;
+    }
+  }
+
+  /**
+   * Discards the recorded dependencies of the object.
+   */
+  private void removeDependencies(EObject eObject)
+  {
+    Collection<EObject> eObjectDependencies = dependencies.remove(eObject);
+    if (eObjectDependencies != null)
+    {
+      for (EObject dependency : eObjectDependencies)
+      {
+        Collection<EObject> dependencyDependents = dependents.get(dependency);
+        if (dependencyDependents != null)
+        {
+          dependencyDependents.remove(eObject);
+          if (dependencyDependents.isEmpty())
+          {
+            dependents.remove(dependency);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Marks the object, and each object whose validation depends on it, as needing revalidation.
+   * Only the objects to which this adapter is still attached are revalidated.
+   * @param eObject the changed object.
+   */
+  protected void invalidate(EObject eObject)
+  {
+    staleObjects.add(eObject);
+    Collection<EObject> eObjectDependents = dependents.get(eObject);
+    if (eObjectDependents != null)
+    {
+      staleObjects.addAll(eObjectDependents);
+    }
+  }
+
+  /**
+   * Marks the objects affected by the change as needing revalidation and then handles the change as usual.
+   */
+  @Override
+  public void notifyChanged(Notification notification)
+  {
+    if (!notification.isTouch())
+    {
+      Object notifier = notification.getNotifier();
+      if (notifier instanceof EObject)
+      {
+        invalidate((EObject)notifier);
+      }
+    }
+
+    super.notifyChanged(notification);
+  }
+
+  /**
+   * Discards the positions of the objects, which may have changed, and then handles the containment change as usual.
+   */
+  @Override
+  protected void handleContainment(Notification notification)
+  {
+    positions.clear();
+    diagnostic = null;
+
+    super.handleContainment(notification);
+  }
+
+  /**
+   * Marks each object to which this adapter is added as needing validation,
+   * along with each object whose validation depends on it.
+   */
+  @Override
+  protected void basicSetTarget(Notifier target)
+  {
+    super.basicSetTarget(target);
+    if (target instanceof EObject)
+    {
+      invalidate((EObject)target);
+    }
+  }
+
+  /**
+   * Discards the diagnostics and dependencies of each object from which this adapter is removed
+   * and marks each object whose validation depends on it as needing revalidation.
+   */
+  @Override
+  protected void basicUnsetTarget(Notifier target)
+  {
+    super.basicUnsetTarget(target);
+    if (target instanceof EObject)
+    {
+      EObject eObject = (EObject)target;
+      discardDiagnostic(eObject);
+      removeDependencies(eObject);
+      invalidate(eObject);
+    }
+  }
+}
@@ -30,6 +30,9 @@ import java.util.Random;
 import java.util.RandomAccess;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.AdapterFactory;
@@ -37,9 +40,11 @@ import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.notify.impl.BasicNotifierImpl;
 import org.eclipse.emf.common.util.AbstractTreeIterator;
 import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.ECollections;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.Enumerator;
 import org.eclipse.emf.common.util.SegmentSequence;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
@@ -59,6 +64,7 @@ import org.eclipse.emf.ecore.ETypeParameter;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.EClassImpl;
 import org.eclipse.emf.ecore.impl.EPackageImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
@@ -418,6 +424,34 @@ public class EcoreUtil
      */
     protected boolean useOriginalReferences = true;
 
+    /**
+     * The features to copy for each class, computed once per class.
+     * @see #getFeatures(EClass)
+     */
+    private transient Map<EClass, EStructuralFeature [][]> features;
+
+    /**
+     * The features to copy for each class, shared by the copiers used for {@link #copyAll(Collection, Executor) concurrent copying}.
+     */
+    private transient Map<EClass, EStructuralFeature [][]> sharedFeatures;
+
+    /**
+     * Whether this copier is used by a task that {@link #copyAll(Collection, Executor) concurrently} copies part of a content tree,
+     * so that it must not resolve proxies.
+     */
+    private transient boolean concurrent;
+
+    /**
+     * Whether this {@link #concurrent} copier encountered a proxy, so that its part of the content tree must be copied on the calling thread instead.
+     */
+    private transient boolean encounteredProxy;
+
+    /**
+     * Whether {@link #copy(EObject)} should return the existing copy,
+     * while the copies made {@link #copyAll(Collection, Executor) concurrently} are added to the copies of their containers.
+     */
+    private transient boolean linking;
+
     /**
      * Creates an instance.
      */
@@ -465,6 +499,388 @@ public class EcoreUtil
       return result;
     }
 
+    /**
+     * Returns a collection containing a copy of each EObject in the given collection,
+     * using the given executor to copy the content trees of the objects concurrently.
+     * <p>
+     * Each object's content tree is {@link #copy(EObject) copied} by a task, using a {@link #newCopier() new copier},
+     * with a large tree split into a task for its root object alone and a task for each of its children's content trees,
+     * and the copies are added to this map on the calling thread, in the same order as by {@link #copyAll(Collection)},
+     * so {@link #copyReferences()} then behaves as usual.
+     * An object with a {@link FeatureMapUtil#isFeatureMap(EStructuralFeature) feature map} isn't split from its children.
+     * The tasks don't resolve proxies:
+     * the part of a content tree that contains a proxy, which may need to be resolved, is copied again on the calling thread.
+     * The objects being copied must not be modified while the tasks run,
+     * and models whose packages are {@link org.eclipse.emf.ecore.impl.EPackageImpl#freeze() frozen} are best suited.
+     * If {@link #newCopier()} returns <code>null</code>, the objects are copied on the calling thread.
+     * </p>
+     * @param eObjects the collection of objects to copy.
+     * @param executor the executor used to run the tasks, or <code>null</code> to copy the objects on the calling thread.
+     * @return the collection of copies.
+     * @since 2.25
+     */
+    public <T> Collection<T> copyAll(Collection<? extends T> eObjects, Executor executor)
+    {
+      if (executor == null || eObjects.isEmpty())
+      {
+        return copyAll(eObjects);
+      }
+
+      if (sharedFeatures == null)
+      {
+        sharedFeatures = new HashMap<EClass, EStructuralFeature [][]>();
+      }
+      List<CopyTask> tasks = new ArrayList<CopyTask>(eObjects.size());
+      for (Object object : eObjects)
+      {
+        tasks.add(new CopyTask((EObject)object, true));
+      }
+
+      // Split the tasks until there are enough of them to keep the processors busy.
+      //
+      int parallelism = 4 * Runtime.getRuntime().availableProcessors();
+      for (int depth = 0; depth < 8 && tasks.size() < parallelism; ++depth)
+      {
+        List<CopyTask> splitTasks = new ArrayList<CopyTask>();
+        for (CopyTask task : tasks)
+        {
+          split(task, splitTasks);
+        }
+        if (splitTasks.size() == tasks.size())
+        {
+          break;
+        }
+        tasks = splitTasks;
+      }
+
+      for (CopyTask task : tasks)
+      {
+        Copier copier = newCopier();
+        if (copier == null)
+        {
+          return copyAll(eObjects);
+        }
+        copier.sharedFeatures = sharedFeatures;
+        copier.concurrent = true;
+        task.copier = copier;
+      }
+
+      CountDownLatch countDownLatch = new CountDownLatch(tasks.size());
+      for (CopyTask task : tasks)
+      {
+        task.countDownLatch = countDownLatch;
+        try
+        {
+          executor.execute(task);
+        }
+        catch (RejectedExecutionException exception)
+        {
+          task.run();
+        }
+      }
+
+      boolean interrupted = false;
+      for (;;)
+      {
+        try
+        {
+          countDownLatch.await();
+          break;
+        }
+        catch (InterruptedException exception)
+        {
+          interrupted = true;
+        }
+      }
+      if (interrupted)
+      {
+        Thread.currentThread().interrupt();
+      }
+
+      for (CopyTask task : tasks)
+      {
+        Throwable throwable = task.throwable;
+        if (throwable instanceof RuntimeException)
+        {
+          throw (RuntimeException)throwable;
+        }
+        else if (throwable instanceof Error)
+        {
+          throw (Error)throwable;
+        }
+
+        if (task.copier.encounteredProxy)
+        {
+          copy(task.eObject);
+        }
+        else
+        {
+          putAll(task.copier);
+        }
+      }
+
+      // Add the copies of the children of each object copied alone to that object's copy.
+      //
+      linking = true;
+      try
+      {
+        for (CopyTask task : tasks)
+        {
+          if (!task.isTree)
+          {
+            EObject copyEObject = get(task.eObject);
+            if (copyEObject != null)
+            {
+              for (EStructuralFeature eStructuralFeature : getFeatures(task.eObject.eClass())[0])
+              {
+                if (eStructuralFeature instanceof EReference)
+                {
+                  copyContainment((EReference)eStructuralFeature, task.eObject, copyEObject);
+                }
+              }
+            }
+          }
+        }
+      }
+      finally
+      {
+        linking = false;
+      }
+
+      Collection<T> result = new ArrayList<T>(eObjects.size());
+      for (Object object : eObjects)
+      {
+        @SuppressWarnings("unchecked") T t = (T)get(object);
+        if (t != null)
+        {
+          result.add(t);
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Adds to the list either the task or, if the task's object can be copied separately from its children,
+     * a task for the object alone followed by tasks for its children's content trees.
+     * An object with a feature map, whose contained objects are copied along with it, or with a child that's a proxy, isn't split.
+     */
+    private void split(CopyTask task, List<CopyTask> tasks)
+    {
+      EObject eObject = task.eObject;
+      if (task.isTree && !eObject.eIsProxy())
+      {
+        List<EObject> children = new ArrayList<EObject>();
+        boolean isSplittable = true;
+        LOOP:
+        for (EStructuralFeature eStructuralFeature : getFeatures(eObject.eClass())[0])
+        {
+          if (eStructuralFeature instanceof EReference)
+          {
+            if (eObject.eIsSet(eStructuralFeature))
+            {
+              Object value = basicGetContainment(eObject, (EReference)eStructuralFeature);
+              for (Object child : eStructuralFeature.isMany() ? (List<?>)value : Collections.singletonList(value))
+              {
+                if (child != null)
+                {
+                  if (((EObject)child).eIsProxy())
+                  {
+                    isSplittable = false;
+                    break LOOP;
+                  }
+                  children.add((EObject)child);
+                }
+              }
+            }
+          }
+          else if (FeatureMapUtil.isFeatureMap(eStructuralFeature))
+          {
+            isSplittable = false;
+            break;
+          }
+        }
+        if (isSplittable && !children.isEmpty())
+        {
+          tasks.add(new CopyTask(eObject, false));
+          for (EObject child : children)
+          {
+            tasks.add(new CopyTask(child, true));
+          }
+          return;
+        }
+      }
+      tasks.add(task);
+    }
+
+    /**
+     * Returns the value of the set containment reference without resolving proxies,
+     * i.e., the {@link InternalEList#basicList() basic list} of a multi-valued reference.
+     */
+    private static Object basicGetContainment(EObject eObject, EReference eReference)
+    {
+      Object value = eObject.eGet(eReference, false);
+      return value instanceof InternalEList<?> ? ((InternalEList<?>)value).basicList() : value;
+    }
+
+    /**
+     * Returns a copy of the object with its attributes, but not its contents, 
+     * for a task that {@link #copyAll(Collection, Executor) concurrently} copies an object separately from its children.
+     */
+    private EObject copyAlone(EObject eObject)
+    {
+      EObject copyEObject = createCopy(eObject);
+      if (copyEObject != null)
+      {
+        put(eObject, copyEObject);
+        for (EStructuralFeature eStructuralFeature : getFeatures(eObject.eClass())[0])
+        {
+          if (eStructuralFeature instanceof EAttribute)
+          {
+            copyAttribute((EAttribute)eStructuralFeature, eObject, copyEObject);
+          }
+        }
+      }
+      return copyEObject;
+    }
+
+    /**
+     * Returns a new copier, configured like this one, 
+     * for use by a task that {@link #copyAll(Collection, Executor) concurrently} copies the content tree of one object.
+     * This implementation returns <code>null</code> for subclasses, 
+     * so that the specialized copying behavior is preserved by copying on the calling thread;
+     * a subclass that can safely copy concurrently should override this to return a new instance of itself.
+     * @return a new copier, or <code>null</code> if the copying must be done on the calling thread.
+     * @since 2.25
+     */
+    protected Copier newCopier()
+    {
+      return getClass() == Copier.class ? new Copier(resolveProxies, useOriginalReferences) : null;
+    }
+
+    /**
+     * A task used by {@link Copier#copyAll(Collection, Executor)} to copy an object, and optionally its content tree.
+     */
+    private static class CopyTask implements Runnable
+    {
+      protected final EObject eObject;
+
+      protected final boolean isTree;
+
+      protected Copier copier;
+
+      protected CountDownLatch countDownLatch;
+
+      protected Throwable throwable;
+
+      public CopyTask(EObject eObject, boolean isTree)
+      {
+        this.eObject = eObject;
+        this.isTree = isTree;
+      }
+
+      public void run()
+      {
+        try
+        {
+          if (isTree)
+          {
+            copier.copy(eObject);
+          }
+          else
+          {
+            copier.copyAlone(eObject);
+          }
+        }
+        catch (Throwable throwable)
+        {
+          this.throwable = throwable;
+        }
+        finally
+        {
+          countDownLatch.countDown();
+        }
+      }
+    }
+
+    /**
+     * Returns the features of the class that are copied,
+     * i.e., the changeable non-derived attributes and containment references, in the order in which they're copied,
+     * followed by the changeable non-derived cross references and feature maps, in the order in which they're hooked up.
+     */
+    private EStructuralFeature [][] getFeatures(EClass eClass)
+    {
+      if (features == null)
+      {
+        features = new HashMap<EClass, EStructuralFeature [][]>();
+      }
+      EStructuralFeature [][] result = features.get(eClass);
+      if (result == null)
+      {
+        if (sharedFeatures == null)
+        {
+          result = computeFeatures(eClass);
+        }
+        else
+        {
+          // Compute the features while holding the lock, so that the class's lazily computed metadata is computed by only one thread.
+          //
+          synchronized (sharedFeatures)
+          {
+            result = sharedFeatures.get(eClass);
+            if (result == null)
+            {
+              result = computeFeatures(eClass);
+              sharedFeatures.put(eClass, result);
+            }
+          }
+        }
+        features.put(eClass, result);
+      }
+      return result;
+    }
+
+    private static EStructuralFeature [][] computeFeatures(EClass eClass)
+    {
+      List<EStructuralFeature> copiedFeatures = new ArrayList<EStructuralFeature>();
+      List<EStructuralFeature> referencedFeatures = new ArrayList<EStructuralFeature>();
+      for (int i = 0, size = eClass.getFeatureCount(); i < size; ++i)
+      {
+        EStructuralFeature eStructuralFeature = eClass.getEStructuralFeature(i);
+        eClass.getFeatureID(eStructuralFeature);
+        eStructuralFeature.isMany();
+        if (eStructuralFeature.isChangeable() && !eStructuralFeature.isDerived())
+        {
+          if (eStructuralFeature instanceof EAttribute)
+          {
+            copiedFeatures.add(eStructuralFeature);
+            if (FeatureMapUtil.isFeatureMap(eStructuralFeature))
+            {
+              referencedFeatures.add(eStructuralFeature);
+            }
+          }
+          else
+          {
+            EReference eReference = (EReference)eStructuralFeature;
+            if (eReference.isContainment())
+            {
+              copiedFeatures.add(eReference);
+            }
+            else if (!eReference.isContainer())
+            {
+              referencedFeatures.add(eReference);
+            }
+            eReference.getEOpposite();
+          }
+        }
+      }
+      return 
+        new EStructuralFeature [][] 
+        {
+          copiedFeatures.toArray(new EStructuralFeature [copiedFeatures.size()]),
+          referencedFeatures.toArray(new EStructuralFeature [referencedFeatures.size()])
+        };
+    }
+
     /**
      * Returns a copy of the given eObject.
      * @param eObject the object to copy.
@@ -476,30 +892,32 @@ public class EcoreUtil
       {
         return null;
       }
+      else if (linking)
+      {
+        return get(eObject);
+      }
+      else if (concurrent && eObject.eIsProxy())
+      {
+        // The proxy may need to be resolved, which must be done on the calling thread, so there's no point in continuing.
+        //
+        encounteredProxy = true;
+        return null;
+      }
       else
       {
         EObject copyEObject = createCopy(eObject);
         if (copyEObject != null)
         {
           put(eObject, copyEObject);
-          EClass eClass = eObject.eClass();
-          for (int i = 0, size = eClass.getFeatureCount(); i < size; ++i)
+          for (EStructuralFeature eStructuralFeature : getFeatures(eObject.eClass())[0])
           {
-            EStructuralFeature eStructuralFeature = eClass.getEStructuralFeature(i);
-            if (eStructuralFeature.isChangeable() && !eStructuralFeature.isDerived())
+            if (eStructuralFeature instanceof EAttribute)
             {
-              if (eStructuralFeature instanceof EAttribute)
-              {
-                copyAttribute((EAttribute)eStructuralFeature, eObject, copyEObject);
-              }
-              else
-              {
-                EReference eReference = (EReference)eStructuralFeature;
-                if (eReference.isContainment())
-                {
-                  copyContainment(eReference, eObject, copyEObject);
-                }
-              }
+              copyAttribute((EAttribute)eStructuralFeature, eObject, copyEObject);
+            }
+            else
+            {
+              copyContainment((EReference)eStructuralFeature, eObject, copyEObject);
             }
           }
 
@@ -597,12 +1015,24 @@ public class EcoreUtil
         EStructuralFeature.Setting setting = getTarget(eReference, eObject, copyEObject);
         if (setting != null)
         {
-          Object value = eObject.eGet(eReference);
+          Object value = concurrent || linking ? basicGetContainment(eObject, eReference) : eObject.eGet(eReference);
           if (eReference.isMany())
           {
             @SuppressWarnings("unchecked")
             List<EObject> target = (List<EObject>)value;
-            setting.set(copyAll(target));
+            Collection<EObject> copies = copyAll(target);
+            if (setting instanceof InternalEList<?> && !copies.isEmpty() && ((InternalEList<?>)setting).isEmpty())
+            {
+              // The copies are all distinct, so there's no need to check for uniqueness as each is added.
+              //
+              @SuppressWarnings("unchecked")
+              InternalEList<EObject> copyList = (InternalEList<EObject>)setting;
+              copyList.addAllUnique(copies);
+            }
+            else
+            {
+              setting.set(copies);
+            }
           }
           else
           {
@@ -672,7 +1102,21 @@ public class EcoreUtil
      */
     protected void copyAttributeValue(EAttribute eAttribute, EObject eObject, Object value, EStructuralFeature.Setting setting)
     {
-      setting.set(value);
+      if (setting instanceof InternalEList<?> && 
+            setting.getEStructuralFeature() == eAttribute && 
+            !((Collection<?>)value).isEmpty() && 
+            ((InternalEList<?>)setting).isEmpty())
+      {
+        // The values of the original's list already satisfy the list's constraints.
+        //
+        @SuppressWarnings("unchecked")
+        InternalEList<Object> copyList = (InternalEList<Object>)setting;
+        copyList.addAllUnique((Collection<?>)value);
+      }
+      else
+      {
+        setting.set(value);
+      }
     }
 
     /**
@@ -684,63 +1128,54 @@ public class EcoreUtil
       {
         EObject eObject = entry.getKey();
         EObject copyEObject = entry.getValue();
-        EClass eClass = eObject.eClass();
-        for (int j = 0, size = eClass.getFeatureCount(); j < size; ++j)
+        for (EStructuralFeature eStructuralFeature : getFeatures(eObject.eClass())[1])
         {
-          EStructuralFeature eStructuralFeature = eClass.getEStructuralFeature(j);
-          if (eStructuralFeature.isChangeable() && !eStructuralFeature.isDerived())
+          if (eStructuralFeature instanceof EReference)
           {
-            if (eStructuralFeature instanceof EReference)
-            {
-              EReference eReference = (EReference)eStructuralFeature;
-              if (!eReference.isContainment() && !eReference.isContainer())
-              {
-                copyReference(eReference, eObject, copyEObject);
-              }
-            }
-            else if (FeatureMapUtil.isFeatureMap(eStructuralFeature))
+            copyReference((EReference)eStructuralFeature, eObject, copyEObject);
+          }
+          else
+          {
+            FeatureMap copyFeatureMap = (FeatureMap)getTarget(eStructuralFeature, eObject, copyEObject);
+            if (copyFeatureMap != null)
             {
-              FeatureMap copyFeatureMap = (FeatureMap)getTarget(eStructuralFeature, eObject, copyEObject);
-              if (copyFeatureMap != null)
+              FeatureMap featureMap = (FeatureMap)eObject.eGet(eStructuralFeature);
+              int copyFeatureMapSize = copyFeatureMap.size();
+              for (int k = 0, featureMapSize = featureMap.size(); k < featureMapSize; ++k)
               {
-                FeatureMap featureMap = (FeatureMap)eObject.eGet(eStructuralFeature);
-                int copyFeatureMapSize = copyFeatureMap.size();
-                for (int k = 0, featureMapSize = featureMap.size(); k < featureMapSize; ++k)
+                EStructuralFeature feature = featureMap.getEStructuralFeature(k);
+                if (feature instanceof EReference)
                 {
-                  EStructuralFeature feature = featureMap.getEStructuralFeature(k);
-                  if (feature instanceof EReference)
+                  Object referencedEObject = featureMap.getValue(k);
+                  Object copyReferencedEObject = get(referencedEObject);
+                  if (copyReferencedEObject == null && referencedEObject != null)
                   {
-                    Object referencedEObject = featureMap.getValue(k);
-                    Object copyReferencedEObject = get(referencedEObject);
-                    if (copyReferencedEObject == null && referencedEObject != null)
+                    EReference reference = (EReference)feature;
+                    if (!useOriginalReferences || reference.isContainment() || reference.getEOpposite() != null)
                     {
-                      EReference reference = (EReference)feature;
-                      if (!useOriginalReferences || reference.isContainment() || reference.getEOpposite() != null)
-                      {
-                        continue;
-                      }
-                      copyReferencedEObject = referencedEObject;
+                      continue;
                     }
-  
-                    // If we can't add it, it must already be in the list so find it and move it to the end.
-                    //
-                    if (!copyFeatureMap.add(feature, copyReferencedEObject))
+                    copyReferencedEObject = referencedEObject;
+                  }
+
+                  // If we can't add it, it must already be in the list so find it and move it to the end.
+                  //
+                  if (!copyFeatureMap.add(feature, copyReferencedEObject))
+                  {
+                    for (int l = 0; l < copyFeatureMapSize; ++l)
                     {
-                      for (int l = 0; l < copyFeatureMapSize; ++l)
+                      if (copyFeatureMap.getEStructuralFeature(l) == feature && copyFeatureMap.getValue(l) == copyReferencedEObject)
                       {
-                        if (copyFeatureMap.getEStructuralFeature(l) == feature && copyFeatureMap.getValue(l) == copyReferencedEObject)
-                        {
-                          copyFeatureMap.move(copyFeatureMap.size() - 1, l);
-                          --copyFeatureMapSize;
-                          break;
-                        }
+                        copyFeatureMap.move(copyFeatureMap.size() - 1, l);
+                        --copyFeatureMapSize;
+                        break;
                       }
                     }
                   }
-                  else
-                  {
-                    copyFeatureMap.add(getTarget(featureMap.getEStructuralFeature(k)), featureMap.getValue(k));
-                  }
+                }
+                else
+                {
+                  copyFeatureMap.add(getTarget(featureMap.getEStructuralFeature(k)), featureMap.getValue(k));
                 }
               }
             }
@@ -776,22 +1211,37 @@ public class EcoreUtil
             else
             {
               boolean isBidirectional = eReference.getEOpposite() != null;
-              int index = 0;
-              for (Iterator<EObject> k = resolveProxies ? source.iterator() : source.basicIterator(); k.hasNext();)
+              if (!isBidirectional)
               {
-                EObject referencedEObject = k.next();
-                EObject copyReferencedEObject = get(referencedEObject);
-                if (copyReferencedEObject == null)
+                // Gather the references so they're added in bulk, just as if each were added in turn at the start of the list.
+                //
+                BasicEList<EObject> copyReferencedEObjects = new BasicEList<EObject>(source.size());
+                for (Iterator<EObject> k = resolveProxies ? source.iterator() : source.basicIterator(); k.hasNext();)
                 {
-                  if (useOriginalReferences && !isBidirectional)
+                  EObject referencedEObject = k.next();
+                  EObject copyReferencedEObject = get(referencedEObject);
+                  if (copyReferencedEObject == null)
                   {
-                    target.addUnique(index, referencedEObject);
-                    ++index;
+                    if (useOriginalReferences)
+                    {
+                      copyReferencedEObjects.add(referencedEObject);
+                    }
+                  }
+                  else
+                  {
+                    copyReferencedEObjects.add(copyReferencedEObject);
                   }
                 }
-                else
+                target.addAllUnique(0, copyReferencedEObjects);
+              }
+              else
+              {
+                int index = 0;
+                for (Iterator<EObject> k = resolveProxies ? source.iterator() : source.basicIterator(); k.hasNext();)
                 {
-                  if (isBidirectional)
+                  EObject referencedEObject = k.next();
+                  EObject copyReferencedEObject = get(referencedEObject);
+                  if (copyReferencedEObject != null)
                   {
                     int position = target.indexOf(copyReferencedEObject);
                     if (position == -1)
@@ -802,12 +1252,8 @@ public class EcoreUtil
                     {
                       target.move(index, copyReferencedEObject);
                     }
+                    ++index;
                   }
-                  else
-                  {
-                    target.addUnique(index, copyReferencedEObject);
-                  }
-                  ++index;
                 }
               }
             }
@@ -1764,24 +2210,368 @@ public class EcoreUtil
       return new ContentTreeIterator<Notifier>(emfObjects);
     }
 
-    /**
-     * Compute the map of cross references.
-     */
-    protected void crossReference()
-    {
-      for (TreeIterator<Notifier> contents = newContentsIterator(); contents.hasNext();)
+    /**
+     * Compute the map of cross references.
+     */
+    protected void crossReference()
+    {
+      for (TreeIterator<Notifier> contents = newContentsIterator(); contents.hasNext();)
+      {
+        Object content = contents.next();
+        if (content instanceof EObject)
+        {
+          EObject eObject = (EObject)content;
+          if (containment(eObject))
+          {
+            handleCrossReference(eObject);
+          }
+          else
+          {
+            contents.prune();
+          }
+        }
+      }
+    }
+
+    /**
+     * Compute the map of cross references,
+     * using the given executor to consider the content trees of this cross referencer's objects concurrently.
+     * <p>
+     * The content trees are split into tasks, one for each root object of each {@link Resource resource},
+     * with large content trees split further into tasks for their subtrees.
+     * Each task determines the {@link #crossReference(EObject, EReference, EObject) cross references} of its objects
+     * and the results are {@link #add(InternalEObject, EReference, EObject) added} to this map on the calling thread,
+     * in the same order as by {@link #crossReference()}.
+     * Objects whose cross references must be resolved, or whose class has derived references,
+     * are {@link #handleCrossReference(EObject) handled} on the calling thread.
+     * The objects being considered must not be modified while the tasks run,
+     * and {@link #containment(EObject)} and {@link #crossReference(EObject, EReference, EObject)} must be safe to call concurrently.
+     * Models whose packages are {@link EPackageImpl#freeze() frozen} are best suited.
+     * </p>
+     * @param executor the executor used to run the tasks, or <code>null</code> to {@link #crossReference() compute} the map on the calling thread.
+     * @since 2.25
+     */
+    protected void crossReference(Executor executor)
+    {
+      if (executor == null)
+      {
+        crossReference();
+        return;
+      }
+
+      Map<ResourceSet, Integer> resourceSets = new LinkedHashMap<ResourceSet, Integer>();
+      List<CrossReferenceTask> tasks = new ArrayList<CrossReferenceTask>();
+      for (Object emfObject : emfObjects)
+      {
+        addCrossReferenceTasks(tasks, resourceSets, emfObject);
+      }
+
+      while (!tasks.isEmpty())
+      {
+        // Split the tasks until there are enough of them to keep the processors busy.
+        //
+        int parallelism = 4 * Runtime.getRuntime().availableProcessors();
+        for (int depth = 0; depth < 8 && tasks.size() < parallelism; ++depth)
+        {
+          List<CrossReferenceTask> splitTasks = new ArrayList<CrossReferenceTask>();
+          for (CrossReferenceTask task : tasks)
+          {
+            task.split(splitTasks);
+          }
+          if (splitTasks.size() == tasks.size())
+          {
+            break;
+          }
+          tasks = splitTasks;
+        }
+
+        CountDownLatch countDownLatch = new CountDownLatch(tasks.size());
+        Map<EClass, Boolean> eClasses = new HashMap<EClass, Boolean>();
+        for (CrossReferenceTask task : tasks)
+        {
+          task.countDownLatch = countDownLatch;
+          task.eClasses = eClasses;
+          try
+          {
+            executor.execute(task);
+          }
+          catch (RejectedExecutionException exception)
+          {
+            task.run();
+          }
+        }
+
+        boolean interrupted = false;
+        for (;;)
+        {
+          try
+          {
+            countDownLatch.await();
+            break;
+          }
+          catch (InterruptedException exception)
+          {
+            interrupted = true;
+          }
+        }
+        if (interrupted)
+        {
+          Thread.currentThread().interrupt();
+        }
+
+        for (CrossReferenceTask task : tasks)
+        {
+          task.merge();
+        }
+
+        // Resolving proxies on the calling thread may have loaded more resources, so consider those too.
+        //
+        tasks.clear();
+        for (Map.Entry<ResourceSet, Integer> entry : resourceSets.entrySet())
+        {
+          List<Resource> resources = entry.getKey().getResources();
+          for (int i = entry.getValue(), size = resources.size(); i < size; ++i)
+          {
+            addCrossReferenceTasks(tasks, null, resources.get(i));
+          }
+          entry.setValue(resources.size());
+        }
+      }
+    }
+
+    private void addCrossReferenceTasks(List<CrossReferenceTask> tasks, Map<ResourceSet, Integer> resourceSets, Object emfObject)
+    {
+      if (emfObject instanceof EObject)
+      {
+        tasks.add(new CrossReferenceTask((EObject)emfObject, true));
+      }
+      else if (emfObject instanceof Resource)
+      {
+        for (EObject eObject : ((Resource)emfObject).getContents())
+        {
+          tasks.add(new CrossReferenceTask(eObject, true));
+        }
+      }
+      else if (emfObject instanceof ResourceSet)
+      {
+        ResourceSet resourceSet = (ResourceSet)emfObject;
+        if (!resourceSets.containsKey(resourceSet))
+        {
+          List<Resource> resources = resourceSet.getResources();
+          resourceSets.put(resourceSet, resources.size());
+          for (int i = 0, size = resources.size(); i < size; ++i)
+          {
+            addCrossReferenceTasks(tasks, resourceSets, resources.get(i));
+          }
+        }
+      }
+    }
+
+    /**
+     * A task used by {@link CrossReferencer#crossReference(Executor)} to determine the cross references of an object,
+     * and optionally of the objects in its content tree.
+     */
+    private class CrossReferenceTask implements Runnable
+    {
+      protected final EObject eObject;
+
+      protected final boolean isTree;
+
+      protected CountDownLatch countDownLatch;
+
+      protected Map<EClass, Boolean> eClasses;
+
+      /**
+       * The triples of source object, reference, and target object, where a <code>null</code> reference 
+       * indicates a source object to be handled on the calling thread, along with its content tree if the target is not <code>null</code>.
+       */
+      protected List<Object> crossReferences;
+
+      protected Throwable throwable;
+
+      public CrossReferenceTask(EObject eObject, boolean isTree)
+      {
+        this.eObject = eObject;
+        this.isTree = isTree;
+      }
+
+      /**
+       * Adds to the list either this task or a task for this task's object alone followed by tasks for its children's content trees.
+       */
+      public void split(List<CrossReferenceTask> tasks)
+      {
+        if (isTree && containment(eObject))
+        {
+          tasks.add(new CrossReferenceTask(eObject, false));
+          for (Iterator<EObject> children = ((InternalEList<EObject>)eObject.eContents()).basicIterator(); children.hasNext(); )
+          {
+            tasks.add(new CrossReferenceTask(children.next(), true));
+          }
+        }
+        else
+        {
+          tasks.add(this);
+        }
+      }
+
+      public void run()
+      {
+        try
+        {
+          crossReferences = new ArrayList<Object>();
+          if (containment(eObject))
+          {
+            if (collect(eObject) && isTree)
+            {
+              List<Iterator<EObject>> stack = new ArrayList<Iterator<EObject>>();
+              stack.add(((InternalEList<EObject>)eObject.eContents()).basicIterator());
+              while (!stack.isEmpty())
+              {
+                Iterator<EObject> children = stack.get(stack.size() - 1);
+                if (children.hasNext())
+                {
+                  EObject child = children.next();
+                  if (containment(child) && collect(child))
+                  {
+                    stack.add(((InternalEList<EObject>)child.eContents()).basicIterator());
+                  }
+                }
+                else
+                {
+                  stack.remove(stack.size() - 1);
+                }
+              }
+            }
+          }
+        }
+        catch (Throwable throwable)
+        {
+          this.throwable = throwable;
+        }
+        finally
+        {
+          countDownLatch.countDown();
+        }
+      }
+
+      /**
+       * Collects the cross references of the object, returning whether the task should visit its children.
+       */
+      protected boolean collect(EObject eObject)
+      {
+        // Determine, once for each class, whether any of its references is derived, 
+        // and ensure that its lazily computed metadata is computed while holding the lock.
+        //
+        EClass eClass = eObject.eClass();
+        Boolean isDerived;
+        synchronized (eClasses)
+        {
+          isDerived = eClasses.get(eClass);
+          if (isDerived == null)
+          {
+            isDerived = Boolean.FALSE;
+            EList<EStructuralFeature> eAllStructuralFeatures = eClass.getEAllStructuralFeatures();
+            if (!(eAllStructuralFeatures instanceof EClassImpl.FeatureSubsetSupplier))
+            {
+              isDerived = Boolean.TRUE;
+            }
+            else
+            {
+              EClassImpl.FeatureSubsetSupplier featureSubsetSupplier = (EClassImpl.FeatureSubsetSupplier)eAllStructuralFeatures;
+              for (EStructuralFeature [] eStructuralFeatures : new EStructuralFeature [] [] { featureSubsetSupplier.containments(), featureSubsetSupplier.crossReferences() })
+              {
+                for (EStructuralFeature eStructuralFeature : eStructuralFeatures)
+                {
+                  eClass.getFeatureID(eStructuralFeature);
+                  eStructuralFeature.isMany();
+                  if (eStructuralFeature.isDerived())
+                  {
+                    isDerived = Boolean.TRUE;
+                  }
+                }
+              }
+            }
+            eClasses.put(eClass, isDerived);
+          }
+        }
+
+        if (isDerived)
+        {
+          crossReferences.add(eObject);
+          crossReferences.add(null);
+          crossReferences.add(isTree ? Boolean.TRUE : null);
+          return false;
+        }
+
+        int start = crossReferences.size();
+        boolean resolve = resolve();
+        for (EContentsEList.FeatureIterator<EObject> featureIterator = 
+               (EContentsEList.FeatureIterator<EObject>)((InternalEList<EObject>)eObject.eCrossReferences()).basicIterator();
+             featureIterator.hasNext(); )
+        {
+          EObject crossReferencedEObject = featureIterator.next();
+          if (crossReferencedEObject != null)
+          {
+            if (resolve && crossReferencedEObject.eIsProxy())
+            {
+              crossReferences.subList(start, crossReferences.size()).clear();
+              crossReferences.add(eObject);
+              crossReferences.add(null);
+              crossReferences.add(null);
+              return true;
+            }
+            EReference eReference = (EReference)featureIterator.feature();
+            if (crossReference(eObject, eReference, crossReferencedEObject))
+            {
+              crossReferences.add(eObject);
+              crossReferences.add(eReference);
+              crossReferences.add(crossReferencedEObject);
+            }
+          }
+        }
+        return true;
+      }
+
+      /**
+       * Adds the collected cross references to the cross referencer, handling the remaining objects on the calling thread.
+       */
+      public void merge()
       {
-        Object content = contents.next();
-        if (content instanceof EObject)
+        if (throwable instanceof RuntimeException)
         {
-          EObject eObject = (EObject)content;
-          if (containment(eObject))
+          throw (RuntimeException)throwable;
+        }
+        else if (throwable instanceof Error)
+        {
+          throw (Error)throwable;
+        }
+
+        for (int i = 0, size = crossReferences.size(); i < size; i += 3)
+        {
+          InternalEObject eObject = (InternalEObject)crossReferences.get(i);
+          EReference eReference = (EReference)crossReferences.get(i + 1);
+          if (eReference != null)
           {
-            handleCrossReference(eObject);
+            add(eObject, eReference, (EObject)crossReferences.get(i + 2));
           }
           else
           {
-            contents.prune();
+            handleCrossReference(eObject);
+            if (crossReferences.get(i + 2) != null)
+            {
+              for (TreeIterator<EObject> contents = new ContentTreeIterator<EObject>(eObject, false); contents.hasNext(); )
+              {
+                EObject content = contents.next();
+                if (containment(content))
+                {
+                  handleCrossReference(content);
+                }
+                else
+                {
+                  contents.prune();
+                }
+              }
+            }
           }
         }
       }
@@ -1839,6 +2629,22 @@ public class EcoreUtil
       return result;
     }
 
+    /**
+     * Returns a map of all cross references in the content tree,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param emfObjects a collection of objects whose combined content trees should be considered.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a map of cross references.
+     * @since 2.25
+     */
+    public static Map<EObject, Collection<EStructuralFeature.Setting>> find(Collection<?> emfObjects, Executor executor)
+    {
+      CrossReferencer result = new CrossReferencer(emfObjects);
+      result.crossReference(executor);
+      result.done();
+      return result;
+    }
+
     /**
      * Returns a string representation of this cross referencer.
      * @return the string representation.
@@ -2018,6 +2824,20 @@ public class EcoreUtil
       return this;
     }
 
+    /**
+     * Returns the map of external cross references for this cross referencer,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a map of cross references.
+     * @since 2.25
+     */
+    protected Map<EObject, Collection<EStructuralFeature.Setting>> findExternalCrossReferences(Executor executor)
+    {
+      crossReference(executor);
+      done();
+      return this;
+    }
+
     /**
      * Returns a map of all external cross references from the specified content tree.
      * @param eObject an object whose content trees should be considered.
@@ -2057,6 +2877,32 @@ public class EcoreUtil
     {
       return new ExternalCrossReferencer(emfObjectsToSearch).findExternalCrossReferences();
     }
+
+    /**
+     * Returns a map of all external cross references from the specified content tree,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param resourceSet a resourceSet whose content tree should be considered.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a map of cross references.
+     * @since 2.25
+     */
+    public static Map<EObject, Collection<EStructuralFeature.Setting>> find(ResourceSet resourceSet, Executor executor)
+    {
+      return new ExternalCrossReferencer(resourceSet).findExternalCrossReferences(executor);
+    }
+
+    /**
+     * Returns a map of all external cross references from the combined content trees of the specified collection of objects,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param emfObjectsToSearch a collection of objects whose combined content trees should be considered.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a map of cross references.
+     * @since 2.25
+     */
+    public static Map<EObject, Collection<EStructuralFeature.Setting>> find(Collection<?> emfObjectsToSearch, Executor executor)
+    {
+      return new ExternalCrossReferencer(emfObjectsToSearch).findExternalCrossReferences(executor);
+    }
   }
 
   /**
@@ -2247,6 +3093,19 @@ public class EcoreUtil
     return equalityHelper.equals((List<EObject>)eObjectList1, (List<EObject>)eObjectList2);
   }
 
+  /**
+   * Returns the structural {@link EqualityHelper#fingerprint(EObject) fingerprint} of the object;
+   * objects that are {@link #equals(EObject, EObject) equal} have the same fingerprint.
+   * @param eObject the object, or <code>null</code>.
+   * @return the structural fingerprint of the object.
+   * @see EqualityHelper#fingerprint(EObject)
+   * @since 2.25
+   */
+  public static long fingerprint(EObject eObject)
+  {
+    return new EqualityHelper().fingerprint(eObject);
+  }
+
   /**
    * <p>
    * A helper for determining whether two {@link EObject}s are <em>structurally equal</em>.
@@ -2597,7 +3456,199 @@ public class EcoreUtil
         return value1 == null ? value2 == null : equalValues(value1, value2);
       }
     }
-    
+
+    /**
+     * The fingerprint of each class, computed once per class.
+     */
+    private transient Map<EClass, Long> classFingerprints;
+
+    /**
+     * Returns a structural fingerprint of the object, i.e., a Merkle-style digest of its content tree,
+     * that's consistent with {@link #equals(EObject, EObject) structural equality}:
+     * objects that are structurally equal have the same fingerprint, 
+     * so objects with different fingerprints are never equal.
+     * Collections of objects can therefore be bucketed by fingerprint, 
+     * so that only the objects within each bucket need to be compared for equality.
+     * <p>
+     * The fingerprint combines the object's class 
+     * with the {@link #fingerprintFeature(EObject, EStructuralFeature) fingerprint} of each non-derived feature,
+     * where each contained object contributes its own fingerprint,
+     * while each other referenced object contributes only its presence,
+     * so that the fingerprint doesn't depend on the identity or the proxy state of the objects outside the content tree.
+     * A proxy's fingerprint is that of its {@link InternalEObject#eProxyURI() URI}.
+     * Unlike {@link #equals(EObject, EObject)}, this doesn't populate the helper's map.
+     * A subclass that specializes the comparison of features or values must specialize the corresponding fingerprint methods consistently.
+     * </p>
+     * @param eObject the object, or <code>null</code>.
+     * @return the structural fingerprint of the object.
+     * @see EFingerprintAdapter
+     * @since 2.25
+     */
+    public long fingerprint(EObject eObject)
+    {
+      if (eObject == null)
+      {
+        return 0L;
+      }
+      else if (eObject.eIsProxy())
+      {
+        return mixFingerprint(1L, ((InternalEObject)eObject).eProxyURI().hashCode());
+      }
+      else
+      {
+        EClass eClass = eObject.eClass();
+        long result = fingerprint(eClass);
+        for (int i = 0, size = eClass.getFeatureCount(); i < size; ++i)
+        {
+          EStructuralFeature feature = eClass.getEStructuralFeature(i);
+          if (!feature.isDerived())
+          {
+            result = mixFingerprint(result, fingerprintFeature(eObject, feature));
+          }
+        }
+        return result;
+      }
+    }
+
+    /**
+     * Returns the fingerprint of the class, 
+     * which depends only on its name and its package's namespace URI so that it's the same in each process.
+     */
+    private long fingerprint(EClass eClass)
+    {
+      if (classFingerprints == null)
+      {
+        classFingerprints = new HashMap<EClass, Long>();
+      }
+      Long result = classFingerprints.get(eClass);
+      if (result == null)
+      {
+        EPackage ePackage = eClass.getEPackage();
+        String nsURI = ePackage == null ? null : ePackage.getNsURI();
+        String name = eClass.getName();
+        result = mixFingerprint(nsURI == null ? 2L : nsURI.hashCode(), name == null ? 0L : name.hashCode());
+        classFingerprints.put(eClass, result);
+      }
+      return result;
+    }
+
+    /**
+     * Returns the fingerprint of the {@link EObject#eIsSet(EStructuralFeature) isSet} state and {@link EObject#eGet(EStructuralFeature) value} of the feature,
+     * consistent with {@link #haveEqualFeature(EObject, EObject, EStructuralFeature)};
+     * the value of a non-containment reference is {@link EObject#eGet(EStructuralFeature, boolean) fetched} without resolving proxies.
+     * @param eObject the object.
+     * @param feature a non-derived feature of the object's class.
+     * @return the fingerprint of the feature's state.
+     * @see #fingerprint(EObject)
+     * @since 2.25
+     */
+    protected long fingerprintFeature(EObject eObject, EStructuralFeature feature)
+    {
+      if (!eObject.eIsSet(feature))
+      {
+        return 0L;
+      }
+
+      if (feature instanceof EReference)
+      {
+        // Only the presence of an object referenced by a non-containment reference matters, so there's no need to resolve it.
+        //
+        EReference reference = (EReference)feature;
+        boolean isContainment = reference.isContainment();
+        Object value = eObject.eGet(feature, isContainment);
+        if (reference.isMany())
+        {
+          long result = 3L;
+          for (Object object : !isContainment && value instanceof InternalEList<?> ? ((InternalEList<?>)value).basicList() : (List<?>)value)
+          {
+            result = mixFingerprint(result, fingerprintReferenceValue(reference, (EObject)object));
+          }
+          return result;
+        }
+        else
+        {
+          return mixFingerprint(4L, fingerprintReferenceValue(reference, (EObject)value));
+        }
+      }
+
+      Object value = eObject.eGet(feature);
+      if (value == null)
+      {
+        return 5L;
+      }
+      else if (FeatureMapUtil.isFeatureMap(feature))
+      {
+        FeatureMap featureMap = (FeatureMap)value;
+        long result = 6L;
+        for (int i = 0, size = featureMap.size(); i < size; ++i)
+        {
+          EStructuralFeature entryFeature = featureMap.getEStructuralFeature(i);
+          String name = entryFeature.getName();
+          result = mixFingerprint(result, name == null ? 0L : name.hashCode());
+          Object entryValue = featureMap.getValue(i);
+          result = 
+            mixFingerprint
+              (result,
+               entryFeature instanceof EReference ?
+                 fingerprintReferenceValue((EReference)entryFeature, (EObject)entryValue) :
+                 entryValue == null ? 5L : fingerprintValue(entryValue));
+        }
+        return result;
+      }
+      else
+      {
+        return mixFingerprint(7L, fingerprintValue(value));
+      }
+    }
+
+    /**
+     * Returns the fingerprint of an object referenced by the reference:
+     * the {@link #fingerprint(EObject) fingerprint} of a contained object,
+     * or otherwise just whether the object is <code>null</code>.
+     */
+    private long fingerprintReferenceValue(EReference reference, EObject eObject)
+    {
+      return reference.isContainment() ? fingerprint(eObject) : eObject == null ? 0L : 8L;
+    }
+
+    /**
+     * Returns the fingerprint of the non-null attribute value, consistent with {@link #equalValues(Object, Object)}.
+     * The default implementation combines the {@link Object#hashCode() hash codes} of the elements of a list,
+     * uses the {@link Enumerator#getLiteral() literal} of an enumerator,
+     * and otherwise uses the value's hash code.
+     * @param value the non-null value.
+     * @return the fingerprint of the value.
+     * @since 2.25
+     */
+    protected long fingerprintValue(Object value)
+    {
+      if (value instanceof List<?>)
+      {
+        long result = 9L;
+        for (Object element : (List<?>)value)
+        {
+          result = mixFingerprint(result, element == null ? 5L : fingerprintValue(element));
+        }
+        return result;
+      }
+      else if (value instanceof Enumerator)
+      {
+        return ((Enumerator)value).getLiteral().hashCode();
+      }
+      else
+      {
+        return value.hashCode();
+      }
+    }
+
+    /**
+     * Combines a fingerprint with another value such that the result depends on the order in which values are combined.
+     */
+    private static long mixFingerprint(long fingerprint, long value)
+    {
+      long result = (fingerprint ^ value) * 0xFF51AFD7ED558CCDL + 0x9E3779B97F4A7C15L;
+      return result ^ (result >>> 29);
+    }
   } // EqualityHelper
 
   /**
@@ -2676,6 +3727,23 @@ public class EcoreUtil
       return getCollection(eObject);
     }
 
+    /**
+     * Returns the collection of usage references to the specified object,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param eObject the usage target.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a collection of cross references.
+     * @since 2.25
+     */
+    protected Collection<EStructuralFeature.Setting> findUsage(EObject eObject, Executor executor)
+    {
+      eObjectsOfInterest = Collections.singleton(eObject);
+      crossReference(executor);
+      this.eObjectsOfInterest = null;
+      done();
+      return getCollection(eObject);
+    }
+
     /**
      * Returns the map of usage references to objects in the specified collection.
      * @param eObjectsOfInterest a collection of usage targets.
@@ -2690,6 +3758,24 @@ public class EcoreUtil
       return this;
     }
 
+    /**
+     * Returns the map of usage references to objects in the specified collection,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * The collection of usage targets must be safe to query concurrently.
+     * @param eObjectsOfInterest a collection of usage targets.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a map of cross references.
+     * @since 2.25
+     */
+    protected Map<EObject, Collection<EStructuralFeature.Setting>> findAllUsage(Collection<?> eObjectsOfInterest, Executor executor)
+    {
+      this.eObjectsOfInterest = eObjectsOfInterest;
+      crossReference(executor);
+      this.eObjectsOfInterest = null;
+      done();
+      return this;
+    }
+
     /**
      * Returns a collection of usage references from the specified content tree.
      * @param eObjectOfInterest the usage target.
@@ -2734,6 +3820,34 @@ public class EcoreUtil
       return new UsageCrossReferencer(emfObjectsToSearch).findUsage(eObjectOfInterest);
     }
 
+    /**
+     * Returns a collection of usage references from the specified content tree,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param eObjectOfInterest the usage target.
+     * @param resourceSet a resource set whose content tree should be considered.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a collection of cross references.
+     * @since 2.25
+     */
+    public static Collection<EStructuralFeature.Setting> find(EObject eObjectOfInterest, ResourceSet resourceSet, Executor executor)
+    {
+      return new UsageCrossReferencer(resourceSet).findUsage(eObjectOfInterest, executor);
+    }
+
+    /**
+     * Returns a collection of usage references from the combined content trees of the specified collection of objects,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param eObjectOfInterest the usage target.
+     * @param emfObjectsToSearch a collection of objects whose combined content trees should be considered.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a collection of cross references.
+     * @since 2.25
+     */
+    public static Collection<EStructuralFeature.Setting> find(EObject eObjectOfInterest, Collection<?> emfObjectsToSearch, Executor executor)
+    {
+      return new UsageCrossReferencer(emfObjectsToSearch).findUsage(eObjectOfInterest, executor);
+    }
+
     /**
      * Returns a map of usage references from the specified content tree.
      * @param eObjectsOfInterest a collection of usage targets.
@@ -2781,6 +3895,36 @@ public class EcoreUtil
     {
       return new UsageCrossReferencer(emfObjectsToSearch).findAllUsage(eObjectsOfInterest);
     }
+
+    /**
+     * Returns a map of usage references from the specified content tree,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param eObjectsOfInterest a collection of usage targets, which must be safe to query concurrently.
+     * @param resourceSet a resource set whose content tree should be considered.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a map of cross references.
+     * @since 2.25
+     */
+    public static Map<EObject, Collection<EStructuralFeature.Setting>> findAll
+      (Collection<?>  eObjectsOfInterest, ResourceSet resourceSet, Executor executor)
+    {
+      return new UsageCrossReferencer(resourceSet).findAllUsage(eObjectsOfInterest, executor);
+    }
+
+    /**
+     * Returns a map of usage references from the combined content trees of the specified collection of objects,
+     * using the given executor to consider the content trees {@link #crossReference(Executor) concurrently}.
+     * @param eObjectsOfInterest a collection of usage targets, which must be safe to query concurrently.
+     * @param emfObjectsToSearch a collection of objects whose combined content trees should be considered.
+     * @param executor the executor used to run the tasks, or <code>null</code> to consider the content trees on the calling thread.
+     * @return a map of cross references.
+     * @since 2.25
+     */
+    public static Map<EObject, Collection<EStructuralFeature.Setting>> findAll
+      (Collection<?>  eObjectsOfInterest, Collection<?>  emfObjectsToSearch, Executor executor)
+    {
+      return new UsageCrossReferencer(emfObjectsToSearch).findAllUsage(eObjectsOfInterest, executor);
+    }
   }
 
   /**
@@ -4348,17 +5492,98 @@ public class EcoreUtil
 
   /**
    * Marks the package to indicate that it and everything it contains or that its contents depend on can no longer be changed.
-   * This helps to improve the performance of the model but has no other effect.
+   * <p>
+   * All the information that's otherwise computed and cached on demand,
+   * e.g., the features of each class, the {@link EStructuralFeature#getDefaultValue() default values},
+   * and the {@link EStructuralFeature.Internal#getSettingDelegate() setting delegates}, is computed eagerly,
+   * so reading a frozen package never modifies it.
+   * Any number of threads may then read the package concurrently without synchronization,
+   * provided the package is made available to them safely,
+   * e.g., by freezing it before the threads are started or before adding it to a concurrent data structure,
+   * and provided it's no longer changed;
+   * {@link #freeze(EPackage, boolean)} can enforce that.
+   * </p>
    */
   public static void freeze(EPackage ePackage)
+  {
+    freeze(ePackage, false);
+  }
+
+  /**
+   * {@link #freeze(EPackage) Freezes} the package and, if <code>rejectChanges</code> is <code>true</code>,
+   * makes it and the classifiers, features, operations, and subpackages it contains reject any further change with an {@link IllegalStateException}.
+   * @since 2.25
+   */
+  public static void freeze(EPackage ePackage, boolean rejectChanges)
   {
     try
     {
-      ((EPackageImpl)ePackage).freeze();
+      EPackageImpl ePackageImpl = (EPackageImpl)ePackage;
+      ePackageImpl.freeze();
+      if (rejectChanges)
+      {
+        ePackageImpl.rejectChanges();
+      }
     }
     catch (ClassCastException exception)
     {
       // Ignore if we can't freeze.
+      //
+      return;
+    }
+
+    // These are computed here rather than when the package is frozen during its initialization,
+    // because that's too early to convert default value literals or to create delegates.
+    //
+    for (TreeIterator<EObject> i = ePackage.eAllContents(); i.hasNext(); )
+    {
+      EObject eObject = i.next();
+      if (eObject instanceof EStructuralFeature.Internal)
+      {
+        EStructuralFeature.Internal eStructuralFeature = (EStructuralFeature.Internal)eObject;
+        if (eStructuralFeature.getEType() != null)
+        {
+          eStructuralFeature.getDefaultValue();
+          eStructuralFeature.getSettingDelegate();
+        }
+      }
+      else if (eObject instanceof EOperation.Internal)
+      {
+        ((EOperation.Internal)eObject).getInvocationDelegate();
+      }
+      else if (eObject instanceof EDataType.Internal)
+      {
+        ((EDataType.Internal)eObject).getConversionDelegate();
+      }
+      else if (eObject instanceof EAnnotation)
+      {
+        i.prune();
+      }
+    }
+  }
+
+  /**
+   * {@link #freeze(EPackage) Freezes} each package in the contents of the resource.
+   * @since 2.25
+   */
+  public static void freeze(Resource resource)
+  {
+    freeze(resource, false);
+  }
+
+  /**
+   * {@link #freeze(EPackage, boolean) Freezes} each package in the contents of the resource,
+   * making it reject any further change if <code>rejectChanges</code> is <code>true</code>.
+   * @since 2.25
+   */
+  public static void freeze(Resource resource, boolean rejectChanges)
+  {
+    for (EObject eObject : resource.getContents())
+    {
+      if (eObject instanceof EPackage)
+      {
+        freeze((EPackage)eObject, rejectChanges);
+      }
     }
   }
 
@@ -0,0 +1,754 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+
+
+/**
+ * A {@link ECrossReferenceAdapter cross reference adapter} whose index of the non-navigable inverse references uses substantially less memory.
+ * <p>
+ * Rather than recording a {@link EStructuralFeature.Setting setting} in a collection for each inverse reference,
+ * the {@link IndexedInverseCrossReferencer index} assigns an integer ID to each referenced and referencing object,
+ * and records, for each reference, a hash table that maps the ID of each referenced object to an <code>int[]</code> of the IDs of the referencing objects.
+ * The settings are created only when the inverse references of an object are {@link #getInverseReferences(EObject) requested},
+ * so the returned collections are unmodifiable snapshots rather than live views of the index.
+ * The index is maintained incrementally in exactly the same way as for the base adapter.
+ * </p>
+ * @since 2.25
+ */
+public class IndexedECrossReferenceAdapter extends ECrossReferenceAdapter
+{
+  /**
+   * An inverse cross referencer that records the inverse references in integer adjacency arrays rather than in the map itself.
+   * The map methods are implemented in terms of the index,
+   * e.g., {@link #get(Object) get} creates the settings for the inverse references of the given object.
+   */
+  protected class IndexedInverseCrossReferencer extends InverseCrossReferencer
+  {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of referencing objects above which duplicates are detected with a hash set rather than by a linear search.
+     */
+    private static final int THRESHOLD = 100;
+
+    /**
+     * The inverse references through one reference.
+     * It maps the ID of each referenced object to an array of the IDs of the referencing objects, preceded by their number.
+     */
+    private final class ReferenceIndex
+    {
+      final EReference eReference;
+
+      /**
+       * The open addressing hash table of the referenced object IDs, offset by one so that zero is an empty slot.
+       */
+      int[] keys = new int [8];
+
+      int[][] values = new int [8][];
+
+      int size;
+
+      /**
+       * The pairs of referenced and referencing object IDs of the arrays that are larger than the threshold.
+       */
+      Set<Long> largeValueEntries;
+
+      ReferenceIndex(EReference eReference)
+      {
+        this.eReference = eReference;
+      }
+
+      /**
+       * Returns the slot at which the probe sequence for the ID starts.
+       * It's the top log2(capacity) bits of the Fibonacci hash, so that the sequential IDs spread over the whole table, whatever its size.
+       */
+      private int home(int id)
+      {
+        return id * 0x9E3779B9 >>> Integer.numberOfLeadingZeros(keys.length) + 1;
+      }
+
+      int slot(int id)
+      {
+        int mask = keys.length - 1;
+        for (int slot = home(id); ; slot = slot + 1 & mask)
+        {
+          int key = keys[slot];
+          if (key == 0 || key == id + 1)
+          {
+            return slot;
+          }
+        }
+      }
+
+      int[] get(int id)
+      {
+        int slot = slot(id);
+        return keys[slot] == 0 ? null : values[slot];
+      }
+
+      boolean add(int id, int sourceID, boolean checkDuplicates)
+      {
+        int slot = slot(id);
+        int[] sourceIDs = values[slot];
+        if (sourceIDs == null)
+        {
+          keys[slot] = id + 1;
+          values[slot] = sourceIDs = new int [2];
+          if (2 * ++size > keys.length)
+          {
+            rehash(2 * keys.length);
+            slot = slot(id);
+          }
+        }
+        else
+        {
+          int count = sourceIDs[0];
+          if (checkDuplicates)
+          {
+            if (count > THRESHOLD)
+            {
+              if (largeValueEntries.contains(pair(id, sourceID)))
+              {
+                return false;
+              }
+            }
+            else if (indexOf(sourceIDs, sourceID) != -1)
+            {
+              return false;
+            }
+          }
+          if (count + 1 == sourceIDs.length)
+          {
+            int[] newSourceIDs = new int [2 * sourceIDs.length];
+            System.arraycopy(sourceIDs, 0, newSourceIDs, 0, count + 1);
+            values[slot] = sourceIDs = newSourceIDs;
+          }
+        }
+
+        int count = ++sourceIDs[0];
+        sourceIDs[count] = sourceID;
+        if (count > THRESHOLD)
+        {
+          if (largeValueEntries == null)
+          {
+            largeValueEntries = new HashSet<Long>();
+          }
+          if (count == THRESHOLD + 1)
+          {
+            for (int i = 1; i <= count; ++i)
+            {
+              largeValueEntries.add(pair(id, sourceIDs[i]));
+            }
+          }
+          else
+          {
+            largeValueEntries.add(pair(id, sourceID));
+          }
+        }
+        return true;
+      }
+
+      boolean remove(int id, int sourceID)
+      {
+        int slot = slot(id);
+        int[] sourceIDs = values[slot];
+        if (sourceIDs != null)
+        {
+          int index = indexOf(sourceIDs, sourceID);
+          if (index != -1)
+          {
+            int count = sourceIDs[0];
+            if (count > THRESHOLD)
+            {
+              if (count == THRESHOLD + 1)
+              {
+                for (int i = 1; i <= count; ++i)
+                {
+                  largeValueEntries.remove(pair(id, sourceIDs[i]));
+                }
+              }
+              else
+              {
+                largeValueEntries.remove(pair(id, sourceID));
+              }
+            }
+            System.arraycopy(sourceIDs, index + 1, sourceIDs, index, count - index);
+            if (--sourceIDs[0] == 0)
+            {
+              removeSlot(slot);
+            }
+            return true;
+          }
+        }
+        return false;
+      }
+
+      int[] remove(int id)
+      {
+        int slot = slot(id);
+        int[] sourceIDs = values[slot];
+        if (sourceIDs != null)
+        {
+          int count = sourceIDs[0];
+          if (count > THRESHOLD)
+          {
+            for (int i = 1; i <= count; ++i)
+            {
+              largeValueEntries.remove(pair(id, sourceIDs[i]));
+            }
+          }
+          removeSlot(slot);
+        }
+        return sourceIDs;
+      }
+
+      private void removeSlot(int slot)
+      {
+        // Shift back any subsequent entries of the same probe sequence.
+        //
+        int mask = keys.length - 1;
+        for (int next = slot + 1 & mask; keys[next] != 0; next = next + 1 & mask)
+        {
+          int home = home(keys[next] - 1);
+          if ((next - home & mask) >= (next - slot & mask))
+          {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            slot = next;
+          }
+        }
+        keys[slot] = 0;
+        values[slot] = null;
+        --size;
+      }
+
+      private void rehash(int capacity)
+      {
+        int[] oldKeys = keys;
+        int[][] oldValues = values;
+        keys = new int [capacity];
+        values = new int [capacity][];
+        for (int i = 0; i < oldKeys.length; ++i)
+        {
+          int key = oldKeys[i];
+          if (key != 0)
+          {
+            int slot = slot(key - 1);
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+          }
+        }
+      }
+
+      private int indexOf(int[] sourceIDs, int sourceID)
+      {
+        for (int i = 1, count = sourceIDs[0]; i <= count; ++i)
+        {
+          if (sourceIDs[i] == sourceID)
+          {
+            return i;
+          }
+        }
+        return -1;
+      }
+
+      private Long pair(int id, int sourceID)
+      {
+        return (long)id << 32 | sourceID & 0xFFFFFFFFL;
+      }
+    }
+
+    /**
+     * The objects, by ID.
+     */
+    private EObject[] eObjects = new EObject [16];
+
+    /**
+     * The number of times each ID appears in the index, i.e., as a referenced object or as a referencing object.
+     * An ID is released when its count drops to zero.
+     */
+    private int[] counts = new int [16];
+
+    /**
+     * The number of references through which each object is referenced.
+     */
+    private int[] referenceCounts = new int [16];
+
+    /**
+     * The open addressing hash table that maps each object to its ID, offset by one so that zero is an empty slot.
+     */
+    private int[] table = new int [32];
+
+    private int eObjectCount;
+
+    private int idCount;
+
+    private int[] freeIDs = new int [16];
+
+    private int freeIDCount;
+
+    private int referencedEObjectCount;
+
+    private final List<ReferenceIndex> referenceIndices = new ArrayList<ReferenceIndex>();
+
+    private final Map<EReference, ReferenceIndex> eReferenceToReferenceIndexMap = new HashMap<EReference, ReferenceIndex>();
+
+    protected IndexedInverseCrossReferencer()
+    {
+      super();
+    }
+
+    @Override
+    protected void add(InternalEObject eObject, EReference eReference, EObject crossReferencedEObject)
+    {
+      ReferenceIndex referenceIndex = eReferenceToReferenceIndexMap.get(eReference);
+      if (referenceIndex == null)
+      {
+        referenceIndex = new ReferenceIndex(eReference);
+        referenceIndices.add(referenceIndex);
+        eReferenceToReferenceIndexMap.put(eReference, referenceIndex);
+      }
+
+      // Like the base collection of settings, ignore a duplicate unless the adapter is being attached without resolving.
+      //
+      int crossReferencedID = demandID(crossReferencedEObject);
+      int id = demandID(eObject);
+      if (referenceIndex.add(crossReferencedID, id, !settingTargets || IndexedECrossReferenceAdapter.this.resolve()))
+      {
+        ++counts[crossReferencedID];
+        ++counts[id];
+        if (referenceIndex.get(crossReferencedID)[0] == 1 && referenceCounts[crossReferencedID]++ == 0)
+        {
+          ++referencedEObjectCount;
+        }
+      }
+      else
+      {
+        // Release the IDs if the objects weren't already in the index.
+        //
+        ++counts[crossReferencedID];
+        ++counts[id];
+        release(crossReferencedID);
+        release(id);
+      }
+
+      if (!resolve())
+      {
+        addProxy(crossReferencedEObject, eObject);
+      }
+    }
+
+    @Override
+    public void remove(EObject eObject, EReference eReference, EObject crossReferencedEObject)
+    {
+      if (!resolve())
+      {
+        removeProxy(crossReferencedEObject, eObject);
+      }
+
+      ReferenceIndex referenceIndex = eReferenceToReferenceIndexMap.get(eReference);
+      int crossReferencedID = getID(crossReferencedEObject);
+      int id = getID(eObject);
+      if (referenceIndex != null && crossReferencedID != -1 && id != -1 && referenceIndex.remove(crossReferencedID, id))
+      {
+        if (referenceIndex.get(crossReferencedID) == null && --referenceCounts[crossReferencedID] == 0)
+        {
+          --referencedEObjectCount;
+        }
+        release(crossReferencedID);
+        release(id);
+      }
+    }
+
+    @Override
+    public Object remove(EObject eObject)
+    {
+      if (!resolve())
+      {
+        removeProxy(eObject, eObject);
+      }
+      return remove((Object)eObject);
+    }
+
+    @Override
+    public Collection<EStructuralFeature.Setting> remove(Object key)
+    {
+      Collection<EStructuralFeature.Setting> result = get(key);
+      if (result != null)
+      {
+        int crossReferencedID = getID(key);
+        referenceCounts[crossReferencedID] = 0;
+        --referencedEObjectCount;
+        for (ReferenceIndex referenceIndex : referenceIndices)
+        {
+          int[] sourceIDs = referenceIndex.remove(crossReferencedID);
+          if (sourceIDs != null)
+          {
+            for (int i = 1, count = sourceIDs[0]; i <= count; ++i)
+            {
+              release(sourceIDs[i]);
+              release(crossReferencedID);
+            }
+          }
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Returns the settings of the inverse references of the given object, or <code>null</code> if there are none.
+     */
+    @Override
+    public Collection<EStructuralFeature.Setting> get(Object key)
+    {
+      int crossReferencedID = getID(key);
+      if (crossReferencedID != -1 && referenceCounts[crossReferencedID] > 0)
+      {
+        BasicEList<EStructuralFeature.Setting> result = new BasicEList<EStructuralFeature.Setting>();
+        for (ReferenceIndex referenceIndex : referenceIndices)
+        {
+          addSettings(result, referenceIndex, crossReferencedID);
+        }
+        return new BasicEList.UnmodifiableEList<EStructuralFeature.Setting>(result.size(), result.data());
+      }
+      return null;
+    }
+
+    /**
+     * Returns the settings of the inverse references of the given object through the given reference, or <code>null</code> if there are none.
+     */
+    public Collection<EStructuralFeature.Setting> get(Object key, EReference eReference)
+    {
+      ReferenceIndex referenceIndex = eReferenceToReferenceIndexMap.get(eReference);
+      int crossReferencedID = getID(key);
+      if (referenceIndex != null && crossReferencedID != -1 && referenceIndex.get(crossReferencedID) != null)
+      {
+        BasicEList<EStructuralFeature.Setting> result = new BasicEList<EStructuralFeature.Setting>();
+        addSettings(result, referenceIndex, crossReferencedID);
+        return new BasicEList.UnmodifiableEList<EStructuralFeature.Setting>(result.size(), result.data());
+      }
+      return null;
+    }
+
+    private void addSettings(BasicEList<EStructuralFeature.Setting> settings, ReferenceIndex referenceIndex, int crossReferencedID)
+    {
+      int[] sourceIDs = referenceIndex.get(crossReferencedID);
+      if (sourceIDs != null)
+      {
+        int count = sourceIDs[0];
+        settings.grow(settings.size() + count);
+        for (int i = 1; i <= count; ++i)
+        {
+          settings.add(((InternalEObject)eObjects[sourceIDs[i]]).eSetting(referenceIndex.eReference));
+        }
+      }
+    }
+
+    private int getInverseReferenceCount(Object key)
+    {
+      int result = 0;
+      int crossReferencedID = getID(key);
+      if (crossReferencedID != -1 && referenceCounts[crossReferencedID] > 0)
+      {
+        for (ReferenceIndex referenceIndex : referenceIndices)
+        {
+          int[] sourceIDs = referenceIndex.get(crossReferencedID);
+          if (sourceIDs != null)
+          {
+            result += sourceIDs[0];
+          }
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+      int crossReferencedID = getID(key);
+      return crossReferencedID != -1 && referenceCounts[crossReferencedID] > 0;
+    }
+
+    @Override
+    public int size()
+    {
+      return referencedEObjectCount;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+      return referencedEObjectCount == 0;
+    }
+
+    @Override
+    public void clear()
+    {
+      eObjects = new EObject [16];
+      counts = new int [16];
+      referenceCounts = new int [16];
+      table = new int [32];
+      eObjectCount = 0;
+      idCount = 0;
+      freeIDCount = 0;
+      referencedEObjectCount = 0;
+      referenceIndices.clear();
+      eReferenceToReferenceIndexMap.clear();
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the entries whose settings are created when they're first requested.
+     */
+    @Override
+    public Set<Map.Entry<EObject, Collection<EStructuralFeature.Setting>>> entrySet()
+    {
+      Map<EObject, Collection<EStructuralFeature.Setting>> result = new LinkedHashMap<EObject, Collection<EStructuralFeature.Setting>>();
+      for (int i = 0; i < idCount; ++i)
+      {
+        if (referenceCounts[i] > 0)
+        {
+          final EObject eObject = eObjects[i];
+          result.put
+            (eObject,
+             new AbstractCollection<EStructuralFeature.Setting>()
+             {
+               private Collection<EStructuralFeature.Setting> settings;
+
+               private Collection<EStructuralFeature.Setting> getSettings()
+               {
+                 if (settings == null)
+                 {
+                   settings = get(eObject);
+                 }
+                 return settings;
+               }
+
+               @Override
+               public Iterator<EStructuralFeature.Setting> iterator()
+               {
+                 return getSettings().iterator();
+               }
+
+               @Override
+               public int size()
+               {
+                 return settings == null ? getInverseReferenceCount(eObject) : settings.size();
+               }
+             });
+        }
+      }
+      return Collections.unmodifiableMap(result).entrySet();
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the referenced objects.
+     */
+    @Override
+    public Set<EObject> keySet()
+    {
+      Set<EObject> result = new LinkedHashSet<EObject>();
+      for (int i = 0; i < idCount; ++i)
+      {
+        if (referenceCounts[i] > 0)
+        {
+          result.add(eObjects[i]);
+        }
+      }
+      return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the settings.
+     */
+    @Override
+    public Collection<Collection<EStructuralFeature.Setting>> values()
+    {
+      List<Collection<EStructuralFeature.Setting>> result = new ArrayList<Collection<EStructuralFeature.Setting>>();
+      for (Map.Entry<EObject, Collection<EStructuralFeature.Setting>> entry : entrySet())
+      {
+        result.add(entry.getValue());
+      }
+      return Collections.unmodifiableList(result);
+    }
+
+    private int hash(Object eObject)
+    {
+      int hashCode = eObject.hashCode();
+      return (hashCode ^ hashCode >>> 16) & table.length - 1;
+    }
+
+    private int getID(Object eObject)
+    {
+      int mask = table.length - 1;
+      for (int slot = hash(eObject); ; slot = slot + 1 & mask)
+      {
+        int entry = table[slot];
+        if (entry == 0)
+        {
+          return -1;
+        }
+        else if (eObjects[entry - 1] == eObject)
+        {
+          return entry - 1;
+        }
+      }
+    }
+
+    private int demandID(EObject eObject)
+    {
+      int mask = table.length - 1;
+      int slot = hash(eObject);
+      for (int entry = table[slot]; entry != 0; entry = table[slot])
+      {
+        if (eObjects[entry - 1] == eObject)
+        {
+          return entry - 1;
+        }
+        slot = slot + 1 & mask;
+      }
+
+      int id;
+      if (freeIDCount > 0)
+      {
+        id = freeIDs[--freeIDCount];
+      }
+      else
+      {
+        id = idCount++;
+        if (id == eObjects.length)
+        {
+          int newCapacity = 2 * id;
+          EObject[] newEObjects = new EObject [newCapacity];
+          System.arraycopy(eObjects, 0, newEObjects, 0, id);
+          eObjects = newEObjects;
+          int[] newCounts = new int [newCapacity];
+          System.arraycopy(counts, 0, newCounts, 0, id);
+          counts = newCounts;
+          int[] newReferenceCounts = new int [newCapacity];
+          System.arraycopy(referenceCounts, 0, newReferenceCounts, 0, id);
+          referenceCounts = newReferenceCounts;
+        }
+      }
+      eObjects[id] = eObject;
+      table[slot] = id + 1;
+      if (2 * ++eObjectCount > table.length)
+      {
+        rehash(2 * table.length);
+      }
+      return id;
+    }
+
+    private void release(int id)
+    {
+      if (--counts[id] == 0)
+      {
+        // Remove the entry from the table, shifting back any subsequent entries of the same probe sequence.
+        //
+        EObject eObject = eObjects[id];
+        int mask = table.length - 1;
+        int slot = hash(eObject);
+        while (table[slot] != id + 1)
+        {
+          slot = slot + 1 & mask;
+        }
+        for (int next = slot + 1 & mask; table[next] != 0; next = next + 1 & mask)
+        {
+          int home = hash(eObjects[table[next] - 1]);
+          if ((next - home & mask) >= (next - slot & mask))
+          {
+            table[slot] = table[next];
+            slot = next;
+          }
+        }
+        table[slot] = 0;
+        --eObjectCount;
+
+        eObjects[id] = null;
+        if (freeIDCount == freeIDs.length)
+        {
+          int[] newFreeIDs = new int [2 * freeIDCount];
+          System.arraycopy(freeIDs, 0, newFreeIDs, 0, freeIDCount);
+          freeIDs = newFreeIDs;
+        }
+        freeIDs[freeIDCount++] = id;
+      }
+    }
+
+    private void rehash(int capacity)
+    {
+      table = new int [capacity];
+      int mask = capacity - 1;
+      for (int id = 0; id < idCount; ++id)
+      {
+        EObject eObject = eObjects[id];
+        if (eObject != null)
+        {
+          int slot = hash(eObject);
+          while (table[slot] != 0)
+          {
+            slot = slot + 1 & mask;
+          }
+          table[slot] = id + 1;
+        }
+      }
+    }
+  }
+
+  public IndexedECrossReferenceAdapter()
+  {
+    super();
+  }
+
+  @Override
+  protected InverseCrossReferencer createInverseCrossReferencer()
+  {
+    return new IndexedInverseCrossReferencer();
+  }
+
+  /**
+   * Returns the inverse references through the given reference,
+   * looking up only the table of the given reference in the index for a non-navigable reference.
+   */
+  @Override
+  public Collection<EStructuralFeature.Setting> getInverseReferences(EObject eObject, EReference eReference, boolean resolve)
+  {
+    if (eReference.isContainment() || eReference.getEOpposite() != null || !(inverseCrossReferencer instanceof IndexedInverseCrossReferencer))
+    {
+      return super.getInverseReferences(eObject, eReference, resolve);
+    }
+    else
+    {
+      if (resolve)
+      {
+        resolveAll(eObject);
+      }
+      Collection<EStructuralFeature.Setting> settings = ((IndexedInverseCrossReferencer)inverseCrossReferencer).get(eObject, eReference);
+      return settings == null ? new ArrayList<EStructuralFeature.Setting>() : new ArrayList<EStructuralFeature.Setting>(settings);
+    }
+  }
+}
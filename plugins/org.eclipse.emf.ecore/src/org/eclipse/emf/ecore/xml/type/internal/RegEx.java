@@ -49,6 +49,7 @@ package org.eclipse.emf.ecore.xml.type.internal;
 
 
 import java.text.CharacterIterator;
+import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -3937,6 +3938,15 @@ public static class RegularExpression implements java.io.Serializable {
             if (this.context == null)
                 this.context = new Context();
         }
+
+        /*
+         * The automaton decides a whole match without backtracking when no Match is needed.
+         */
+        if (match == null && this.dfa != null) {
+            int result = this.dfa.matches(target, start, end);
+            if (result != DFA.UNKNOWN)
+                return result == DFA.MATCH;
+        }
         Context con = null;
         synchronized (this.context) {
             con = this.context.inuse ? new Context() : this.context;
@@ -3964,6 +3974,7 @@ public static class RegularExpression implements java.io.Serializable {
                 con.setInUse(false);
                 return true;
             }
+            con.setInUse(false);
             return false;
         }
 
@@ -4122,6 +4133,15 @@ public static class RegularExpression implements java.io.Serializable {
             if (this.context == null)
                 this.context = new Context();
         }
+
+        /*
+         * The automaton decides a whole match without backtracking when no Match is needed.
+         */
+        if (match == null && this.dfa != null) {
+            int result = this.dfa.matches(target, start, end);
+            if (result != DFA.UNKNOWN)
+                return result == DFA.MATCH;
+        }
         Context con = null;
         synchronized (this.context) {
             con = this.context.inuse ? new Context() : this.context;
@@ -4155,6 +4175,7 @@ public static class RegularExpression implements java.io.Serializable {
                 con.setInUse(false);
                 return true;
             }
+            con.setInUse(false);
             return false;
         }
 
@@ -4828,6 +4849,7 @@ public static class RegularExpression implements java.io.Serializable {
                 con.setInUse(false);
                 return true;
             }
+            con.setInUse(false);
             return false;
         }
 
@@ -4973,6 +4995,365 @@ public static class RegularExpression implements java.io.Serializable {
     transient int fixedStringOptions;
     transient BMPattern fixedStringTable = null;
     transient boolean fixedStringOnly = false;
+    transient DFA dfa = null;
+
+    /**
+     * A deterministic automaton that checks whether an entire target matches an expression in XML Schema mode.
+     * It's used in place of the backtracking interpreter when no Match is requested.
+     * The automaton is derived from a Thompson NFA for the token tree,
+     * and its states and transitions are created lazily, as targets are matched,
+     * so that, once warmed up, matching costs one table lookup per character.
+     * Only expressions built from characters, strings, ranges, dots, concatenations, unions, closures, and groups are supported.
+     * A target that contains a surrogate, or whose matching would need too many states, is left to the interpreter.
+     */
+    static final class DFA {
+        static final int NO_MATCH = 0;
+        static final int MATCH = 1;
+        static final int UNKNOWN = -1;
+
+        private static final int MAX_NFA_STATES = 10000;
+        private static final int MAX_DFA_STATES = 1000;
+        private static final int MAX_TRANSITIONS = 256;
+        private static final int ASCII = 128;
+
+        private static final int EPSILON = 0;
+        private static final int CHAR = 1;
+        private static final int DOT = 2;
+        private static final int RANGE = 3;
+        private static final int ACCEPT = 4;
+
+        /**
+         * A set of NFA states, along with the transitions computed for it so far.
+         */
+        static final class State {
+            final int[] nfaStates;
+            final boolean accepting;
+            final State[] asciiTransitions = new State[ASCII];
+            Hashtable transitions;
+
+            State(int[] nfaStates, boolean accepting) {
+                this.nfaStates = nfaStates;
+                this.accepting = accepting;
+            }
+
+            public int hashCode() {
+                return Arrays.hashCode(this.nfaStates);
+            }
+
+            public boolean equals(Object object) {
+                return object instanceof State && Arrays.equals(this.nfaStates, ((State)object).nfaStates);
+            }
+        }
+
+        private final boolean singleLine;
+
+        private int size = 0;
+        private int[] kinds = new int[16];
+        private int[] chars = new int[16];
+        private RangeToken[] ranges = new RangeToken[16];
+        private int[] nexts = new int[16];
+        private int[][] epsilons = new int[16][];
+        private boolean supported = true;
+
+        private final Hashtable states = new Hashtable();
+        private State initial;
+
+        private int[] marks;
+        private int mark = 0;
+        private int[] stack;
+        private int[] found;
+
+        private DFA(int options) {
+            this.singleLine = isSet(options, SINGLE_LINE);
+        }
+
+        /**
+         * Returns the automaton for the expression, or null if the expression needs the interpreter.
+         */
+        static DFA create(Token tokentree, int options) {
+            if (!isSet(options, XMLSCHEMA_MODE) || isSet(options, IGNORE_CASE))
+                return null;
+            DFA dfa = new DFA(options);
+            int start = dfa.build(tokentree, dfa.newState(ACCEPT, 0, null, -1));
+            if (!dfa.supported)
+                return null;
+            dfa.marks = new int[dfa.size];
+            dfa.stack = new int[dfa.size];
+            dfa.found = new int[dfa.size];
+            dfa.initial = dfa.getState(dfa.closure(new int[] {start}, 1));
+            return dfa;
+        }
+
+        private int newState(int kind, int ch, RangeToken range, int next) {
+            if (this.size == this.kinds.length) {
+                int length = this.size*2;
+                int[] newKinds = new int[length];
+                System.arraycopy(this.kinds, 0, newKinds, 0, this.size);
+                this.kinds = newKinds;
+                int[] newChars = new int[length];
+                System.arraycopy(this.chars, 0, newChars, 0, this.size);
+                this.chars = newChars;
+                RangeToken[] newRanges = new RangeToken[length];
+                System.arraycopy(this.ranges, 0, newRanges, 0, this.size);
+                this.ranges = newRanges;
+                int[] newNexts = new int[length];
+                System.arraycopy(this.nexts, 0, newNexts, 0, this.size);
+                this.nexts = newNexts;
+                int[][] newEpsilons = new int[length][];
+                System.arraycopy(this.epsilons, 0, newEpsilons, 0, this.size);
+                this.epsilons = newEpsilons;
+            }
+            this.kinds[this.size] = kind;
+            this.chars[this.size] = ch;
+            this.ranges[this.size] = range;
+            this.nexts[this.size] = next;
+            return this.size++;
+        }
+
+        private int newEpsilonState(int[] targets) {
+            int state = this.newState(EPSILON, 0, null, -1);
+            this.epsilons[state] = targets;
+            return state;
+        }
+
+        /**
+         * Builds the NFA states for the token, followed by the given state, and returns the first of them.
+         * This mirrors {@link RegularExpression#compile(Token, Op, boolean)}.
+         */
+        private int build(Token tok, int next) {
+            if (!this.supported)
+                return next;
+            if (this.size > MAX_NFA_STATES) {
+                this.supported = false;
+                return next;
+            }
+            switch (tok.type) {
+            case Token.DOT:
+                return this.newState(DOT, 0, null, next);
+
+            case Token.CHAR:
+                return this.newState(CHAR, tok.getChar(), null, next);
+
+            case Token.RANGE:
+            case Token.NRANGE:
+                return this.newState(RANGE, 0, (RangeToken)tok, next);
+
+            case Token.CONCAT: {
+                int ret = next;
+                for (int i = tok.size()-1;  i >= 0;  i --) {
+                    ret = this.build(tok.getChild(i), ret);
+                }
+                return ret;
+            }
+
+            case Token.UNION: {
+                int[] targets = new int[tok.size()];
+                for (int i = 0;  i < targets.length;  i ++) {
+                    targets[i] = this.build(tok.getChild(i), next);
+                }
+                return this.newEpsilonState(targets);
+            }
+
+            case Token.CLOSURE:
+            case Token.NONGREEDYCLOSURE: {
+                Token child = tok.getChild(0);
+                int min = tok.getMin();
+                int max = tok.getMax();
+                int ret = next;
+                if (min >= 0 && min == max) {
+                    for (int i = 0;  i < min;  i ++) {
+                        ret = this.build(child, ret);
+                    }
+                    return ret;
+                }
+                if (min > 0 && max > 0)
+                    max -= min;
+                if (max > 0) {
+                    for (int i = 0;  i < max;  i ++) {
+                        ret = this.newEpsilonState(new int[] {this.build(child, ret), next});
+                    }
+                } else {
+                    ret = this.newEpsilonState(null);
+                    int first = this.build(child, ret);
+                    this.epsilons[ret] = new int[] {first, next};
+                }
+                for (int i = 0;  i < min;  i ++) {
+                    ret = this.build(child, ret);
+                }
+                return ret;
+            }
+
+            case Token.EMPTY:
+                return next;
+
+            case Token.STRING: {
+                String string = tok.getString();
+                int ret = next;
+                for (int i = string.length()-1;  i >= 0;  i --) {
+                    ret = this.newState(CHAR, string.charAt(i), null, ret);
+                }
+                return ret;
+            }
+
+            case Token.PAREN:
+                return this.build(tok.getChild(0), next);
+
+            default:
+                this.supported = false;
+                return next;
+            }
+        }
+
+        /**
+         * Returns the sorted non-epsilon NFA states reachable from the given states.
+         */
+        private int[] closure(int[] nfaStates, int length) {
+            if (++this.mark == 0) {
+                Arrays.fill(this.marks, 0);
+                this.mark = 1;
+            }
+            int sp = 0;
+            int count = 0;
+            for (int i = 0;  i < length;  i ++) {
+                if (this.marks[nfaStates[i]] != this.mark) {
+                    this.marks[nfaStates[i]] = this.mark;
+                    this.stack[sp++] = nfaStates[i];
+                }
+            }
+            while (sp > 0) {
+                int state = this.stack[--sp];
+                if (this.kinds[state] == EPSILON) {
+                    int[] targets = this.epsilons[state];
+                    for (int i = targets.length-1;  i >= 0;  i --) {
+                        if (this.marks[targets[i]] != this.mark) {
+                            this.marks[targets[i]] = this.mark;
+                            this.stack[sp++] = targets[i];
+                        }
+                    }
+                } else {
+                    this.found[count++] = state;
+                }
+            }
+            int[] result = new int[count];
+            System.arraycopy(this.found, 0, result, 0, count);
+            Arrays.sort(result);
+            return result;
+        }
+
+        private State getState(int[] nfaStates) {
+            boolean accepting = false;
+            for (int i = 0;  i < nfaStates.length;  i ++) {
+                if (this.kinds[nfaStates[i]] == ACCEPT) {
+                    accepting = true;
+                    break;
+                }
+            }
+            State state = new State(nfaStates, accepting);
+            State existing = (State)this.states.get(state);
+            if (existing != null)
+                return existing;
+            if (this.states.size() >= MAX_DFA_STATES)
+                return null;
+            this.states.put(state, state);
+            return state;
+        }
+
+        /**
+         * Returns the state reached from the given state by the character,
+         * or null if the number of states is exhausted.
+         */
+        private synchronized State transition(State state, int ch) {
+            State result;
+            if (ch < ASCII) {
+                result = state.asciiTransitions[ch];
+            } else {
+                result = state.transitions == null ? null : (State)state.transitions.get(Integer.valueOf(ch));
+            }
+            if (result != null)
+                return result;
+
+            int[] nfaStates = state.nfaStates;
+            int[] targets = new int[nfaStates.length];
+            int count = 0;
+            for (int i = 0;  i < nfaStates.length;  i ++) {
+                int nfaState = nfaStates[i];
+                boolean matched;
+                switch (this.kinds[nfaState]) {
+                case CHAR:
+                    matched = this.chars[nfaState] == ch;
+                    break;
+                case DOT:
+                    matched = this.singleLine || !isEOLChar(ch);
+                    break;
+                case RANGE:
+                    matched = this.ranges[nfaState].match(ch);
+                    break;
+                default:
+                    matched = false;
+                }
+                if (matched)
+                    targets[count++] = this.nexts[nfaState];
+            }
+            result = this.getState(this.closure(targets, count));
+            if (result != null) {
+                if (ch < ASCII) {
+                    state.asciiTransitions[ch] = result;
+                } else {
+                    if (state.transitions == null)
+                        state.transitions = new Hashtable();
+                    if (state.transitions.size() < MAX_TRANSITIONS)
+                        state.transitions.put(Integer.valueOf(ch), result);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns whether the entire range of the target matches,
+         * or {@link #UNKNOWN} if the interpreter must decide.
+         */
+        int matches(String target, int start, int end) {
+            State state = this.initial;
+            for (int i = start;  i < end;  i ++) {
+                int ch = target.charAt(i);
+                if (REUtil.isHighSurrogate(ch))
+                    return UNKNOWN;
+                State next = ch < ASCII ? state.asciiTransitions[ch] : null;
+                if (next == null) {
+                    next = this.transition(state, ch);
+                    if (next == null)
+                        return UNKNOWN;
+                }
+                if (next.nfaStates.length == 0)
+                    return NO_MATCH;
+                state = next;
+            }
+            return state.accepting ? MATCH : NO_MATCH;
+        }
+
+        /**
+         * Returns whether the entire range of the target matches,
+         * or {@link #UNKNOWN} if the interpreter must decide.
+         */
+        int matches(char[] target, int start, int end) {
+            State state = this.initial;
+            for (int i = start;  i < end;  i ++) {
+                int ch = target[i];
+                if (REUtil.isHighSurrogate(ch))
+                    return UNKNOWN;
+                State next = ch < ASCII ? state.asciiTransitions[ch] : null;
+                if (next == null) {
+                    next = this.transition(state, ch);
+                    if (next == null)
+                        return UNKNOWN;
+                }
+                if (next.nfaStates.length == 0)
+                    return NO_MATCH;
+                state = next;
+            }
+            return state.accepting ? MATCH : NO_MATCH;
+        }
+    }
 
     static abstract class ExpressionTarget {
         abstract char charAt(int index);
@@ -5330,6 +5711,8 @@ public static class RegularExpression implements java.io.Serializable {
 
         this.minlength = this.tokentree.getMinLength();
 
+        this.dfa = this.hasBackReferences ? null : DFA.create(this.tokentree, this.options);
+
         this.firstChar = null;
         if (!isSet(this.options, PROHIBIT_HEAD_CHARACTER_OPTIMIZATION)
             && !isSet(this.options, XMLSCHEMA_MODE)) {
@@ -5522,6 +5905,7 @@ public static class RegularExpression implements java.io.Serializable {
 
         this.operations = null;
         this.context = null;
+        this.dfa = null;
     }
     /**
      *
@@ -11,6 +11,8 @@
 package org.eclipse.emf.ecore.xml.type.util;
 
  
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.xml.datatype.DatatypeConstants;
@@ -249,9 +251,43 @@ public final class XMLTypeUtil
     }
   }
 
+  /**
+   * The maximum number of pattern matchers retained by {@link #createPatternMatcher(String)}.
+   */
+  private static final int PATTERN_MATCHER_CACHE_SIZE = 1000;
+
+  /**
+   * The most recently used pattern matchers, keyed by pattern;
+   * each matcher's compiled form is reused by all the data types with that pattern.
+   */
+  private static final Map<String, EValidator.PatternMatcher> PATTERN_MATCHER_CACHE =
+    new LinkedHashMap<String, EValidator.PatternMatcher>(16, 0.75f, true)
+    {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, EValidator.PatternMatcher> eldest)
+      {
+        return size() > PATTERN_MATCHER_CACHE_SIZE;
+      }
+    };
+
+  /**
+   * Returns a matcher for the XML Schema pattern.
+   * Matchers are shared, so a pattern is compiled only once while it remains in use.
+   */
   public static EValidator.PatternMatcher createPatternMatcher(String pattern)
   {
-    return new PatternMatcherImpl(pattern);
+    synchronized (PATTERN_MATCHER_CACHE)
+    {
+      EValidator.PatternMatcher result = PATTERN_MATCHER_CACHE.get(pattern);
+      if (result == null)
+      {
+        result = new PatternMatcherImpl(pattern);
+        PATTERN_MATCHER_CACHE.put(pattern, result);
+      }
+      return result;
+    }
   }
   
   
@@ -58,6 +58,17 @@ import org.junit.runners.Suite;
       org.eclipse.emf.test.core.ecore.SwitchTest.class,
       org.eclipse.emf.test.core.ecore.ResourceURIFragmentsTest.class,
       org.eclipse.emf.test.core.ecore.ResourceSetMappedResourceLocatorTest.class,
+      org.eclipse.emf.test.core.ecore.ResourceSetLoadAllTest.class,
+      org.eclipse.emf.test.core.ecore.ResourceSetSaveAllTest.class,
+      org.eclipse.emf.test.core.ecore.ResourceCodecTest.class,
+      org.eclipse.emf.test.core.ecore.PrimitiveDynamicEObjectImplTest.class,
+      org.eclipse.emf.test.core.ecore.OffHeapEStoreImplTest.class,
+      org.eclipse.emf.test.core.ecore.PagedEStoreResourceTest.class,
+      org.eclipse.emf.test.core.ecore.ECrossReferenceIndexTest.class,
+      org.eclipse.emf.test.core.ecore.CrossReferencerTest.class,
+      org.eclipse.emf.test.core.ecore.EFingerprintAdapterTest.class,
+      org.eclipse.emf.test.core.ecore.IndexedECrossReferenceAdapterTest.class,
+      org.eclipse.emf.test.core.ecore.EValidationAdapterTest.class,
       org.eclipse.emf.test.core.ecore.ReificationTest.class,
       org.eclipse.emf.test.core.ecore.ECrossReferenceAdapterTest.class,
       org.eclipse.emf.test.core.ecore.ECrossReferenceAdapterStressTest.class,
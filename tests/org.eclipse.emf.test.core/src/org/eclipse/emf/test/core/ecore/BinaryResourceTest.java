@@ -13,6 +13,8 @@ package org.eclipse.emf.test.core.ecore;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.BufferedInputStream;
@@ -47,6 +49,7 @@ import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.test.models.ppo.Item;
@@ -54,6 +57,7 @@ import org.eclipse.emf.test.models.ppo.PPOFactory;
 import org.eclipse.emf.test.models.ppo.PurchaseOrder;
 import org.eclipse.emf.test.models.ref.D;
 import org.eclipse.emf.test.models.ref.E;
+import org.eclipse.emf.test.models.ref.RefFactory;
 import org.eclipse.emf.test.models.ref.RefPackage;
 import org.eclipse.emf.test.models.ref.impl.DImpl;
 import org.eclipse.emf.test.models.ref.impl.EImpl;
@@ -174,6 +178,50 @@ public class BinaryResourceTest
     assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
   }
 
+  @Test
+  public void testSaveAndLoadVersion1_2() throws Exception
+  {
+    for (EObject rootObject : rootObjects)
+    {
+      int i = 0;
+      for (Item item : ((PurchaseOrder)rootObject).getItems())
+      {
+        item.setPartNum("123-AB" + i++ % 5);
+      }
+    }
+
+    Resource resource = new BinaryResourceImpl();
+    resource.getContents().addAll(rootObjects);
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(BinaryResourceImpl.OPTION_VERSION, BinaryResourceImpl.BinaryIO.Version.VERSION_1_1);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, options);
+    int version1_1Size = outputStream.size();
+
+    // Version 1.2 tabulates strings and data values by default.
+    //
+    options.put(BinaryResourceImpl.OPTION_VERSION, BinaryResourceImpl.BinaryIO.Version.VERSION_1_2);
+    outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, options);
+    byte[] bytes = outputStream.toByteArray();
+    assertTrue(bytes.length + " < " + version1_1Size, bytes.length < version1_1Size);
+
+    Resource loadedResource = new BinaryResourceImpl();
+    loadedResource.load(new ByteArrayInputStream(bytes), null);
+    assertTrue(EcoreUtil.equals(rootObjects, loadedResource.getContents()));
+    EList<Item> items = ((PurchaseOrder)loadedResource.getContents().get(0)).getItems();
+    assertSame(items.get(0).getPartNum(), items.get(5).getPartNum());
+
+    // Explicitly disabling the data converter style still produces a valid serialization.
+    //
+    options.put(BinaryResourceImpl.OPTION_STYLE_DATA_CONVERTER, Boolean.FALSE);
+    outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, options);
+    loadedResource = new BinaryResourceImpl();
+    loadedResource.load(new ByteArrayInputStream(outputStream.toByteArray()), null);
+    assertTrue(EcoreUtil.equals(rootObjects, loadedResource.getContents()));
+  }
+
   @Test
   public void testSaveAndLoadWithXMIResource() throws Exception
   {
@@ -338,6 +386,98 @@ public class BinaryResourceTest
     assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
   }
 
+  @Test
+  public void testSaveAndLoadIndexed() throws Exception
+  {
+    Map<String, Object> options = new HashMap<String, Object>();
+    options.put(BinaryResourceImpl.OPTION_INDEXED, Boolean.TRUE);
+
+    Resource resource = new BinaryResourceImpl(resourceURI);
+    resource.getContents().addAll(rootObjects);
+    resource.save(options);
+    assertTrue(resourceURI.toString(), URIConverter.INSTANCE.exists(resourceURI, null));
+
+    // Loading from a file maps the segments into memory and decodes each root object on demand.
+    //
+    resource = new BinaryResourceImpl(resourceURI);
+    resource.load(null);
+    assertEquals(rootObjects.size(), resource.getContents().size());
+    @SuppressWarnings("unchecked")
+    InternalEList<EObject> contents = (InternalEList<EObject>)resource.getContents();
+    PurchaseOrder purchaseOrder = (PurchaseOrder)contents.basicGet(1);
+    assertNull(purchaseOrder.getComment());
+    assertTrue(purchaseOrder.getItems().isEmpty());
+    assertSame(purchaseOrder, contents.get(1));
+    assertEquals("purchase order 1", purchaseOrder.getComment());
+    assertEquals(rootObjects.size() / 2, purchaseOrder.getItems().size());
+    assertTrue(((PurchaseOrder)contents.basicGet(2)).getItems().isEmpty());
+    assertFalse(resource.isModified());
+    assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
+
+    // Loading from a stream reads the layout fully and also decodes each root object on demand.
+    //
+    resource = new BinaryResourceImpl();
+    InputStream inputStream = new BufferedInputStream(URIConverter.INSTANCE.createInputStream(resourceURI));
+    try
+    {
+      resource.load(inputStream, null);
+    }
+    finally
+    {
+      inputStream.close();
+    }
+    assertTrue(((PurchaseOrder)((InternalEList<?>)resource.getContents()).basicGet(0)).getItems().isEmpty());
+    assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
+
+    // A lazily loaded resource can be saved again in either layout.
+    //
+    resource = new BinaryResourceImpl(resourceURI);
+    resource.load(null);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+    resource = new BinaryResourceImpl();
+    resource.load(new ByteArrayInputStream(outputStream.toByteArray()), null);
+    assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
+  }
+
+  @Test
+  public void testSaveAndLoadIndexedWithCrossReferences() throws Exception
+  {
+    // Create roots that refer to each other in two groups as well as an isolated root.
+    //
+    List<E> eInstances = new ArrayList<E>();
+    for (int i = 0; i < 4; ++i)
+    {
+      eInstances.add(RefFactory.eINSTANCE.createE());
+    }
+    D d0 = RefFactory.eINSTANCE.createD();
+    d0.getE().add(eInstances.get(0));
+    d0.getE().add(eInstances.get(2));
+    D d1 = RefFactory.eINSTANCE.createD();
+    d1.getE().add(eInstances.get(1));
+
+    List<EObject> rootObjects = new ArrayList<EObject>(eInstances);
+    rootObjects.add(d0);
+    rootObjects.add(d1);
+
+    Map<String, Object> options = new HashMap<String, Object>();
+    options.put(BinaryResourceImpl.OPTION_INDEXED, Boolean.TRUE);
+    Resource resource = new BinaryResourceImpl(resourceURI);
+    resource.getContents().addAll(rootObjects);
+    resource.save(options);
+
+    resource = new BinaryResourceImpl(resourceURI);
+    resource.load(null);
+    @SuppressWarnings("unchecked")
+    InternalEList<EObject> contents = (InternalEList<EObject>)resource.getContents();
+    D loadedD0 = (D)contents.get(4);
+    assertEquals(2, loadedD0.getE().size());
+    assertSame(contents.basicGet(0), loadedD0.getE().get(0));
+    assertSame(contents.basicGet(2), loadedD0.getE().get(1));
+    assertTrue(((D)contents.basicGet(5)).getE().isEmpty());
+    assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
+  }
+
   @Test
   public void testBidirectionalReferenceOrder() throws Exception
   {
@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class CrossReferencerTest
+{
+  private ExecutorService executor;
+
+  private ResourceSet resourceSet;
+
+  private List<EObject> nodes;
+
+  @Before
+  public void setUp()
+  {
+    executor = Executors.newFixedThreadPool(4);
+
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("graph");
+    ePackage.setNsPrefix("graph");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/graph");
+    EClass nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    EReference children = EcoreFactory.eINSTANCE.createEReference();
+    children.setName("children");
+    children.setEType(nodeClass);
+    children.setUpperBound(-1);
+    children.setContainment(true);
+    nodeClass.getEStructuralFeatures().add(children);
+    EReference targets = EcoreFactory.eINSTANCE.createEReference();
+    targets.setName("targets");
+    targets.setEType(nodeClass);
+    targets.setUpperBound(-1);
+    nodeClass.getEStructuralFeatures().add(targets);
+    EReference target = EcoreFactory.eINSTANCE.createEReference();
+    target.setName("target");
+    target.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(target);
+
+    resourceSet = new ResourceSetImpl();
+    Resource packageResource = new ResourceImpl(URI.createURI("graph.ecore"));
+    packageResource.getContents().add(ePackage);
+    resourceSet.getResources().add(packageResource);
+
+    // Build several resources, each with a few deep content trees.
+    //
+    nodes = new ArrayList<EObject>();
+    for (int i = 0; i < 5; ++i)
+    {
+      Resource resource = new ResourceImpl(URI.createURI("graph" + i + ".xmi"));
+      resourceSet.getResources().add(resource);
+      for (int j = 0; j < 3; ++j)
+      {
+        EObject root = EcoreUtil.create(nodeClass);
+        resource.getContents().add(root);
+        nodes.add(root);
+        List<EObject> parents = Collections.singletonList(root);
+        for (int depth = 0; depth < 3; ++depth)
+        {
+          List<EObject> newParents = new ArrayList<EObject>();
+          for (EObject parent : parents)
+          {
+            for (int k = 0; k < 4; ++k)
+            {
+              EObject child = EcoreUtil.create(nodeClass);
+              @SuppressWarnings("unchecked")
+              List<EObject> childList = (List<EObject>)parent.eGet(children);
+              childList.add(child);
+              nodes.add(child);
+              newParents.add(child);
+            }
+          }
+          parents = newParents;
+        }
+      }
+    }
+
+    int size = nodes.size();
+    for (int i = 0; i < size; ++i)
+    {
+      EObject node = nodes.get(i);
+      @SuppressWarnings("unchecked")
+      List<EObject> targetList = (List<EObject>)node.eGet(targets);
+      targetList.add(nodes.get((i * 7 + 3) % size));
+      targetList.add(nodes.get((i * 13 + 5) % size));
+      if (i % 10 == 0)
+      {
+        // A proxy that resolves to an object in another resource.
+        //
+        InternalEObject proxy = (InternalEObject)EcoreUtil.create(nodeClass);
+        proxy.eSetProxyURI(EcoreUtil.getURI(nodes.get((i + size / 2) % size)));
+        node.eSet(target, proxy);
+      }
+      else
+      {
+        node.eSet(target, nodes.get((i * 31 + 1) % size));
+      }
+    }
+  }
+
+  @After
+  public void tearDown()
+  {
+    executor.shutdown();
+  }
+
+  private Map<EObject, List<String>> toComparable(Map<EObject, Collection<EStructuralFeature.Setting>> crossReferences)
+  {
+    Map<EObject, List<String>> result = new HashMap<EObject, List<String>>();
+    for (Map.Entry<EObject, Collection<EStructuralFeature.Setting>> entry : crossReferences.entrySet())
+    {
+      List<String> settings = new ArrayList<String>();
+      for (EStructuralFeature.Setting setting : entry.getValue())
+      {
+        settings.add(EcoreUtil.getURI(setting.getEObject()) + " " + setting.getEStructuralFeature().getName());
+      }
+      result.put(entry.getKey(), settings);
+    }
+    return result;
+  }
+
+  @Test
+  public void testCrossReferencer()
+  {
+    // Compute the parallel result first, so that it's the one that must resolve the proxies.
+    //
+    Map<EObject, Collection<EStructuralFeature.Setting>> parallel = EcoreUtil.CrossReferencer.find(Collections.singleton(resourceSet), executor);
+    Map<EObject, Collection<EStructuralFeature.Setting>> sequential = EcoreUtil.CrossReferencer.find(Collections.singleton(resourceSet));
+    assertFalse(sequential.isEmpty());
+    assertEquals(toComparable(sequential), toComparable(parallel));
+    assertEquals(toComparable(sequential), toComparable(EcoreUtil.CrossReferencer.find(Collections.singleton(resourceSet), null)));
+  }
+
+  @Test
+  public void testExternalCrossReferencer()
+  {
+    Resource resource = resourceSet.getResources().get(1);
+    Map<EObject, Collection<EStructuralFeature.Setting>> parallel = EcoreUtil.ExternalCrossReferencer.find(Collections.singleton(resource), executor);
+    Map<EObject, Collection<EStructuralFeature.Setting>> sequential = EcoreUtil.ExternalCrossReferencer.find(Collections.singleton(resource));
+    assertFalse(sequential.isEmpty());
+    for (EObject eObject : parallel.keySet())
+    {
+      assertTrue(eObject.eResource() != resource);
+    }
+    assertEquals(toComparable(sequential), toComparable(parallel));
+  }
+
+  @Test
+  public void testUsageCrossReferencer()
+  {
+    List<EObject> eObjectsOfInterest = new ArrayList<EObject>();
+    for (int i = 0; i < nodes.size(); i += 3)
+    {
+      eObjectsOfInterest.add(nodes.get(i));
+    }
+    eObjectsOfInterest.add(nodes.get(0).eClass());
+    Map<EObject, Collection<EStructuralFeature.Setting>> sequential = EcoreUtil.UsageCrossReferencer.findAll(eObjectsOfInterest, resourceSet);
+    Map<EObject, Collection<EStructuralFeature.Setting>> parallel = EcoreUtil.UsageCrossReferencer.findAll(eObjectsOfInterest, resourceSet, executor);
+    assertFalse(sequential.isEmpty());
+    assertEquals(toComparable(sequential), toComparable(parallel));
+
+    EObject node = nodes.get(nodes.size() / 2);
+    assertEquals
+      (toComparable(Collections.singletonMap(node, EcoreUtil.UsageCrossReferencer.find(node, resourceSet))),
+       toComparable(Collections.singletonMap(node, EcoreUtil.UsageCrossReferencer.find(node, resourceSet, executor))));
+  }
+}
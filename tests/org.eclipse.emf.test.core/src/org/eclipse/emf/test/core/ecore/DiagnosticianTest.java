@@ -8,18 +8,25 @@
 package org.eclipse.emf.test.core.ecore;
 
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.DiagnosticChain;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.EClassImpl;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -394,6 +401,97 @@ public class DiagnosticianTest
     }
   }
 
+  /**
+   * This tests that concurrent validation produces the same diagnostics, in the same order, as sequential validation.
+   */
+  @Test
+  public void testConcurrentValidation()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("items");
+    ePackage.setNsPrefix("items");
+    ePackage.setNsURI("items");
+    EClass itemClass = EcoreFactory.eINSTANCE.createEClass();
+    itemClass.setName("Item");
+    ePackage.getEClassifiers().add(itemClass);
+    EAttribute nameAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    nameAttribute.setName("name");
+    nameAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nameAttribute.setLowerBound(1);
+    itemClass.getEStructuralFeatures().add(nameAttribute);
+    EReference itemsReference = EcoreFactory.eINSTANCE.createEReference();
+    itemsReference.setName("items");
+    itemsReference.setEType(itemClass);
+    itemsReference.setContainment(true);
+    itemsReference.setUpperBound(-1);
+    itemClass.getEStructuralFeatures().add(itemsReference);
+    EReference targetReference = EcoreFactory.eINSTANCE.createEReference();
+    targetReference.setName("target");
+    targetReference.setEType(itemClass);
+    itemClass.getEStructuralFeatures().add(targetReference);
+
+    // Build a tree in which some of the items have no name and some reference a proxy that can't be resolved.
+    //
+    EObject root = EcoreUtil.create(itemClass);
+    root.eSet(nameAttribute, "root");
+    List<EObject> parents = new ArrayList<EObject>();
+    parents.add(root);
+    int count = 0;
+    for (int depth = 0; depth < 4; ++depth)
+    {
+      List<EObject> children = new ArrayList<EObject>();
+      for (EObject parent : parents)
+      {
+        for (int i = 0; i < 5; ++i)
+        {
+          EObject child = EcoreUtil.create(itemClass);
+          if (++count % 7 != 0)
+          {
+            child.eSet(nameAttribute, "item" + count);
+          }
+          if (count % 11 == 0)
+          {
+            InternalEObject proxy = (InternalEObject)EcoreUtil.create(itemClass);
+            proxy.eSetProxyURI(URI.createURI("missing.xmi#" + count));
+            child.eSet(targetReference, proxy);
+          }
+          else
+          {
+            child.eSet(targetReference, parent);
+          }
+          @SuppressWarnings("unchecked")
+          List<EObject> items = (List<EObject>)parent.eGet(itemsReference);
+          items.add(child);
+          children.add(child);
+        }
+      }
+      parents = children;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try
+    {
+      Diagnostician diagnostician = new Diagnostician();
+      Diagnostic sequential = diagnostician.validate(root);
+      Diagnostic concurrent = diagnostician.validate(root, diagnostician.createDefaultContext(), executor);
+      Assert.assertEquals(Diagnostic.ERROR, sequential.getSeverity());
+      Assert.assertEquals(sequential.getChildren().size(), concurrent.getChildren().size());
+      Assert.assertEquals(sequential.toString(), concurrent.toString());
+
+      Assert.assertFalse(diagnostician.validate(root, null, diagnostician.createDefaultContext(), executor));
+      for (EObject eObject : root.eContents().get(0).eContents())
+      {
+        Assert.assertEquals
+          (diagnostician.validate(eObject, (DiagnosticChain)null),
+           diagnostician.validate(eObject, null, diagnostician.createDefaultContext(), executor));
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
 //  /**
 //   * A simple test for profiling.
 //   */
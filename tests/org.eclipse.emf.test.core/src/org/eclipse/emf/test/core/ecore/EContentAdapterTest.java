@@ -9,14 +9,21 @@ package org.eclipse.emf.test.core.ecore;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
@@ -25,6 +32,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.junit.Before;
 import org.junit.Test;
@@ -208,4 +216,108 @@ public class EContentAdapterTest
     assertEquals("One EContentAdapter is expected", expectedSize, eAdapters.size());
     assertEquals("No EContentAdapter is expected", 0, childResourceEAdapters.size());
   }
+
+  @Test
+  public void testBatch()
+  {
+    EClass addedEClass = EcoreFactory.eINSTANCE.createEClass();
+    EClass transientEClass = EcoreFactory.eINSTANCE.createEClass();
+    EClass transientChildEClass = EcoreFactory.eINSTANCE.createEClass();
+    EPackage transientEPackage = EcoreFactory.eINSTANCE.createEPackage();
+    transientEPackage.getEClassifiers().add(transientChildEClass);
+
+    eContentAdapter.beginBatch();
+    eContentAdapter.beginBatch();
+    ePackage.getEClassifiers().add(addedEClass);
+    ePackage.getEClassifiers().add(transientEClass);
+    ePackage.getESubpackages().add(transientEPackage);
+    ePackage.getEClassifiers().remove(transientEClass);
+    ePackage.getESubpackages().remove(transientEPackage);
+    rootResource.getContents().add(eClass);
+    assertTrue("The addition of the EContentAdapter should not be deferred", addedEClass.eAdapters().contains(eContentAdapter));
+    assertTrue("The removal of the EContentAdapter should be deferred", transientEClass.eAdapters().contains(eContentAdapter));
+    eContentAdapter.endBatch();
+    assertTrue("The batch should still be in progress", eContentAdapter.isBatching());
+    assertTrue("The removal of the EContentAdapter should be deferred", transientChildEClass.eAdapters().contains(eContentAdapter));
+    eContentAdapter.endBatch();
+
+    assertFalse("The batch should have ended", eContentAdapter.isBatching());
+    assertTrue("The EContentAdapter is expected", addedEClass.eAdapters().contains(eContentAdapter));
+    assertTrue("The EContentAdapter is expected", eClass.eAdapters().contains(eContentAdapter));
+    assertFalse("No EContentAdapter is expected", transientEClass.eAdapters().contains(eContentAdapter));
+    assertFalse("No EContentAdapter is expected", transientEPackage.eAdapters().contains(eContentAdapter));
+    assertFalse("No EContentAdapter is expected", transientChildEClass.eAdapters().contains(eContentAdapter));
+  }
+
+  @Test
+  public void testBatchNotifications()
+  {
+    final List<Notifier> notifiers = new ArrayList<Notifier>();
+    EContentAdapter recordingEContentAdapter =
+      new EContentAdapter()
+      {
+        @Override
+        public void notifyChanged(Notification notification)
+        {
+          super.notifyChanged(notification);
+          notifiers.add((Notifier)notification.getNotifier());
+        }
+      };
+    ePackage.eAdapters().add(recordingEContentAdapter);
+    EClass addedEClass = EcoreFactory.eINSTANCE.createEClass();
+    EAttribute addedEAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    addedEClass.getEStructuralFeatures().add(addedEAttribute);
+    EClass removedEClass = EcoreFactory.eINSTANCE.createEClass();
+    ePackage.getEClassifiers().add(removedEClass);
+
+    // The objects added during the batch notify the adapter right away,
+    // while those removed during the batch keep notifying it until the batch ends.
+    //
+    recordingEContentAdapter.beginBatch();
+    ePackage.getEClassifiers().add(addedEClass);
+    ePackage.getEClassifiers().remove(removedEClass);
+    notifiers.clear();
+    addedEAttribute.setName("added");
+    assertEquals("A notification from the added object is expected", Collections.singletonList(addedEAttribute), notifiers);
+    notifiers.clear();
+    removedEClass.setName("removed");
+    assertEquals("A notification from the removed object is expected", Collections.singletonList(removedEClass), notifiers);
+    recordingEContentAdapter.endBatch();
+
+    notifiers.clear();
+    removedEClass.setName("changed");
+    addedEAttribute.setName("changed");
+    assertEquals("Only a notification from the added object is expected", Collections.singletonList(addedEAttribute), notifiers);
+  }
+
+  @Test
+  public void testCrossReferenceAdapterBatch()
+  {
+    ECrossReferenceAdapter eCrossReferenceAdapter = new ECrossReferenceAdapter();
+    ECrossReferenceAdapter unbatchedECrossReferenceAdapter = new ECrossReferenceAdapter();
+    resourceSet.eAdapters().add(eCrossReferenceAdapter);
+    resourceSet.eAdapters().add(unbatchedECrossReferenceAdapter);
+    EClass otherEClass = EcoreFactory.eINSTANCE.createEClass();
+    EClass addedEClass = EcoreFactory.eINSTANCE.createEClass();
+    ePackage.getEClassifiers().add(otherEClass);
+
+    eCrossReferenceAdapter.beginBatch();
+    eClass.getESuperTypes().add(otherEClass);
+    otherEClass.getESuperTypes().add(eClass);
+    otherEClass.getESuperTypes().remove(eClass);
+    ePackage.getEClassifiers().add(addedEClass);
+    addedEClass.getESuperTypes().add(eClass);
+    assertTrue("The addition of the ECrossReferenceAdapter should not be deferred", addedEClass.eAdapters().contains(eCrossReferenceAdapter));
+    assertEquals("The index should not change during the batch", 0, eCrossReferenceAdapter.getNonNavigableInverseReferences(otherEClass).size());
+    eCrossReferenceAdapter.endBatch();
+
+    for (EClass eClass : new EClass [] { this.eClass, otherEClass, addedEClass })
+    {
+      assertEquals
+        ("The batched index should be the same as the unbatched index",
+         unbatchedECrossReferenceAdapter.getNonNavigableInverseReferences(eClass).size(),
+         eCrossReferenceAdapter.getNonNavigableInverseReferences(eClass).size());
+    }
+    assertTrue("The ECrossReferenceAdapter is expected", addedEClass.eAdapters().contains(eCrossReferenceAdapter));
+  }
 }
@@ -10,6 +10,7 @@ package org.eclipse.emf.test.core.ecore;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,6 +18,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
@@ -33,6 +35,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.IndexedECrossReferenceAdapter;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -46,9 +49,9 @@ import org.junit.runners.Parameterized.Parameters;
 public class ECrossReferenceAdapterStressTest
 {
   @Parameters(name = "{0}")
-  public static Collection<TestableECrossReferenceAdapter> eCrossReferenceAdapters()
+  public static Collection<Testable> eCrossReferenceAdapters()
   {
-    return Arrays.asList(new TestableECrossReferenceAdapter(), new TestableECrossReferenceAdapter()
+    return Arrays.<Testable>asList(new TestableECrossReferenceAdapter(), new TestableECrossReferenceAdapter()
       {
         @Override
         protected boolean useRecursion()
@@ -61,7 +64,7 @@ public class ECrossReferenceAdapterStressTest
         {
           return "iterative";
         }
-      });
+      }, new TestableIndexedECrossReferenceAdapter());
   }
 
   private List<EObject> instances;
@@ -73,7 +76,7 @@ public class ECrossReferenceAdapterStressTest
   private List<EReference> eReferences;
 
   @Parameter
-  public TestableECrossReferenceAdapter eCrossReferenceAdapter;
+  public Testable eCrossReferenceAdapter;
 
   @Test
   public void testConsistentCrossReferences()
@@ -190,7 +193,16 @@ public class ECrossReferenceAdapterStressTest
   {
   }
 
-  private static class TestableECrossReferenceAdapter extends ECrossReferenceAdapter
+  private interface Testable extends Adapter
+  {
+    void setECrossReferenceAdapterStressTest(ECrossReferenceAdapterStressTest eCrossReferenceAdapterStressTest);
+
+    void testProperlyFull();
+
+    void testEmpty();
+  }
+
+  private static class TestableECrossReferenceAdapter extends ECrossReferenceAdapter implements Testable
   {
     private ECrossReferenceAdapterStressTest eCrossReferenceAdapterStressTest;
 
@@ -220,4 +232,45 @@ public class ECrossReferenceAdapterStressTest
       return "recursive";
     }
   }
+
+  private static class TestableIndexedECrossReferenceAdapter extends IndexedECrossReferenceAdapter implements Testable
+  {
+    private ECrossReferenceAdapterStressTest eCrossReferenceAdapterStressTest;
+
+    public void setECrossReferenceAdapterStressTest(ECrossReferenceAdapterStressTest eCrossReferenceAdapterStressTest)
+    {
+      this.eCrossReferenceAdapterStressTest = eCrossReferenceAdapterStressTest;
+    }
+
+    public void testProperlyFull()
+    {
+      int size = eCrossReferenceAdapterStressTest.instances.size();
+      assertEquals("The inverse cross referencer isn't of the expected size", size, inverseCrossReferencer.size());
+      for (Map.Entry<EObject, Collection<Setting>> entry : inverseCrossReferencer.entrySet())
+      {
+        assertEquals("", size * eCrossReferenceAdapterStressTest.referenceCount, entry.getValue().size());
+      }
+      EObject eObject = eCrossReferenceAdapterStressTest.instances.get(0);
+      for (EReference eReference : eCrossReferenceAdapterStressTest.eReferences)
+      {
+        Collection<Setting> settings = getInverseReferences(eObject, eReference, false);
+        assertEquals(size, settings.size());
+        for (Setting setting : settings)
+        {
+          assertSame(eReference, setting.getEStructuralFeature());
+        }
+      }
+    }
+
+    public void testEmpty()
+    {
+      assertEquals("The inverse cross referencer isn't empty", 0, inverseCrossReferencer.size());
+    }
+
+    @Override
+    public String toString()
+    {
+      return "indexed";
+    }
+  }
 }
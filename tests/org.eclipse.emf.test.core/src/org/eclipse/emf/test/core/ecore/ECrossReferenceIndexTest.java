@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.ECrossReferenceIndex;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ECrossReferenceIndexTest
+{
+  private File directory;
+  private URI baseURI;
+  private URI aURI;
+  private URI bURI;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    directory = File.createTempFile("xrefs", "");
+    assertTrue(directory.delete());
+    assertTrue(directory.mkdirs());
+    baseURI = URI.createFileURI(new File(directory, "base.ecore").getAbsolutePath());
+    aURI = URI.createFileURI(new File(directory, "a.ecore").getAbsolutePath());
+    bURI = URI.createFileURI(new File(directory, "b.ecore").getAbsolutePath());
+
+    ResourceSet resourceSet = createResourceSet();
+    EClass base = createEClass(resourceSet, baseURI, "Base");
+    EClass a = createEClass(resourceSet, aURI, "A");
+    a.getESuperTypes().add(base);
+    EClass b = createEClass(resourceSet, bURI, "B");
+    b.getESuperTypes().add(base);
+    EReference eReference = EcoreFactory.eINSTANCE.createEReference();
+    eReference.setName("a");
+    eReference.setEType(a);
+    b.getEStructuralFeatures().add(eReference);
+
+    for (Resource resource : resourceSet.getResources())
+    {
+      resource.save(Collections.singletonMap(Resource.OPTION_CROSS_REFERENCE_INDEX, Boolean.TRUE));
+    }
+  }
+
+  @After
+  public void tearDown()
+  {
+    for (File file : directory.listFiles())
+    {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  private ResourceSet createResourceSet()
+  {
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new EcoreResourceFactoryImpl());
+    return resourceSet;
+  }
+
+  private EClass createEClass(ResourceSet resourceSet, URI uri, String name)
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName(name.toLowerCase());
+    ePackage.setNsPrefix(name.toLowerCase());
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/xrefs/" + name);
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName(name);
+    ePackage.getEClassifiers().add(eClass);
+    resourceSet.createResource(uri).getContents().add(ePackage);
+    return eClass;
+  }
+
+  private EClass getEClass(ResourceSet resourceSet, URI uri)
+  {
+    return (EClass)((EPackage)resourceSet.getResource(uri, true).getContents().get(0)).getEClassifiers().get(0);
+  }
+
+  @Test
+  public void testIndexFiles() throws Exception
+  {
+    for (URI uri : new URI [] { baseURI, aURI, bURI })
+    {
+      assertTrue("The index file should exist", new File(ECrossReferenceIndex.getIndexURI(uri).toFileString()).exists());
+    }
+
+    ResourceSet resourceSet = createResourceSet();
+    ECrossReferenceIndex index = new ECrossReferenceIndex(resourceSet);
+    assertTrue(index.load(aURI));
+    assertTrue(index.load(bURI));
+    assertFalse(index.load(URI.createFileURI(new File(directory, "missing.ecore").getAbsolutePath())));
+    assertEquals(2, index.getResourceURIs().size());
+
+    EClass base = getEClass(resourceSet, baseURI);
+    Collection<EStructuralFeature.Setting> settings = index.getInverseReferences(base);
+    assertFalse(settings.isEmpty());
+    Set<URI> sourceResourceURIs = new HashSet<URI>();
+    for (EStructuralFeature.Setting setting : settings)
+    {
+      sourceResourceURIs.add(((ECrossReferenceIndex.IndexedSetting)setting).getSourceURI().trimFragment());
+    }
+    assertEquals(2, sourceResourceURIs.size());
+    assertTrue(sourceResourceURIs.contains(aURI));
+    assertTrue(sourceResourceURIs.contains(bURI));
+    assertEquals("Only the base resource should be loaded", 1, resourceSet.getResources().size());
+
+    EStructuralFeature.Setting superTypesSetting = null;
+    for (EStructuralFeature.Setting setting : settings)
+    {
+      if (((ECrossReferenceIndex.IndexedSetting)setting).getSourceURI().trimFragment().equals(aURI) &&
+            setting.getEStructuralFeature() == EcorePackage.Literals.ECLASS__ESUPER_TYPES)
+      {
+        superTypesSetting = setting;
+      }
+    }
+    assertEquals("Resolving the reference should not load a resource", 1, resourceSet.getResources().size());
+
+    EObject a = superTypesSetting.getEObject();
+    assertSame(getEClass(resourceSet, aURI), a);
+    assertTrue(((Collection<?>)superTypesSetting.get(true)).contains(base));
+
+    Collection<ECrossReferenceIndex.IndexedSetting> bSettings = index.getIndexedInverseReferences(EcoreUtil.getURI(a));
+    Set<EStructuralFeature> bFeatures = new HashSet<EStructuralFeature>();
+    for (ECrossReferenceIndex.IndexedSetting bSetting : bSettings)
+    {
+      assertEquals(bURI, bSetting.getSourceURI().trimFragment());
+      bFeatures.add(bSetting.getEStructuralFeature());
+    }
+    assertEquals(2, bSettings.size());
+    assertTrue(bFeatures.contains(EcorePackage.Literals.ETYPED_ELEMENT__ETYPE));
+    assertTrue(bFeatures.contains(EcorePackage.Literals.EGENERIC_TYPE__ECLASSIFIER));
+  }
+
+  @Test
+  public void testLoadedResources() throws Exception
+  {
+    ResourceSet resourceSet = createResourceSet();
+    ECrossReferenceIndex index = new ECrossReferenceIndex(resourceSet);
+    index.load(aURI);
+    index.load(bURI);
+    resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+
+    EClass base = getEClass(resourceSet, baseURI);
+    EClass a = getEClass(resourceSet, aURI);
+    a.getESuperTypes().clear();
+
+    for (EStructuralFeature.Setting setting : index.getInverseReferences(base))
+    {
+      EObject eObject = setting instanceof ECrossReferenceIndex.IndexedSetting ? null : setting.getEObject();
+      assertFalse("The modified loaded resource should not be answered from the index", eObject != null && eObject.eResource() != null && eObject.eResource().getURI().equals(aURI));
+      if (setting instanceof ECrossReferenceIndex.IndexedSetting)
+      {
+        assertEquals(bURI, ((ECrossReferenceIndex.IndexedSetting)setting).getSourceURI().trimFragment());
+      }
+    }
+    assertNull("The unloaded resource should not be loaded", resourceSet.getResource(bURI, false));
+
+    index.remove(bURI);
+    assertTrue(index.getIndexedInverseReferences(EcoreUtil.getURI(base)).isEmpty());
+  }
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceFactoryImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EFingerprintAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class EFingerprintAdapterTest
+{
+  private EClass nodeClass;
+
+  private EAttribute nameAttribute;
+
+  private EReference childrenReference;
+
+  private EReference targetReference;
+
+  @Before
+  public void setUp()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("fingerprint");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/fingerprint");
+    nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    nameAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    nameAttribute.setName("name");
+    nameAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nodeClass.getEStructuralFeatures().add(nameAttribute);
+    childrenReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenReference.setName("children");
+    childrenReference.setEType(nodeClass);
+    childrenReference.setContainment(true);
+    childrenReference.setUpperBound(-1);
+    nodeClass.getEStructuralFeatures().add(childrenReference);
+    targetReference = EcoreFactory.eINSTANCE.createEReference();
+    targetReference.setName("target");
+    targetReference.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(targetReference);
+  }
+
+  private EObject createTree(String name, int depth)
+  {
+    EObject node = EcoreUtil.create(nodeClass);
+    node.eSet(nameAttribute, name);
+    if (depth > 0)
+    {
+      @SuppressWarnings("unchecked")
+      List<EObject> children = (List<EObject>)node.eGet(childrenReference);
+      for (int i = 0; i < 3; ++i)
+      {
+        children.add(createTree(name + i, depth - 1));
+      }
+      children.get(0).eSet(targetReference, children.get(2));
+    }
+    return node;
+  }
+
+  @Test
+  public void testFingerprintConsistentWithEquality()
+  {
+    EObject tree = createTree("n", 3);
+    EObject copy = EcoreUtil.copy(tree);
+    assertTrue(EcoreUtil.equals(tree, copy));
+    assertEquals(EcoreUtil.fingerprint(tree), EcoreUtil.fingerprint(copy));
+
+    EObject leaf = copy.eContents().get(1).eContents().get(2).eContents().get(0);
+    leaf.eSet(nameAttribute, "changed");
+    assertFalse(EcoreUtil.equals(tree, copy));
+    assertNotEquals(EcoreUtil.fingerprint(tree), EcoreUtil.fingerprint(copy));
+
+    leaf.eSet(nameAttribute, "n120");
+    assertEquals(EcoreUtil.fingerprint(tree), EcoreUtil.fingerprint(copy));
+    leaf.eUnset(nameAttribute);
+    assertNotEquals(EcoreUtil.fingerprint(tree), EcoreUtil.fingerprint(copy));
+
+    // Proxies with the same URI are equal.
+    //
+    InternalEObject proxy1 = (InternalEObject)EcoreUtil.create(nodeClass);
+    proxy1.eSetProxyURI(URI.createURI("a.xmi#//"));
+    InternalEObject proxy2 = (InternalEObject)EcoreUtil.create(nodeClass);
+    proxy2.eSetProxyURI(URI.createURI("a.xmi#//"));
+    assertEquals(EcoreUtil.fingerprint(proxy1), EcoreUtil.fingerprint(proxy2));
+    assertEquals(0L, EcoreUtil.fingerprint(null));
+  }
+
+  @Test
+  public void testBucketing()
+  {
+    List<EObject> trees = new ArrayList<EObject>();
+    for (int i = 0; i < 20; ++i)
+    {
+      trees.add(createTree("t" + i % 5, 2));
+    }
+    for (int i = 0; i < trees.size(); ++i)
+    {
+      for (int j = 0; j < trees.size(); ++j)
+      {
+        EObject tree1 = trees.get(i);
+        EObject tree2 = trees.get(j);
+        if (EcoreUtil.equals(tree1, tree2))
+        {
+          assertEquals(EcoreUtil.fingerprint(tree1), EcoreUtil.fingerprint(tree2));
+        }
+        assertEquals(i % 5 == j % 5, EcoreUtil.fingerprint(tree1) == EcoreUtil.fingerprint(tree2));
+      }
+    }
+  }
+
+  @Test
+  public void testAdapter()
+  {
+    EObject tree = createTree("n", 3);
+    Resource resource = new ResourceImpl(URI.createURI("tree.xmi"));
+    resource.getContents().add(tree);
+    EFingerprintAdapter fingerprintAdapter = new EFingerprintAdapter();
+    resource.eAdapters().add(fingerprintAdapter);
+    assertEquals(fingerprintAdapter, EFingerprintAdapter.getFingerprintAdapter(tree));
+
+    EObject child = tree.eContents().get(1);
+    EObject leaf = child.eContents().get(2).eContents().get(0);
+    EObject sibling = tree.eContents().get(2);
+    long fingerprint = fingerprintAdapter.getFingerprint(tree);
+    assertEquals(EcoreUtil.fingerprint(tree), fingerprint);
+    long siblingFingerprint = fingerprintAdapter.getFingerprint(sibling);
+    assertEquals(EcoreUtil.fingerprint(sibling), siblingFingerprint);
+
+    leaf.eSet(nameAttribute, "changed");
+    assertNotEquals(fingerprint, fingerprintAdapter.getFingerprint(tree));
+    assertEquals(EcoreUtil.fingerprint(tree), fingerprintAdapter.getFingerprint(tree));
+    assertEquals(EcoreUtil.fingerprint(child), fingerprintAdapter.getFingerprint(child));
+    assertEquals(siblingFingerprint, fingerprintAdapter.getFingerprint(sibling));
+
+    leaf.eSet(nameAttribute, "n120");
+    assertEquals(fingerprint, fingerprintAdapter.getFingerprint(tree));
+
+    // Moving a subtree is a change to both containers.
+    //
+    @SuppressWarnings("unchecked")
+    List<EObject> siblingChildren = (List<EObject>)sibling.eGet(childrenReference);
+    siblingChildren.add(leaf);
+    assertEquals(EcoreUtil.fingerprint(tree), fingerprintAdapter.getFingerprint(tree));
+    assertEquals(EcoreUtil.fingerprint(sibling), fingerprintAdapter.getFingerprint(sibling));
+    assertNotEquals(fingerprint, fingerprintAdapter.getFingerprint(tree));
+
+    // A removed object is no longer tracked, so its fingerprint isn't cached.
+    //
+    EcoreUtil.remove(leaf);
+    assertEquals(null, EFingerprintAdapter.getFingerprintAdapter(leaf));
+    long leafFingerprint = fingerprintAdapter.getFingerprint(leaf);
+    leaf.eSet(nameAttribute, "detached");
+    assertNotEquals(leafFingerprint, fingerprintAdapter.getFingerprint(leaf));
+  }
+
+  @Test
+  public void testProxiesNotResolved()
+  {
+    EObject tree = createTree("n", 1);
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("xmi", new ResourceFactoryImpl());
+    Resource resource = new ResourceImpl(URI.createURI("tree.xmi"));
+    resourceSet.getResources().add(resource);
+    resource.getContents().add(tree);
+    InternalEObject proxy = (InternalEObject)EcoreUtil.create(nodeClass);
+    proxy.eSetProxyURI(URI.createURI("other.xmi#//"));
+    tree.eSet(targetReference, proxy);
+
+    long fingerprint = EcoreUtil.fingerprint(tree);
+    assertEquals(1, resourceSet.getResources().size());
+    assertTrue(((EObject)tree.eGet(targetReference, false)).eIsProxy());
+    tree.eSet(targetReference, tree.eContents().get(0));
+    assertEquals(fingerprint, EcoreUtil.fingerprint(tree));
+  }
+}
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.EValidationAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class EValidationAdapterTest
+{
+  /**
+   * A diagnostician that records the objects it validates.
+   */
+  private static class RecordingDiagnostician extends Diagnostician
+  {
+    public List<EObject> validated = new ArrayList<EObject>();
+
+    @Override
+    public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context)
+    {
+      validated.add(eObject);
+      return super.validate(eClass, eObject, diagnostics, context);
+    }
+  }
+
+  private EClass nodeClass;
+
+  private EAttribute nameAttribute;
+
+  private EReference childrenReference;
+
+  private EReference targetReference;
+
+  private EObject root;
+
+  private Resource resource;
+
+  private RecordingDiagnostician diagnostician;
+
+  private EValidationAdapter validationAdapter;
+
+  @Before
+  public void setUp()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("validation");
+    ePackage.setNsPrefix("validation");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/validation");
+    nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    nameAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    nameAttribute.setName("name");
+    nameAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nameAttribute.setLowerBound(1);
+    nodeClass.getEStructuralFeatures().add(nameAttribute);
+    childrenReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenReference.setName("children");
+    childrenReference.setEType(nodeClass);
+    childrenReference.setContainment(true);
+    childrenReference.setUpperBound(-1);
+    nodeClass.getEStructuralFeatures().add(childrenReference);
+    targetReference = EcoreFactory.eINSTANCE.createEReference();
+    targetReference.setName("target");
+    targetReference.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(targetReference);
+
+    root = createNode("root");
+    for (int i = 0; i < 3; ++i)
+    {
+      EObject child = createNode(i == 1 ? null : "child" + i);
+      getChildren(root).add(child);
+      for (int j = 0; j < 3; ++j)
+      {
+        getChildren(child).add(createNode("child" + i + j));
+      }
+    }
+    resource = new ResourceImpl(URI.createURI("nodes.xmi"));
+    resource.getContents().add(root);
+
+    diagnostician = new RecordingDiagnostician();
+    validationAdapter = new EValidationAdapter(diagnostician);
+    resource.eAdapters().add(validationAdapter);
+  }
+
+  private EObject createNode(String name)
+  {
+    EObject node = EcoreUtil.create(nodeClass);
+    if (name != null)
+    {
+      node.eSet(nameAttribute, name);
+    }
+    return node;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<EObject> getChildren(EObject node)
+  {
+    return (List<EObject>)node.eGet(childrenReference);
+  }
+
+  private List<String> getMessages(Diagnostic diagnostic)
+  {
+    List<String> result = new ArrayList<String>();
+    for (Diagnostic child : diagnostic.getChildren())
+    {
+      result.add(child.getMessage());
+    }
+    return result;
+  }
+
+  @Test
+  public void testIncrementalValidation()
+  {
+    Diagnostic diagnostic = validationAdapter.getDiagnostic();
+    assertEquals(getMessages(Diagnostician.INSTANCE.validate(root)), getMessages(diagnostic));
+    assertEquals(Diagnostic.ERROR, diagnostic.getSeverity());
+    assertEquals(13, diagnostician.validated.size());
+
+    // Fixing the invalid object revalidates only that object and the object that contains it.
+    //
+    EObject invalidChild = root.eContents().get(1);
+    assertEquals(Diagnostic.ERROR, validationAdapter.getDiagnostic(invalidChild).getSeverity());
+    diagnostician.validated.clear();
+    invalidChild.eSet(nameAttribute, "child1");
+    diagnostic = validationAdapter.getDiagnostic();
+    assertEquals(Diagnostic.OK, diagnostic.getSeverity());
+    assertEquals(2, diagnostician.validated.size());
+    assertSame(Diagnostic.OK_INSTANCE, validationAdapter.getDiagnostic(invalidChild));
+
+    // Nothing changed, so nothing is revalidated.
+    //
+    diagnostician.validated.clear();
+    validationAdapter.getDiagnostic();
+    assertEquals(0, diagnostician.validated.size());
+
+    // Several changes to one object cost only one revalidation.
+    //
+    EObject leaf = invalidChild.eContents().get(2);
+    leaf.eUnset(nameAttribute);
+    leaf.eSet(nameAttribute, "changed");
+    leaf.eUnset(nameAttribute);
+    diagnostic = validationAdapter.getDiagnostic();
+    assertEquals(getMessages(Diagnostician.INSTANCE.validate(root)), getMessages(diagnostic));
+    assertEquals(2, diagnostician.validated.size());
+  }
+
+  @Test
+  public void testDependencies()
+  {
+    validationAdapter.getDiagnostic();
+
+    // Referencing an object that isn't contained by a resource is an error.
+    //
+    EObject referencingNode = root.eContents().get(0).eContents().get(0);
+    EObject danglingNode = createNode("dangling");
+    referencingNode.eSet(targetReference, danglingNode);
+    assertEquals(Diagnostic.ERROR, validationAdapter.getDiagnostic(referencingNode).getSeverity());
+    assertEquals(getMessages(Diagnostician.INSTANCE.validate(root)), getMessages(validationAdapter.getDiagnostic()));
+
+    // Adding the referenced object to the content tree revalidates it, its container, the root that contains its container, and the object that references it.
+    //
+    diagnostician.validated.clear();
+    getChildren(root.eContents().get(2)).add(danglingNode);
+    assertEquals(Diagnostic.OK, validationAdapter.getDiagnostic(referencingNode).getSeverity());
+    assertEquals(4, diagnostician.validated.size());
+
+    // Removing it again makes the reference dangling again, and the removed object is no longer tracked.
+    //
+    EcoreUtil.remove(danglingNode);
+    danglingNode.eUnset(nameAttribute);
+    assertEquals(Diagnostic.ERROR, validationAdapter.getDiagnostic(referencingNode).getSeverity());
+    assertSame(Diagnostic.OK_INSTANCE, validationAdapter.getDiagnostic(danglingNode));
+    assertEquals(getMessages(Diagnostician.INSTANCE.validate(root)), getMessages(validationAdapter.getDiagnostic()));
+
+    // Removing the adapter discards everything.
+    //
+    resource.eAdapters().remove(validationAdapter);
+    assertEquals(Diagnostic.OK, validationAdapter.getDiagnostic().getSeverity());
+  }
+
+  @Test
+  public void testMergedDiagnostic()
+  {
+    EObject leaf = root.eContents().get(2).eContents().get(0);
+    leaf.eUnset(nameAttribute);
+    Diagnostic diagnostic = validationAdapter.getDiagnostic();
+    assertEquals(getMessages(Diagnostician.INSTANCE.validate(root)), getMessages(diagnostic));
+    assertEquals(2, diagnostic.getChildren().size());
+
+    // The merged diagnostic is reused until the diagnostics change.
+    //
+    assertSame(diagnostic, validationAdapter.getDiagnostic());
+    root.eContents().get(0).eSet(nameAttribute, "changed");
+    assertSame(diagnostic, validationAdapter.getDiagnostic());
+
+    // Moving an object with diagnostics reorders the diagnostics.
+    //
+    EObject invalidChild = root.eContents().get(1);
+    getChildren(root).add(0, leaf);
+    diagnostic = validationAdapter.getDiagnostic();
+    assertEquals(Arrays.asList(leaf, invalidChild), diagnostic.getData());
+    ((EList<EObject>)getChildren(root)).move(3, 0);
+    diagnostic = validationAdapter.getDiagnostic();
+    assertEquals(Arrays.asList(invalidChild, leaf), diagnostic.getData());
+  }
+}
@@ -11,13 +11,18 @@
 package org.eclipse.emf.test.core.ecore;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.Notifier;
@@ -25,8 +30,10 @@ import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EFactory;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EOperation;
 import org.eclipse.emf.ecore.EPackage;
@@ -41,6 +48,7 @@ import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.EcoreUtil.EqualityHelper;
+import org.eclipse.emf.ecore.util.InternalEList;
 import org.junit.Test;
 
 public class EcoreTest
@@ -160,6 +168,273 @@ public class EcoreTest
     assertTrue(assertionFailure);
   }
 
+  @Test
+  public void testFrozenModelConcurrentRead() throws Exception
+  {
+    final EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("frozen");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/frozen");
+    EClass baseClass = EcoreFactory.eINSTANCE.createEClass();
+    baseClass.setName("Base");
+    ePackage.getEClassifiers().add(baseClass);
+    EAttribute idAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    idAttribute.setName("id");
+    idAttribute.setEType(EcorePackage.Literals.ESTRING);
+    idAttribute.setID(true);
+    baseClass.getEStructuralFeatures().add(idAttribute);
+    final EClass nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    nodeClass.getESuperTypes().add(baseClass);
+    ePackage.getEClassifiers().add(nodeClass);
+    EAttribute sizeAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    sizeAttribute.setName("size");
+    sizeAttribute.setEType(EcorePackage.Literals.EINT);
+    sizeAttribute.setDefaultValueLiteral("42");
+    nodeClass.getEStructuralFeatures().add(sizeAttribute);
+    EReference childrenReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenReference.setName("children");
+    childrenReference.setEType(nodeClass);
+    childrenReference.setContainment(true);
+    childrenReference.setUpperBound(EStructuralFeature.UNBOUNDED_MULTIPLICITY);
+    nodeClass.getEStructuralFeatures().add(childrenReference);
+
+    Resource resource = new ResourceImpl(URI.createURI("frozen.ecore"));
+    resource.getContents().add(ePackage);
+    EcoreUtil.freeze(resource, true);
+
+    // Reading the frozen package doesn't produce any notification, i.e., it doesn't modify anything.
+    //
+    final NotificationCollector notificationCollector = new NotificationCollector();
+    for (Iterator<EObject> i = EcoreUtil.getAllContents(resource, false); i.hasNext(); )
+    {
+      i.next().eAdapters().add(notificationCollector);
+    }
+
+    final List<Throwable> failures = new ArrayList<Throwable>();
+    Thread[] threads = new Thread [4];
+    for (int i = 0; i < threads.length; ++i)
+    {
+      threads[i] =
+        new Thread()
+        {
+          @Override
+          public void run()
+          {
+            try
+            {
+              for (int j = 0; j < 100; ++j)
+              {
+                EClass eClass = (EClass)ePackage.getEClassifier("Node");
+                assertSame(nodeClass, eClass);
+                assertEquals(3, eClass.getFeatureCount());
+                assertEquals("id", eClass.getEIDAttribute().getName());
+                assertEquals(1, eClass.getEAllContainments().size());
+                EStructuralFeature size = eClass.getEStructuralFeature("size");
+                assertEquals(1, eClass.getFeatureID(size));
+                EObject node = EcoreUtil.create(eClass);
+                assertEquals(42, node.eGet(size));
+                @SuppressWarnings("unchecked")
+                List<EObject> children = (List<EObject>)node.eGet(eClass.getEStructuralFeature("children"));
+                children.add(EcoreUtil.create(eClass));
+                assertEquals(1, EcoreUtil.copy(node).eContents().size());
+              }
+            }
+            catch (Throwable throwable)
+            {
+              synchronized (failures)
+              {
+                failures.add(throwable);
+              }
+            }
+          }
+        };
+      threads[i].start();
+    }
+    for (Thread thread : threads)
+    {
+      thread.join();
+    }
+    assertEquals(Collections.emptyList(), failures);
+    assertTrue(notificationCollector.getNotifications().isEmpty());
+
+    // Changes are rejected.
+    //
+    try
+    {
+      nodeClass.setName("Changed");
+      fail("A frozen class must not be changeable");
+    }
+    catch (IllegalStateException exception)
+    {
+      // Expected.
+    }
+    try
+    {
+      nodeClass.getEStructuralFeatures().add(EcoreFactory.eINSTANCE.createEAttribute());
+      fail("A frozen class must not be changeable");
+    }
+    catch (IllegalStateException exception)
+    {
+      // Expected.
+    }
+
+    // A package that's frozen without rejecting changes, as generated packages freeze themselves, can still be changed.
+    //
+    EPackage otherPackage = EcoreFactory.eINSTANCE.createEPackage();
+    EClass otherClass = EcoreFactory.eINSTANCE.createEClass();
+    otherPackage.getEClassifiers().add(otherClass);
+    EcoreUtil.freeze(otherPackage);
+    EFactory eFactory = EcoreFactory.eINSTANCE.createEFactory();
+    otherPackage.setEFactoryInstance(eFactory);
+    assertSame(eFactory, otherPackage.getEFactoryInstance());
+    otherClass.setName("Other");
+    assertEquals("Other", otherClass.getName());
+  }
+
+  @Test
+  public void testConcurrentCopy() throws Exception
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("copy");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/copy");
+    EClass nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    EAttribute tagsAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    tagsAttribute.setName("tags");
+    tagsAttribute.setEType(EcorePackage.Literals.ESTRING);
+    tagsAttribute.setUpperBound(EStructuralFeature.UNBOUNDED_MULTIPLICITY);
+    tagsAttribute.setUnique(false);
+    nodeClass.getEStructuralFeatures().add(tagsAttribute);
+    EReference childrenReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenReference.setName("children");
+    childrenReference.setEType(nodeClass);
+    childrenReference.setContainment(true);
+    childrenReference.setUpperBound(EStructuralFeature.UNBOUNDED_MULTIPLICITY);
+    nodeClass.getEStructuralFeatures().add(childrenReference);
+    EReference targetsReference = EcoreFactory.eINSTANCE.createEReference();
+    targetsReference.setName("targets");
+    targetsReference.setEType(nodeClass);
+    targetsReference.setUpperBound(EStructuralFeature.UNBOUNDED_MULTIPLICITY);
+    nodeClass.getEStructuralFeatures().add(targetsReference);
+    EReference sourcesReference = EcoreFactory.eINSTANCE.createEReference();
+    sourcesReference.setName("sources");
+    sourcesReference.setEType(nodeClass);
+    sourcesReference.setUpperBound(EStructuralFeature.UNBOUNDED_MULTIPLICITY);
+    nodeClass.getEStructuralFeatures().add(sourcesReference);
+    EReference peersReference = EcoreFactory.eINSTANCE.createEReference();
+    peersReference.setName("peers");
+    peersReference.setEType(nodeClass);
+    peersReference.setUpperBound(EStructuralFeature.UNBOUNDED_MULTIPLICITY);
+    nodeClass.getEStructuralFeatures().add(peersReference);
+    peersReference.setEOpposite(sourcesReference);
+    sourcesReference.setEOpposite(peersReference);
+    Resource packageResource = new ResourceImpl(URI.createURI("copy.ecore"));
+    packageResource.getContents().add(ePackage);
+    EcoreUtil.freeze(packageResource);
+
+    List<EObject> roots = new ArrayList<EObject>();
+    List<EObject> nodes = new ArrayList<EObject>();
+    for (int i = 0; i < 8; ++i)
+    {
+      EObject root = EcoreUtil.create(nodeClass);
+      roots.add(root);
+      nodes.add(root);
+      for (int j = 0; j < 50; ++j)
+      {
+        EObject child = EcoreUtil.create(nodeClass);
+        @SuppressWarnings("unchecked")
+        List<EObject> children = (List<EObject>)root.eGet(childrenReference);
+        children.add(child);
+        nodes.add(child);
+      }
+    }
+    EObject outsider = EcoreUtil.create(nodeClass);
+    for (int i = 0, size = nodes.size(); i < size; ++i)
+    {
+      EObject node = nodes.get(i);
+      @SuppressWarnings("unchecked")
+      List<String> tags = (List<String>)node.eGet(tagsAttribute);
+      tags.add("tag" + i % 3);
+      tags.add("tag" + i % 3);
+      tags.add("tag" + i);
+      @SuppressWarnings("unchecked")
+      List<EObject> targets = (List<EObject>)node.eGet(targetsReference);
+      targets.add(nodes.get((i * 7 + 1) % size));
+      targets.add(outsider);
+      targets.add(nodes.get((i * 11 + 3) % size));
+      @SuppressWarnings("unchecked")
+      List<EObject> peers = (List<EObject>)node.eGet(peersReference);
+      peers.add(nodes.get((i * 5 + 2) % size));
+      if (i % 4 == 0)
+      {
+        peers.add(outsider);
+      }
+    }
+
+    int outsiderSourceCount = ((List<?>)outsider.eGet(sourcesReference)).size();
+    EcoreUtil.Copier sequentialCopier = new EcoreUtil.Copier();
+    List<EObject> sequentialCopies = new ArrayList<EObject>(sequentialCopier.copyAll(roots));
+    sequentialCopier.copyReferences();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try
+    {
+      EcoreUtil.Copier concurrentCopier = new EcoreUtil.Copier();
+      List<EObject> concurrentCopies = new ArrayList<EObject>(concurrentCopier.copyAll(roots, executor));
+      concurrentCopier.copyReferences();
+
+      assertEquals(new ArrayList<EObject>(sequentialCopier.keySet()), new ArrayList<EObject>(concurrentCopier.keySet()));
+      assertTrue(EcoreUtil.equals(sequentialCopies, concurrentCopies));
+      EObject copy = concurrentCopier.get(nodes.get(1));
+      assertEquals(Arrays.asList("tag1", "tag1", "tag1"), copy.eGet(tagsAttribute));
+      assertSame(outsider, ((List<?>)copy.eGet(targetsReference)).get(1));
+      assertSame(concurrentCopier.get(nodes.get(8)), ((List<?>)copy.eGet(targetsReference)).get(0));
+
+      // Bidirectional references to objects that aren't copied are omitted.
+      //
+      assertEquals(outsiderSourceCount, ((List<?>)outsider.eGet(sourcesReference)).size());
+      assertEquals(1, ((List<?>)concurrentCopier.get(nodes.get(0)).eGet(peersReference)).size());
+
+      // A single tree is split, and a containment proxy is resolved on the calling thread.
+      //
+      EObject tree = EcoreUtil.create(nodeClass);
+      @SuppressWarnings("unchecked")
+      List<EObject> treeChildren = (List<EObject>)tree.eGet(childrenReference);
+      treeChildren.addAll(roots);
+      ResourceSet resourceSet = new ResourceSetImpl();
+      Resource treeResource = new ResourceImpl(URI.createURI("tree.xmi"));
+      resourceSet.getResources().add(treeResource);
+      treeResource.getContents().add(tree);
+      Resource otherResource = new ResourceImpl(URI.createURI("other.xmi"));
+      resourceSet.getResources().add(otherResource);
+      EObject remote = EcoreUtil.create(nodeClass);
+      otherResource.getContents().add(remote);
+      InternalEObject proxy = (InternalEObject)EcoreUtil.create(nodeClass);
+      proxy.eSetProxyURI(EcoreUtil.getURI(remote));
+      @SuppressWarnings("unchecked")
+      InternalEList<EObject> proxyContainer = (InternalEList<EObject>)nodes.get(3).eGet(childrenReference);
+      proxyContainer.addUnique(proxy);
+
+      concurrentCopier = new EcoreUtil.Copier();
+      EObject concurrentTreeCopy = concurrentCopier.copyAll(Collections.singleton(tree), executor).iterator().next();
+      concurrentCopier.copyReferences();
+      assertSame(remote, proxyContainer.basicGet(0));
+      assertFalse(concurrentCopier.get(remote).eIsProxy());
+
+      sequentialCopier = new EcoreUtil.Copier();
+      EObject sequentialTreeCopy = sequentialCopier.copy(tree);
+      sequentialCopier.copyReferences();
+      assertEquals(new ArrayList<EObject>(sequentialCopier.keySet()), new ArrayList<EObject>(concurrentCopier.keySet()));
+      assertTrue(EcoreUtil.equals(sequentialTreeCopy, concurrentTreeCopy));
+      assertSame(concurrentTreeCopy, concurrentCopier.get(roots.get(5)).eContainer());
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
   /**
    * <a href="https://bugs.eclipse.org/bugs/show_bug.cgi?id=540041">Bugzilla 540041</a>
    */
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.IndexedECrossReferenceAdapter;
+import org.junit.Test;
+
+
+public class IndexedECrossReferenceAdapterTest
+{
+  @Test(timeout = 30000)
+  public void testManyTargets()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("indexed");
+    ePackage.setNsPrefix("indexed");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/indexed");
+    EClass nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    EReference targetReference = EcoreFactory.eINSTANCE.createEReference();
+    targetReference.setName("target");
+    targetReference.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(targetReference);
+
+    // More targets through the one reference than the 65,536 slots that a table indexed by only 16 bits of the hash could spread them over.
+    //
+    int count = 150000;
+    Resource resource = new ResourceImpl(URI.createURI("nodes.xmi"));
+    List<EObject> nodes = new ArrayList<EObject>(count);
+    for (int i = 0; i < count; ++i)
+    {
+      nodes.add(EcoreUtil.create(nodeClass));
+    }
+    for (int i = 0; i < count; ++i)
+    {
+      nodes.get(i).eSet(targetReference, nodes.get((i + 1) % count));
+    }
+    resource.getContents().addAll(nodes);
+
+    IndexedECrossReferenceAdapter adapter = new IndexedECrossReferenceAdapter();
+    resource.eAdapters().add(adapter);
+    for (int i = 0; i < count; i += 997)
+    {
+      Collection<EStructuralFeature.Setting> settings = adapter.getNonNavigableInverseReferences(nodes.get((i + 1) % count));
+      assertEquals(1, settings.size());
+      EStructuralFeature.Setting setting = settings.iterator().next();
+      assertSame(nodes.get(i), setting.getEObject());
+      assertSame(targetReference, setting.getEStructuralFeature());
+    }
+
+    // Removing the references must leave the probe sequences of the remaining targets intact.
+    //
+    for (int i = 0; i < count; i += 2)
+    {
+      nodes.get(i).eUnset(targetReference);
+    }
+    for (int i = 0; i < count; ++i)
+    {
+      Collection<EStructuralFeature.Setting> settings = adapter.getNonNavigableInverseReferences(nodes.get((i + 1) % count));
+      assertEquals(i % 2, settings.size());
+    }
+    assertTrue(adapter.getNonNavigableInverseReferences(nodes.get(1)).isEmpty());
+  }
+}
@@ -0,0 +1,298 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.DynamicEObjectImpl;
+import org.eclipse.emf.ecore.impl.OffHeapEStoreImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class OffHeapEStoreImplTest
+{
+  private OffHeapEStoreImpl store;
+  private EPackage ePackage;
+  private EClass nodeClass;
+  private EAttribute nameAttribute;
+  private EAttribute sizeAttribute;
+  private EAttribute weightAttribute;
+  private EAttribute visibleAttribute;
+  private EAttribute stampAttribute;
+  private EAttribute tagsAttribute;
+  private EAttribute scoresAttribute;
+  private EReference childrenReference;
+  private EReference parentReference;
+  private EReference nextReference;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    store = new OffHeapEStoreImpl(4096);
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("offHeap");
+    ePackage.setNsPrefix("offHeap");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/offHeap");
+    ePackage.setEFactoryInstance(new OffHeapEStoreImpl.FactoryImpl(store));
+    nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    nameAttribute = createAttribute("name", EcorePackage.Literals.ESTRING);
+    sizeAttribute = createAttribute("size", EcorePackage.Literals.EINT);
+    weightAttribute = createAttribute("weight", EcorePackage.Literals.EDOUBLE);
+    visibleAttribute = createAttribute("visible", EcorePackage.Literals.EBOOLEAN);
+    visibleAttribute.setDefaultValueLiteral("true");
+    stampAttribute = createAttribute("stamp", EcorePackage.Literals.ELONG);
+    stampAttribute.setUnsettable(true);
+    tagsAttribute = createAttribute("tags", EcorePackage.Literals.ESTRING);
+    tagsAttribute.setUpperBound(-1);
+    tagsAttribute.setUnique(false);
+    scoresAttribute = createAttribute("scores", EcorePackage.Literals.EINT);
+    scoresAttribute.setUpperBound(-1);
+    scoresAttribute.setUnique(false);
+    childrenReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenReference.setName("children");
+    childrenReference.setEType(nodeClass);
+    childrenReference.setContainment(true);
+    childrenReference.setUpperBound(-1);
+    nodeClass.getEStructuralFeatures().add(childrenReference);
+    parentReference = EcoreFactory.eINSTANCE.createEReference();
+    parentReference.setName("parent");
+    parentReference.setEType(nodeClass);
+    parentReference.setEOpposite(childrenReference);
+    childrenReference.setEOpposite(parentReference);
+    nodeClass.getEStructuralFeatures().add(parentReference);
+    nextReference = EcoreFactory.eINSTANCE.createEReference();
+    nextReference.setName("next");
+    nextReference.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(nextReference);
+  }
+
+  private EAttribute createAttribute(String name, EDataType eDataType)
+  {
+    EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    eAttribute.setName(name);
+    eAttribute.setEType(eDataType);
+    nodeClass.getEStructuralFeatures().add(eAttribute);
+    return eAttribute;
+  }
+
+  @SuppressWarnings("unchecked")
+  private EList<Object> getList(EObject eObject, EReference eReference)
+  {
+    return (EList<Object>)eObject.eGet(eReference);
+  }
+
+  @SuppressWarnings("unchecked")
+  private EList<Object> getList(EObject eObject, EAttribute eAttribute)
+  {
+    return (EList<Object>)eObject.eGet(eAttribute);
+  }
+
+  private EObject createTree(boolean onHeap, int depth, int width, String name)
+  {
+    EObject node = onHeap ? new DynamicEObjectImpl(nodeClass) : EcoreUtil.create(nodeClass);
+    node.eSet(nameAttribute, name);
+    node.eSet(sizeAttribute, name.length());
+    node.eSet(weightAttribute, name.length() / 3.0);
+    node.eSet(visibleAttribute, depth % 2 == 0);
+    getList(node, tagsAttribute).addAll(Arrays.asList("tag", name, "tag"));
+    getList(node, scoresAttribute).addAll(Arrays.asList(depth, -depth, width));
+    if (depth > 0)
+    {
+      EList<Object> children = getList(node, childrenReference);
+      for (int i = 0; i < width; ++i)
+      {
+        children.add(createTree(onHeap, depth - 1, width, name + "." + i));
+      }
+      for (int i = 1; i < width; ++i)
+      {
+        ((EObject)children.get(i - 1)).eSet(nextReference, children.get(i));
+      }
+    }
+    return node;
+  }
+
+  @Test
+  public void testAttributes()
+  {
+    EObject node = EcoreUtil.create(nodeClass);
+    assertTrue(node instanceof OffHeapEStoreImpl.OffHeapEObjectImpl);
+    assertNull(node.eGet(nameAttribute));
+    assertEquals(0, node.eGet(sizeAttribute));
+    assertEquals(true, node.eGet(visibleAttribute));
+    assertEquals(0L, node.eGet(stampAttribute));
+    assertFalse(node.eIsSet(nameAttribute));
+    assertFalse(node.eIsSet(visibleAttribute));
+    assertFalse(node.eIsSet(stampAttribute));
+
+    node.eSet(nameAttribute, "node");
+    node.eSet(sizeAttribute, -42);
+    node.eSet(weightAttribute, 1.5);
+    node.eSet(visibleAttribute, false);
+    node.eSet(stampAttribute, Long.MIN_VALUE);
+    assertEquals("node", node.eGet(nameAttribute));
+    assertEquals(-42, node.eGet(sizeAttribute));
+    assertEquals(1.5, node.eGet(weightAttribute));
+    assertEquals(false, node.eGet(visibleAttribute));
+    assertEquals(Long.MIN_VALUE, node.eGet(stampAttribute));
+    assertTrue(node.eIsSet(nameAttribute));
+    assertTrue(node.eIsSet(visibleAttribute));
+
+    // Setting a non-unsettable attribute to its default makes it not set, but not so for an unsettable attribute.
+    //
+    node.eSet(visibleAttribute, true);
+    assertFalse(node.eIsSet(visibleAttribute));
+    node.eSet(stampAttribute, 0L);
+    assertTrue(node.eIsSet(stampAttribute));
+    node.eUnset(stampAttribute);
+    assertFalse(node.eIsSet(stampAttribute));
+    node.eUnset(nameAttribute);
+    assertNull(node.eGet(nameAttribute));
+    assertFalse(node.eIsSet(nameAttribute));
+  }
+
+  @Test
+  public void testLists()
+  {
+    EObject node = EcoreUtil.create(nodeClass);
+    EList<Object> tags = getList(node, tagsAttribute);
+    assertFalse(node.eIsSet(tagsAttribute));
+    for (int i = 0; i < 100; ++i)
+    {
+      tags.add("tag" + i % 10);
+    }
+    assertTrue(node.eIsSet(tagsAttribute));
+    assertEquals(100, tags.size());
+    assertEquals("tag7", tags.get(97));
+    assertEquals(3, tags.indexOf("tag3"));
+    assertEquals(93, tags.lastIndexOf("tag3"));
+    assertFalse(tags.contains("other"));
+    tags.move(0, 99);
+    assertEquals("tag9", tags.get(0));
+    assertEquals("tag0", tags.get(1));
+    assertEquals("tag5", tags.remove(6));
+    assertEquals(99, tags.size());
+    tags.set(0, "first");
+    assertEquals(Arrays.asList("first", "tag0", "tag1"), tags.subList(0, 3));
+    tags.clear();
+    assertTrue(tags.isEmpty());
+    assertFalse(node.eIsSet(tagsAttribute));
+
+    EList<Object> scores = getList(node, scoresAttribute);
+    scores.addAll(Arrays.asList(3, 1, 4, 1, 5));
+    assertEquals(Arrays.asList(3, 1, 4, 1, 5), scores);
+    assertEquals(1, scores.indexOf(1));
+    assertEquals(3, scores.lastIndexOf(1));
+    assertFalse(scores.contains(1L));
+    assertEquals(Arrays.asList(3, 1, 4, 1, 5).hashCode(), scores.hashCode());
+  }
+
+  @Test
+  public void testContainment()
+  {
+    EObject parent = EcoreUtil.create(nodeClass);
+    EObject otherParent = EcoreUtil.create(nodeClass);
+    EObject child = EcoreUtil.create(nodeClass);
+    getList(parent, childrenReference).add(child);
+    assertSame(parent, child.eContainer());
+    assertSame(childrenReference, child.eContainmentFeature());
+    assertSame(parent, child.eGet(parentReference));
+
+    getList(otherParent, childrenReference).add(child);
+    assertSame(otherParent, child.eContainer());
+    assertTrue(getList(parent, childrenReference).isEmpty());
+
+    child.eSet(parentReference, parent);
+    assertSame(parent, child.eContainer());
+    assertTrue(getList(otherParent, childrenReference).isEmpty());
+    assertEquals(Arrays.asList(child), getList(parent, childrenReference));
+
+    EcoreUtil.remove(child);
+    assertNull(child.eContainer());
+    assertTrue(getList(parent, childrenReference).isEmpty());
+  }
+
+  @Test
+  public void testFacadesAreRecreated()
+  {
+    EObject root = EcoreUtil.create(nodeClass);
+    EObject child = EcoreUtil.create(nodeClass);
+    child.eSet(nameAttribute, "child");
+    getList(root, childrenReference).add(child);
+    long handle = ((OffHeapEStoreImpl.OffHeapEObjectImpl)child).getHandle();
+    assertSame(child, store.getEObject(handle));
+
+    WeakReference<EObject> childReference = new WeakReference<EObject>(child);
+    child = null;
+    for (int i = 0; i < 20 && childReference.get() != null; ++i)
+    {
+      System.gc();
+    }
+
+    child = (EObject)getList(root, childrenReference).get(0);
+    assertEquals(handle, ((OffHeapEStoreImpl.OffHeapEObjectImpl)child).getHandle());
+    assertSame(child, store.getEObject(handle));
+    assertEquals("child", child.eGet(nameAttribute));
+    assertSame(root, child.eContainer());
+  }
+
+  @Test
+  public void testCopyAndPersistence() throws Exception
+  {
+    EObject root = createTree(false, 4, 4, "root");
+    EObject heapRoot = createTree(true, 4, 4, "root");
+    assertTrue(EcoreUtil.equals(heapRoot, root));
+    assertTrue(EcoreUtil.equals(root, EcoreUtil.copy(root)));
+    assertTrue(store.getAllocatedMemory() > 4096);
+
+    Resource resource = new XMIResourceImpl(URI.createURI("offHeap.xmi"));
+    resource.getContents().add(root);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+
+    ResourceSetImpl resourceSet = new ResourceSetImpl();
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    Resource loadedResource = new XMIResourceImpl(URI.createURI("offHeap.xmi"));
+    resourceSet.getResources().add(loadedResource);
+    loadedResource.load(new ByteArrayInputStream(outputStream.toByteArray()), null);
+    EObject loadedRoot = loadedResource.getContents().get(0);
+    assertTrue(loadedRoot instanceof OffHeapEStoreImpl.OffHeapEObjectImpl);
+    assertTrue(EcoreUtil.equals(heapRoot, loadedRoot));
+
+    List<Object> children = getList(loadedRoot, childrenReference);
+    assertSame(children.get(1), ((EObject)children.get(0)).eGet(nextReference));
+    assertSame(loadedResource, ((EObject)children.get(3)).eResource());
+  }
+}
@@ -0,0 +1,279 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.DynamicEObjectImpl;
+import org.eclipse.emf.ecore.impl.OffHeapEStoreImpl;
+import org.eclipse.emf.ecore.impl.PagedFileEStoreImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.PagedEStoreResourceFactoryImpl;
+import org.eclipse.emf.ecore.resource.impl.PagedEStoreResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class PagedEStoreResourceTest
+{
+  private static final int PAGE_SIZE = 4096;
+  private static final int CACHED_PAGE_COUNT = 8;
+
+  private File directory;
+  private URI uri;
+  private EPackage ePackage;
+  private EClass nodeClass;
+  private EAttribute nameAttribute;
+  private EAttribute indexAttribute;
+  private EAttribute colorAttribute;
+  private EAttribute labelsAttribute;
+  private EReference childrenReference;
+  private EReference nextReference;
+  private EEnum colorEnum;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    directory = File.createTempFile("paged", "");
+    assertTrue(directory.delete());
+    assertTrue(directory.mkdirs());
+    uri = URI.createFileURI(new File(directory, "model.paged").getAbsolutePath());
+
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("paged");
+    ePackage.setNsPrefix("paged");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/paged");
+    colorEnum = EcoreFactory.eINSTANCE.createEEnum();
+    colorEnum.setName("Color");
+    for (String name : new String [] { "red", "green", "blue" })
+    {
+      EEnumLiteral eEnumLiteral = EcoreFactory.eINSTANCE.createEEnumLiteral();
+      eEnumLiteral.setName(name);
+      eEnumLiteral.setValue(colorEnum.getELiterals().size());
+      colorEnum.getELiterals().add(eEnumLiteral);
+    }
+    ePackage.getEClassifiers().add(colorEnum);
+    nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    nameAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    nameAttribute.setName("name");
+    nameAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nodeClass.getEStructuralFeatures().add(nameAttribute);
+    indexAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    indexAttribute.setName("index");
+    indexAttribute.setEType(EcorePackage.Literals.EINT);
+    nodeClass.getEStructuralFeatures().add(indexAttribute);
+    colorAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    colorAttribute.setName("color");
+    colorAttribute.setEType(colorEnum);
+    nodeClass.getEStructuralFeatures().add(colorAttribute);
+    labelsAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    labelsAttribute.setName("labels");
+    labelsAttribute.setEType(EcorePackage.Literals.ESTRING);
+    labelsAttribute.setUpperBound(-1);
+    labelsAttribute.setUnique(false);
+    nodeClass.getEStructuralFeatures().add(labelsAttribute);
+    childrenReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenReference.setName("children");
+    childrenReference.setEType(nodeClass);
+    childrenReference.setContainment(true);
+    childrenReference.setUpperBound(-1);
+    nodeClass.getEStructuralFeatures().add(childrenReference);
+    nextReference = EcoreFactory.eINSTANCE.createEReference();
+    nextReference.setName("next");
+    nextReference.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(nextReference);
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+    for (File file : directory.listFiles())
+    {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  private ResourceSetImpl createResourceSet()
+  {
+    ResourceSetImpl resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("paged", new PagedEStoreResourceFactoryImpl());
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    resourceSet.getLoadOptions().put(PagedEStoreResourceImpl.OPTION_PAGE_SIZE, PAGE_SIZE);
+    resourceSet.getLoadOptions().put(PagedEStoreResourceImpl.OPTION_CACHED_PAGE_COUNT, CACHED_PAGE_COUNT);
+    return resourceSet;
+  }
+
+  @SuppressWarnings("unchecked")
+  private EList<Object> getList(EObject eObject, EReference eReference)
+  {
+    return (EList<Object>)eObject.eGet(eReference);
+  }
+
+  @SuppressWarnings("unchecked")
+  private EList<Object> getList(EObject eObject, EAttribute eAttribute)
+  {
+    return (EList<Object>)eObject.eGet(eAttribute);
+  }
+
+  private EObject createTree(boolean onHeap, int depth, String name)
+  {
+    EObject node = onHeap ? new DynamicEObjectImpl(nodeClass) : EcoreUtil.create(nodeClass);
+    node.eSet(nameAttribute, name);
+    node.eSet(indexAttribute, name.length());
+    node.eSet(colorAttribute, colorEnum.getEEnumLiteral(name.length() % 3).getInstance());
+    getList(node, labelsAttribute).addAll(Arrays.asList("label", name));
+    if (depth > 0)
+    {
+      EList<Object> children = getList(node, childrenReference);
+      for (int i = 0; i < 6; ++i)
+      {
+        children.add(createTree(onHeap, depth - 1, name + "." + i));
+      }
+      for (int i = 1; i < 6; ++i)
+      {
+        ((EObject)children.get(i - 1)).eSet(nextReference, children.get(i));
+      }
+    }
+    return node;
+  }
+
+  @Test
+  public void testSaveAndLoad() throws Exception
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    PagedEStoreResourceImpl resource = (PagedEStoreResourceImpl)resourceSet.createResource(uri);
+    PagedFileEStoreImpl eStore = resource.getEStore();
+    ePackage.setEFactoryInstance(new OffHeapEStoreImpl.FactoryImpl(eStore));
+    EObject root = createTree(false, 4, "root");
+    resource.getContents().add(root);
+
+    // The pages are evicted as the model grows, so only a bounded amount of memory is in use.
+    //
+    long fileLength = new File(uri.toFileString() + ".pages").length();
+    assertTrue(fileLength > 4 * PAGE_SIZE * CACHED_PAGE_COUNT);
+    assertTrue(eStore.getAllocatedMemory() < fileLength / 4);
+
+    resource.save(null);
+    EObject heapRoot = createTree(true, 4, "root");
+    assertTrue(EcoreUtil.equals(heapRoot, root));
+
+    ResourceSetImpl otherResourceSet = createResourceSet();
+    Resource loadedResource = otherResourceSet.getResource(uri, true);
+    EObject loadedRoot = loadedResource.getContents().get(0);
+    assertTrue(loadedRoot instanceof OffHeapEStoreImpl.OffHeapEObjectImpl);
+    assertTrue(EcoreUtil.equals(heapRoot, loadedRoot));
+    EObject child = (EObject)getList(loadedRoot, childrenReference).get(2);
+    assertSame(loadedRoot, child.eContainer());
+    assertSame(loadedResource, child.eResource());
+    assertSame(getList(loadedRoot, childrenReference).get(3), child.eGet(nextReference));
+    assertEquals("//@children.2", loadedResource.getURIFragment(child));
+
+    // Modify the loaded model, save it, and load it again.
+    //
+    child.eSet(nameAttribute, "renamed");
+    getList(child, labelsAttribute).add(0, "first");
+    loadedResource.save(null);
+    loadedResource.unload();
+    assertTrue(loadedRoot.eIsProxy());
+    loadedResource.load(null);
+    child = (EObject)getList(loadedResource.getContents().get(0), childrenReference).get(2);
+    assertEquals("renamed", child.eGet(nameAttribute));
+    assertEquals(Arrays.asList("first", "label", "root.2"), getList(child, labelsAttribute));
+    assertEquals(colorEnum.getEEnumLiteral(0).getInstance(), child.eGet(colorAttribute));
+    loadedResource.unload();
+  }
+
+  @Test
+  public void testUnsavedChangesAreDiscarded() throws Exception
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    PagedEStoreResourceImpl resource = (PagedEStoreResourceImpl)resourceSet.createResource(uri);
+    ePackage.setEFactoryInstance(new OffHeapEStoreImpl.FactoryImpl(resource.getEStore()));
+    EObject root = EcoreUtil.create(nodeClass);
+    root.eSet(nameAttribute, "saved");
+    resource.getContents().add(root);
+    resource.save(null);
+    root.eSet(nameAttribute, "unsaved");
+    resource.unload();
+
+    resource.load(null);
+    assertEquals("saved", resource.getContents().get(0).eGet(nameAttribute));
+    assertFalse(resource.getContents().get(0).eIsProxy());
+
+    resource.delete(null);
+    assertFalse(new File(uri.toFileString()).exists());
+    assertFalse(new File(uri.toFileString() + ".pages").exists());
+  }
+
+  @Test
+  public void testExistingPageFileIsNotReplaced() throws Exception
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    PagedEStoreResourceImpl resource = (PagedEStoreResourceImpl)resourceSet.createResource(uri);
+    ePackage.setEFactoryInstance(new OffHeapEStoreImpl.FactoryImpl(resource.getEStore()));
+    EObject root = EcoreUtil.create(nodeClass);
+    root.eSet(nameAttribute, "saved");
+    resource.getContents().add(root);
+    resource.save(null);
+    resource.unload();
+    File pageFile = new File(uri.toFileString() + ".pages");
+    long fileLength = pageFile.length();
+    assertTrue(fileLength > 0);
+
+    // The store of a resource that hasn't been loaded doesn't silently discard the existing pages.
+    //
+    PagedEStoreResourceImpl otherResource = (PagedEStoreResourceImpl)createResourceSet().createResource(uri);
+    try
+    {
+      otherResource.getEStore();
+      fail("The existing page file must not be replaced");
+    }
+    catch (WrappedException exception)
+    {
+      // Expected.
+    }
+    assertEquals(fileLength, pageFile.length());
+
+    resource.load(null);
+    assertEquals("saved", resource.getContents().get(0).eGet(nameAttribute));
+    resource.unload();
+
+    ResourceSetImpl replacingResourceSet = createResourceSet();
+    replacingResourceSet.getLoadOptions().put(PagedEStoreResourceImpl.OPTION_REPLACE_PAGE_FILE, Boolean.TRUE);
+    PagedEStoreResourceImpl replacingResource = (PagedEStoreResourceImpl)replacingResourceSet.createResource(uri);
+    replacingResource.getEStore();
+    assertEquals(0, pageFile.length());
+    replacingResource.delete(null);
+  }
+}
@@ -21,6 +21,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -352,6 +353,64 @@ public class PersistenceTest
     assertEquals(dateValue, ((Date)loadedJohn.eGet(birthday)).getTime());
   }
 
+  @Test
+  public void testUTF8Save() throws Exception
+  {
+    EPackage pack = EcoreFactory.eINSTANCE.createEPackage();
+    pack.setName("utf8pack");
+    pack.setNsPrefix("utf8pack");
+    pack.setNsURI("http://utf8pack");
+
+    EClass person  = EcoreFactory.eINSTANCE.createEClass();
+    pack.getEClassifiers().add(person);
+    person.setName("Person");
+
+    EAttribute name = EcoreFactory.eINSTANCE.createEAttribute();
+    person.getEStructuralFeatures().add(name);
+    name.setName("name");
+    name.setEType(EcorePackage.Literals.ESTRING);
+    name.setUpperBound(-1);
+
+    String[] names = { "plain", "<tag attr=\"1\"> & \t\r\n", "\u00e9t\u00e9 \u20ac", "\ud83d\ude00 smile", "" };
+    StringBuilder longName = new StringBuilder();
+    for (int i = 0; i < 20000; ++i)
+    {
+      longName.append(i % 7 == 0 ? "\u00fc" : "x");
+    }
+    names[names.length - 1] = longName.toString();
+
+    XMIResource xmiResource = new XMIResourceImpl();
+    xmiResource.setURI(URI.createFileURI("utf8.xmi"));
+    xmiResource.setEncoding("UTF-8");
+    for (int i = 0; i < 100; ++i)
+    {
+      EObject eObject = pack.getEFactoryInstance().create(person);
+      @SuppressWarnings("unchecked")
+      List<String> values = (List<String>)eObject.eGet(name);
+      values.addAll(Arrays.asList(names));
+      xmiResource.getContents().add(eObject);
+    }
+
+    // The bytes encoded directly must be the same as those encoded by a writer.
+    //
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    xmiResource.save(baos, null);
+    StringWriter stringWriter = new StringWriter();
+    xmiResource.save(stringWriter, null);
+    assertTrue(Arrays.equals(stringWriter.toString().getBytes("UTF-8"), baos.toByteArray()));
+
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getPackageRegistry().put(pack.getNsURI(), pack);
+    XMIResource loadedXMIResource = new XMIResourceImpl();
+    resourceSet.getResources().add(loadedXMIResource);
+    loadedXMIResource.load(new ByteArrayInputStream(baos.toByteArray()), null);
+    assertEquals(100, loadedXMIResource.getContents().size());
+    for (EObject eObject : loadedXMIResource.getContents())
+    {
+      assertEquals(Arrays.asList(names), eObject.eGet(name));
+    }
+  }
+
   /*
    * Bugzilla 126647
    */
@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EClassImpl;
+import org.eclipse.emf.ecore.impl.PrimitiveDynamicEObjectImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class PrimitiveDynamicEObjectImplTest
+{
+  private EPackage ePackage;
+  private EClass eClass;
+  private EAttribute intAttribute;
+  private EAttribute booleanAttribute;
+  private EAttribute byteAttribute;
+  private EAttribute shortAttribute;
+  private EAttribute charAttribute;
+  private EAttribute floatAttribute;
+  private EAttribute longAttribute;
+  private EAttribute doubleAttribute;
+  private EAttribute unsettableIntAttribute;
+  private EAttribute stringAttribute;
+  private EAttribute intsAttribute;
+  private EReference childrenReference;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("primitive");
+    ePackage.setNsPrefix("primitive");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/primitive");
+    ePackage.setEFactoryInstance(new PrimitiveDynamicEObjectImpl.FactoryImpl());
+    eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName("Node");
+    ePackage.getEClassifiers().add(eClass);
+    intAttribute = createAttribute("int", EcorePackage.Literals.EINT);
+    booleanAttribute = createAttribute("boolean", EcorePackage.Literals.EBOOLEAN);
+    byteAttribute = createAttribute("byte", EcorePackage.Literals.EBYTE);
+    shortAttribute = createAttribute("short", EcorePackage.Literals.ESHORT);
+    charAttribute = createAttribute("char", EcorePackage.Literals.ECHAR);
+    floatAttribute = createAttribute("float", EcorePackage.Literals.EFLOAT);
+    longAttribute = createAttribute("long", EcorePackage.Literals.ELONG);
+    doubleAttribute = createAttribute("double", EcorePackage.Literals.EDOUBLE);
+    unsettableIntAttribute = createAttribute("unsettableInt", EcorePackage.Literals.EINT);
+    unsettableIntAttribute.setUnsettable(true);
+    unsettableIntAttribute.setDefaultValueLiteral("7");
+    stringAttribute = createAttribute("string", EcorePackage.Literals.ESTRING);
+    intsAttribute = createAttribute("ints", EcorePackage.Literals.EINT);
+    intsAttribute.setUpperBound(-1);
+    childrenReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenReference.setName("children");
+    childrenReference.setEType(eClass);
+    childrenReference.setContainment(true);
+    childrenReference.setUpperBound(-1);
+    eClass.getEStructuralFeatures().add(childrenReference);
+  }
+
+  private EAttribute createAttribute(String name, EDataType eDataType)
+  {
+    EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    eAttribute.setName(name);
+    eAttribute.setEType(eDataType);
+    eClass.getEStructuralFeatures().add(eAttribute);
+    return eAttribute;
+  }
+
+  private EObject createPopulatedObject(int i)
+  {
+    EObject eObject = EcoreUtil.create(eClass);
+    eObject.eSet(intAttribute, -i);
+    eObject.eSet(booleanAttribute, i % 2 == 0);
+    eObject.eSet(byteAttribute, (byte)-i);
+    eObject.eSet(shortAttribute, (short)(1000 * i));
+    eObject.eSet(charAttribute, (char)('a' + i));
+    eObject.eSet(floatAttribute, i / 3.0f);
+    eObject.eSet(longAttribute, Long.MIN_VALUE + i);
+    eObject.eSet(doubleAttribute, -i / 7.0);
+    eObject.eSet(stringAttribute, "node" + i);
+    @SuppressWarnings("unchecked")
+    List<Integer> ints = (List<Integer>)eObject.eGet(intsAttribute);
+    ints.addAll(Arrays.asList(i, i + 1));
+    return eObject;
+  }
+
+  @Test
+  public void testLayout()
+  {
+    EObject eObject = EcoreUtil.create(eClass);
+    assertTrue(eObject instanceof PrimitiveDynamicEObjectImpl);
+    PrimitiveDynamicEObjectImpl.Layout layout = ((EClassImpl)eClass).getPrimitiveDynamicLayout();
+    assertEquals(9, layout.getPrimitiveSlotCount());
+    assertSame(layout, ((EClassImpl)eClass).getPrimitiveDynamicLayout());
+
+    // Changing the features recomputes the layout.
+    //
+    createAttribute("anotherLong", EcorePackage.Literals.ELONG);
+    assertEquals(10, ((EClassImpl)eClass).getPrimitiveDynamicLayout().getPrimitiveSlotCount());
+  }
+
+  @Test
+  public void testDefaults()
+  {
+    EObject eObject = EcoreUtil.create(eClass);
+    assertEquals(0, eObject.eGet(intAttribute));
+    assertEquals(false, eObject.eGet(booleanAttribute));
+    assertEquals((byte)0, eObject.eGet(byteAttribute));
+    assertEquals((short)0, eObject.eGet(shortAttribute));
+    assertEquals((char)0, eObject.eGet(charAttribute));
+    assertEquals(0.0f, eObject.eGet(floatAttribute));
+    assertEquals(0L, eObject.eGet(longAttribute));
+    assertEquals(0.0, eObject.eGet(doubleAttribute));
+    assertEquals(7, eObject.eGet(unsettableIntAttribute));
+    assertNull(eObject.eGet(stringAttribute));
+    for (EAttribute eAttribute : eClass.getEAllAttributes())
+    {
+      assertFalse(eAttribute.getName(), eObject.eIsSet(eAttribute));
+    }
+  }
+
+  @Test
+  public void testSetAndUnset()
+  {
+    EObject eObject = createPopulatedObject(3);
+    assertEquals(-3, eObject.eGet(intAttribute));
+    assertEquals(false, eObject.eGet(booleanAttribute));
+    assertEquals((byte)-3, eObject.eGet(byteAttribute));
+    assertEquals((short)3000, eObject.eGet(shortAttribute));
+    assertEquals('d', eObject.eGet(charAttribute));
+    assertEquals(1.0f, eObject.eGet(floatAttribute));
+    assertEquals(Long.MIN_VALUE + 3, eObject.eGet(longAttribute));
+    assertEquals(-3 / 7.0, eObject.eGet(doubleAttribute));
+    assertEquals("node3", eObject.eGet(stringAttribute));
+    assertEquals(Arrays.asList(3, 4), eObject.eGet(intsAttribute));
+    assertTrue(eObject.eIsSet(intAttribute));
+    assertFalse(eObject.eIsSet(booleanAttribute));
+
+    eObject.eSet(booleanAttribute, true);
+    assertEquals(true, eObject.eGet(booleanAttribute));
+    eObject.eUnset(longAttribute);
+    assertEquals(0L, eObject.eGet(longAttribute));
+    assertFalse(eObject.eIsSet(longAttribute));
+    assertEquals(-3 / 7.0, eObject.eGet(doubleAttribute));
+
+    // Setting an unsettable attribute to its default value still makes it set.
+    //
+    eObject.eSet(unsettableIntAttribute, 7);
+    assertTrue(eObject.eIsSet(unsettableIntAttribute));
+    eObject.eSet(unsettableIntAttribute, 0);
+    assertEquals(0, eObject.eGet(unsettableIntAttribute));
+    eObject.eUnset(unsettableIntAttribute);
+    assertFalse(eObject.eIsSet(unsettableIntAttribute));
+    assertEquals(7, eObject.eGet(unsettableIntAttribute));
+  }
+
+  @Test
+  public void testNotifications()
+  {
+    EObject eObject = createPopulatedObject(1);
+    final List<Notification> notifications = new ArrayList<Notification>();
+    eObject.eAdapters().add
+      (new AdapterImpl()
+       {
+         @Override
+         public void notifyChanged(Notification notification)
+         {
+           notifications.add(notification);
+         }
+       });
+    eObject.eSet(doubleAttribute, 2.5);
+    eObject.eUnset(unsettableIntAttribute);
+    eObject.eSet(unsettableIntAttribute, 8);
+    assertEquals(3, notifications.size());
+    assertEquals(-1 / 7.0, notifications.get(0).getOldDoubleValue(), 0.0);
+    assertEquals(2.5, notifications.get(0).getNewDoubleValue(), 0.0);
+    assertEquals(7, notifications.get(2).getOldIntValue());
+    assertEquals(8, notifications.get(2).getNewIntValue());
+    assertFalse(notifications.get(2).wasSet());
+  }
+
+  @Test
+  public void testCopyAndPersistence() throws Exception
+  {
+    EObject root = createPopulatedObject(0);
+    @SuppressWarnings("unchecked")
+    List<EObject> children = (List<EObject>)root.eGet(childrenReference);
+    for (int i = 1; i < 40; ++i)
+    {
+      children.add(createPopulatedObject(i));
+    }
+
+    EObject copy = EcoreUtil.copy(root);
+    assertTrue(copy instanceof PrimitiveDynamicEObjectImpl);
+    assertTrue(EcoreUtil.equals(root, copy));
+
+    XMIResourceImpl resource = new XMIResourceImpl(URI.createURI("primitive.xmi"));
+    resource.getContents().add(root);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+
+    ResourceSetImpl resourceSet = new ResourceSetImpl();
+    XMIResourceImpl loadedResource = new XMIResourceImpl(URI.createURI("primitive.xmi"));
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    resourceSet.getResources().add(loadedResource);
+    loadedResource.load(new ByteArrayInputStream(outputStream.toByteArray()), null);
+    assertTrue(EcoreUtil.equals(root, loadedResource.getContents().get(0)));
+  }
+}
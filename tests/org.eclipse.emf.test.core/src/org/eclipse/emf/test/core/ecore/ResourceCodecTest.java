@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.DESCipherImpl;
+import org.eclipse.emf.ecore.resource.impl.DeflateCodecImpl;
+import org.eclipse.emf.ecore.resource.impl.LZBlockCodecImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.test.models.ppo.Item;
+import org.eclipse.emf.test.models.ppo.PPOFactory;
+import org.eclipse.emf.test.models.ppo.PurchaseOrder;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceCodecTest
+{
+  private List<EObject> rootObjects;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    rootObjects = new ArrayList<EObject>();
+    for (int i = 0; i < 20; i++)
+    {
+      PurchaseOrder purchaseOrder = PPOFactory.eINSTANCE.createPurchaseOrder();
+      rootObjects.add(purchaseOrder);
+      purchaseOrder.setComment("purchase order " + i);
+      for (int j = 0; j < 50; j++)
+      {
+        Item item = PPOFactory.eINSTANCE.createItem();
+        purchaseOrder.getItems().add(item);
+        item.setProductName("item " + i + "-" + j);
+        item.setQuantity(i * j);
+      }
+    }
+  }
+
+  private byte[] save(Resource resource, Map<?, ?> options) throws Exception
+  {
+    resource.getContents().addAll(EcoreUtil.copyAll(rootObjects));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, options);
+    return outputStream.toByteArray();
+  }
+
+  private void assertLoads(Resource resource, byte[] bytes, Map<?, ?> options) throws Exception
+  {
+    resource.load(new ByteArrayInputStream(bytes), options);
+    assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
+  }
+
+  @Test
+  public void testXMIRoundTrip() throws Exception
+  {
+    byte[] plainBytes = save(new XMIResourceImpl(), null);
+    URIConverter.Codec[] codecs = { new DeflateCodecImpl(), new DeflateCodecImpl(Deflater.BEST_COMPRESSION), new LZBlockCodecImpl(), new LZBlockCodecImpl(100) };
+    for (URIConverter.Codec codec : codecs)
+    {
+      Map<Object, Object> options = new HashMap<Object, Object>();
+      options.put(Resource.OPTION_CODEC, codec);
+      byte[] bytes = save(new XMIResourceImpl(), options);
+      assertTrue(bytes.length + " < " + plainBytes.length, bytes.length < plainBytes.length);
+
+      // The codec is detected without specifying it.
+      //
+      assertLoads(new XMIResourceImpl(), bytes, null);
+    }
+    assertLoads(new XMIResourceImpl(), plainBytes, null);
+  }
+
+  @Test
+  public void testBinaryRoundTrip() throws Exception
+  {
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(Resource.OPTION_CODEC, new LZBlockCodecImpl());
+    byte[] bytes = save(new BinaryResourceImpl(), options);
+    assertLoads(new BinaryResourceImpl(), bytes, null);
+
+    options.put(BinaryResourceImpl.OPTION_INDEXED, Boolean.TRUE);
+    bytes = save(new BinaryResourceImpl(), options);
+    assertLoads(new BinaryResourceImpl(), bytes, null);
+  }
+
+  @Test
+  public void testCipherAndZip() throws Exception
+  {
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(Resource.OPTION_CODEC, new DeflateCodecImpl());
+    options.put(Resource.OPTION_CIPHER, new DESCipherImpl("a very long key indeed"));
+    options.put(Resource.OPTION_ZIP, Boolean.TRUE);
+    byte[] bytes = save(new XMIResourceImpl(), options);
+
+    options.remove(Resource.OPTION_CODEC);
+    assertLoads(new XMIResourceImpl(), bytes, options);
+  }
+
+  @Test
+  public void testFile() throws Exception
+  {
+    File file = File.createTempFile("codec", ".xmi");
+    try
+    {
+      URI uri = URI.createFileURI(file.getAbsolutePath());
+      Resource resource = new BinaryResourceImpl(uri);
+      resource.getContents().addAll(EcoreUtil.copyAll(rootObjects));
+      Map<Object, Object> options = new HashMap<Object, Object>();
+      options.put(Resource.OPTION_CODEC, new DeflateCodecImpl());
+      resource.save(options);
+
+      resource = new BinaryResourceImpl(uri);
+      resource.load(null);
+      assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
+    }
+    finally
+    {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testLZBlockCodec() throws Exception
+  {
+    Random random = new Random(42);
+    int[] sizes = { 0, 1, 5, 13, 15, 16, 270, 4096, 65535, 65536, 65537, 300000 };
+    for (int size : sizes)
+    {
+      byte[][] inputs = new byte [3][size];
+      random.nextBytes(inputs[0]);
+      for (int i = 0; i < size; ++i)
+      {
+        inputs[1][i] = (byte)('a' + random.nextInt(4));
+        inputs[2][i] = (byte)(i % 3);
+      }
+      for (byte[] input : inputs)
+      {
+        LZBlockCodecImpl codec = new LZBlockCodecImpl();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        OutputStream encodedOutputStream = codec.encode(outputStream);
+        encodedOutputStream.write(input, 0, input.length / 2);
+        encodedOutputStream.flush();
+        encodedOutputStream.write(input, input.length / 2, input.length - input.length / 2);
+        codec.finish(encodedOutputStream);
+        outputStream.write(new byte [] { 1, 2, 3 });
+
+        InputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+        InputStream decodedInputStream = codec.decode(inputStream);
+        ByteArrayOutputStream decodedOutputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte [1000];
+        for (int count; (count = decodedInputStream.read(buffer)) != -1; )
+        {
+          decodedOutputStream.write(buffer, 0, count);
+        }
+        assertArrayEquals(input, decodedOutputStream.toByteArray());
+
+        // Decoding doesn't consume anything after the encoded contents.
+        //
+        assertEquals(1, inputStream.read());
+      }
+    }
+  }
+}
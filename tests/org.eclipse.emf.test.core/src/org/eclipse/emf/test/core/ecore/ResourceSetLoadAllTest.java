@@ -0,0 +1,236 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceSetLoadAllTest
+{
+  private static final int RESOURCE_COUNT = 20;
+
+  private File directory;
+  private EPackage ePackage;
+  private EClass nodeClass;
+  private EAttribute nameAttribute;
+  private EReference nextReference;
+  private List<URI> uris;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    directory = File.createTempFile("loadAll", "");
+    assertTrue(directory.delete());
+    assertTrue(directory.mkdirs());
+
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("loadAll");
+    ePackage.setNsPrefix("loadAll");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/loadAll");
+    nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    nameAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    nameAttribute.setName("name");
+    nameAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nodeClass.getEStructuralFeatures().add(nameAttribute);
+    nextReference = EcoreFactory.eINSTANCE.createEReference();
+    nextReference.setName("next");
+    nextReference.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(nextReference);
+
+    // Save a ring of resources each of whose root refers to the root of the next resource.
+    //
+    ResourceSetImpl resourceSet = createResourceSet();
+    uris = new ArrayList<URI>();
+    List<EObject> nodes = new ArrayList<EObject>();
+    for (int i = 0; i < RESOURCE_COUNT; ++i)
+    {
+      URI uri = URI.createFileURI(new File(directory, "node" + i + ".xmi").getAbsolutePath());
+      uris.add(uri);
+      EObject node = EcoreUtil.create(nodeClass);
+      node.eSet(nameAttribute, "node" + i);
+      nodes.add(node);
+      resourceSet.createResource(uri).getContents().add(node);
+    }
+    for (int i = 0; i < RESOURCE_COUNT; ++i)
+    {
+      nodes.get(i).eSet(nextReference, nodes.get((i + 1) % RESOURCE_COUNT));
+    }
+    for (Resource resource : resourceSet.getResources())
+    {
+      resource.save(null);
+    }
+
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+    executor.shutdown();
+    for (File file : directory.listFiles())
+    {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  private ResourceSetImpl createResourceSet()
+  {
+    ResourceSetImpl resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("xmi", new XMIResourceFactoryImpl());
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    return resourceSet;
+  }
+
+  @Test
+  public void testLoadAll() throws Exception
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    resourceSet.setURIResourceMap(new HashMap<URI, Resource>());
+    final List<Notification> notifications = new ArrayList<Notification>();
+    resourceSet.eAdapters().add
+      (new AdapterImpl()
+       {
+         @Override
+         public void notifyChanged(Notification notification)
+         {
+           notifications.add(notification);
+         }
+       });
+
+    EList<Resource> resources = resourceSet.loadAll(uris, null, executor);
+
+    assertEquals(RESOURCE_COUNT, resources.size());
+    assertEquals(resources, resourceSet.getResources());
+    assertEquals(1, notifications.size());
+    assertEquals(Notification.ADD_MANY, notifications.get(0).getEventType());
+    for (int i = 0; i < RESOURCE_COUNT; ++i)
+    {
+      Resource resource = resources.get(i);
+      assertEquals(uris.get(i), resource.getURI());
+      assertTrue(resource.isLoaded());
+      assertSame(resource, resourceSet.getURIResourceMap().get(uris.get(i)));
+
+      EObject node = resource.getContents().get(0);
+      assertSame(nodeClass, node.eClass());
+      assertEquals("node" + i, node.eGet(nameAttribute));
+
+      // The proxy resolves against a resource that was loaded by a different task.
+      //
+      EObject next = (EObject)node.eGet(nextReference);
+      assertFalse(next.eIsProxy());
+      assertSame(resources.get((i + 1) % RESOURCE_COUNT), next.eResource());
+    }
+    assertEquals(RESOURCE_COUNT, resourceSet.getResources().size());
+
+    // Loading again yields the same resources without reloading them.
+    //
+    assertEquals(resources, resourceSet.loadAll(uris, null, executor));
+    assertEquals(1, notifications.size());
+  }
+
+  @Test
+  public void testLoadAllFailure() throws Exception
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    List<URI> uris = new ArrayList<URI>(this.uris);
+    URI missingURI = URI.createFileURI(new File(directory, "missing.xmi").getAbsolutePath());
+    uris.add(1, missingURI);
+    try
+    {
+      resourceSet.loadAll(uris, null, executor);
+      fail("Expecting an exception for " + missingURI);
+    }
+    catch (WrappedException exception)
+    {
+      Resource missingResource = resourceSet.getResource(missingURI, false);
+      assertEquals(1, missingResource.getErrors().size());
+    }
+    assertEquals(RESOURCE_COUNT + 1, resourceSet.getResources().size());
+    for (URI uri : this.uris)
+    {
+      assertTrue(resourceSet.getResource(uri, false).isLoaded());
+    }
+  }
+
+  @Test
+  public void testLoadAllSharedDemandLoad() throws Exception
+  {
+    // Save the package in its own resource and the ring of resources with a schema location for it.
+    //
+    ResourceSetImpl saveResourceSet = createResourceSet();
+    saveResourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new EcoreResourceFactoryImpl());
+    Resource packageResource = saveResourceSet.createResource(URI.createFileURI(new File(directory, "loadAll.ecore").getAbsolutePath()));
+    packageResource.getContents().add(ePackage);
+    packageResource.save(null);
+    for (URI uri : uris)
+    {
+      saveResourceSet.getResource(uri, true);
+    }
+    EcoreUtil.resolveAll(saveResourceSet);
+    for (URI uri : uris)
+    {
+      saveResourceSet.getResource(uri, false).save(Collections.singletonMap(XMLResource.OPTION_SCHEMA_LOCATION, Boolean.TRUE));
+    }
+
+    // The package isn't registered, so each task demand loads it, and they all share the same instance.
+    //
+    ResourceSetImpl resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("xmi", new XMIResourceFactoryImpl());
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new EcoreResourceFactoryImpl());
+    EList<Resource> resources = resourceSet.loadAll(uris, null, executor);
+    assertEquals(RESOURCE_COUNT + 1, resourceSet.getResources().size());
+    Resource loadedPackageResource = resourceSet.getResource(packageResource.getURI(), false);
+    EClass loadedNodeClass = (EClass)((EPackage)loadedPackageResource.getContents().get(0)).getEClassifier("Node");
+    for (int i = 0; i < RESOURCE_COUNT; ++i)
+    {
+      EObject node = resources.get(i).getContents().get(0);
+      assertSame(loadedNodeClass, node.eClass());
+      EObject next = (EObject)node.eGet(loadedNodeClass.getEStructuralFeature("next"));
+      assertSame(resources.get((i + 1) % RESOURCE_COUNT), next.eResource());
+    }
+  }
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceSetSaveAllTest
+{
+  private static final int RESOURCE_COUNT = 20;
+
+  private File directory;
+  private EPackage ePackage;
+  private EClass nodeClass;
+  private EAttribute nameAttribute;
+  private EReference nextReference;
+  private ResourceSetImpl resourceSet;
+  private List<EObject> nodes;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    directory = File.createTempFile("saveAll", "");
+    assertTrue(directory.delete());
+    assertTrue(directory.mkdirs());
+
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("saveAll");
+    ePackage.setNsPrefix("saveAll");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/saveAll");
+    nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+    nameAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    nameAttribute.setName("name");
+    nameAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nodeClass.getEStructuralFeatures().add(nameAttribute);
+    nextReference = EcoreFactory.eINSTANCE.createEReference();
+    nextReference.setName("next");
+    nextReference.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(nextReference);
+
+    // Create a ring of modified resources each of whose root refers to the root of the next resource.
+    //
+    resourceSet = createResourceSet();
+    nodes = new ArrayList<EObject>();
+    for (int i = 0; i < RESOURCE_COUNT; ++i)
+    {
+      URI uri = URI.createFileURI(new File(directory, "node" + i + ".xmi").getAbsolutePath());
+      EObject node = EcoreUtil.create(nodeClass);
+      node.eSet(nameAttribute, "node" + i);
+      nodes.add(node);
+      Resource resource = resourceSet.createResource(uri);
+      resource.setTrackingModification(true);
+      resource.getContents().add(node);
+    }
+    for (int i = 0; i < RESOURCE_COUNT; ++i)
+    {
+      nodes.get(i).eSet(nextReference, nodes.get((i + 1) % RESOURCE_COUNT));
+    }
+
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+    executor.shutdown();
+    for (File file : directory.listFiles())
+    {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  private ResourceSetImpl createResourceSet()
+  {
+    ResourceSetImpl resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("xmi", new XMIResourceFactoryImpl());
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    return resourceSet;
+  }
+
+  @Test
+  public void testSaveAll() throws Exception
+  {
+    // Leave one resource unmodified so that it isn't saved.
+    //
+    Resource unmodifiedResource = resourceSet.getResources().get(0);
+    unmodifiedResource.setModified(false);
+
+    final Thread thread = Thread.currentThread();
+    final List<Notification> notifications = new ArrayList<Notification>();
+    for (Resource resource : resourceSet.getResources())
+    {
+      resource.eAdapters().add
+        (new AdapterImpl()
+         {
+           @Override
+           public void notifyChanged(Notification notification)
+           {
+             assertSame(thread, Thread.currentThread());
+             notifications.add(notification);
+           }
+         });
+    }
+
+    Diagnostic diagnostic = resourceSet.saveAll(null, executor);
+
+    assertSame(Diagnostic.OK_INSTANCE, diagnostic);
+    assertFalse(new File(unmodifiedResource.getURI().toFileString()).exists());
+    int modifiedNotificationCount = 0;
+    for (Notification notification : notifications)
+    {
+      if (notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_MODIFIED)
+      {
+        assertTrue(notification.getOldBooleanValue());
+        assertFalse(notification.getNewBooleanValue());
+        ++modifiedNotificationCount;
+      }
+    }
+    assertEquals(RESOURCE_COUNT - 1, modifiedNotificationCount);
+
+    ResourceSetImpl loadedResourceSet = createResourceSet();
+    for (int i = 1; i < RESOURCE_COUNT; ++i)
+    {
+      Resource resource = resourceSet.getResources().get(i);
+      assertFalse(resource.isModified());
+      assertTrue(resource.eDeliver());
+      Resource loadedResource = loadedResourceSet.getResource(resource.getURI(), true);
+      EObject node = loadedResource.getContents().get(0);
+      assertEquals("node" + i, node.eGet(nameAttribute));
+      EObject next = (EObject)node.eGet(nextReference, false);
+      assertEquals(EcoreUtil.getURI(nodes.get((i + 1) % RESOURCE_COUNT)), EcoreUtil.getURI(next));
+    }
+  }
+
+  @Test
+  public void testSaveAllFailure() throws Exception
+  {
+    // A resource whose parent folder is a file can't be saved.
+    //
+    File file = new File(directory, "file");
+    assertTrue(file.createNewFile());
+    Resource failingResource = resourceSet.getResources().get(1);
+    failingResource.setURI(URI.createFileURI(new File(file, "node1.xmi").getAbsolutePath()));
+
+    Diagnostic diagnostic = resourceSet.saveAll(null, executor);
+
+    assertEquals(Diagnostic.ERROR, diagnostic.getSeverity());
+    assertEquals(1, diagnostic.getChildren().size());
+    Diagnostic child = diagnostic.getChildren().get(0);
+    assertSame(failingResource, child.getData().get(0));
+    assertTrue(child.getData().get(1) instanceof Exception);
+    assertTrue(failingResource.isModified());
+    for (Resource resource : resourceSet.getResources())
+    {
+      if (resource != failingResource)
+      {
+        assertFalse(resource.isModified());
+        assertTrue(new File(resource.getURI().toFileString()).exists());
+      }
+    }
+  }
+}
@@ -12,11 +12,16 @@ package org.eclipse.emf.test.core.ecore;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
@@ -32,6 +37,8 @@ import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.ecore.util.EObjectValidator;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.EcoreValidator;
+import org.eclipse.emf.ecore.util.ExtendedMetaData;
+import org.eclipse.emf.ecore.xml.type.util.XMLTypeUtil;
 import org.eclipse.emf.test.models.ppo.Item;
 import org.eclipse.emf.test.models.ppo.PPOFactory;
 import org.eclipse.emf.test.models.ppo.PPOPackage;
@@ -317,6 +324,107 @@ public class ValidationTest
     assertEquals(Diagnostic.ERROR, Diagnostician.INSTANCE.validate(john).getSeverity());
   }
 
+  private List<String> getMessages(Diagnostic diagnostic, List<String> messages)
+  {
+    messages.add(diagnostic.getSeverity() + " " + diagnostic.getCode() + " " + diagnostic.getMessage());
+    for (Diagnostic child : diagnostic.getChildren())
+    {
+      getMessages(child, messages);
+    }
+    return messages;
+  }
+
+  private Map<Object, Object> createContext(EObjectValidator.DataValueCache dataValueCache)
+  {
+    Map<Object, Object> context = Diagnostician.INSTANCE.createDefaultContext();
+    context.put(EObjectValidator.DataValueCache.class, dataValueCache);
+    return context;
+  }
+
+  @Test
+  public void testDataValueCache()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("codes");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/codes");
+    EDataType codeType = EcoreFactory.eINSTANCE.createEDataType();
+    codeType.setName("Code");
+    codeType.setInstanceClass(String.class);
+    ePackage.getEClassifiers().add(codeType);
+    ExtendedMetaData.INSTANCE.setPatternFacet(codeType, Collections.singletonList("[a-z]+"));
+    EClass itemClass = EcoreFactory.eINSTANCE.createEClass();
+    itemClass.setName("Item");
+    ePackage.getEClassifiers().add(itemClass);
+    EAttribute codes = EcoreFactory.eINSTANCE.createEAttribute();
+    codes.setName("codes");
+    codes.setEType(codeType);
+    codes.setUpperBound(-1);
+    codes.setUnique(false);
+    itemClass.getEStructuralFeatures().add(codes);
+
+    EObject item = EcoreUtil.create(itemClass);
+    @SuppressWarnings("unchecked")
+    List<String> values = (List<String>)item.eGet(codes);
+    for (int i = 0; i < 100; ++i)
+    {
+      values.add(i % 10 == 0 ? "BAD" : i % 2 == 0 ? "good" : "fine");
+    }
+
+    Diagnostic expected = Diagnostician.INSTANCE.validate(item);
+    assertEquals(Diagnostic.ERROR, expected.getSeverity());
+
+    // The cached results produce the same diagnostics, with each distinct value validated only once when it's valid.
+    //
+    EObjectValidator.DataValueCache dataValueCache = new EObjectValidator.DataValueCache();
+    Diagnostic actual = Diagnostician.INSTANCE.validate(item, Collections.singletonMap(EObjectValidator.DataValueCache.class, dataValueCache));
+    assertEquals(getMessages(expected, new ArrayList<String>()), getMessages(actual, new ArrayList<String>()));
+    assertEquals(88, dataValueCache.getHitCount());
+
+    // Without diagnostics, even the invalid value's result is reused.
+    //
+    dataValueCache.clear();
+    for (int i = 0; i < values.size(); ++i)
+    {
+      values.set(i, "fine");
+    }
+    assertTrue(Diagnostician.INSTANCE.validate(item, null, createContext(dataValueCache)));
+    assertEquals(1, dataValueCache.getMissCount());
+    assertEquals(99, dataValueCache.getHitCount());
+    values.set(50, "BAD");
+    assertFalse(Diagnostician.INSTANCE.validate(item, null, createContext(dataValueCache)));
+    assertFalse(Diagnostician.INSTANCE.validate(item, null, createContext(dataValueCache)));
+    assertEquals(2, dataValueCache.getMissCount());
+    assertEquals(99 + 50 + 51, dataValueCache.getHitCount());
+  }
+
+  @Test
+  public void testPatternMatcher()
+  {
+    EValidator.PatternMatcher patternMatcher = XMLTypeUtil.createPatternMatcher("[A-Z]{2}(-[0-9]{2,4})+|x.?");
+    assertSame(patternMatcher, XMLTypeUtil.createPatternMatcher("[A-Z]{2}(-[0-9]{2,4})+|x.?"));
+    for (int i = 0; i < 2; ++i)
+    {
+      assertTrue(patternMatcher.matches("AB-12"));
+      assertTrue(patternMatcher.matches("AB-12-3456"));
+      assertTrue(patternMatcher.matches("x"));
+      assertTrue(patternMatcher.matches("x\u00e9"));
+      assertTrue(patternMatcher.matches("x\ud800\udc00"));
+      assertFalse(patternMatcher.matches("AB-1"));
+      assertFalse(patternMatcher.matches("AB-12-"));
+      assertFalse(patternMatcher.matches("AB-12x"));
+      assertFalse(patternMatcher.matches("x\n"));
+      assertFalse(patternMatcher.matches("xxx"));
+      assertFalse(patternMatcher.matches(""));
+    }
+
+    // A value with a surrogate pair is matched by the interpreter, which treats the pair as one character.
+    //
+    patternMatcher = XMLTypeUtil.createPatternMatcher("\\p{IsBasicLatin}+.");
+    assertTrue(patternMatcher.matches("abc\ud800\udc00"));
+    assertTrue(patternMatcher.matches("abc\u00e9"));
+    assertFalse(patternMatcher.matches("\u00e9bc"));
+  }
+
   @Test
   public void defaultValueLiteralValidationTest() throws RuntimeException
   {
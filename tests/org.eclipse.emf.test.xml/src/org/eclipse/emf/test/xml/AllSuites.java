@@ -14,8 +14,10 @@ package org.eclipse.emf.test.xml;
 import org.eclipse.emf.test.xml.encoding.UnicodeEncodingTest;
 import org.eclipse.emf.test.xml.encoding.XMLHeaderTest;
 import org.eclipse.emf.test.xml.rss.RSSTests;
+import org.eclipse.emf.test.xml.xmi.ConfigurationCacheTest;
 import org.eclipse.emf.test.xml.xmi.CrossResourceReferencesTest;
 import org.eclipse.emf.test.xml.xmi.ElementHandlerTest;
+import org.eclipse.emf.test.xml.xmi.IncrementalSaveTest;
 import org.eclipse.emf.test.xml.xmi.LaxFeatureNamespaceMatchingTest;
 import org.eclipse.emf.test.xml.xmi.LineWidthTest;
 import org.eclipse.emf.test.xml.xmi.MultipleDocumentRootTest;
@@ -23,10 +25,13 @@ import org.eclipse.emf.test.xml.xmi.NamespaceTest;
 import org.eclipse.emf.test.xml.xmi.NullNamespaceTest;
 import org.eclipse.emf.test.xml.xmi.OrderTest;
 import org.eclipse.emf.test.xml.xmi.QNameTest;
+import org.eclipse.emf.test.xml.xmi.StAXLoadTest;
+import org.eclipse.emf.test.xml.xmi.StreamingLoadTest;
 import org.eclipse.emf.test.xml.xmi.URIHandlerTest;
 import org.eclipse.emf.test.xml.xmi.UnloadXMIResourceTest;
 import org.eclipse.emf.test.xml.xmi.XMIExtendedMetadataTest;
 import org.eclipse.emf.test.xml.xmi.XMIResourceURIFragmentsTest;
+import org.eclipse.emf.test.xml.xmi.XMLParserPoolTest;
 import org.eclipse.emf.test.xml.xsd.XSDFeatureTypeTest;
 import org.eclipse.emf.test.xml.xsdecore.Ecore2XSDTest;
 import org.eclipse.emf.test.xml.xsdecore.XSD2EcoreTest;
@@ -49,8 +54,10 @@ import org.junit.runners.Suite;
 
     RSSTests.class,
 
+    ConfigurationCacheTest.class,
     CrossResourceReferencesTest.class,
     ElementHandlerTest.class,
+    IncrementalSaveTest.class,
     LaxFeatureNamespaceMatchingTest.class,
     LineWidthTest.class,
     MultipleDocumentRootTest.class,
@@ -58,10 +65,13 @@ import org.junit.runners.Suite;
     NullNamespaceTest.class,
     OrderTest.class,
     QNameTest.class,
+    StAXLoadTest.class,
+    StreamingLoadTest.class,
     UnloadXMIResourceTest.class,
     URIHandlerTest.class,
     XMIExtendedMetadataTest.class,
     XMIResourceURIFragmentsTest.class,
+    XMLParserPoolTest.class,
 
     XSDFeatureTypeTest.class,
 
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.ConfigurationCache;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.test.models.library.Book;
+import org.eclipse.emf.test.models.library.Library;
+import org.eclipse.emf.test.models.library.LibraryFactory;
+import org.junit.Test;
+
+
+/**
+ * XMI tests: concurrent saving with the {@link ConfigurationCache}.
+ */
+public class ConfigurationCacheTest
+{
+  @Test
+  public void testConcurrentSave() throws Exception
+  {
+    final Library library = LibraryFactory.eINSTANCE.createLibrary();
+    library.setName("library & <friends>");
+    for (int i = 0; i < 10; ++i)
+    {
+      Book book = LibraryFactory.eINSTANCE.createBook();
+      book.setTitle("book \"" + i + "\"");
+      library.getBooks().add(book);
+    }
+    final Resource resource = new XMIResourceImpl(URI.createURI("library.xmi"));
+    resource.getContents().add(library);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+    final byte[] expectedBytes = outputStream.toByteArray();
+
+    final Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+
+    ConfigurationCache cache = ConfigurationCache.INSTANCE;
+    long printerHitCount = cache.getPrinterHitCount();
+    long printerMissCount = cache.getPrinterMissCount();
+    long escapeHitCount = cache.getEscapeHitCount();
+    long escapeMissCount = cache.getEscapeMissCount();
+
+    int threadCount = 8;
+    int saveCount = 200;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try
+    {
+      List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>();
+      for (int i = 0; i < saveCount; ++i)
+      {
+        futures.add
+          (executor.submit
+            (new Callable<byte[]>()
+             {
+               public byte[] call() throws Exception
+               {
+                 ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                 ((XMLResource)resource).save(outputStream, options);
+                 return outputStream.toByteArray();
+               }
+             }));
+      }
+      for (Future<byte[]> future : futures)
+      {
+        assertArrayEquals(expectedBytes, future.get());
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+
+    // Each save gets one printer and one escape, most of which are reused.
+    //
+    assertEquals(saveCount, cache.getPrinterHitCount() - printerHitCount + cache.getPrinterMissCount() - printerMissCount);
+    assertEquals(saveCount, cache.getEscapeHitCount() - escapeHitCount + cache.getEscapeMissCount() - escapeMissCount);
+    assertTrue(cache.getPrinterHitCount() - printerHitCount > cache.getPrinterMissCount() - printerMissCount);
+    assertTrue(cache.getEscapeHitCount() - escapeHitCount > cache.getEscapeMissCount() - escapeMissCount);
+  }
+
+  @Test
+  public void testDocumentRoot()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    EClass documentRoot = EcoreFactory.eINSTANCE.createEClass();
+    ePackage.getEClassifiers().add(documentRoot);
+
+    ConfigurationCache cache = ConfigurationCache.INSTANCE;
+    long documentRootHitCount = cache.getDocumentRootHitCount();
+    long documentRootMissCount = cache.getDocumentRootMissCount();
+
+    assertNull(cache.getDocumentRoot(ePackage));
+    cache.putDocumentRoot(ePackage, documentRoot);
+    assertSame(documentRoot, cache.getDocumentRoot(ePackage));
+    assertNull(cache.getDocumentRoot(EcoreFactory.eINSTANCE.createEPackage()));
+    cache.putDocumentRoot(ePackage, null);
+    assertNull(cache.getDocumentRoot(ePackage));
+
+    assertEquals(1, cache.getDocumentRootHitCount() - documentRootHitCount);
+    assertEquals(3, cache.getDocumentRootMissCount() - documentRootMissCount);
+  }
+}
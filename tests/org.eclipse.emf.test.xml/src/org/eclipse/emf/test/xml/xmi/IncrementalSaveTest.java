@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.IncrementalSaveAdapter;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.test.models.library.Book;
+import org.eclipse.emf.test.models.library.Library;
+import org.eclipse.emf.test.models.library.LibraryFactory;
+import org.eclipse.emf.test.models.library.Writer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * XMI tests: incremental save with {@link XMLResource#OPTION_INCREMENTAL_SAVE}.
+ */
+public class IncrementalSaveTest
+{
+  private File file;
+
+  private XMIResourceImpl resource;
+
+  private Map<Object, Object> options;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    file = File.createTempFile("incremental", ".xmi");
+    resource =
+      new XMIResourceImpl(URI.createFileURI(file.getAbsolutePath()))
+      {
+        @Override
+        protected boolean useUUIDs()
+        {
+          return true;
+        }
+      };
+
+    LibraryFactory libFactory = LibraryFactory.eINSTANCE;
+    for (int i = 0; i < 2; ++i)
+    {
+      Library library = libFactory.createLibrary();
+      library.setName("library" + i);
+      Writer writer = libFactory.createWriter();
+      writer.setName("writer" + i);
+      library.getWriters().add(writer);
+      for (int j = 0; j < 3; ++j)
+      {
+        Book book = libFactory.createBook();
+        book.setTitle("book" + i + "-" + j);
+        book.setAuthor(writer);
+        library.getBooks().add(book);
+      }
+      resource.getContents().add(library);
+    }
+
+    options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_INCREMENTAL_SAVE, Boolean.TRUE);
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+    file.delete();
+  }
+
+  private IncrementalSaveAdapter getAdapter()
+  {
+    return (IncrementalSaveAdapter)EcoreUtil.getExistingAdapter(resource, IncrementalSaveAdapter.class);
+  }
+
+  private byte[] readFile() throws Exception
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    InputStream inputStream = new FileInputStream(file);
+    try
+    {
+      byte[] buffer = new byte [4096];
+      for (int count; (count = inputStream.read(buffer)) != -1; )
+      {
+        outputStream.write(buffer, 0, count);
+      }
+    }
+    finally
+    {
+      inputStream.close();
+    }
+    return outputStream.toByteArray();
+  }
+
+  private byte[] saveFully() throws Exception
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+    return outputStream.toByteArray();
+  }
+
+  @Test
+  public void testCopyUnchangedSubtrees() throws Exception
+  {
+    resource.save(options);
+    IncrementalSaveAdapter adapter = getAdapter();
+    assertEquals(0, adapter.getCopiedSubtreeCount());
+    assertEquals(8, adapter.getSerializedSubtreeCount());
+
+    Library library = (Library)resource.getContents().get(0);
+    Book book = library.getBooks().get(1);
+    book.setTitle("changed");
+    resource.save(options);
+    assertEquals(7, adapter.getCopiedSubtreeCount());
+    assertEquals(9, adapter.getSerializedSubtreeCount());
+
+    // Changes to a top object don't prevent copying its children.
+    //
+    library.setName("renamed");
+    resource.save(options);
+    assertEquals(15, adapter.getCopiedSubtreeCount());
+    assertEquals(9, adapter.getSerializedSubtreeCount());
+
+    byte[] bytes = readFile();
+    assertArrayEquals(saveFully(), bytes);
+
+    XMIResourceImpl loadedResource = new XMIResourceImpl(resource.getURI());
+    loadedResource.load(null);
+    assertTrue(EcoreUtil.equals(resource.getContents(), loadedResource.getContents()));
+    assertEquals("changed", ((Library)loadedResource.getContents().get(0)).getBooks().get(1).getTitle());
+  }
+
+  @Test
+  public void testRemovalSavesFully() throws Exception
+  {
+    resource.save(options);
+    IncrementalSaveAdapter adapter = getAdapter();
+
+    Library library = (Library)resource.getContents().get(1);
+    EcoreUtil.delete(library.getBooks().get(0));
+    resource.save(options);
+    assertEquals(0, adapter.getCopiedSubtreeCount());
+    assertEquals(15, adapter.getSerializedSubtreeCount());
+    assertArrayEquals(saveFully(), readFile());
+  }
+
+  @Test
+  public void testExternalChangeSavesFully() throws Exception
+  {
+    resource.save(options);
+    IncrementalSaveAdapter adapter = getAdapter();
+
+    // A file modified behind the resource's back isn't used as a source of subtrees.
+    //
+    assertTrue(file.setLastModified(file.lastModified() - 10000));
+    ((Library)resource.getContents().get(0)).getBooks().get(0).setTitle("changed");
+    resource.save(options);
+    assertEquals(0, adapter.getCopiedSubtreeCount());
+    assertArrayEquals(saveFully(), readFile());
+
+    // Saving without the option stops the tracking.
+    //
+    resource.setModified(true);
+    resource.save(null);
+    assertNull(getAdapter());
+  }
+
+  @Test
+  public void testSetIDSavesSubtree() throws Exception
+  {
+    resource.save(options);
+    IncrementalSaveAdapter adapter = getAdapter();
+
+    // A resource-assigned ID isn't notified, but a changed ID must still be saved.
+    //
+    Book book = ((Library)resource.getContents().get(1)).getBooks().get(2);
+    resource.setID(book, "newID");
+    resource.save(options);
+    assertEquals(0, adapter.getCopiedSubtreeCount());
+    assertArrayEquals(saveFully(), readFile());
+    assertTrue(new String(readFile(), "UTF-8").contains("xmi:id=\"newID\""));
+  }
+
+  @Test
+  public void testSaveOnlyIfChangedSavesUsually() throws Exception
+  {
+    resource.save(options);
+    IncrementalSaveAdapter adapter = getAdapter();
+
+    // Saving only if changed doesn't rewrite an unchanged file.
+    //
+    options.put(Resource.OPTION_SAVE_ONLY_IF_CHANGED, Resource.OPTION_SAVE_ONLY_IF_CHANGED_MEMORY_BUFFER);
+    long lastModified = file.lastModified() - 10000;
+    assertTrue(file.setLastModified(lastModified));
+    resource.setModified(true);
+    resource.save(options);
+    assertEquals(lastModified, file.lastModified());
+
+    ((Library)resource.getContents().get(0)).getBooks().get(0).setTitle("changed");
+    resource.save(options);
+    assertEquals(0, adapter.getCopiedSubtreeCount());
+    assertArrayEquals(saveFully(), readFile());
+  }
+}
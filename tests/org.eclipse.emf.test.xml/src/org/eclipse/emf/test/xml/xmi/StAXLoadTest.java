@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+import org.eclipse.emf.test.common.TestUtil;
+import org.eclipse.emf.test.models.library.Book;
+import org.eclipse.emf.test.models.library.Library;
+import org.eclipse.emf.test.models.library.LibraryFactory;
+import org.eclipse.emf.test.models.library.Writer;
+import org.eclipse.emf.test.xml.AllSuites;
+import org.junit.Test;
+
+
+/**
+ * XMI tests: loading with {@link XMLResource#OPTION_USE_STAX} produces the same result as loading with SAX.
+ */
+public class StAXLoadTest
+{
+  final static String BASE_URI = TestUtil.getPluginDirectory(AllSuites.PLUGIN_ID) + "/data/";
+
+  protected Resource load(URI uri, Map<Object, Object> options) throws IOException
+  {
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new EcoreResourceFactoryImpl());
+    Resource resource = resourceSet.createResource(uri);
+    resource.load(options);
+    return resource;
+  }
+
+  @Test
+  public void testEcore() throws Exception
+  {
+    URI uri = URI.createFileURI(BASE_URI + "ecore/Ecore.ecore");
+    Resource saxResource = load(uri, new HashMap<Object, Object>());
+
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_USE_STAX, Boolean.TRUE);
+    Resource staxResource = load(uri, options);
+    assertTrue(staxResource.getErrors().isEmpty());
+    assertTrue(EcoreUtil.equals(saxResource.getContents(), staxResource.getContents()));
+    assertEquals(((XMLResource)saxResource).getEncoding(), ((XMLResource)staxResource).getEncoding());
+    assertEquals(((XMLResource)saxResource).getXMLVersion(), ((XMLResource)staxResource).getXMLVersion());
+
+    // The parser pool's handlers are reused just as for SAX.
+    //
+    options.put(XMLResource.OPTION_USE_PARSER_POOL, new XMLParserPoolImpl());
+    for (int i = 0; i < 2; ++i)
+    {
+      staxResource = load(uri, options);
+      assertTrue(EcoreUtil.equals(saxResource.getContents(), staxResource.getContents()));
+    }
+  }
+
+  @Test
+  public void testXMI() throws Exception
+  {
+    LibraryFactory libFactory = LibraryFactory.eINSTANCE;
+    Library library = libFactory.createLibrary();
+    library.setName("Library & <Archive>");
+    Writer writer = libFactory.createWriter();
+    writer.setName("Writer \"one\"");
+    library.getWriters().add(writer);
+    for (int i = 0; i < 3; ++i)
+    {
+      Book book = libFactory.createBook();
+      book.setTitle("Book " + i);
+      book.setAuthor(writer);
+      library.getBooks().add(book);
+    }
+
+    URI uri = URI.createURI("library.xmi");
+    XMIResourceImpl resource = new XMIResourceImpl(uri);
+    resource.getContents().add(library);
+    resource.setID(writer, "writer");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_USE_STAX, Boolean.TRUE);
+    XMIResourceImpl staxResource = new XMIResourceImpl(uri);
+    staxResource.load(new ByteArrayInputStream(outputStream.toByteArray()), options);
+
+    assertTrue(EcoreUtil.equals(resource.getContents(), staxResource.getContents()));
+    Library staxLibrary = (Library)staxResource.getContents().get(0);
+    Writer staxWriter = staxLibrary.getWriters().get(0);
+    assertEquals("writer", staxResource.getID(staxWriter));
+    assertSame(staxWriter, staxLibrary.getBooks().get(2).getAuthor());
+    assertEquals(3, staxWriter.getBooks().size());
+  }
+
+  @Test
+  public void testMalformed() throws Exception
+  {
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_USE_STAX, Boolean.TRUE);
+    XMIResourceImpl resource = new XMIResourceImpl(URI.createURI("malformed.xmi"));
+    try
+    {
+      resource.load(new ByteArrayInputStream("<?xml version=\"1.0\"?><a><b></a>".getBytes("UTF-8")), options);
+      fail("Expecting an exception");
+    }
+    catch (IOException exception)
+    {
+      assertFalse(resource.getErrors().isEmpty());
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.test.models.library.Book;
+import org.eclipse.emf.test.models.library.Library;
+import org.eclipse.emf.test.models.library.LibraryFactory;
+import org.eclipse.emf.test.models.library.LibraryPackage;
+import org.eclipse.emf.test.models.library.Writer;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * XMI tests: streaming load with {@link XMLResource#OPTION_STREAMING_HANDLER}.
+ */
+public class StreamingLoadTest
+{
+  private static final URI RESOURCE_URI = URI.createURI("library.xmi");
+
+  private byte[] bytes;
+
+  private final List<EObject> handledObjects = new ArrayList<EObject>();
+  private final List<EObject> handledContainers = new ArrayList<EObject>();
+  private final List<EReference> unresolvedReferences = new ArrayList<EReference>();
+  private final List<URI> unresolvedURIs = new ArrayList<URI>();
+
+  private final XMLResource.StreamingHandler streamingHandler =
+    new XMLResource.StreamingHandler()
+    {
+      public void handleObject(XMLResource resource, EObject eObject)
+      {
+        handledObjects.add(eObject);
+        handledContainers.add(eObject.eContainer());
+      }
+
+      public void handleUnresolvedReference(XMLResource resource, EObject eObject, EReference eReference, URI uri)
+      {
+        unresolvedReferences.add(eReference);
+        unresolvedURIs.add(uri);
+      }
+    };
+
+  @Before
+  public void setUp() throws Exception
+  {
+    LibraryFactory libFactory = LibraryFactory.eINSTANCE;
+    Resource resource = new XMIResourceImpl(RESOURCE_URI);
+    for (int i = 0; i < 2; ++i)
+    {
+      Library library = libFactory.createLibrary();
+      library.setName("library" + i);
+      Writer writer = libFactory.createWriter();
+      writer.setName("writer" + i);
+      library.getWriters().add(writer);
+      for (int j = 0; j < 3; ++j)
+      {
+        Book book = libFactory.createBook();
+        book.setTitle("book" + i + "-" + j);
+        book.setAuthor(writer);
+        library.getBooks().add(book);
+      }
+      resource.getContents().add(library);
+    }
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+    bytes = outputStream.toByteArray();
+  }
+
+  private XMLResource load(int depth) throws Exception
+  {
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_STREAMING_HANDLER, streamingHandler);
+    if (depth != 0)
+    {
+      options.put(XMLResource.OPTION_STREAMING_DEPTH, depth);
+    }
+    XMLResource resource = new XMIResourceImpl(RESOURCE_URI);
+    resource.load(new ByteArrayInputStream(bytes), options);
+    return resource;
+  }
+
+  @Test
+  public void testStreamRoots() throws Exception
+  {
+    XMLResource resource = load(0);
+
+    assertTrue(resource.getContents().isEmpty());
+    assertTrue(resource.getErrors().isEmpty());
+    assertEquals(2, handledObjects.size());
+    for (int i = 0; i < 2; ++i)
+    {
+      Library library = (Library)handledObjects.get(i);
+      assertEquals("library" + i, library.getName());
+      assertNull(library.eResource());
+      assertEquals(3, library.getBooks().size());
+      assertEquals(1, library.getWriters().size());
+
+      // The author references aren't resolved, not even within the same library.
+      //
+      assertNull(library.getBooks().get(0).getAuthor());
+    }
+
+    assertTrue(unresolvedReferences.contains(LibraryPackage.Literals.BOOK__AUTHOR));
+    for (URI uri : unresolvedURIs)
+    {
+      assertEquals(RESOURCE_URI, uri.trimFragment());
+    }
+    assertTrue(unresolvedURIs.contains(RESOURCE_URI.appendFragment("/0/@writers.0")));
+    assertTrue(unresolvedURIs.contains(RESOURCE_URI.appendFragment("/1/@writers.0")));
+  }
+
+  @Test
+  public void testStreamChildren() throws Exception
+  {
+    XMLResource resource = load(1);
+
+    // The roots remain, but their children have each been handed over and then removed.
+    //
+    assertEquals(2, resource.getContents().size());
+    assertEquals(8, handledObjects.size());
+    for (int i = 0; i < handledObjects.size(); ++i)
+    {
+      EObject eObject = handledObjects.get(i);
+      assertSame(resource.getContents().get(i / 4), handledContainers.get(i));
+      assertNull(eObject.eContainer());
+      assertNull(eObject.eResource());
+    }
+    for (EObject root : resource.getContents())
+    {
+      Library library = (Library)root;
+      assertTrue(library.getBooks().isEmpty());
+      assertTrue(library.getWriters().isEmpty());
+    }
+    assertEquals("book1-2", ((Book)handledObjects.get(7)).getTitle());
+
+    // Both ends of the bidirectional author reference are reported.
+    //
+    assertEquals(12, unresolvedURIs.size());
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+import org.eclipse.emf.test.models.library.Book;
+import org.eclipse.emf.test.models.library.Library;
+import org.eclipse.emf.test.models.library.LibraryFactory;
+import org.junit.Test;
+
+
+/**
+ * XMI tests: concurrent loading with a shared {@link XMLParserPoolImpl}.
+ */
+public class XMLParserPoolTest
+{
+  @Test
+  public void testConcurrentLoad() throws Exception
+  {
+    final Library library = LibraryFactory.eINSTANCE.createLibrary();
+    library.setName("library");
+    for (int i = 0; i < 10; ++i)
+    {
+      Book book = LibraryFactory.eINSTANCE.createBook();
+      book.setTitle("book" + i);
+      library.getBooks().add(book);
+    }
+    Resource resource = new XMIResourceImpl(URI.createURI("library.xmi"));
+    resource.getContents().add(library);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+    final byte[] bytes = outputStream.toByteArray();
+
+    XMLParserPoolImpl pool = new XMLParserPoolImpl(true);
+    final Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_USE_PARSER_POOL, pool);
+    options.put(XMLResource.OPTION_USE_DEPRECATED_METHODS, Boolean.FALSE);
+
+    int threadCount = 8;
+    int loadCount = 200;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try
+    {
+      List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+      for (int i = 0; i < loadCount; ++i)
+      {
+        futures.add
+          (executor.submit
+            (new Callable<Boolean>()
+             {
+               public Boolean call() throws Exception
+               {
+                 Resource loadedResource = new XMIResourceImpl(URI.createURI("library.xmi"));
+                 loadedResource.load(new ByteArrayInputStream(bytes), options);
+                 return EcoreUtil.equals(library, loadedResource.getContents().get(0));
+               }
+             }));
+      }
+      for (Future<Boolean> future : futures)
+      {
+        assertTrue(future.get());
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+
+    // Every request is either a hit or a miss, each miss creates an instance, and at most one instance per thread is ever needed.
+    //
+    assertEquals(loadCount, pool.getParserHitCount() + pool.getParserMissCount());
+    assertEquals(pool.getParserMissCount(), pool.getParserCreationCount());
+    assertTrue(pool.getParserCreationCount() <= threadCount);
+    assertEquals(loadCount, pool.getHandlerHitCount() + pool.getHandlerMissCount());
+    assertEquals(pool.getHandlerMissCount(), pool.getHandlerCreationCount());
+    assertTrue(pool.getHandlerCreationCount() <= threadCount);
+  }
+}